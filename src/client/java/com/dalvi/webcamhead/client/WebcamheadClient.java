@@ -3,20 +3,34 @@ package com.dalvi.webcamhead.client;
 import com.dalvi.webcamhead.client.command.WebcamCommand;
 import com.dalvi.webcamhead.client.config.ModConfig;
 import com.dalvi.webcamhead.client.render.SkinOverlayRenderer;
+import com.dalvi.webcamhead.client.render.WebcamFaceFeatureRenderer;
+import com.dalvi.webcamhead.client.video.FaceLod;
+import com.dalvi.webcamhead.client.video.FaceUpdateScheduler;
+import com.dalvi.webcamhead.client.video.FrameMailbox;
+import com.dalvi.webcamhead.client.video.LayerSelector;
+import com.dalvi.webcamhead.client.video.PlayerEntityIndex;
 import com.dalvi.webcamhead.client.video.PlayerVideoState;
+import com.dalvi.webcamhead.client.video.SkinInitQueue;
 import com.dalvi.webcamhead.client.video.VideoStateManager;
+import com.dalvi.webcamhead.client.webcam.FaceCropper;
+import com.dalvi.webcamhead.client.webcam.FaceTracker;
 import com.dalvi.webcamhead.client.webcam.WebcamManager;
 import com.dalvi.webcamhead.client.webcam.WebcamTextureManager;
+import com.dalvi.webcamhead.client.streaming.PositionReporter;
 import com.dalvi.webcamhead.client.streaming.SignalingClient;
 import com.dalvi.webcamhead.client.streaming.VideoStreamClient;
 import net.minecraft.client.network.AbstractClientPlayerEntity;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientEntityEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.LivingEntityFeatureRendererRegistrationCallback;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.KeyBinding;
+import net.minecraft.client.render.entity.PlayerEntityRenderer;
 import net.minecraft.client.util.InputUtil;
 import net.minecraft.text.Text;
 import org.lwjgl.glfw.GLFW;
@@ -36,10 +50,28 @@ public class WebcamheadClient implements ClientModInitializer {
     private KeyBinding toggleWebcamKey;
     private boolean webcamActive = false;
 
+    // Crops our own face the same way it is sent, for the local skin overlay
+    private final FaceCropper localFaceCropper = new FaceCropper();
+
     // Multiplayer streaming
     private SignalingClient signalingClient;
     private VideoStreamClient videoStreamClient;
 
+    // Latest received frame per remote player, applied within a time budget at the start of each rendered frame
+    private final FrameMailbox frameMailbox = new FrameMailbox();
+    private final FaceUpdateScheduler faceUpdateScheduler = new FaceUpdateScheduler();
+
+    // What is received from each remote player: nothing while they can't be seen, else the simulcast layer for their size on screen
+    private final LayerSelector layerSelector = new LayerSelector();
+    // Face size and update rate of each remote player, from how large they appear on screen
+    private final FaceLod faceLod = new FaceLod();
+    // Our position, reported to the relay so it only forwards frames between nearby players
+    private final PositionReporter positionReporter = new PositionReporter();
+
+    // Loaded players by UUID, and players whose skin is waiting to be initialized
+    private final PlayerEntityIndex playerIndex = new PlayerEntityIndex();
+    private final SkinInitQueue skinInitQueue = new SkinInitQueue();
+
     public static WebcamheadClient getInstance() {
         return instance;
     }
@@ -65,6 +97,20 @@ public class WebcamheadClient implements ClientModInitializer {
         // Register tick event for updating texture
         ClientTickEvents.END_CLIENT_TICK.register(this::onClientTick);
 
+        // Apply received faces before the world is drawn, spread over frames when many arrive at once
+        WorldRenderEvents.START.register(context -> {
+            MinecraftClient client = MinecraftClient.getInstance();
+            faceUpdateScheduler.run(frameMailbox, this::isFaceUpdateDue, layerSelector::getScreenSize,
+                (playerUUID, frame, changedRegions) -> applyRemoteFrame(client, playerUUID, frame, changedRegions));
+        });
+
+        // Keep the player index in sync with the entities loaded in the client world
+        ClientEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            playerIndex.onEntityLoad(entity);
+            skinInitQueue.retryNow(entity.getUuid());
+        });
+        ClientEntityEvents.ENTITY_UNLOAD.register((entity, world) -> playerIndex.onEntityUnload(entity));
+
         // Register disconnect event to stop webcam when leaving a world/server
         ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
             onDisconnect(client);
@@ -77,6 +123,13 @@ public class WebcamheadClient implements ClientModInitializer {
             }
         });
 
+        // Register the face texture feature on player renderers
+        LivingEntityFeatureRendererRegistrationCallback.EVENT.register((entityType, entityRenderer, registrationHelper, context) -> {
+            if (entityRenderer instanceof PlayerEntityRenderer playerRenderer) {
+                registrationHelper.register(new WebcamFaceFeatureRenderer(playerRenderer));
+            }
+        });
+
         // Register render event for rendering video panels
         // DISABLED: We're using skin overlay mode instead of 3D panels
         /*
@@ -135,8 +188,9 @@ public class WebcamheadClient implements ClientModInitializer {
                 // Update the panel texture
                 textureManager.updateTexture(frame);
 
-                // Update the skin overlay
-                SkinOverlayRenderer.updateSkinWithWebcam(client.player.getUuid(), frame);
+                // Update the skin overlay with the face crop, as other players see it
+                SkinOverlayRenderer.updateSkinWithWebcam(client.player.getUuid(),
+                    localFaceCropper.crop(frame, SkinOverlayRenderer.getTargetFrameSize()));
 
                 // Send frame to other players if multiplayer is enabled
                 if (videoStreamClient != null) {
@@ -144,6 +198,22 @@ public class WebcamheadClient implements ClientModInitializer {
                 }
             }
         }
+
+        // Retry skin initialization for players whose skin wasn't available yet
+        skinInitQueue.tick(this::tryInitializeSkin);
+
+        if (videoStreamClient != null && isSignalingConnected()) {
+            layerSelector.tick(client, playerIndex, videoStreamClient.getRoomFaceResolution(),
+                SkinOverlayRenderer.getTargetFrameSize(), videoStreamClient::subscribe, videoStreamClient::unsubscribe);
+
+            if (client.player != null && client.world != null) {
+                String dimension = client.world.getRegistryKey().getValue().toString();
+                if (positionReporter.shouldSend(dimension, client.player.getX(), client.player.getY(), client.player.getZ(),
+                        System.currentTimeMillis())) {
+                    signalingClient.sendPosition(dimension, client.player.getX(), client.player.getY(), client.player.getZ());
+                }
+            }
+        }
     }
 
     private void toggleWebcam(MinecraftClient client) {
@@ -206,8 +276,8 @@ public class WebcamheadClient implements ClientModInitializer {
                         textureManager.initialize();
 
                         // Initialize modified skin for overlay
-                        if (client.player instanceof AbstractClientPlayerEntity) {
-                            SkinOverlayRenderer.initializeModifiedSkin((AbstractClientPlayerEntity) client.player);
+                        if (!SkinOverlayRenderer.initializeModifiedSkin(client.player)) {
+                            skinInitQueue.request(client.player.getUuid());
                         }
 
                         // Register player video state
@@ -259,6 +329,7 @@ public class WebcamheadClient implements ClientModInitializer {
 
         if (client.player != null) {
             // Clean up modified skin
+            skinInitQueue.remove(client.player.getUuid());
             SkinOverlayRenderer.cleanupModifiedSkin(client.player.getUuid());
 
             VideoStateManager.getInstance().removePlayerVideo(client.player.getUuid());
@@ -316,7 +387,7 @@ public class WebcamheadClient implements ClientModInitializer {
                     setupSignalingCallbacks();
 
                     // Create video stream client
-                    videoStreamClient = new VideoStreamClient(signalingClient);
+                    videoStreamClient = new VideoStreamClient(signalingClient, SkinOverlayRenderer::getTargetFrameSize);
                     setupVideoStreamCallbacks();
 
                     // Connect to server
@@ -358,7 +429,15 @@ public class WebcamheadClient implements ClientModInitializer {
             // Clean up their skin overlay
             try {
                 java.util.UUID playerUUID = java.util.UUID.fromString(uuid);
+                if (videoStreamClient != null) {
+                    videoStreamClient.removeSender(playerUUID);
+                }
+                frameMailbox.remove(playerUUID);
                 client.execute(() -> {
+                    layerSelector.remove(playerUUID);
+                    faceLod.remove(playerUUID);
+                    faceUpdateScheduler.remove(playerUUID);
+                    skinInitQueue.remove(playerUUID);
                     SkinOverlayRenderer.cleanupModifiedSkin(playerUUID);
                 });
             } catch (Exception e) {
@@ -375,32 +454,61 @@ public class WebcamheadClient implements ClientModInitializer {
      * Setup video stream client callbacks
      */
     private void setupVideoStreamCallbacks() {
-        MinecraftClient client = MinecraftClient.getInstance();
+        // Frames are only queued here; superseded ones are dropped before any conversion or upload
+        videoStreamClient.setOnFrameReceived(frameMailbox::post);
+    }
 
-        videoStreamClient.setOnFrameReceived((playerUUID, frame) -> {
-            // Update received player's skin overlay on main thread
-            client.execute(() -> {
-                try {
-                    // Initialize skin for this player if not already done
-                    if (!SkinOverlayRenderer.hasModifiedSkin(playerUUID)) {
-                        // Find the player entity
-                        if (client.world != null) {
-                            for (var player : client.world.getPlayers()) {
-                                if (player.getUuid().equals(playerUUID) && player instanceof AbstractClientPlayerEntity) {
-                                    SkinOverlayRenderer.initializeModifiedSkin((AbstractClientPlayerEntity) player);
-                                    break;
-                                }
-                            }
-                        }
-                    }
+    /**
+     * Whether a remote player's waiting frame should be applied at all. Frames rejected here are dropped
+     * before the face update scheduler, so skipping them costs none of its budget. Runs on the client thread.
+     */
+    private boolean isFaceUpdateDue(java.util.UUID playerUUID) {
+        if (!SkinOverlayRenderer.hasModifiedSkin(playerUUID)
+                && (SkinOverlayRenderer.isSkinPending(playerUUID) || skinInitQueue.isQueued(playerUUID))) {
+            return false; // Nothing to draw into until the skin is ready
+        }
 
-                    // Update the skin with the received frame
-                    SkinOverlayRenderer.updateSkinWithWebcam(playerUUID, frame);
-                } catch (Exception e) {
-                    LOGGER.error("Error updating remote player skin", e);
+        // Smaller and less frequent updates for players further away
+        return faceLod.shouldApply(playerUUID, layerSelector.getScreenSize(playerUUID), System.currentTimeMillis());
+    }
+
+    /**
+     * Update a remote player's skin overlay with their latest frame. Runs on the client thread.
+     */
+    private void applyRemoteFrame(MinecraftClient client, java.util.UUID playerUUID, BufferedImage frame, int[] changedRegions) {
+        try {
+            // Initialize skin for this player if not already done
+            if (!SkinOverlayRenderer.hasModifiedSkin(playerUUID)) {
+                if (!SkinOverlayRenderer.isSkinPending(playerUUID) && !skinInitQueue.isQueued(playerUUID)
+                        && !tryInitializeSkin(playerUUID)) {
+                    skinInitQueue.request(playerUUID);
                 }
-            });
-        });
+                if (!SkinOverlayRenderer.hasModifiedSkin(playerUUID)) {
+                    return; // Nothing to draw into yet
+                }
+            }
+
+            if (faceLod.takeNeedsFullFrame(playerUUID)) {
+                changedRegions = null;
+            }
+
+            // Update the skin with the received frame
+            SkinOverlayRenderer.updateSkinWithWebcam(playerUUID, frame, changedRegions,
+                faceLod.getTier(playerUUID).getResolution(ModConfig.getFaceResolution()));
+        } catch (Exception e) {
+            LOGGER.error("Error updating remote player skin", e);
+        }
+    }
+
+    /**
+     * Try to initialize a player's skin. Returns false if it should be retried later.
+     */
+    private boolean tryInitializeSkin(java.util.UUID playerUUID) {
+        AbstractClientPlayerEntity player = playerIndex.get(playerUUID);
+        if (player == null) {
+            return false; // Not loaded in this world (yet)
+        }
+        return SkinOverlayRenderer.initializeModifiedSkin(player);
     }
 
     // Public methods for commands
@@ -416,6 +524,34 @@ public class WebcamheadClient implements ClientModInitializer {
         return videoStreamClient != null ? videoStreamClient.getStats() : null;
     }
 
+    /**
+     * Re-pick the outgoing video codec after the preference changed
+     */
+    public void renegotiateCodec() {
+        if (videoStreamClient != null) {
+            videoStreamClient.renegotiateCodec();
+        }
+    }
+
+    /**
+     * Face tracker statistics, or null if the webcam or face tracking isn't running
+     */
+    public FaceTracker.TrackerStats getFaceTrackerStats() {
+        return webcamManager != null ? webcamManager.getFaceTrackerStats() : null;
+    }
+
+    public FrameMailbox.MailboxStats getMailboxStats() {
+        return frameMailbox.getStats();
+    }
+
+    public FaceLod.LodStats getLodStats() {
+        return faceLod.getStats();
+    }
+
+    public FaceUpdateScheduler.SchedulerStats getFaceUpdateStats() {
+        return faceUpdateScheduler.getStats();
+    }
+
     public void reconnectSignaling() {
         // Disconnect current signaling client
         if (signalingClient != null) {
@@ -424,7 +560,10 @@ public class WebcamheadClient implements ClientModInitializer {
         }
 
         // Reset video stream client
-        videoStreamClient = null;
+        if (videoStreamClient != null) {
+            videoStreamClient.shutdown();
+            videoStreamClient = null;
+        }
 
         // Reinitialize multiplayer
         if (ModConfig.isMultiplayerEnabled() && ModConfig.isServerConfigured()) {
@@ -451,6 +590,16 @@ public class WebcamheadClient implements ClientModInitializer {
         }
 
         // Reset video stream client
-        videoStreamClient = null;
+        if (videoStreamClient != null) {
+            videoStreamClient.shutdown();
+            videoStreamClient = null;
+        }
+        frameMailbox.clear();
+        layerSelector.clear();
+        faceLod.clear();
+        faceUpdateScheduler.clear();
+        positionReporter.reset();
+        skinInitQueue.clear();
+        playerIndex.clear();
     }
 }
@@ -1,15 +1,21 @@
 package com.dalvi.webcamhead.client.command;
 
 import com.dalvi.webcamhead.client.config.ModConfig;
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodec;
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodecs;
+import com.dalvi.webcamhead.client.video.FaceLod;
+import com.dalvi.webcamhead.client.webcam.FaceTracker;
 import com.dalvi.webcamhead.client.webcam.WebcamDeviceManager;
 import com.dalvi.webcamhead.client.WebcamheadClient;
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.FloatArgumentType;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
 import net.minecraft.text.Text;
 
+import java.nio.file.Files;
 import java.util.List;
 
 import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.*;
@@ -32,6 +38,67 @@ public class WebcamCommand {
                 .executes(WebcamCommand::showState))
             .then(literal("stats")
                 .executes(WebcamCommand::showStats))
+            .then(literal("face")
+                .then(argument("resolution", IntegerArgumentType.integer(ModConfig.MIN_FACE_RESOLUTION, ModConfig.MAX_FACE_RESOLUTION))
+                    .executes(WebcamCommand::setFaceResolution)))
+            .then(literal("facemode")
+                .then(literal("texture")
+                    .executes(context -> setFaceMode(context, ModConfig.FaceMode.FACE_TEXTURE)))
+                .then(literal("skin")
+                    .executes(context -> setFaceMode(context, ModConfig.FaceMode.UPSCALED_SKIN))))
+            .then(literal("crop")
+                .then(literal("center")
+                    .executes(context -> setFaceCrop(context, ModConfig.DEFAULT_FACE_CROP_CENTER,
+                        ModConfig.DEFAULT_FACE_CROP_CENTER, ModConfig.DEFAULT_FACE_CROP_SIZE)))
+                .then(argument("x", FloatArgumentType.floatArg(0.0f, 1.0f))
+                    .then(argument("y", FloatArgumentType.floatArg(0.0f, 1.0f))
+                        .then(argument("size", FloatArgumentType.floatArg(ModConfig.MIN_FACE_CROP_SIZE, 1.0f))
+                            .executes(context -> setFaceCrop(context, FloatArgumentType.getFloat(context, "x"),
+                                FloatArgumentType.getFloat(context, "y"), FloatArgumentType.getFloat(context, "size")))))))
+            .then(literal("track")
+                .then(literal("on")
+                    .executes(context -> setFaceTracking(context, true)))
+                .then(literal("off")
+                    .executes(context -> setFaceTracking(context, false))))
+            .then(literal("codec")
+                .then(literal("auto")
+                    .executes(context -> setVideoCodec(context, "auto")))
+                .then(literal("jpeg")
+                    .executes(context -> setVideoCodec(context, "jpeg")))
+                .then(literal("h264")
+                    .executes(context -> setVideoCodec(context, "h264")))
+                .then(literal("raw")
+                    .executes(context -> setVideoCodec(context, "raw")))
+                .then(literal("tiles")
+                    .executes(context -> setVideoCodec(context, "tiles"))))
+            .then(literal("bitrate")
+                .then(literal("fps")
+                    .then(argument("min", IntegerArgumentType.integer(1, ModConfig.MAX_SEND_FPS))
+                        .then(argument("max", IntegerArgumentType.integer(1, ModConfig.MAX_SEND_FPS))
+                            .executes(WebcamCommand::setSendFpsRange))))
+                .then(literal("quality")
+                    .then(argument("min", FloatArgumentType.floatArg(0.1f, 1.0f))
+                        .then(argument("max", FloatArgumentType.floatArg(0.1f, 1.0f))
+                            .executes(WebcamCommand::setSendQualityRange))))
+                .then(literal("size")
+                    .then(argument("min", IntegerArgumentType.integer(ModConfig.MIN_FACE_RESOLUTION, ModConfig.MAX_FACE_RESOLUTION))
+                        .executes(WebcamCommand::setMinSendResolution))))
+            .then(literal("simulcast")
+                .then(literal("off")
+                    .executes(context -> setSimulcastLayers(context, 1)))
+                .then(argument("layers", IntegerArgumentType.integer(2, ModConfig.MAX_SIMULCAST_LAYERS))
+                    .executes(context -> setSimulcastLayers(context, IntegerArgumentType.getInteger(context, "layers")))))
+            .then(literal("lod")
+                .then(literal("on")
+                    .executes(context -> setLodEnabled(context, true)))
+                .then(literal("off")
+                    .executes(context -> setLodEnabled(context, false)))
+                .then(argument("near", IntegerArgumentType.integer(1, 1024))
+                    .then(argument("far", IntegerArgumentType.integer(1, 1024))
+                        .executes(WebcamCommand::setLodSizes))))
+            .then(literal("budget")
+                .then(argument("microseconds", IntegerArgumentType.integer(ModConfig.MIN_FACE_UPDATE_BUDGET_US, ModConfig.MAX_FACE_UPDATE_BUDGET_US))
+                    .executes(WebcamCommand::setFaceUpdateBudget)))
             .then(literal("join")
                 .then(argument("roomId", StringArgumentType.string())
                     .executes(WebcamCommand::joinRoom)))
@@ -71,6 +138,124 @@ public class WebcamCommand {
         return 1;
     }
 
+    private static int setFaceResolution(CommandContext<FabricClientCommandSource> context) {
+        int resolution = IntegerArgumentType.getInteger(context, "resolution");
+        ModConfig.setFaceResolution(resolution);
+        context.getSource().sendFeedback(Text.literal("§aFace texture resolution set to " + ModConfig.getFaceResolution() + "x" + ModConfig.getFaceResolution()));
+        context.getSource().sendFeedback(Text.literal("§eApplies to faces created from now on"));
+        return 1;
+    }
+
+    private static int setFaceMode(CommandContext<FabricClientCommandSource> context, ModConfig.FaceMode mode) {
+        ModConfig.setFaceMode(mode);
+        context.getSource().sendFeedback(Text.literal("§aFace mode set to " + mode));
+        context.getSource().sendFeedback(Text.literal("§eApplies to faces created from now on"));
+        return 1;
+    }
+
+    private static int setFaceCrop(CommandContext<FabricClientCommandSource> context, float x, float y, float size) {
+        ModConfig.setFaceCrop(x, y, size);
+        context.getSource().sendFeedback(Text.literal("§aFace crop set to " + formatFaceCrop()));
+        return 1;
+    }
+
+    private static int setFaceTracking(CommandContext<FabricClientCommandSource> context, boolean enabled) {
+        ModConfig.setFaceTracking(enabled);
+        if (!enabled) {
+            context.getSource().sendFeedback(Text.literal("§aFace tracking disabled, using the configured crop"));
+            return 1;
+        }
+
+        if (!Files.isRegularFile(FaceTracker.getCascadePath())) {
+            context.getSource().sendFeedback(Text.literal("§cFace cascade not found: " + FaceTracker.getCascadePath()));
+            context.getSource().sendFeedback(Text.literal("§7Copy " + FaceTracker.CASCADE_FILE + " from OpenCV's data/haarcascades folder there"));
+            return 0;
+        }
+        context.getSource().sendFeedback(Text.literal("§aFace tracking enabled, the face crop now follows your face"));
+        return 1;
+    }
+
+    private static String formatFaceCrop() {
+        return String.format("center %.2f, %.2f, size %.2f", ModConfig.getFaceCropX(), ModConfig.getFaceCropY(), ModConfig.getFaceCropSize());
+    }
+
+    private static int setVideoCodec(CommandContext<FabricClientCommandSource> context, String codec) {
+        VideoCodec selected = VideoCodecs.byName(codec);
+        if (selected != null && !selected.isAvailable()) {
+            context.getSource().sendFeedback(Text.literal("§c" + codec + " is not available on this system"));
+            return 0;
+        }
+
+        ModConfig.setVideoCodec(codec);
+        context.getSource().sendFeedback(Text.literal("§aPreferred video codec set to " + codec));
+        context.getSource().sendFeedback(Text.literal("§7Falls back to a codec everyone in the room supports"));
+
+        WebcamheadClient client = WebcamheadClient.getInstance();
+        if (client != null) {
+            client.renegotiateCodec();
+        }
+        return 1;
+    }
+
+    private static int setSendFpsRange(CommandContext<FabricClientCommandSource> context) {
+        ModConfig.setSendFpsRange(IntegerArgumentType.getInteger(context, "min"), IntegerArgumentType.getInteger(context, "max"));
+        context.getSource().sendFeedback(Text.literal("§aSending between " + ModConfig.getMinSendFps() + " and " + ModConfig.getMaxSendFps() + " FPS"));
+        context.getSource().sendFeedback(Text.literal("§7The rate drops towards the minimum when your connection can't keep up"));
+        return 1;
+    }
+
+    private static int setSendQualityRange(CommandContext<FabricClientCommandSource> context) {
+        ModConfig.setSendQualityRange(FloatArgumentType.getFloat(context, "min"), FloatArgumentType.getFloat(context, "max"));
+        context.getSource().sendFeedback(Text.literal("§aSending at quality " + formatQualityRange()));
+        return 1;
+    }
+
+    private static int setMinSendResolution(CommandContext<FabricClientCommandSource> context) {
+        ModConfig.setMinSendResolution(IntegerArgumentType.getInteger(context, "min"));
+        context.getSource().sendFeedback(Text.literal("§aSent face size never goes below " + ModConfig.getMinSendResolution() + "x" + ModConfig.getMinSendResolution()));
+        return 1;
+    }
+
+    private static int setSimulcastLayers(CommandContext<FabricClientCommandSource> context, int layers) {
+        ModConfig.setSimulcastLayers(layers);
+        if (layers == 1) {
+            context.getSource().sendFeedback(Text.literal("§aSimulcast disabled, everyone receives the same stream"));
+        } else {
+            context.getSource().sendFeedback(Text.literal("§aSending " + layers + " layers, each at half the size and frame rate"));
+            context.getSource().sendFeedback(Text.literal("§7Players who see your face small on screen receive a smaller layer"));
+        }
+        return 1;
+    }
+
+    private static int setLodEnabled(CommandContext<FabricClientCommandSource> context, boolean enabled) {
+        ModConfig.setLodEnabled(enabled);
+        if (enabled) {
+            context.getSource().sendFeedback(Text.literal("§aFaces of players further away are smaller and updated less often"));
+        } else {
+            context.getSource().sendFeedback(Text.literal("§aAll faces are shown at full size and frame rate"));
+        }
+        return 1;
+    }
+
+    private static int setLodSizes(CommandContext<FabricClientCommandSource> context) {
+        ModConfig.setLodSizes(IntegerArgumentType.getInteger(context, "near"), IntegerArgumentType.getInteger(context, "far"));
+        ModConfig.setLodEnabled(true);
+        context.getSource().sendFeedback(Text.literal("§aFull quality faces from " + ModConfig.getLodNearSize()
+            + "px on screen, lowest quality below " + ModConfig.getLodFarSize() + "px"));
+        return 1;
+    }
+
+    private static int setFaceUpdateBudget(CommandContext<FabricClientCommandSource> context) {
+        ModConfig.setFaceUpdateBudgetUs(IntegerArgumentType.getInteger(context, "microseconds"));
+        context.getSource().sendFeedback(Text.literal("§aApplying received faces for up to " + ModConfig.getFaceUpdateBudgetUs() + " µs per frame"));
+        context.getSource().sendFeedback(Text.literal("§7Faces that don't fit are updated in the next frames, largest on screen first"));
+        return 1;
+    }
+
+    private static String formatQualityRange() {
+        return String.format("%.2f-%.2f", ModConfig.getMinSendQuality(), ModConfig.getMaxSendQuality());
+    }
+
     private static int setServer(CommandContext<FabricClientCommandSource> context) {
         String url = StringArgumentType.getString(context, "url");
 
@@ -114,6 +299,16 @@ public class WebcamCommand {
         context.getSource().sendFeedback(Text.literal("§eResolution: §f" + ModConfig.getCaptureWidth() + "x" + ModConfig.getCaptureHeight()));
         context.getSource().sendFeedback(Text.literal("§eFPS: §f" + ModConfig.getCaptureFps()));
         context.getSource().sendFeedback(Text.literal("§eRender Mode: §f" + ModConfig.getRenderMode()));
+        context.getSource().sendFeedback(Text.literal("§eFace Mode: §f" + ModConfig.getFaceMode() + " (" + ModConfig.getFaceResolution() + "x" + ModConfig.getFaceResolution() + ")"));
+        context.getSource().sendFeedback(Text.literal("§eFace Crop: §f" + formatFaceCrop()));
+        context.getSource().sendFeedback(Text.literal("§eFace Tracking: §f" + (ModConfig.isFaceTracking() ? "Enabled" : "Disabled")));
+        context.getSource().sendFeedback(Text.literal("§eVideo Codec: §f" + ModConfig.getVideoCodec()));
+        context.getSource().sendFeedback(Text.literal("§eSimulcast Layers: §f" + ModConfig.getSimulcastLayers()));
+        context.getSource().sendFeedback(Text.literal("§eFace LOD: §f" + (ModConfig.isLodEnabled()
+            ? "near >= " + ModConfig.getLodNearSize() + "px, far < " + ModConfig.getLodFarSize() + "px" : "Disabled")));
+        context.getSource().sendFeedback(Text.literal("§eFace Update Budget: §f" + ModConfig.getFaceUpdateBudgetUs() + " µs per frame"));
+        context.getSource().sendFeedback(Text.literal("§eSend Limits: §f" + ModConfig.getMinSendFps() + "-" + ModConfig.getMaxSendFps()
+            + " FPS, quality " + formatQualityRange() + ", size >= " + ModConfig.getMinSendResolution()));
         context.getSource().sendFeedback(Text.literal("§eMultiplayer: §f" + (ModConfig.isMultiplayerEnabled() ? "Enabled" : "Disabled")));
 
         if (ModConfig.isServerConfigured()) {
@@ -149,10 +344,54 @@ public class WebcamCommand {
         var stats = client.getStreamingStats();
         if (stats != null) {
             context.getSource().sendFeedback(Text.literal("§6=== Streaming Statistics ==="));
+            context.getSource().sendFeedback(Text.literal("§eCodec: §f" + stats.codec));
+            context.getSource().sendFeedback(Text.literal("§eSent Face Size: §f" + stats.sendResolution + "x" + stats.sendResolution
+                + (stats.layers > 1 ? " (" + stats.layers + " layers)" : "")));
+            context.getSource().sendFeedback(Text.literal("§eReceivers: §f" + (stats.receivers >= 0 ? stats.receivers : "unknown")
+                + (stats.receivers == 0 ? " §7(encoding suspended)" : "")));
             context.getSource().sendFeedback(Text.literal("§eFrames Sent: §f" + stats.framesSent));
+            context.getSource().sendFeedback(Text.literal("§eFrames Skipped (unchanged): §f" + stats.framesUnchanged));
+            context.getSource().sendFeedback(Text.literal("§eFrames Skipped (no receivers): §f" + stats.framesSuspended));
+            context.getSource().sendFeedback(Text.literal("§eSend Interval: §f" + stats.sendIntervalMs + " ms"));
             context.getSource().sendFeedback(Text.literal("§eFrames Received: §f" + stats.framesReceived));
+            context.getSource().sendFeedback(Text.literal("§eFrames Dropped (not visible): §f" + stats.framesNotVisible));
+            context.getSource().sendFeedback(Text.literal("§eFrames Decoded: §f" + stats.framesDecoded));
+            context.getSource().sendFeedback(Text.literal("§eFrames Dropped (decoder busy): §f" + stats.framesDecodeDropped));
             context.getSource().sendFeedback(Text.literal("§eBytes Sent: §f" + stats.bytesSent / 1024 + " KB"));
             context.getSource().sendFeedback(Text.literal("§eAvg Frame Size: §f" + stats.getAverageFrameSize() / 1024 + " KB"));
+
+            var bitrate = stats.bitrate;
+            context.getSource().sendFeedback(Text.literal("§eBitrate Level: §f" + Math.round(bitrate.level * 100) + "%"
+                + String.format(" (%d FPS, quality %.1f)", bitrate.fps, bitrate.quality)));
+            context.getSource().sendFeedback(Text.literal("§eRound Trip: §f" + (bitrate.rttMs >= 0 ? Math.round(bitrate.rttMs) + " ms" : "unknown")
+                + ", " + bitrate.backlog + " frames unacknowledged"));
+            context.getSource().sendFeedback(Text.literal("§eFrames Held Back (congestion): §f" + bitrate.framesHeldBack));
+        }
+
+        var tracker = client.getFaceTrackerStats();
+        if (tracker != null) {
+            context.getSource().sendFeedback(Text.literal("§eFace Tracking: §f" + (tracker.tracking ? "Face found" : "No face")
+                + String.format(" (every %d frames, %.1f ms)", tracker.interval, tracker.averageDetectMs)));
+            context.getSource().sendFeedback(Text.literal("§eFace Detections: §f" + tracker.facesFound + "/" + tracker.detections));
+        }
+
+        var mailbox = client.getMailboxStats();
+        context.getSource().sendFeedback(Text.literal("§eFrames Applied: §f" + mailbox.framesDelivered));
+        context.getSource().sendFeedback(Text.literal("§eFrames Dropped (superseded): §f" + mailbox.framesDropped));
+
+        var updates = client.getFaceUpdateStats();
+        context.getSource().sendFeedback(Text.literal("§eFace Updates: §f" + updates.updatesRun + " run, " + updates.updatesDeferred
+            + " deferred to a later frame §7(avg " + updates.averageUpdateUs + " µs each)"));
+        context.getSource().sendFeedback(Text.literal("§eFace Update Time: §f" + updates.lastWorkUs + " µs last frame, " + updates.maxWorkUs
+            + " µs max, " + updates.framesOverBudget + "/" + updates.framesRun + " frames over budget"));
+
+        var lod = client.getLodStats();
+        for (FaceLod.Tier tier : FaceLod.Tier.values()) {
+            int resolution = tier.getResolution(ModConfig.getFaceResolution());
+            int i = tier.ordinal();
+            context.getSource().sendFeedback(Text.literal("§eLOD " + tier.label + " §7(" + resolution + "x" + resolution
+                + (tier.intervalMs > 0 ? ", " + 1000 / tier.intervalMs + "/s" : "") + ")§e: §f" + lod.players[i] + " players, "
+                + lod.framesApplied[i] + " applied, " + lod.framesSkipped[i] + " skipped"));
         }
 
         return 1;
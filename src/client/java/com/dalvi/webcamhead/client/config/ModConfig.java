@@ -6,6 +6,25 @@ public class ModConfig {
     public static final int DEFAULT_FPS = 15;
     public static final int DEFAULT_DEVICE_INDEX = 0;
     public static final String DEFAULT_ROOM_ID = "default";
+    public static final int DEFAULT_FACE_RESOLUTION = 128;
+    public static final int MIN_FACE_RESOLUTION = 8;
+    public static final int MAX_FACE_RESOLUTION = 256;
+    public static final String DEFAULT_VIDEO_CODEC = "auto";
+    public static final float DEFAULT_FACE_CROP_CENTER = 0.5f;
+    public static final float DEFAULT_FACE_CROP_SIZE = 1.0f;
+    public static final float MIN_FACE_CROP_SIZE = 0.1f;
+    public static final int DEFAULT_MIN_SEND_FPS = 2;
+    public static final int DEFAULT_MAX_SEND_FPS = 10;
+    public static final int MAX_SEND_FPS = 30;
+    public static final float DEFAULT_MIN_SEND_QUALITY = 0.3f;
+    public static final float DEFAULT_MAX_SEND_QUALITY = 0.7f;
+    public static final int DEFAULT_MIN_SEND_RESOLUTION = 32;
+    public static final int MAX_SIMULCAST_LAYERS = 3;
+    public static final int DEFAULT_LOD_NEAR_SIZE = 48;
+    public static final int DEFAULT_LOD_FAR_SIZE = 16;
+    public static final int DEFAULT_FACE_UPDATE_BUDGET_US = 2000;
+    public static final int MIN_FACE_UPDATE_BUDGET_US = 100;
+    public static final int MAX_FACE_UPDATE_BUDGET_US = 50000;
 
     private static int captureWidth = DEFAULT_WIDTH;
     private static int captureHeight = DEFAULT_HEIGHT;
@@ -15,6 +34,23 @@ public class ModConfig {
     private static String signalingServerUrl = null; // Not configured by default - user must set it
     private static String roomId = DEFAULT_ROOM_ID;
     private static boolean multiplayerEnabled = true;
+    private static FaceMode faceMode = FaceMode.FACE_TEXTURE;
+    private static int faceResolution = DEFAULT_FACE_RESOLUTION;
+    private static String videoCodec = DEFAULT_VIDEO_CODEC;
+    private static float faceCropX = DEFAULT_FACE_CROP_CENTER;
+    private static float faceCropY = DEFAULT_FACE_CROP_CENTER;
+    private static float faceCropSize = DEFAULT_FACE_CROP_SIZE;
+    private static boolean faceTracking = false;
+    private static int minSendFps = DEFAULT_MIN_SEND_FPS;
+    private static int maxSendFps = DEFAULT_MAX_SEND_FPS;
+    private static float minSendQuality = DEFAULT_MIN_SEND_QUALITY;
+    private static float maxSendQuality = DEFAULT_MAX_SEND_QUALITY;
+    private static int minSendResolution = DEFAULT_MIN_SEND_RESOLUTION;
+    private static int simulcastLayers = 1;
+    private static boolean lodEnabled = true;
+    private static int lodNearSize = DEFAULT_LOD_NEAR_SIZE;
+    private static int lodFarSize = DEFAULT_LOD_FAR_SIZE;
+    private static int faceUpdateBudgetUs = DEFAULT_FACE_UPDATE_BUDGET_US;
 
     public enum RenderMode {
         PANEL_3D,
@@ -22,6 +58,16 @@ public class ModConfig {
         BOTH
     }
 
+    /**
+     * How the webcam is put on a player's face
+     */
+    public enum FaceMode {
+        // Small per-player face texture drawn over the head, skin left untouched
+        FACE_TEXTURE,
+        // Skin upscaled to 1024x1024 with the face regions overwritten
+        UPSCALED_SKIN
+    }
+
     public static int getCaptureWidth() {
         return captureWidth;
     }
@@ -86,6 +132,167 @@ public class ModConfig {
         multiplayerEnabled = enabled;
     }
 
+    public static FaceMode getFaceMode() {
+        return faceMode;
+    }
+
+    public static void setFaceMode(FaceMode mode) {
+        faceMode = mode;
+    }
+
+    public static int getFaceResolution() {
+        return faceResolution;
+    }
+
+    public static void setFaceResolution(int resolution) {
+        faceResolution = Math.max(MIN_FACE_RESOLUTION, Math.min(MAX_FACE_RESOLUTION, resolution));
+    }
+
+    /**
+     * Preferred codec for outgoing video ("auto", "jpeg", "h264" or "raw").
+     * The codec actually used must also be supported by everyone in the room.
+     */
+    public static String getVideoCodec() {
+        return videoCodec;
+    }
+
+    public static void setVideoCodec(String codec) {
+        videoCodec = codec;
+    }
+
+    /**
+     * Center of the square face crop, as a fraction of the capture width (0 = left, 1 = right)
+     */
+    public static float getFaceCropX() {
+        return faceCropX;
+    }
+
+    /**
+     * Center of the square face crop, as a fraction of the capture height (0 = top, 1 = bottom)
+     */
+    public static float getFaceCropY() {
+        return faceCropY;
+    }
+
+    /**
+     * Side of the square face crop, as a fraction of the capture's shorter side
+     */
+    public static float getFaceCropSize() {
+        return faceCropSize;
+    }
+
+    public static void setFaceCrop(float centerX, float centerY, float size) {
+        faceCropX = Math.max(0.0f, Math.min(1.0f, centerX));
+        faceCropY = Math.max(0.0f, Math.min(1.0f, centerY));
+        faceCropSize = Math.max(MIN_FACE_CROP_SIZE, Math.min(1.0f, size));
+    }
+
+    /**
+     * Whether the face crop follows the face found by the OpenCV face tracker
+     */
+    public static boolean isFaceTracking() {
+        return faceTracking;
+    }
+
+    public static void setFaceTracking(boolean enabled) {
+        faceTracking = enabled;
+    }
+
+    /**
+     * Frame rate range the bitrate controller sends within, lowest on a congested connection
+     */
+    public static int getMinSendFps() {
+        return minSendFps;
+    }
+
+    public static int getMaxSendFps() {
+        return maxSendFps;
+    }
+
+    public static void setSendFpsRange(int min, int max) {
+        maxSendFps = Math.max(1, Math.min(MAX_SEND_FPS, max));
+        minSendFps = Math.max(1, Math.min(maxSendFps, min));
+    }
+
+    /**
+     * Compression quality range (0.0 to 1.0) the bitrate controller sends within
+     */
+    public static float getMinSendQuality() {
+        return minSendQuality;
+    }
+
+    public static float getMaxSendQuality() {
+        return maxSendQuality;
+    }
+
+    public static void setSendQualityRange(float min, float max) {
+        maxSendQuality = Math.max(0.1f, Math.min(1.0f, max));
+        minSendQuality = Math.max(0.1f, Math.min(maxSendQuality, min));
+    }
+
+    /**
+     * Smallest face size the bitrate controller goes down to on a congested connection
+     */
+    public static int getMinSendResolution() {
+        return minSendResolution;
+    }
+
+    public static void setMinSendResolution(int resolution) {
+        minSendResolution = Math.max(MIN_FACE_RESOLUTION, Math.min(MAX_FACE_RESOLUTION, resolution));
+    }
+
+    /**
+     * Number of versions of the webcam sent, each at half the size and frame rate of the previous one (1 = no simulcast)
+     */
+    public static int getSimulcastLayers() {
+        return simulcastLayers;
+    }
+
+    public static void setSimulcastLayers(int layers) {
+        simulcastLayers = Math.max(1, Math.min(MAX_SIMULCAST_LAYERS, layers));
+    }
+
+    /**
+     * Whether remote faces are shown at a lower size and update rate the smaller they are on screen
+     */
+    public static boolean isLodEnabled() {
+        return lodEnabled;
+    }
+
+    public static void setLodEnabled(boolean enabled) {
+        lodEnabled = enabled;
+    }
+
+    /**
+     * Head size on screen in pixels from which remote faces get full quality
+     */
+    public static int getLodNearSize() {
+        return lodNearSize;
+    }
+
+    /**
+     * Head size on screen in pixels below which remote faces get the lowest quality
+     */
+    public static int getLodFarSize() {
+        return lodFarSize;
+    }
+
+    public static void setLodSizes(int near, int far) {
+        lodNearSize = Math.max(1, near);
+        lodFarSize = Math.max(1, Math.min(lodNearSize, far));
+    }
+
+    /**
+     * Time in microseconds each rendered frame may spend applying received faces
+     */
+    public static int getFaceUpdateBudgetUs() {
+        return faceUpdateBudgetUs;
+    }
+
+    public static void setFaceUpdateBudgetUs(int budgetUs) {
+        faceUpdateBudgetUs = Math.max(MIN_FACE_UPDATE_BUDGET_US, Math.min(MAX_FACE_UPDATE_BUDGET_US, budgetUs));
+    }
+
     /**
      * Check if the signaling server is configured
      */
@@ -0,0 +1,39 @@
+package com.dalvi.webcamhead.client.render;
+
+import java.util.function.Function;
+
+/**
+ * Keeps a value built from a source value, e.g. the modified SkinTextures built from a player's original ones.
+ * The value is rebuilt only when the source changes or a generation counter moves, so repeated lookups
+ * with the same source are two field reads and a reference compare. Not thread-safe.
+ */
+public final class DerivedValueCache<S, V> {
+    private final Function<S, V> factory;
+
+    private S source;
+    private V value;
+    private int generation;
+    private boolean built = false;
+
+    /**
+     * @param factory builds the value for a source, may return null
+     */
+    public DerivedValueCache(Function<S, V> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Get the value for a source, rebuilding it if the source differs (by equals) from the last one
+     * or {@code generation} changed since it was built
+     */
+    public V get(S source, int generation) {
+        if (!built || generation != this.generation || (source != this.source && !source.equals(this.source))) {
+            value = factory.apply(source);
+            this.generation = generation;
+            built = true;
+        }
+        // Keep the latest instance, so an equal source passed again next time is caught by the reference compare
+        this.source = source;
+        return value;
+    }
+}
@@ -0,0 +1,169 @@
+package com.dalvi.webcamhead.client.render;
+
+/**
+ * Tracks rectangles of a texture that changed since the last upload.
+ * Overlapping rectangles, and neighbours whose union is exactly a rectangle, are merged.
+ * The number of tracked rectangles is capped so a burst of small updates never turns into many tiny uploads.
+ * Pure bookkeeping with no GL calls and no allocation after construction.
+ */
+public class DirtyRegionTracker {
+
+    @FunctionalInterface
+    public interface RegionConsumer {
+        void accept(int x, int y, int width, int height);
+    }
+
+    private final int textureWidth;
+    private final int textureHeight;
+    private final int maxRegions;
+
+    // Rectangles stored as [x0, y0, x1, y1] (exclusive end) in a flat array
+    private final int[] regions;
+    private int count = 0;
+
+    public DirtyRegionTracker(int textureWidth, int textureHeight, int maxRegions) {
+        if (maxRegions < 1) {
+            throw new IllegalArgumentException("maxRegions must be at least 1");
+        }
+        this.textureWidth = textureWidth;
+        this.textureHeight = textureHeight;
+        this.maxRegions = maxRegions;
+        this.regions = new int[maxRegions * 4];
+    }
+
+    /**
+     * Mark a rectangle as dirty. The rectangle is clipped to the texture bounds.
+     */
+    public void markDirty(int x, int y, int width, int height) {
+        int x0 = Math.max(0, x);
+        int y0 = Math.max(0, y);
+        int x1 = Math.min(textureWidth, x + width);
+        int y1 = Math.min(textureHeight, y + height);
+        if (x0 >= x1 || y0 >= y1) {
+            return;
+        }
+
+        // Absorb every tracked rectangle that overlaps the new one or extends it exactly
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (int i = 0; i < count; i++) {
+                int o = i * 4;
+                if (shouldMerge(o, x0, y0, x1, y1)) {
+                    x0 = Math.min(x0, regions[o]);
+                    y0 = Math.min(y0, regions[o + 1]);
+                    x1 = Math.max(x1, regions[o + 2]);
+                    y1 = Math.max(y1, regions[o + 3]);
+                    removeAt(i);
+                    merged = true;
+                    break;
+                }
+            }
+        }
+
+        if (count < maxRegions) {
+            set(count++, x0, y0, x1, y1);
+            return;
+        }
+
+        // At capacity: grow the rectangle whose area increases the least
+        int best = 0;
+        long bestGrowth = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            int o = i * 4;
+            long union = area(Math.min(x0, regions[o]), Math.min(y0, regions[o + 1]),
+                Math.max(x1, regions[o + 2]), Math.max(y1, regions[o + 3]));
+            long growth = union - area(regions[o], regions[o + 1], regions[o + 2], regions[o + 3]);
+            if (growth < bestGrowth) {
+                bestGrowth = growth;
+                best = i;
+            }
+        }
+        int o = best * 4;
+        int nx0 = Math.min(x0, regions[o]);
+        int ny0 = Math.min(y0, regions[o + 1]);
+        int nx1 = Math.max(x1, regions[o + 2]);
+        int ny1 = Math.max(y1, regions[o + 3]);
+        removeAt(best);
+        // The grown rectangle may now overlap others, so run it through the merge again
+        markDirty(nx0, ny0, nx1 - nx0, ny1 - ny0);
+    }
+
+    /**
+     * Mark the whole texture as dirty
+     */
+    public void markAllDirty() {
+        count = 0;
+        set(count++, 0, 0, textureWidth, textureHeight);
+    }
+
+    public boolean isDirty() {
+        return count > 0;
+    }
+
+    public int getRegionCount() {
+        return count;
+    }
+
+    /**
+     * Total number of dirty pixels across all tracked rectangles
+     */
+    public long getDirtyArea() {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * 4;
+            total += area(regions[o], regions[o + 1], regions[o + 2], regions[o + 3]);
+        }
+        return total;
+    }
+
+    /**
+     * Visit every dirty rectangle without clearing
+     */
+    public void forEach(RegionConsumer consumer) {
+        for (int i = 0; i < count; i++) {
+            int o = i * 4;
+            consumer.accept(regions[o], regions[o + 1], regions[o + 2] - regions[o], regions[o + 3] - regions[o + 1]);
+        }
+    }
+
+    /**
+     * Visit every dirty rectangle, then clear the tracker
+     */
+    public void drain(RegionConsumer consumer) {
+        forEach(consumer);
+        clear();
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    private boolean shouldMerge(int o, int x0, int y0, int x1, int y1) {
+        int rx0 = regions[o], ry0 = regions[o + 1], rx1 = regions[o + 2], ry1 = regions[o + 3];
+        boolean overlaps = x0 < rx1 && rx0 < x1 && y0 < ry1 && ry0 < y1;
+        boolean sideBySide = y0 == ry0 && y1 == ry1 && (x1 == rx0 || rx1 == x0);
+        boolean stacked = x0 == rx0 && x1 == rx1 && (y1 == ry0 || ry1 == y0);
+        return overlaps || sideBySide || stacked;
+    }
+
+    private void set(int index, int x0, int y0, int x1, int y1) {
+        int o = index * 4;
+        regions[o] = x0;
+        regions[o + 1] = y0;
+        regions[o + 2] = x1;
+        regions[o + 3] = y1;
+    }
+
+    private void removeAt(int index) {
+        int last = count - 1;
+        if (index != last) {
+            System.arraycopy(regions, last * 4, regions, index * 4, 4);
+        }
+        count--;
+    }
+
+    private static long area(int x0, int y0, int x1, int y1) {
+        return (long) (x1 - x0) * (y1 - y0);
+    }
+}
@@ -0,0 +1,164 @@
+package com.dalvi.webcamhead.client.render;
+
+import com.dalvi.webcamhead.client.config.ModConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Holds a small dedicated webcam texture per player, drawn over the head by WebcamFaceFeatureRenderer.
+ * The player's own skin is never copied or modified, so each player costs
+ * faceResolution^2 * 4 bytes (64 KB at 128x128) instead of a 4 MB upscaled skin.
+ */
+public class FaceTextureManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
+
+    // Regions tracked per texture before they are merged into their bounding box
+    private static final int MAX_DIRTY_REGIONS = 8;
+
+    private static final Map<UUID, FaceTexture> faces = new HashMap<>();
+
+    private static class FaceTexture {
+        Identifier textureId;
+        NativeImageBackedTexture texture;
+        IntBuffer pixels;
+        DirtyRegionTracker dirtyRegions;
+        int resolution;
+        // Reused every frame so resizing does not allocate
+        BufferedImage resized;
+        Graphics2D resizeGraphics;
+        int[] rowScratch;
+        // Set once a full frame was written, so partial updates have something to patch
+        boolean hasContent;
+    }
+
+    /**
+     * Create the face texture for a player at the configured resolution
+     */
+    public static void createFaceTexture(UUID playerId) {
+        if (faces.containsKey(playerId)) {
+            return;
+        }
+
+        int resolution = ModConfig.getFaceResolution();
+        faces.put(playerId, createFace(playerId, resolution));
+
+        LOGGER.info("Created {}x{} face texture for player {}", resolution, resolution, playerId);
+    }
+
+    /**
+     * Change the size of a player's face texture, e.g. as they move away. The face is blank until the next frame.
+     */
+    public static void setResolution(UUID playerId, int resolution) {
+        FaceTexture face = faces.get(playerId);
+        if (face == null || face.resolution == resolution) {
+            return;
+        }
+
+        face.resizeGraphics.dispose();
+        MinecraftClient.getInstance().getTextureManager().destroyTexture(face.textureId);
+        faces.put(playerId, createFace(playerId, resolution));
+        LOGGER.debug("Resized face texture of player {} to {}x{}", playerId, resolution, resolution);
+    }
+
+    private static FaceTexture createFace(UUID playerId, int resolution) {
+        NativeImage image = new NativeImage(resolution, resolution, true);
+        image.fillRect(0, 0, resolution, resolution, 0xFF000000);
+
+        FaceTexture face = new FaceTexture();
+        face.resolution = resolution;
+        face.pixels = NativeImagePixels.view(image);
+        face.texture = new NativeImageBackedTexture(image);
+        face.textureId = Identifier.of("webcamhead", "face_" + playerId.toString());
+        face.dirtyRegions = new DirtyRegionTracker(resolution, resolution, MAX_DIRTY_REGIONS);
+        face.resized = new BufferedImage(resolution, resolution, BufferedImage.TYPE_INT_RGB);
+        face.resizeGraphics = face.resized.createGraphics();
+        face.resizeGraphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        face.rowScratch = new int[resolution];
+
+        MinecraftClient.getInstance().getTextureManager().registerTexture(face.textureId, face.texture);
+        return face;
+    }
+
+    /**
+     * Write a webcam frame into the player's face texture and upload it
+     */
+    public static void updateFace(UUID playerId, BufferedImage webcamFrame) {
+        updateFace(playerId, webcamFrame, null);
+    }
+
+    /**
+     * Write a webcam frame into the player's face texture and upload it.
+     * If {@code changedRegions} lists the only parts of the frame that changed (x, y, width, height
+     * per region) and the frame is already at the texture resolution, only those parts are copied and uploaded.
+     */
+    public static void updateFace(UUID playerId, BufferedImage webcamFrame, int[] changedRegions) {
+        FaceTexture face = faces.get(playerId);
+        if (face == null || webcamFrame == null || face.texture.getImage() == null) {
+            return;
+        }
+
+        boolean sameSize = webcamFrame.getWidth() == face.resolution && webcamFrame.getHeight() == face.resolution;
+        if (changedRegions != null && sameSize && face.hasContent) {
+            for (int i = 0; i + 3 < changedRegions.length; i += 4) {
+                int x = changedRegions[i];
+                int y = changedRegions[i + 1];
+                int w = Math.min(changedRegions[i + 2], face.resolution - x);
+                int h = Math.min(changedRegions[i + 3], face.resolution - y);
+                if (x < 0 || y < 0 || w <= 0 || h <= 0) {
+                    continue;
+                }
+                NativeImagePixels.copyFrame(webcamFrame, x, y, face.pixels, face.resolution, x, y, w, h, face.rowScratch);
+                face.dirtyRegions.markDirty(x, y, w, h);
+            }
+            PartialTextureUploader.uploadDirty(face.texture, face.dirtyRegions);
+            return;
+        }
+
+        BufferedImage source = webcamFrame;
+        if (!sameSize) {
+            face.resizeGraphics.drawImage(webcamFrame, 0, 0, face.resolution, face.resolution, null);
+            source = face.resized;
+        }
+
+        NativeImagePixels.copyFrame(source, face.pixels, face.resolution, 0, 0, face.resolution, face.resolution, face.rowScratch);
+        face.dirtyRegions.markAllDirty();
+        PartialTextureUploader.uploadDirty(face.texture, face.dirtyRegions);
+        face.hasContent = true;
+    }
+
+    /**
+     * Get the face texture ID for a player, or null if they have none
+     */
+    public static Identifier getFaceTexture(UUID playerId) {
+        FaceTexture face = faces.get(playerId);
+        return face != null ? face.textureId : null;
+    }
+
+    public static boolean hasFaceTexture(UUID playerId) {
+        return faces.containsKey(playerId);
+    }
+
+    /**
+     * Destroy the face texture for a player
+     */
+    public static void cleanupFaceTexture(UUID playerId) {
+        FaceTexture face = faces.remove(playerId);
+        if (face != null) {
+            face.resizeGraphics.dispose();
+            MinecraftClient.getInstance().getTextureManager().destroyTexture(face.textureId);
+            LOGGER.info("Cleaned up face texture for player {}", playerId);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.dalvi.webcamhead.client.render;
+
+import com.dalvi.webcamhead.mixin.client.NativeImageAccessor;
+import net.minecraft.client.texture.NativeImage;
+import org.lwjgl.system.MemoryUtil;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.nio.IntBuffer;
+
+/**
+ * Bulk pixel copies from BufferedImage frames straight into NativeImage memory.
+ *
+ * NativeImage stores RGBA bytes, so each pixel read as a native (little-endian) int is ABGR.
+ * Colors written here match what NativeImage.fillRect produces for the equivalent ARGB value.
+ */
+public final class NativeImagePixels {
+
+    private NativeImagePixels() {
+    }
+
+    /**
+     * Get an int view over the pixels of an RGBA NativeImage (one ABGR int per pixel, row-major).
+     * The view is only valid while the image is open, so callers should create it once and keep it.
+     */
+    public static IntBuffer view(NativeImage image) {
+        if (image.getFormat() != NativeImage.Format.RGBA) {
+            throw new IllegalArgumentException("Only RGBA images are supported, got " + image.getFormat());
+        }
+        long pointer = ((NativeImageAccessor) (Object) image).getWebcamheadPointer();
+        if (pointer == 0L) {
+            throw new IllegalStateException("Image is closed");
+        }
+        return MemoryUtil.memIntBuffer(pointer, image.getWidth() * image.getHeight());
+    }
+
+    /**
+     * Copy all pixels of an image into a new array (ABGR ints, row-major).
+     * Non-RGBA images are converted through a temporary RGBA copy.
+     */
+    public static int[] readPixels(NativeImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = new int[width * height];
+
+        if (image.getFormat() == NativeImage.Format.RGBA) {
+            view(image).get(0, pixels);
+            return pixels;
+        }
+
+        try (NativeImage rgba = new NativeImage(width, height, true)) {
+            image.copyRect(rgba, 0, 0, 0, 0, width, height, false, false);
+            view(rgba).get(0, pixels);
+        }
+        return pixels;
+    }
+
+    /**
+     * Nearest-neighbour scale of a pixel array into a pixel buffer of a different size.
+     */
+    public static void scaleNearest(int[] src, int srcWidth, int srcHeight, IntBuffer dst, int dstWidth, int dstHeight) {
+        for (int y = 0; y < dstHeight; y++) {
+            int srcRow = (int) ((long) y * srcHeight / dstHeight) * srcWidth;
+            int d = y * dstWidth;
+            for (int x = 0; x < dstWidth; x++) {
+                dst.put(d + x, src[srcRow + (int) ((long) x * srcWidth / dstWidth)]);
+            }
+        }
+    }
+
+    /**
+     * Copy the top-left region of a frame into a pixel buffer.
+     *
+     * @param dst       destination pixels (ABGR ints, row-major)
+     * @param dstStride width in pixels of a destination row
+     * @param dstX      destination x of the first copied pixel
+     * @param dstY      destination y of the first copied pixel
+     * @param width     number of columns to copy (clipped to the frame width)
+     * @param height    number of rows to copy (clipped to the frame height)
+     * @param rowScratch reusable buffer of at least {@code width} ints, only used for uncommon image types
+     */
+    public static void copyFrame(BufferedImage src, IntBuffer dst, int dstStride, int dstX, int dstY,
+                                 int width, int height, int[] rowScratch) {
+        copyFrame(src, 0, 0, dst, dstStride, dstX, dstY, width, height, rowScratch);
+    }
+
+    /**
+     * Copy a region of a frame starting at ({@code srcX}, {@code srcY}) into a pixel buffer,
+     * without creating a sub-image for it. The region is clipped to the frame.
+     */
+    public static void copyFrame(BufferedImage src, int srcX, int srcY, IntBuffer dst, int dstStride, int dstX, int dstY,
+                                 int width, int height, int[] rowScratch) {
+        int w = Math.min(width, src.getWidth() - srcX);
+        int h = Math.min(height, src.getHeight() - srcY);
+        if (srcX < 0 || srcY < 0 || w <= 0 || h <= 0) {
+            return;
+        }
+
+        Raster raster = src.getRaster();
+        switch (src.getType()) {
+            case BufferedImage.TYPE_3BYTE_BGR -> copyBgr(raster, srcX, srcY, dst, dstStride, dstX, dstY, w, h);
+            case BufferedImage.TYPE_INT_ARGB, BufferedImage.TYPE_INT_RGB ->
+                copyPackedInt(raster, src.getType() == BufferedImage.TYPE_INT_RGB, srcX, srcY, dst, dstStride, dstX, dstY, w, h);
+            default -> copyGeneric(src, srcX, srcY, dst, dstStride, dstX, dstY, w, h, rowScratch);
+        }
+    }
+
+    private static void copyBgr(Raster raster, int srcX, int srcY, IntBuffer dst, int dstStride, int dstX, int dstY, int w, int h) {
+        ComponentSampleModel sm = (ComponentSampleModel) raster.getSampleModel();
+        byte[] data = ((DataBufferByte) raster.getDataBuffer()).getData();
+        int scanline = sm.getScanlineStride();
+        int pixelStride = sm.getPixelStride();
+        int[] bandOffsets = sm.getBandOffsets();
+        int base = raster.getDataBuffer().getOffset()
+            + (srcY - raster.getSampleModelTranslateY()) * scanline
+            + (srcX - raster.getSampleModelTranslateX()) * pixelStride;
+        int rOff = bandOffsets[0];
+        int gOff = bandOffsets[1];
+        int bOff = bandOffsets[2];
+
+        for (int y = 0; y < h; y++) {
+            int s = base + y * scanline;
+            int d = (dstY + y) * dstStride + dstX;
+            for (int x = 0; x < w; x++, s += pixelStride) {
+                int r = data[s + rOff] & 0xFF;
+                int g = data[s + gOff] & 0xFF;
+                int b = data[s + bOff] & 0xFF;
+                dst.put(d + x, 0xFF000000 | (b << 16) | (g << 8) | r);
+            }
+        }
+    }
+
+    private static void copyPackedInt(Raster raster, boolean opaque, int srcX, int srcY, IntBuffer dst, int dstStride,
+                                      int dstX, int dstY, int w, int h) {
+        SinglePixelPackedSampleModel sm = (SinglePixelPackedSampleModel) raster.getSampleModel();
+        int[] data = ((DataBufferInt) raster.getDataBuffer()).getData();
+        int scanline = sm.getScanlineStride();
+        int base = raster.getDataBuffer().getOffset()
+            + (srcY - raster.getSampleModelTranslateY()) * scanline
+            + (srcX - raster.getSampleModelTranslateX());
+
+        for (int y = 0; y < h; y++) {
+            int s = base + y * scanline;
+            int d = (dstY + y) * dstStride + dstX;
+            for (int x = 0; x < w; x++) {
+                dst.put(d + x, argbToAbgr(data[s + x], opaque));
+            }
+        }
+    }
+
+    private static void copyGeneric(BufferedImage src, int srcX, int srcY, IntBuffer dst, int dstStride, int dstX, int dstY,
+                                    int w, int h, int[] rowScratch) {
+        for (int y = 0; y < h; y++) {
+            src.getRGB(srcX, srcY + y, w, 1, rowScratch, 0, w);
+            int d = (dstY + y) * dstStride + dstX;
+            for (int x = 0; x < w; x++) {
+                dst.put(d + x, argbToAbgr(rowScratch[x], false));
+            }
+        }
+    }
+
+    /**
+     * Convert an ARGB color to the ABGR layout NativeImage keeps in memory.
+     * Fully transparent pixels are made opaque, as webcam frames carry no meaningful alpha.
+     */
+    public static int argbToAbgr(int argb, boolean opaque) {
+        int a = opaque ? 0xFF : (argb >>> 24);
+        if (a == 0) a = 0xFF;
+        return (a << 24) | ((argb & 0xFF) << 16) | (argb & 0xFF00) | ((argb >> 16) & 0xFF);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dalvi.webcamhead.client.render;
+
+import com.dalvi.webcamhead.mixin.client.NativeImageAccessor;
+import com.mojang.blaze3d.platform.GlStateManager;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import org.lwjgl.opengl.GL11;
+
+/**
+ * Uploads only the dirty sub-rectangles of a NativeImageBackedTexture with glTexSubImage2D,
+ * instead of re-uploading the whole image like NativeImageBackedTexture.upload() does.
+ * Must be called on the render thread.
+ */
+public final class PartialTextureUploader {
+
+    private PartialTextureUploader() {
+    }
+
+    /**
+     * Upload every dirty region of the texture's image, then clear the tracker.
+     * Returns the number of pixels uploaded.
+     */
+    public static long uploadDirty(NativeImageBackedTexture texture, DirtyRegionTracker dirty) {
+        NativeImage image = texture.getImage();
+        if (image == null || !dirty.isDirty()) {
+            dirty.clear();
+            return 0;
+        }
+
+        long pointer = ((NativeImageAccessor) (Object) image).getWebcamheadPointer();
+        long uploaded = dirty.getDirtyArea();
+        int imageWidth = image.getWidth();
+
+        texture.bindTexture();
+        GlStateManager._pixelStore(GL11.GL_UNPACK_ROW_LENGTH, imageWidth);
+        GlStateManager._pixelStore(GL11.GL_UNPACK_ALIGNMENT, 4);
+
+        dirty.drain((x, y, width, height) -> {
+            GlStateManager._pixelStore(GL11.GL_UNPACK_SKIP_PIXELS, x);
+            GlStateManager._pixelStore(GL11.GL_UNPACK_SKIP_ROWS, y);
+            GlStateManager._texSubImage2D(GL11.GL_TEXTURE_2D, 0, x, y, width, height,
+                GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pointer);
+        });
+
+        // Leave the unpack state the way vanilla uploads expect it
+        GlStateManager._pixelStore(GL11.GL_UNPACK_ROW_LENGTH, 0);
+        GlStateManager._pixelStore(GL11.GL_UNPACK_SKIP_PIXELS, 0);
+        GlStateManager._pixelStore(GL11.GL_UNPACK_SKIP_ROWS, 0);
+
+        return uploaded;
+    }
+}
@@ -1,24 +1,34 @@
 package com.dalvi.webcamhead.client.render;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import com.dalvi.webcamhead.client.config.ModConfig;
+import com.dalvi.webcamhead.client.skin.SkinResolver;
+import com.mojang.blaze3d.platform.GlStateManager;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.AbstractClientPlayerEntity;
+import net.minecraft.client.texture.AbstractTexture;
 import net.minecraft.client.texture.NativeImage;
 import net.minecraft.client.texture.NativeImageBackedTexture;
 import net.minecraft.util.Identifier;
+import org.lwjgl.opengl.GL11;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.IntBuffer;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * Renders webcam feed by modifying the player's skin texture directly.
- * This replaces the face region of the skin with the webcam video.
+ * Renders webcam feed on a player's face.
+ * In FACE_TEXTURE mode the frame goes to a small per-player texture (see FaceTextureManager).
+ * In UPSCALED_SKIN mode the player's skin texture is modified directly, replacing the face region with the webcam video.
  */
 public class SkinOverlayRenderer {
     private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
@@ -45,22 +55,44 @@ public class SkinOverlayRenderer {
     // Cache of modified skin textures
     private static final Map<UUID, ModifiedSkinData> modifiedSkins = new HashMap<>();
 
+    // Bumped whenever a modified skin is added or removed, so cached SkinTextures can be invalidated
+    private static int skinGeneration = 0;
+
+    // Players whose skin is being upscaled off the render thread
+    private static final Set<UUID> pendingSkins = new HashSet<>();
+
+    private static final ExecutorService SKIN_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "WebcamSkinPrep");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private static class ModifiedSkinData {
         Identifier textureId;
         NativeImage originalSkin;
         NativeImageBackedTexture modifiedTexture;
         Identifier originalTextureId;
+        IntBuffer pixels;
+        DirtyRegionTracker dirtyRegions;
+        int[] rowScratch;
     }
 
     /**
-     * Initialize modified skin texture for a player
+     * Initialize modified skin texture for a player.
+     * Returns false if the skin isn't available yet and initialization should be retried later.
      */
-    public static void initializeModifiedSkin(AbstractClientPlayerEntity player) {
+    public static boolean initializeModifiedSkin(AbstractClientPlayerEntity player) {
         UUID playerId = player.getUuid();
         String playerName = player.getName().getString();
 
-        if (modifiedSkins.containsKey(playerId)) {
-            return; // Already initialized
+        if (hasModifiedSkin(playerId) || pendingSkins.contains(playerId)) {
+            return true; // Already initialized or being prepared
+        }
+
+        // Face texture mode doesn't need the original skin at all
+        if (ModConfig.getFaceMode() == ModConfig.FaceMode.FACE_TEXTURE) {
+            FaceTextureManager.createFaceTexture(playerId);
+            return true;
         }
 
         try {
@@ -74,49 +106,98 @@ public class SkinOverlayRenderer {
 
             if (existingTexture == null) {
                 LOGGER.debug("Skin texture not loaded yet for player {}, will retry later", player.getName().getString());
-                return; // Texture not loaded yet, will try again next frame
+                return false;
             }
 
             // Load the original skin texture
-            NativeImage originalSkin = loadSkinTexture(client, originalSkinId, playerId, playerName);
+            NativeImage originalSkin = loadSkinTexture(client, originalSkinId);
 
             if (originalSkin == null) {
-                LOGGER.error("Failed to load original skin texture for player {}", player.getName().getString());
-                return;
-            }
-
-            LOGGER.info("Loaded original skin: {}x{} for player {}",
-                originalSkin.getWidth(), originalSkin.getHeight(), player.getName().getString());
-
-            // Convert NativeImage to BufferedImage for easier manipulation
-            BufferedImage originalBuffered = nativeImageToBufferedImage(originalSkin);
-
-            if (originalBuffered == null) {
-                LOGGER.error("Failed to convert NativeImage to BufferedImage for player {}", player.getName().getString());
-                return;
+                // Not readable locally, resolve it from Mojang without blocking the render thread
+                pendingSkins.add(playerId);
+                SkinResolver.getInstance().resolve(playerId).thenAccept(png -> {
+                    NativeImage downloadedSkin = decodeSkin(png);
+                    client.execute(() -> {
+                        if (!pendingSkins.contains(playerId)) {
+                            downloadedSkin.close(); // Cleaned up while downloading
+                            return;
+                        }
+                        startSkinPreparation(playerId, playerName, originalSkinId, downloadedSkin);
+                    });
+                });
+                return true;
             }
 
-            LOGGER.info("Converted to BufferedImage: {}x{}",
-                originalBuffered.getWidth(), originalBuffered.getHeight());
+            startSkinPreparation(playerId, playerName, originalSkinId, originalSkin);
+            return true;
+        } catch (Exception e) {
+            LOGGER.error("Error initializing modified skin", e);
+            return false;
+        }
+    }
 
-            // Upscale the skin from 64x64 to 1024x1024 using Java AWT
-            BufferedImage upscaledBuffered = resizeForSkin(originalBuffered, SKIN_RESOLUTION, SKIN_RESOLUTION);
+    /**
+     * Queue the upscale of a loaded skin on the preparation thread. Runs on the render thread.
+     */
+    private static void startSkinPreparation(UUID playerId, String playerName, Identifier originalSkinId, NativeImage originalSkin) {
+        LOGGER.info("Loaded original skin: {}x{} for player {}",
+            originalSkin.getWidth(), originalSkin.getHeight(), playerName);
+
+        // Snapshot the pixels so the worker never reads an image the render thread may close
+        int[] originalPixels = NativeImagePixels.readPixels(originalSkin);
+        int originalWidth = originalSkin.getWidth();
+        int originalHeight = originalSkin.getHeight();
+
+        pendingSkins.add(playerId);
+        SKIN_EXECUTOR.execute(() -> prepareModifiedSkin(
+            playerId, playerName, originalSkinId, originalSkin, originalPixels, originalWidth, originalHeight));
+    }
 
-            LOGGER.info("Upscaled to: {}x{}",
-                upscaledBuffered.getWidth(), upscaledBuffered.getHeight());
+    /**
+     * Upscale the skin on the preparation thread, then hand it to the render thread
+     */
+    private static void prepareModifiedSkin(UUID playerId, String playerName, Identifier originalSkinId, NativeImage originalSkin,
+                                            int[] originalPixels, int originalWidth, int originalHeight) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        NativeImage modifiedSkin = null;
+        try {
+            // Nearest-neighbour upscale straight into the new image's memory to keep the pixel art sharp
+            modifiedSkin = new NativeImage(SKIN_RESOLUTION, SKIN_RESOLUTION, true);
+            NativeImagePixels.scaleNearest(originalPixels, originalWidth, originalHeight,
+                NativeImagePixels.view(modifiedSkin), SKIN_RESOLUTION, SKIN_RESOLUTION);
 
-            // Convert back to NativeImage
-            NativeImage modifiedSkin = bufferedImageToNativeImage(upscaledBuffered);
+            NativeImage prepared = modifiedSkin;
+            client.execute(() -> installModifiedSkin(playerId, playerName, originalSkinId, originalSkin, prepared));
+        } catch (Exception e) {
+            LOGGER.error("Error preparing modified skin for player {}", playerName, e);
+            if (modifiedSkin != null) {
+                modifiedSkin.close();
+            }
+            client.execute(() -> {
+                pendingSkins.remove(playerId);
+                originalSkin.close();
+            });
+        }
+    }
 
-            LOGGER.info("Successfully created modified skin ({}x{}) for player {}",
-                SKIN_RESOLUTION, SKIN_RESOLUTION,
-                player.getName().getString());
+    /**
+     * Register a prepared skin as a texture. Runs on the render thread.
+     */
+    private static void installModifiedSkin(UUID playerId, String playerName, Identifier originalSkinId,
+                                            NativeImage originalSkin, NativeImage modifiedSkin) {
+        if (!pendingSkins.remove(playerId)) {
+            // Cleaned up while the skin was being prepared
+            modifiedSkin.close();
+            originalSkin.close();
+            return;
+        }
 
+        try {
             // Create texture from modified image
             NativeImageBackedTexture texture = new NativeImageBackedTexture(modifiedSkin);
             Identifier modifiedTextureId = Identifier.of("webcamhead", "modified_skin_" + playerId.toString());
 
-            client.getTextureManager().registerTexture(modifiedTextureId, texture);
+            MinecraftClient.getInstance().getTextureManager().registerTexture(modifiedTextureId, texture);
 
             // Store data
             ModifiedSkinData data = new ModifiedSkinData();
@@ -124,13 +205,18 @@ public class SkinOverlayRenderer {
             data.originalSkin = originalSkin;
             data.modifiedTexture = texture;
             data.originalTextureId = originalSkinId;
+            data.pixels = NativeImagePixels.view(modifiedSkin);
+            data.dirtyRegions = new DirtyRegionTracker(SKIN_RESOLUTION, SKIN_RESOLUTION, 4);
+            data.rowScratch = new int[FACE_WIDTH];
 
             modifiedSkins.put(playerId, data);
+            skinGeneration++;
 
             LOGGER.info("Initialized high-res ({}x{}) modified skin for player {}",
-                SKIN_RESOLUTION, SKIN_RESOLUTION, player.getName().getString());
+                SKIN_RESOLUTION, SKIN_RESOLUTION, playerName);
         } catch (Exception e) {
-            LOGGER.error("Error initializing modified skin", e);
+            LOGGER.error("Error installing modified skin", e);
+            originalSkin.close();
         }
     }
 
@@ -138,6 +224,32 @@ public class SkinOverlayRenderer {
      * Update the face region of the modified skin with webcam frame
      */
     public static void updateSkinWithWebcam(UUID playerId, BufferedImage webcamFrame) {
+        updateSkinWithWebcam(playerId, webcamFrame, null);
+    }
+
+    /**
+     * Update the player's face with a webcam frame of which only {@code changedRegions} changed
+     * (x, y, width, height per region, null for the whole frame). Regions only apply to face textures:
+     * frames are resized for the upscaled skin, so its whole face is redrawn.
+     */
+    public static void updateSkinWithWebcam(UUID playerId, BufferedImage webcamFrame, int[] changedRegions) {
+        updateSkinWithWebcam(playerId, webcamFrame, changedRegions, 0);
+    }
+
+    /**
+     * Update the player's face as above, resizing their face texture to {@code faceResolution} first
+     * (0 keeps its size), which follows the player's LOD tier. The upscaled skin has no such setting:
+     * its face is always FACE_WIDTH x FACE_HEIGHT (128x128) and frames are resized to fit.
+     */
+    public static void updateSkinWithWebcam(UUID playerId, BufferedImage webcamFrame, int[] changedRegions, int faceResolution) {
+        if (FaceTextureManager.hasFaceTexture(playerId)) {
+            if (faceResolution > 0) {
+                FaceTextureManager.setResolution(playerId, faceResolution);
+            }
+            FaceTextureManager.updateFace(playerId, webcamFrame, changedRegions);
+            return;
+        }
+
         ModifiedSkinData data = modifiedSkins.get(playerId);
         if (data == null) {
             return;
@@ -148,21 +260,19 @@ public class SkinOverlayRenderer {
         }
 
         try {
-            // Resize webcam frame to face size (16x16 for high-res skin)
+            // Resize webcam frame to the face of the 1024x1024 skin (128x128)
             BufferedImage resizedFrame = resizeForSkin(webcamFrame, FACE_WIDTH, FACE_HEIGHT);
 
-            // Get the modified skin's NativeImage
-            NativeImage skinImage = data.modifiedTexture.getImage();
-            if (skinImage == null) {
+            if (data.modifiedTexture.getImage() == null) {
                 return;
             }
 
             // Copy webcam frame to face regions (front face and overlay)
-            copyToSkinFace(skinImage, resizedFrame, FACE_X, FACE_Y);
-            copyToSkinFace(skinImage, resizedFrame, OVERLAY_FACE_X, OVERLAY_FACE_Y);
+            copyToSkinFace(data, resizedFrame, FACE_X, FACE_Y);
+            copyToSkinFace(data, resizedFrame, OVERLAY_FACE_X, OVERLAY_FACE_Y);
 
-            // Upload the modified texture to GPU
-            data.modifiedTexture.upload();
+            // Upload only the face regions that changed instead of the whole skin
+            PartialTextureUploader.uploadDirty(data.modifiedTexture, data.dirtyRegions);
 
         } catch (Exception e) {
             LOGGER.error("Error updating skin with webcam", e);
@@ -170,28 +280,14 @@ public class SkinOverlayRenderer {
     }
 
     /**
-     * Copy webcam frame to a specific region of the skin
+     * Copy webcam frame to a specific region of the skin and mark it for upload
      */
-    private static void copyToSkinFace(NativeImage skinImage, BufferedImage webcamFrame, int startX, int startY) {
+    private static void copyToSkinFace(ModifiedSkinData data, BufferedImage webcamFrame, int startX, int startY) {
         int width = Math.min(FACE_WIDTH, webcamFrame.getWidth());
         int height = Math.min(FACE_HEIGHT, webcamFrame.getHeight());
 
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int argb = webcamFrame.getRGB(x, y);
-
-                int a = (argb >> 24) & 0xFF;
-                int r = (argb >> 16) & 0xFF;
-                int g = (argb >> 8) & 0xFF;
-                int b = argb & 0xFF;
-
-                if (a == 0) a = 255;
-
-                // Try ARGB format instead (keep R and B in original positions)
-                int color = (a << 24) | (r << 16) | (g << 8) | b;
-                skinImage.fillRect(startX + x, startY + y, 1, 1, color);
-            }
-        }
+        NativeImagePixels.copyFrame(webcamFrame, data.pixels, SKIN_RESOLUTION, startX, startY, width, height, data.rowScratch);
+        data.dirtyRegions.markDirty(startX, startY, width, height);
     }
 
     /**
@@ -202,19 +298,44 @@ public class SkinOverlayRenderer {
         return data != null ? data.textureId : null;
     }
 
+    /**
+     * Size in pixels webcam frames are drawn at on the head, so received frames can be decoded at that size
+     */
+    public static int getTargetFrameSize() {
+        return ModConfig.getFaceMode() == ModConfig.FaceMode.FACE_TEXTURE ? ModConfig.getFaceResolution() : FACE_WIDTH;
+    }
+
+    /**
+     * Changes every time a modified skin texture is added or removed
+     */
+    public static int getSkinGeneration() {
+        return skinGeneration;
+    }
+
+    /**
+     * Check if a player's skin is still being downloaded or upscaled
+     */
+    public static boolean isSkinPending(UUID playerId) {
+        return pendingSkins.contains(playerId);
+    }
+
     /**
      * Check if a player has a modified skin
      */
     public static boolean hasModifiedSkin(UUID playerId) {
-        return modifiedSkins.containsKey(playerId);
+        return modifiedSkins.containsKey(playerId) || FaceTextureManager.hasFaceTexture(playerId);
     }
 
     /**
      * Clean up modified skin for a player
      */
     public static void cleanupModifiedSkin(UUID playerId) {
+        FaceTextureManager.cleanupFaceTexture(playerId);
+        pendingSkins.remove(playerId);
+
         ModifiedSkinData data = modifiedSkins.remove(playerId);
         if (data != null) {
+            skinGeneration++;
             MinecraftClient.getInstance().getTextureManager().destroyTexture(data.textureId);
             if (data.originalSkin != null) {
                 data.originalSkin.close();
@@ -238,58 +359,10 @@ public class SkinOverlayRenderer {
     }
 
     /**
-     * Convert NativeImage to BufferedImage
-     * Since we can't directly access NativeImage pixels, we write to a temporary file and read back
+     * Load skin texture from Minecraft's texture manager.
+     * Returns null if the skin can't be read locally and has to be resolved remotely.
      */
-    private static BufferedImage nativeImageToBufferedImage(NativeImage nativeImage) {
-        try {
-            // Create a temporary file
-            java.io.File tempFile = java.io.File.createTempFile("skin_", ".png");
-            tempFile.deleteOnExit();
-
-            // Write NativeImage to PNG file
-            nativeImage.writeTo(tempFile.toPath());
-
-            // Read back as BufferedImage
-            BufferedImage buffered = javax.imageio.ImageIO.read(tempFile);
-
-            // Delete temp file
-            tempFile.delete();
-
-            return buffered;
-        } catch (Exception e) {
-            LOGGER.error("Error converting NativeImage to BufferedImage", e);
-            // Return empty image as fallback
-            return new BufferedImage(nativeImage.getWidth(), nativeImage.getHeight(), BufferedImage.TYPE_INT_ARGB);
-        }
-    }
-
-    /**
-     * Convert BufferedImage to NativeImage
-     */
-    private static NativeImage bufferedImageToNativeImage(BufferedImage buffered) {
-        int width = buffered.getWidth();
-        int height = buffered.getHeight();
-        NativeImage nativeImage = new NativeImage(width, height, true);
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int argb = buffered.getRGB(x, y);
-
-                // BufferedImage.getRGB returns ARGB
-                // NativeImage.fillRect expects ARGB
-                // Just copy the color as-is, preserving transparency
-                nativeImage.fillRect(x, y, 1, 1, argb);
-            }
-        }
-
-        return nativeImage;
-    }
-
-    /**
-     * Load skin texture from Minecraft's texture manager
-     */
-    private static NativeImage loadSkinTexture(MinecraftClient client, Identifier skinId, UUID playerId, String playerName) {
+    private static NativeImage loadSkinTexture(MinecraftClient client, Identifier skinId) {
         try {
             // First, try to get the texture from the resource manager (for default skins)
             try {
@@ -327,136 +400,67 @@ public class SkinOverlayRenderer {
                 }
             }
 
-            // For other texture types (like PlayerSkinTexture), we need to download from Mojang using UUID
-            LOGGER.info("Attempting to download skin from Mojang API for texture type: {}", texture.getClass().getName());
-            return downloadSkinFromMojangAPI(playerId, playerName);
+            // For other texture types (like PlayerSkinTexture), the game has already downloaded and uploaded
+            // the skin, so read the pixels back from the GPU instead of fetching it again
+            NativeImage readBack = readBackTexture(texture);
+            if (readBack != null) {
+                LOGGER.info("Read back skin texture from GPU: {}x{}", readBack.getWidth(), readBack.getHeight());
+                return readBack;
+            }
+
+            // Last resort, the skin has to come from Mojang using the UUID
+            LOGGER.info("Skin of texture type {} will be resolved from Mojang API", texture.getClass().getName());
+            return null;
         } catch (Exception e) {
             LOGGER.error("Error loading skin texture", e);
             return createDefaultSkin();
         }
     }
 
-    private static NativeImage createDefaultSkin() {
-        LOGGER.warn("Creating default skin (64x64)");
-        NativeImage defaultSkin = new NativeImage(64, 64, true);
-        // Fill with a skin color so we can see something
-        defaultSkin.fillRect(0, 0, 64, 64, 0xFF8B7355); // Skin color in ABGR format
-        return defaultSkin;
-    }
-
     /**
-     * Download skin texture from Mojang API using player UUID
-     * Step 1: Get profile from https://sessionserver.mojang.com/session/minecraft/profile/<UUID>
-     * Step 2: Decode base64 textures property to get skin URL
-     * Step 3: Download skin from URL
+     * Read level 0 of an uploaded texture back from the GPU. Returns null if it has no image yet.
+     * Must be called on the render thread.
      */
-    private static NativeImage downloadSkinFromMojangAPI(UUID playerId, String playerName) {
+    private static NativeImage readBackTexture(AbstractTexture texture) {
         try {
-            // Step 1: Get player profile
-            String profileUrl = "https://sessionserver.mojang.com/session/minecraft/profile/" + playerId.toString().replace("-", "");
-            LOGGER.info("Fetching player profile from: {}", profileUrl);
-
-            java.net.URL url = new java.net.URL(profileUrl);
-            java.net.HttpURLConnection connection = (java.net.HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("GET");
-            connection.setConnectTimeout(5000);
-            connection.setReadTimeout(5000);
-
-            int responseCode = connection.getResponseCode();
-            if (responseCode != 200) {
-                LOGGER.warn("Failed to fetch profile, HTTP {}", responseCode);
-                return createDefaultSkin();
-            }
-
-            // Read JSON response
-            String jsonResponse;
-            try (java.io.BufferedReader reader = new java.io.BufferedReader(
-                    new java.io.InputStreamReader(connection.getInputStream()))) {
-                StringBuilder response = new StringBuilder();
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    response.append(line);
-                }
-                jsonResponse = response.toString();
-            }
-
-            LOGGER.info("Profile JSON received");
-
-            // Step 2: Parse JSON using Gson
-            Gson gson = new Gson();
-            JsonObject profile = gson.fromJson(jsonResponse, JsonObject.class);
-
-            // Get the properties array
-            if (!profile.has("properties")) {
-                LOGGER.warn("No properties found in profile");
-                return createDefaultSkin();
-            }
-
-            var properties = profile.getAsJsonArray("properties");
-            if (properties.size() == 0) {
-                LOGGER.warn("Properties array is empty");
-                return createDefaultSkin();
-            }
-
-            // Find the textures property
-            String base64Textures = null;
-            for (var element : properties) {
-                JsonObject property = element.getAsJsonObject();
-                if (property.has("name") && "textures".equals(property.get("name").getAsString())) {
-                    base64Textures = property.get("value").getAsString();
-                    break;
-                }
-            }
-
-            if (base64Textures == null) {
-                LOGGER.warn("No textures property found");
-                return createDefaultSkin();
-            }
-
-            // Decode base64
-            byte[] decoded = java.util.Base64.getDecoder().decode(base64Textures);
-            String texturesJson = new String(decoded, java.nio.charset.StandardCharsets.UTF_8);
-
-            LOGGER.info("Decoded textures JSON");
-
-            // Parse textures JSON
-            JsonObject textures = gson.fromJson(texturesJson, JsonObject.class);
-            if (!textures.has("textures") || !textures.getAsJsonObject("textures").has("SKIN")) {
-                LOGGER.warn("No SKIN texture found");
-                return createDefaultSkin();
+            texture.bindTexture();
+            int width = GlStateManager._getTexLevelParameter(GL11.GL_TEXTURE_2D, 0, GL11.GL_TEXTURE_WIDTH);
+            int height = GlStateManager._getTexLevelParameter(GL11.GL_TEXTURE_2D, 0, GL11.GL_TEXTURE_HEIGHT);
+            if (width <= 0 || height <= 0) {
+                return null;
             }
 
-            JsonObject skin = textures.getAsJsonObject("textures").getAsJsonObject("SKIN");
-            if (!skin.has("url")) {
-                LOGGER.warn("No URL in SKIN texture");
-                return createDefaultSkin();
-            }
-
-            String skinUrl = skin.get("url").getAsString();
-
-            LOGGER.info("Downloading skin from: {}", skinUrl);
-
-            // Step 3: Download skin
-            java.net.URL skinUrlObj = new java.net.URL(skinUrl);
-            java.net.HttpURLConnection skinConnection = (java.net.HttpURLConnection) skinUrlObj.openConnection();
-            skinConnection.setRequestMethod("GET");
-            skinConnection.setConnectTimeout(5000);
-            skinConnection.setReadTimeout(5000);
-
-            int skinResponseCode = skinConnection.getResponseCode();
-            if (skinResponseCode != 200) {
-                LOGGER.warn("Failed to download skin, HTTP {}", skinResponseCode);
-                return createDefaultSkin();
-            }
+            NativeImage image = new NativeImage(width, height, false);
+            image.loadFromTextureImage(0, false);
+            return image;
+        } catch (Exception e) {
+            LOGGER.warn("Could not read back skin texture: {}", e.getMessage());
+            return null;
+        }
+    }
 
-            try (InputStream stream = skinConnection.getInputStream()) {
-                NativeImage downloadedSkin = NativeImage.read(stream);
-                LOGGER.info("Successfully downloaded skin from Mojang API: {}x{}", downloadedSkin.getWidth(), downloadedSkin.getHeight());
-                return downloadedSkin;
-            }
+    /**
+     * Decode resolved skin PNG bytes, falling back to the default skin
+     */
+    private static NativeImage decodeSkin(byte[] png) {
+        if (png == null) {
+            return createDefaultSkin();
+        }
+        try {
+            NativeImage skin = NativeImage.read(new ByteArrayInputStream(png));
+            LOGGER.info("Resolved skin from Mojang API: {}x{}", skin.getWidth(), skin.getHeight());
+            return skin;
         } catch (Exception e) {
-            LOGGER.error("Error downloading skin from Mojang API", e);
+            LOGGER.error("Error decoding resolved skin", e);
             return createDefaultSkin();
         }
     }
+
+    private static NativeImage createDefaultSkin() {
+        LOGGER.warn("Creating default skin (64x64)");
+        NativeImage defaultSkin = new NativeImage(64, 64, true);
+        // Fill with a skin color so we can see something
+        defaultSkin.fillRect(0, 0, 64, 64, 0xFF8B7355); // Skin color in ABGR format
+        return defaultSkin;
+    }
 }
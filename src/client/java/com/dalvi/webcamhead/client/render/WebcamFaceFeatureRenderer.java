@@ -0,0 +1,73 @@
+package com.dalvi.webcamhead.client.render;
+
+import net.minecraft.client.render.OverlayTexture;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.entity.feature.FeatureRenderer;
+import net.minecraft.client.render.entity.feature.FeatureRendererContext;
+import net.minecraft.client.render.entity.model.PlayerEntityModel;
+import net.minecraft.client.render.entity.state.PlayerEntityRenderState;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.Identifier;
+
+import java.util.UUID;
+
+/**
+ * Draws a player's webcam face texture as a quad on the front of their head.
+ * Used in FACE_TEXTURE mode, where the player's skin is left untouched.
+ */
+public class WebcamFaceFeatureRenderer extends FeatureRenderer<PlayerEntityRenderState, PlayerEntityModel> {
+
+    // Head cuboid in model units is 8x8x8 pixels; the hat layer is dilated by 0.5 pixel.
+    // The quad covers the hat's front face and sits just in front of it.
+    private static final float HALF_SIZE = 4.5f / 16.0f;
+    private static final float TOP = -8.5f / 16.0f;
+    private static final float BOTTOM = 0.5f / 16.0f;
+    private static final float FRONT = -4.55f / 16.0f;
+
+    public WebcamFaceFeatureRenderer(FeatureRendererContext<PlayerEntityRenderState, PlayerEntityModel> context) {
+        super(context);
+    }
+
+    @Override
+    public void render(MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light,
+                       PlayerEntityRenderState state, float limbAngle, float limbDistance) {
+        if (state.invisible) {
+            return;
+        }
+
+        UUID playerUuid = ((WebcamRenderState) state).webcamhead$getPlayerUuid();
+        if (playerUuid == null) {
+            return;
+        }
+
+        Identifier faceTexture = FaceTextureManager.getFaceTexture(playerUuid);
+        if (faceTexture == null) {
+            return;
+        }
+
+        matrices.push();
+        getContextModel().head.rotate(matrices);
+
+        MatrixStack.Entry entry = matrices.peek();
+        VertexConsumer consumer = vertexConsumers.getBuffer(RenderLayer.getEntityCutoutNoCull(faceTexture));
+
+        // Image x=0 is the player's right side (-X in model space), image y=0 is the top of the head
+        vertex(consumer, entry, -HALF_SIZE, TOP, 0.0f, 0.0f, light);
+        vertex(consumer, entry, -HALF_SIZE, BOTTOM, 0.0f, 1.0f, light);
+        vertex(consumer, entry, HALF_SIZE, BOTTOM, 1.0f, 1.0f, light);
+        vertex(consumer, entry, HALF_SIZE, TOP, 1.0f, 0.0f, light);
+
+        matrices.pop();
+    }
+
+    private static void vertex(VertexConsumer consumer, MatrixStack.Entry entry, float x, float y, float u, float v, int light) {
+        consumer.vertex(entry, x, y, FRONT)
+            .color(0xFFFFFFFF)
+            .texture(u, v)
+            .overlay(OverlayTexture.DEFAULT_UV)
+            .light(light)
+            .normal(entry, 0.0f, 0.0f, -1.0f);
+    }
+}
@@ -0,0 +1,13 @@
+package com.dalvi.webcamhead.client.render;
+
+import java.util.UUID;
+
+/**
+ * Implemented on PlayerEntityRenderState by mixin so feature renderers know which player they draw.
+ */
+public interface WebcamRenderState {
+
+    UUID webcamhead$getPlayerUuid();
+
+    void webcamhead$setPlayerUuid(UUID playerUuid);
+}
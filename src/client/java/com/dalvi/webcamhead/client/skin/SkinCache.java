@@ -0,0 +1,207 @@
+package com.dalvi.webcamhead.client.skin;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Persistent on-disk cache for player skins.
+ *
+ * Profiles (UUID -> skin texture hash and URL) expire after a TTL so skin changes are picked up.
+ * Skin PNGs are stored by texture hash, which never changes for a given image, and evicted
+ * least-recently-used once the cache grows past its size limit.
+ */
+public class SkinCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
+    private static final String INDEX_FILE = "profiles.json";
+    private static final String SKIN_SUFFIX = ".png";
+
+    private final Gson gson = new Gson();
+    private final Path directory;
+    private final long profileTtlMillis;
+    private final long maxBytes;
+
+    private final Map<String, ProfileEntry> profiles = new HashMap<>();
+    private boolean indexLoaded = false;
+
+    public static class ProfileEntry {
+        public String textureHash;
+        public String skinUrl;
+        public long fetchedAt;
+    }
+
+    public SkinCache(Path directory, long profileTtlMillis, long maxBytes) {
+        this.directory = directory;
+        this.profileTtlMillis = profileTtlMillis;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Get the cached profile for a player, or null if missing or older than the TTL
+     */
+    public synchronized ProfileEntry getFreshProfile(UUID playerId) {
+        loadIndex();
+        ProfileEntry entry = profiles.get(playerId.toString());
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.fetchedAt > profileTtlMillis) {
+            profiles.remove(playerId.toString());
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Remember which skin a player currently uses, returning the stored entry
+     */
+    public synchronized ProfileEntry putProfile(UUID playerId, String textureHash, String skinUrl) {
+        loadIndex();
+        ProfileEntry entry = new ProfileEntry();
+        entry.textureHash = textureHash;
+        entry.skinUrl = skinUrl;
+        entry.fetchedAt = System.currentTimeMillis();
+        profiles.put(playerId.toString(), entry);
+        saveIndex();
+        return entry;
+    }
+
+    /**
+     * Read a cached skin PNG by texture hash, or null if it isn't cached
+     */
+    public synchronized byte[] readSkin(String textureHash) {
+        Path file = skinFile(textureHash);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            byte[] png = Files.readAllBytes(file);
+            // Touch the file so eviction treats it as recently used
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return png;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read cached skin {}: {}", textureHash, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store a skin PNG by texture hash, evicting old skins if the cache is over its size limit
+     */
+    public synchronized void writeSkin(String textureHash, byte[] png) {
+        Path file = skinFile(textureHash);
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path temp = directory.resolve(textureHash + SKIN_SUFFIX + ".tmp");
+            Files.write(temp, png);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evict();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to cache skin {}: {}", textureHash, e.getMessage());
+        }
+    }
+
+    /**
+     * Texture hashes come from URLs, so only plain hex names are ever used as file names
+     */
+    public static boolean isValidTextureHash(String textureHash) {
+        return textureHash != null && !textureHash.isEmpty() && textureHash.length() <= 128
+            && textureHash.chars().allMatch(c -> Character.digit(c, 16) >= 0);
+    }
+
+    private Path skinFile(String textureHash) {
+        return isValidTextureHash(textureHash) ? directory.resolve(textureHash + SKIN_SUFFIX) : null;
+    }
+
+    private void evict() throws IOException {
+        List<Path> skins = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(SKIN_SUFFIX)) {
+                    skins.add(file);
+                    total += Files.size(file);
+                }
+            }
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+
+        Map<Path, Long> lastUsed = new HashMap<>();
+        for (Path skin : skins) {
+            lastUsed.put(skin, Files.getLastModifiedTime(skin).toMillis());
+        }
+        skins.sort((a, b) -> Long.compare(lastUsed.get(a), lastUsed.get(b)));
+
+        int evicted = 0;
+        for (Path skin : skins) {
+            if (total <= maxBytes) {
+                break;
+            }
+            long size = Files.size(skin);
+            Files.deleteIfExists(skin);
+            total -= size;
+            evicted++;
+        }
+        LOGGER.debug("Evicted {} skins from cache ({} bytes remaining)", evicted, total);
+    }
+
+    private void loadIndex() {
+        if (indexLoaded) {
+            return;
+        }
+        indexLoaded = true;
+
+        Path index = directory.resolve(INDEX_FILE);
+        if (!Files.isRegularFile(index)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+            Map<String, ProfileEntry> stored = gson.fromJson(reader, new TypeToken<Map<String, ProfileEntry>>() {}.getType());
+            if (stored != null) {
+                long now = System.currentTimeMillis();
+                stored.forEach((uuid, entry) -> {
+                    if (entry != null && now - entry.fetchedAt <= profileTtlMillis) {
+                        profiles.put(uuid, entry);
+                    }
+                });
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Ignoring unreadable skin cache index: {}", e.getMessage());
+        }
+    }
+
+    private void saveIndex() {
+        try {
+            Files.createDirectories(directory);
+            Path index = directory.resolve(INDEX_FILE);
+            Path temp = directory.resolve(INDEX_FILE + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(profiles, writer);
+            }
+            Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to save skin cache index: {}", e.getMessage());
+        }
+    }
+}
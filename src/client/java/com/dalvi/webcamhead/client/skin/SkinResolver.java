@@ -0,0 +1,200 @@
+package com.dalvi.webcamhead.client.skin;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import net.fabricmc.loader.api.FabricLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves player skins from the Mojang session server without blocking the caller.
+ *
+ * Results come from the on-disk SkinCache when possible. Concurrent requests for the same
+ * player share one in-flight lookup. The session server URL is configurable so the resolver
+ * can be pointed at a local stand-in server.
+ */
+public class SkinResolver {
+    private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
+
+    public static final String MOJANG_SESSION_SERVER = "https://sessionserver.mojang.com/session/minecraft/profile/";
+    private static final long PROFILE_TTL_MILLIS = TimeUnit.HOURS.toMillis(6);
+    private static final long MAX_CACHE_BYTES = 32L * 1024 * 1024;
+    private static final int TIMEOUT_MS = 5000;
+
+    private static SkinResolver instance;
+
+    private final Gson gson = new Gson();
+    private final String sessionServerUrl;
+    private final SkinCache cache;
+    private final ExecutorService executor;
+    private final Map<UUID, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    public SkinResolver(String sessionServerUrl, SkinCache cache) {
+        this.sessionServerUrl = sessionServerUrl.endsWith("/") ? sessionServerUrl : sessionServerUrl + "/";
+        this.cache = cache;
+        this.executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "WebcamSkinFetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Shared resolver backed by the Mojang session server and a cache in the game directory
+     */
+    public static synchronized SkinResolver getInstance() {
+        if (instance == null) {
+            Path cacheDir = FabricLoader.getInstance().getGameDir().resolve("webcamhead").resolve("skin-cache");
+            instance = new SkinResolver(MOJANG_SESSION_SERVER, new SkinCache(cacheDir, PROFILE_TTL_MILLIS, MAX_CACHE_BYTES));
+        }
+        return instance;
+    }
+
+    /**
+     * Resolve a player's skin as PNG bytes. Completes with null if the player has no custom skin
+     * or the lookup failed. Never completes exceptionally.
+     */
+    public CompletableFuture<byte[]> resolve(UUID playerId) {
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(playerId, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        executor.execute(() -> {
+            try {
+                created.complete(fetchSkin(playerId));
+            } catch (Exception e) {
+                LOGGER.error("Error resolving skin for {}", playerId, e);
+                created.complete(null);
+            } finally {
+                inFlight.remove(playerId, created);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Number of lookups currently running
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private byte[] fetchSkin(UUID playerId) throws IOException {
+        SkinCache.ProfileEntry profile = cache.getFreshProfile(playerId);
+        if (profile == null) {
+            String skinUrl = fetchSkinUrl(playerId);
+            if (skinUrl == null) {
+                return null;
+            }
+            profile = cache.putProfile(playerId, textureHashOf(skinUrl), skinUrl);
+        }
+
+        byte[] png = cache.readSkin(profile.textureHash);
+        if (png != null) {
+            LOGGER.debug("Skin for {} served from cache", playerId);
+            return png;
+        }
+
+        LOGGER.info("Downloading skin from: {}", profile.skinUrl);
+        png = download(profile.skinUrl);
+        if (png != null) {
+            cache.writeSkin(profile.textureHash, png);
+        }
+        return png;
+    }
+
+    /**
+     * Look up the skin URL for a player
+     * Step 1: Get profile from <session server>/<UUID>
+     * Step 2: Decode base64 textures property to get skin URL
+     */
+    private String fetchSkinUrl(UUID playerId) throws IOException {
+        String profileUrl = sessionServerUrl + playerId.toString().replace("-", "");
+        LOGGER.info("Fetching player profile from: {}", profileUrl);
+
+        byte[] response = download(profileUrl);
+        if (response == null) {
+            return null;
+        }
+
+        JsonObject profile = gson.fromJson(new String(response, StandardCharsets.UTF_8), JsonObject.class);
+        if (profile == null || !profile.has("properties")) {
+            LOGGER.warn("No properties found in profile");
+            return null;
+        }
+
+        // Find the textures property
+        String base64Textures = null;
+        for (var element : profile.getAsJsonArray("properties")) {
+            JsonObject property = element.getAsJsonObject();
+            if (property.has("name") && "textures".equals(property.get("name").getAsString())) {
+                base64Textures = property.get("value").getAsString();
+                break;
+            }
+        }
+
+        if (base64Textures == null) {
+            LOGGER.warn("No textures property found");
+            return null;
+        }
+
+        String texturesJson = new String(Base64.getDecoder().decode(base64Textures), StandardCharsets.UTF_8);
+        JsonObject textures = gson.fromJson(texturesJson, JsonObject.class);
+        if (!textures.has("textures") || !textures.getAsJsonObject("textures").has("SKIN")) {
+            LOGGER.warn("No SKIN texture found");
+            return null;
+        }
+
+        JsonObject skin = textures.getAsJsonObject("textures").getAsJsonObject("SKIN");
+        if (!skin.has("url")) {
+            LOGGER.warn("No URL in SKIN texture");
+            return null;
+        }
+        return skin.get("url").getAsString();
+    }
+
+    /**
+     * Texture URLs end with the hash of the image, e.g. http://textures.minecraft.net/texture/<hash>
+     */
+    static String textureHashOf(String skinUrl) {
+        String hash = skinUrl.substring(skinUrl.lastIndexOf('/') + 1);
+        int query = hash.indexOf('?');
+        return query >= 0 ? hash.substring(0, query) : hash;
+    }
+
+    private static byte[] download(String address) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) URI.create(address).toURL().openConnection();
+        connection.setRequestMethod("GET");
+        connection.setConnectTimeout(TIMEOUT_MS);
+        connection.setReadTimeout(TIMEOUT_MS);
+        try {
+            int responseCode = connection.getResponseCode();
+            if (responseCode != 200) {
+                LOGGER.warn("Request to {} failed, HTTP {}", address, responseCode);
+                return null;
+            }
+            try (InputStream stream = connection.getInputStream()) {
+                return stream.readAllBytes();
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
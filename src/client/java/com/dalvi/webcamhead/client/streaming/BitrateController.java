@@ -0,0 +1,197 @@
+package com.dalvi.webcamhead.client.streaming;
+
+import com.dalvi.webcamhead.client.config.ModConfig;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Adapts the outgoing frame rate, quality and face size to what the connection to the relay can carry.
+ *
+ * Two signals are watched: the round-trip time of pings to the relay, which grows when frames queue up
+ * in front of them, and the frames emitted that the relay hasn't acknowledged yet (the send backlog).
+ * When either grows the target level is cut multiplicatively, and while both stay low it grows back a
+ * step at a time (AIMD). The level, from 0 to 1, lowers quality first, then the frame rate, then the
+ * face size, each within the bounds set in ModConfig.
+ */
+public class BitrateController {
+    private static final long ADJUST_INTERVAL_MS = 1000;
+    private static final long PING_INTERVAL_MS = 2000;
+
+    // Unacknowledged frames above which the link counts as congested
+    private static final int CONGESTED_BACKLOG = 3;
+    // Unacknowledged frames at which new frames are held back until the relay catches up
+    private static final int MAX_BACKLOG = 8;
+    // Round-trip time above the lowest one seen that counts as frames queuing on the way to the relay
+    private static final long QUEUING_DELAY_MS = 150;
+    // Frames not acknowledged after this long are counted as lost
+    private static final long ACK_TIMEOUT_MS = 5000;
+
+    private static final double DECREASE_FACTOR = 0.7;
+    private static final double INCREASE_STEP = 0.05;
+    // Quality only moves in steps, as every change makes JPEG frames carry new tables
+    private static final float QUALITY_STEP = 0.1f;
+    private static final int RESOLUTION_STEP = 8;
+
+    // Send time of each frame the relay hasn't acknowledged yet, by sequence number
+    private final Map<Integer, Long> unacknowledged = new HashMap<>();
+    // Relays that don't acknowledge frames leave the rate alone instead of looking congested
+    private boolean acksSupported = false;
+    private int framesLost = 0;
+    private double smoothedRtt = -1;
+    private double baseRtt = -1;
+    private long lastAdjustTime = 0;
+    private long lastPingTime = 0;
+
+    private volatile double level = 1.0;
+    private volatile int backlog = 0;
+    private volatile long framesHeldBack = 0;
+
+    /**
+     * Whether it is time to measure the round-trip time again
+     */
+    public synchronized boolean shouldPing(long now) {
+        if (now - lastPingTime < PING_INTERVAL_MS) {
+            return false;
+        }
+        lastPingTime = now;
+        return true;
+    }
+
+    /**
+     * Record the round-trip time of a ping to the relay
+     */
+    public synchronized void onRtt(long rttMs) {
+        smoothedRtt = smoothedRtt < 0 ? rttMs : smoothedRtt * 0.8 + rttMs * 0.2;
+        if (baseRtt < 0 || rttMs < baseRtt) {
+            baseRtt = rttMs;
+        }
+    }
+
+    /**
+     * Record a frame about to be emitted, before its acknowledgement can arrive
+     */
+    public synchronized void onFrameSent(int sequence, long now) {
+        unacknowledged.put(sequence, now);
+        backlog = unacknowledged.size();
+    }
+
+    public synchronized void onFrameAcknowledged(int sequence) {
+        acksSupported = true;
+        unacknowledged.remove(sequence);
+        backlog = unacknowledged.size();
+    }
+
+    /**
+     * Expire lost frames and adjust the target level once per adjustment interval
+     */
+    public synchronized void update(long now) {
+        Iterator<Long> sendTimes = unacknowledged.values().iterator();
+        while (sendTimes.hasNext()) {
+            if (now - sendTimes.next() > ACK_TIMEOUT_MS) {
+                sendTimes.remove();
+                if (acksSupported) {
+                    framesLost++;
+                }
+            }
+        }
+        backlog = unacknowledged.size();
+
+        if (now - lastAdjustTime < ADJUST_INTERVAL_MS) {
+            return;
+        }
+        lastAdjustTime = now;
+
+        boolean queuing = smoothedRtt >= 0 && smoothedRtt > baseRtt + QUEUING_DELAY_MS;
+        if (backlog > CONGESTED_BACKLOG || queuing || framesLost > 0) {
+            level = level * DECREASE_FACTOR;
+        } else if (backlog <= 1) {
+            level = Math.min(1.0, level + INCREASE_STEP);
+        }
+        framesLost = 0;
+
+        // Let the base follow route changes instead of sticking to one lucky sample
+        if (baseRtt >= 0 && smoothedRtt > baseRtt) {
+            baseRtt += (smoothedRtt - baseRtt) * 0.02;
+        }
+    }
+
+    /**
+     * Whether so many frames are waiting for the relay that new ones should not be sent at all
+     */
+    public boolean isBacklogged() {
+        return backlog >= MAX_BACKLOG;
+    }
+
+    /**
+     * Count a frame that was not sent because of the backlog
+     */
+    public void onFrameHeldBack() {
+        framesHeldBack++;
+    }
+
+    public int getFps() {
+        return Math.round(lerp(ModConfig.getMinSendFps(), ModConfig.getMaxSendFps(), stage(level, 1.0 / 3)));
+    }
+
+    public long getFrameIntervalMs() {
+        return 1000 / Math.max(1, getFps());
+    }
+
+    public float getQuality() {
+        float min = ModConfig.getMinSendQuality();
+        float max = ModConfig.getMaxSendQuality();
+        float quality = Math.round(lerp(min, max, stage(level, 2.0 / 3)) / QUALITY_STEP) * QUALITY_STEP;
+        return Math.max(min, Math.min(max, quality));
+    }
+
+    /**
+     * Side of the face crop to send, at most {@code maxResolution}
+     */
+    public int getResolution(int maxResolution) {
+        int min = Math.min(ModConfig.getMinSendResolution(), maxResolution);
+        int resolution = Math.round(lerp(min, maxResolution, stage(level, 0)));
+        resolution -= resolution % RESOLUTION_STEP;
+        return Math.max(min, Math.min(maxResolution, resolution));
+    }
+
+    public BitrateStats getStats(int maxResolution) {
+        double rtt;
+        synchronized (this) {
+            rtt = smoothedRtt;
+        }
+        return new BitrateStats(level, rtt, backlog, getFps(), getQuality(), getResolution(maxResolution), framesHeldBack);
+    }
+
+    /**
+     * Progress of a setting that only starts to degrade once the level drops below {@code start + 1/3}
+     */
+    private static float stage(double level, double start) {
+        return (float) Math.max(0.0, Math.min(1.0, (level - start) * 3));
+    }
+
+    private static float lerp(float min, float max, float t) {
+        return min + (max - min) * t;
+    }
+
+    public static class BitrateStats {
+        public final double level;
+        public final double rttMs;
+        public final int backlog;
+        public final int fps;
+        public final float quality;
+        public final int resolution;
+        public final long framesHeldBack;
+
+        public BitrateStats(double level, double rttMs, int backlog, int fps, float quality, int resolution, long framesHeldBack) {
+            this.level = level;
+            this.rttMs = rttMs;
+            this.backlog = backlog;
+            this.fps = fps;
+            this.quality = quality;
+            this.resolution = resolution;
+            this.framesHeldBack = framesHeldBack;
+        }
+    }
+}
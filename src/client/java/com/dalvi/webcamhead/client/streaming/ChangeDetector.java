@@ -0,0 +1,217 @@
+package com.dalvi.webcamhead.client.streaming;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.util.Arrays;
+
+/**
+ * Decides which outgoing frames are worth sending by comparing a small luma thumbnail of each frame
+ * with the one of the last frame sent.
+ *
+ * Frames that are effectively identical are skipped, and while there is little motion the minimum
+ * time between frames grows up to {@link #MAX_INTERVAL_MS}. A frame is still sent every
+ * {@link #REFRESH_INTERVAL_MS} so receivers that missed something catch up.
+ */
+public class ChangeDetector {
+    // Side of the luma thumbnail frames are compared on
+    static final int THUMBNAIL_SIZE = 32;
+
+    // Mean absolute luma difference (0-255) below which a frame counts as unchanged, mostly camera noise
+    private static final double UNCHANGED_THRESHOLD = 1.5;
+    // Below this the face is considered still and the frame rate is lowered
+    private static final double LOW_MOTION_THRESHOLD = 6.0;
+
+    private static final long MAX_INTERVAL_MS = 400;
+    private static final long REFRESH_INTERVAL_MS = 2000;
+
+    private final long baseIntervalMs;
+    private int[] thumbnail = new int[THUMBNAIL_SIZE * THUMBNAIL_SIZE];
+    private int[] reference = new int[THUMBNAIL_SIZE * THUMBNAIL_SIZE];
+    // Luma of the frame row being averaged, grown to the frame width
+    private int[] lumaRow = new int[0];
+    private boolean hasReference = false;
+    private long lastSentTime;
+    private volatile long intervalMs;
+    private volatile double lastDifference;
+
+    /**
+     * @param baseIntervalMs time between frames while there is motion
+     */
+    public ChangeDetector(long baseIntervalMs) {
+        this.baseIntervalMs = baseIntervalMs;
+        this.intervalMs = baseIntervalMs;
+    }
+
+    /**
+     * Whether a frame should be sent. If so, it becomes the reference the next frames are compared with.
+     */
+    public boolean shouldSend(BufferedImage frame, long now) {
+        computeThumbnail(frame, thumbnail);
+        if (!hasReference) {
+            accept(now);
+            return true;
+        }
+
+        double difference = meanDifference(thumbnail, reference);
+        lastDifference = difference;
+        long sinceLast = now - lastSentTime;
+
+        // Lower the rate gradually while the face stays still, jump back as soon as it moves
+        intervalMs = difference < LOW_MOTION_THRESHOLD
+            ? Math.min(MAX_INTERVAL_MS, Math.max(intervalMs, baseIntervalMs) * 3 / 2)
+            : baseIntervalMs;
+
+        boolean send;
+        if (sinceLast >= REFRESH_INTERVAL_MS) {
+            send = true;
+        } else if (difference < UNCHANGED_THRESHOLD) {
+            send = false;
+        } else {
+            send = sinceLast >= intervalMs - baseIntervalMs / 2;
+        }
+
+        if (send) {
+            accept(now);
+        }
+        return send;
+    }
+
+    /**
+     * Forget the reference, so the next frame is sent whatever it contains
+     */
+    public void reset() {
+        hasReference = false;
+        intervalMs = baseIntervalMs;
+    }
+
+    /**
+     * Current minimum time between frames
+     */
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    /**
+     * Difference of the last compared frame with the last frame sent
+     */
+    public double getLastDifference() {
+        return lastDifference;
+    }
+
+    private void accept(long now) {
+        int[] previous = reference;
+        reference = thumbnail;
+        thumbnail = previous;
+        hasReference = true;
+        lastSentTime = now;
+    }
+
+    /**
+     * Average the luma of a frame over a THUMBNAIL_SIZE x THUMBNAIL_SIZE grid of blocks
+     */
+    void computeThumbnail(BufferedImage frame, int[] out) {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        if (lumaRow.length < width) {
+            lumaRow = new int[width];
+        }
+        Arrays.fill(out, 0);
+
+        Raster raster = frame.getRaster();
+        for (int ty = 0; ty < THUMBNAIL_SIZE; ty++) {
+            int y0 = ty * height / THUMBNAIL_SIZE;
+            int y1 = Math.max(y0 + 1, (ty + 1) * height / THUMBNAIL_SIZE);
+            for (int y = y0; y < y1; y++) {
+                switch (frame.getType()) {
+                    case BufferedImage.TYPE_3BYTE_BGR, BufferedImage.TYPE_4BYTE_ABGR -> readComponentLuma(raster, y, width, lumaRow);
+                    case BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB, BufferedImage.TYPE_INT_BGR ->
+                        readPackedLuma(raster, y, width, lumaRow);
+                    default -> readGenericLuma(frame, y, width, lumaRow);
+                }
+                for (int tx = 0; tx < THUMBNAIL_SIZE; tx++) {
+                    int x0 = tx * width / THUMBNAIL_SIZE;
+                    int x1 = Math.max(x0 + 1, (tx + 1) * width / THUMBNAIL_SIZE);
+                    int sum = 0;
+                    for (int x = x0; x < x1; x++) {
+                        sum += lumaRow[x];
+                    }
+                    out[ty * THUMBNAIL_SIZE + tx] += sum;
+                }
+            }
+
+            for (int tx = 0; tx < THUMBNAIL_SIZE; tx++) {
+                int x0 = tx * width / THUMBNAIL_SIZE;
+                int x1 = Math.max(x0 + 1, (tx + 1) * width / THUMBNAIL_SIZE);
+                out[ty * THUMBNAIL_SIZE + tx] /= (y1 - y0) * (x1 - x0);
+            }
+        }
+    }
+
+    /**
+     * Read the luma of a row of interleaved bytes, following the raster's strides and offsets
+     * so sub-images and padded rows are read correctly
+     */
+    private static void readComponentLuma(Raster raster, int y, int width, int[] luma) {
+        ComponentSampleModel sm = (ComponentSampleModel) raster.getSampleModel();
+        byte[] data = ((DataBufferByte) raster.getDataBuffer()).getData();
+        int pixelStride = sm.getPixelStride();
+        int[] bandOffsets = sm.getBandOffsets();
+        int rOff = bandOffsets[0];
+        int gOff = bandOffsets[1];
+        int bOff = bandOffsets[2];
+        int s = raster.getDataBuffer().getOffset()
+            + (y - raster.getSampleModelTranslateY()) * sm.getScanlineStride()
+            - raster.getSampleModelTranslateX() * pixelStride;
+
+        for (int x = 0; x < width; x++, s += pixelStride) {
+            luma[x] = luma(data[s + rOff] & 0xFF, data[s + gOff] & 0xFF, data[s + bOff] & 0xFF);
+        }
+    }
+
+    /**
+     * Read the luma of a row of one-int-per-pixel colors
+     */
+    private static void readPackedLuma(Raster raster, int y, int width, int[] luma) {
+        SinglePixelPackedSampleModel sm = (SinglePixelPackedSampleModel) raster.getSampleModel();
+        int[] data = ((DataBufferInt) raster.getDataBuffer()).getData();
+        int[] bitOffsets = sm.getBitOffsets();
+        int rShift = bitOffsets[0];
+        int gShift = bitOffsets[1];
+        int bShift = bitOffsets[2];
+        int s = raster.getDataBuffer().getOffset()
+            + (y - raster.getSampleModelTranslateY()) * sm.getScanlineStride()
+            - raster.getSampleModelTranslateX();
+
+        for (int x = 0; x < width; x++) {
+            int pixel = data[s + x];
+            luma[x] = luma((pixel >>> rShift) & 0xFF, (pixel >>> gShift) & 0xFF, (pixel >>> bShift) & 0xFF);
+        }
+    }
+
+    private static void readGenericLuma(BufferedImage frame, int y, int width, int[] luma) {
+        frame.getRGB(0, y, width, 1, luma, 0, width);
+        for (int x = 0; x < width; x++) {
+            int rgb = luma[x];
+            luma[x] = luma((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF);
+        }
+    }
+
+    /**
+     * BT.601 luma in integer form
+     */
+    private static int luma(int r, int g, int b) {
+        return (77 * r + 150 * g + 29 * b) >> 8;
+    }
+
+    private static double meanDifference(int[] a, int[] b) {
+        long total = 0;
+        for (int i = 0; i < a.length; i++) {
+            total += Math.abs(a[i] - b[i]);
+        }
+        return (double) total / a.length;
+    }
+}
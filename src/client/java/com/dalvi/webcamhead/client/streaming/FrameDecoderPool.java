@@ -0,0 +1,252 @@
+package com.dalvi.webcamhead.client.streaming;
+
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodec;
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodecs;
+import com.dalvi.webcamhead.client.streaming.codec.VideoDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Decodes received frames on a small shared worker pool instead of the socket thread.
+ *
+ * Each sender has a short queue: a frame that can be decoded on its own replaces everything still
+ * waiting from the same sender, so a slow decode never backs up. Delta frames of inter-frame codecs
+ * can't be skipped, so they queue up behind each other (up to {@link #MAX_PENDING_DELTAS}). Frames from one sender are decoded
+ * in order on one worker at a time, while different senders decode in parallel. Each sender keeps
+ * its own decoders, since inter-frame codecs carry state from one frame to the next.
+ *
+ * When an inter-frame stream loses a frame, its delta frames are skipped until the next keyframe,
+ * and a keyframe is requested from the sender.
+ */
+public class FrameDecoderPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
+    private static final long KEYFRAME_REQUEST_INTERVAL_MS = 1000;
+    private static final int MAX_PENDING_DELTAS = 8;
+
+    /**
+     * Receives decoded frames on a worker thread
+     */
+    @FunctionalInterface
+    public interface DecodedFrameConsumer {
+        /**
+         * @param changedRegions {x, y, width, height} quadruples of the parts that changed since the
+         *                       previous frame from this sender, or null if the whole frame may have changed
+         */
+        void accept(UUID sender, BufferedImage frame, int[] changedRegions);
+    }
+
+    private final ExecutorService executor;
+    private final LongSupplier clock;
+    private final IntSupplier targetSize;
+    private final DecodedFrameConsumer onFrameDecoded;
+    private final Consumer<UUID> onKeyframeNeeded;
+    private final Map<UUID, SenderQueue> senders = new ConcurrentHashMap<>();
+
+    private final AtomicLong framesDecoded = new AtomicLong();
+    private final AtomicLong framesDropped = new AtomicLong();
+
+    private class SenderQueue {
+        final UUID sender;
+        final Queue<VideoFramePacket> pending = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        // Only touched by the worker currently draining this queue
+        final Map<Integer, VideoDecoder> decoders = new HashMap<>();
+        boolean waitingForKeyframe = true;
+        int lastSequence;
+        long lastKeyframeRequest;
+
+        SenderQueue(UUID sender) {
+            this.sender = sender;
+        }
+
+        void offer(VideoFramePacket packet) {
+            VideoCodec codec = VideoCodecs.byId(packet.codec);
+            boolean delta = codec != null && codec.isInterFrame() && !packet.isKeyframe();
+            if (!delta || pending.size() >= MAX_PENDING_DELTAS) {
+                // Superseded by a frame that stands on its own, or too far behind: in that case the
+                // sequence gap makes the decoder wait for a keyframe
+                while (pending.poll() != null) {
+                    framesDropped.incrementAndGet();
+                }
+            }
+            pending.add(packet);
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        void drain() {
+            while (true) {
+                VideoFramePacket packet = pending.poll();
+                if (packet == null) {
+                    scheduled.set(false);
+                    // A frame may have arrived after the check above but before the flag was cleared
+                    if (!pending.isEmpty() && scheduled.compareAndSet(false, true)) {
+                        continue;
+                    }
+                    return;
+                }
+                decodeAndDeliver(this, packet);
+            }
+        }
+
+        void close() {
+            decoders.values().forEach(VideoDecoder::close);
+            decoders.clear();
+        }
+    }
+
+    /**
+     * @param targetSize       size in pixels the decoded frames are displayed at (checked per frame)
+     * @param onFrameDecoded   receives decoded frames on a worker thread
+     * @param onKeyframeNeeded called on a worker thread when a sender's stream needs a keyframe to recover
+     */
+    public FrameDecoderPool(int threads, IntSupplier targetSize, DecodedFrameConsumer onFrameDecoded,
+                            Consumer<UUID> onKeyframeNeeded) {
+        this(Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "WebcamFrameDecoder");
+            thread.setDaemon(true);
+            return thread;
+        }), System::currentTimeMillis, targetSize, onFrameDecoded, onKeyframeNeeded);
+    }
+
+    /**
+     * @param executor runs the decoding, shut down with the pool
+     * @param clock    current time in milliseconds, for the keyframe request rate limit
+     */
+    FrameDecoderPool(ExecutorService executor, LongSupplier clock, IntSupplier targetSize,
+                     DecodedFrameConsumer onFrameDecoded, Consumer<UUID> onKeyframeNeeded) {
+        this.executor = executor;
+        this.clock = clock;
+        this.targetSize = targetSize;
+        this.onFrameDecoded = onFrameDecoded;
+        this.onKeyframeNeeded = onKeyframeNeeded;
+    }
+
+    /**
+     * Default pool size: half the cores, between 1 and 4 threads
+     */
+    public static int defaultThreadCount() {
+        return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Queue a received packet for decoding. Never blocks.
+     */
+    public void submit(VideoFramePacket packet) {
+        senders.computeIfAbsent(packet.sender, SenderQueue::new).offer(packet);
+    }
+
+    /**
+     * Forget a sender, e.g. when they leave. Their decoders are released on the pool.
+     */
+    public void removeSender(UUID sender) {
+        SenderQueue queue = senders.remove(sender);
+        if (queue != null) {
+            queue.pending.clear();
+            executor.execute(() -> {
+                synchronized (queue) {
+                    queue.close();
+                }
+            });
+        }
+    }
+
+    public long getFramesDecoded() {
+        return framesDecoded.get();
+    }
+
+    /**
+     * Number of frames dropped for a newer frame from the same sender before being decoded
+     */
+    public long getFramesDropped() {
+        return framesDropped.get();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        senders.clear();
+    }
+
+    private void decodeAndDeliver(SenderQueue queue, VideoFramePacket packet) {
+        VideoCodec codec = VideoCodecs.byId(packet.codec);
+        if (codec == null || !codec.isAvailable()) {
+            LOGGER.warn("Ignoring frame from {} with unsupported codec {}", queue.sender, packet.codec);
+            return;
+        }
+
+        synchronized (queue) {
+            try {
+                if (codec.isInterFrame() && !acceptInterFrame(queue, packet)) {
+                    return;
+                }
+
+                VideoDecoder decoder = queue.decoders.computeIfAbsent(codec.getId(), id -> codec.createDecoder());
+                BufferedImage frame = decoder.decode(packet.data, packet.payloadOffset, packet.payloadLength, targetSize.getAsInt());
+                if (frame != null) {
+                    framesDecoded.incrementAndGet();
+                    onFrameDecoded.accept(queue.sender, frame, decoder.getChangedRegions());
+                } else if (decoder.needsKeyframe()) {
+                    requestKeyframe(queue);
+                }
+            } catch (Exception e) {
+                LOGGER.error("Error decoding video frame from {}", queue.sender, e);
+                if (codec.isInterFrame()) {
+                    // Decoder state can't be trusted anymore
+                    VideoDecoder broken = queue.decoders.remove(codec.getId());
+                    if (broken != null) {
+                        broken.close();
+                    }
+                    queue.waitingForKeyframe = true;
+                    requestKeyframe(queue);
+                }
+            }
+        }
+    }
+
+    /**
+     * Track the sequence of an inter-frame stream. Returns false if the packet must be skipped
+     * because a frame it depends on was lost.
+     */
+    private boolean acceptInterFrame(SenderQueue queue, VideoFramePacket packet) {
+        boolean gap = packet.sequence != queue.lastSequence + 1;
+        queue.lastSequence = packet.sequence;
+
+        if (packet.isKeyframe()) {
+            queue.waitingForKeyframe = false;
+            return true;
+        }
+        if (gap) {
+            queue.waitingForKeyframe = true;
+        }
+        if (queue.waitingForKeyframe) {
+            requestKeyframe(queue);
+            return false;
+        }
+        return true;
+    }
+
+    private void requestKeyframe(SenderQueue queue) {
+        long now = clock.getAsLong();
+        if (now - queue.lastKeyframeRequest >= KEYFRAME_REQUEST_INTERVAL_MS) {
+            queue.lastKeyframeRequest = now;
+            onKeyframeNeeded.accept(queue.sender);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.dalvi.webcamhead.client.streaming;
+
+import com.dalvi.webcamhead.client.streaming.codec.EncodedFrame;
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodec;
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodecs;
+import com.dalvi.webcamhead.client.streaming.codec.VideoEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Encodes outgoing frames on a dedicated worker thread with the negotiated codec.
+ *
+ * The caller only publishes a frame reference; if the worker is still busy, the waiting frame
+ * is replaced (latest frame wins). The encoder and its output buffer are reused for every frame
+ * and only recreated when the codec changes; quality changes are applied to the running encoder,
+ * so they don't force a keyframe. Frames go through a preparation step (cropping and
+ * scaling) on the worker, and frames that barely differ from the last one sent are dropped
+ * there (see ChangeDetector).
+ */
+public class FrameEncoderWorker {
+    private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Receives each encoded frame on the worker thread. The frame's buffer is reused by the next
+     * encode, so the consumer must copy the bytes it keeps.
+     */
+    @FunctionalInterface
+    public interface EncodedFrameConsumer {
+        void accept(EncodedFrame frame, VideoCodec codec, long captureTime);
+    }
+
+    private static class PendingFrame {
+        final BufferedImage image;
+        final long captureTime;
+
+        PendingFrame(BufferedImage image, long captureTime) {
+            this.image = image;
+            this.captureTime = captureTime;
+        }
+    }
+
+    private final AtomicReference<PendingFrame> pending = new AtomicReference<>();
+    private final AtomicBoolean keyframeRequested = new AtomicBoolean();
+    private final UnaryOperator<BufferedImage> prepare;
+    private final EncodedFrameConsumer consumer;
+    private final int fps;
+    private final Thread worker;
+    private volatile VideoCodec codec;
+    private volatile float quality;
+    private volatile boolean running = true;
+    private volatile long framesSuperseded = 0;
+    private volatile long framesUnchanged = 0;
+
+    // Only touched by the worker thread
+    private VideoCodec encoderCodec;
+    private float encoderQuality;
+    private VideoEncoder encoder;
+    private final EncodedFrame output = new EncodedFrame(INITIAL_BUFFER_SIZE);
+    private final ChangeDetector changeDetector;
+
+    /**
+     * @param prepare turns a submitted frame into the image to encode, on the worker thread; may return a reused image
+     */
+    public FrameEncoderWorker(VideoCodec codec, int fps, float quality, UnaryOperator<BufferedImage> prepare,
+                              EncodedFrameConsumer consumer) {
+        this.codec = codec;
+        this.fps = fps;
+        this.quality = quality;
+        this.prepare = prepare;
+        this.consumer = consumer;
+        this.changeDetector = new ChangeDetector(1000 / Math.max(1, fps));
+
+        this.worker = new Thread(this::run, "WebcamFrameEncoder");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Hand a frame to the encoder, replacing any frame that hasn't been picked up yet. Never blocks.
+     * The image must not be modified afterwards.
+     */
+    public void submit(BufferedImage frame, long captureTime) {
+        if (pending.getAndSet(new PendingFrame(frame, captureTime)) != null) {
+            framesSuperseded++;
+        }
+        synchronized (pending) {
+            pending.notify();
+        }
+    }
+
+    /**
+     * Switch codec; takes effect from the next encoded frame, which will be a keyframe
+     */
+    public void setCodec(VideoCodec codec) {
+        this.codec = codec;
+    }
+
+    public VideoCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Change the compression quality (0.0 to 1.0) of the following frames, without forcing a keyframe
+     */
+    public void setQuality(float quality) {
+        this.quality = quality;
+    }
+
+    /**
+     * Make the next encoded frame a keyframe, e.g. because a receiver lost its reference
+     */
+    public void requestKeyframe() {
+        keyframeRequested.set(true);
+    }
+
+    /**
+     * Number of frames replaced before the worker got to them
+     */
+    public long getFramesSuperseded() {
+        return framesSuperseded;
+    }
+
+    /**
+     * Number of frames not sent because they hadn't changed enough
+     */
+    public long getFramesUnchanged() {
+        return framesUnchanged;
+    }
+
+    /**
+     * Current minimum time between sent frames, raised while there is little motion
+     */
+    public long getSendIntervalMs() {
+        return changeDetector.getIntervalMs();
+    }
+
+    /**
+     * Stop the worker and release the encoder
+     */
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                PendingFrame frame = pending.getAndSet(null);
+                if (frame == null) {
+                    synchronized (pending) {
+                        if (pending.get() == null) {
+                            pending.wait();
+                        }
+                    }
+                    continue;
+                }
+
+                try {
+                    boolean forceKeyframe = keyframeRequested.getAndSet(false);
+                    VideoCodec wanted = codec;
+                    float wantedQuality = quality;
+                    if (encoder == null || encoderCodec != wanted) {
+                        boolean codecChanged = encoderCodec != wanted;
+                        closeEncoder();
+                        encoder = wanted.createEncoder(fps, wantedQuality);
+                        encoderCodec = wanted;
+                        encoderQuality = wantedQuality;
+                        forceKeyframe = true;
+                        if (codecChanged) {
+                            LOGGER.info("Encoding outgoing video with {}", wanted.getName());
+                        }
+                    } else if (encoderQuality != wantedQuality) {
+                        encoder.setQuality(wantedQuality);
+                        encoderQuality = wantedQuality;
+                        LOGGER.debug("Encoding outgoing video at quality {}", wantedQuality);
+                    }
+
+                    BufferedImage image = prepare.apply(frame.image);
+                    if (!changeDetector.shouldSend(image, frame.captureTime) && !forceKeyframe) {
+                        framesUnchanged++;
+                        continue;
+                    }
+
+                    if (encoder.encode(image, forceKeyframe, output)) {
+                        consumer.accept(output, encoderCodec, frame.captureTime);
+                    }
+                } catch (Exception e) {
+                    LOGGER.error("Error encoding video frame", e);
+                    // Start over with a fresh encoder; JPEG always works if another codec keeps failing
+                    if (encoderCodec != null && encoderCodec != VideoCodecs.JPEG) {
+                        LOGGER.warn("Falling back to JPEG after {} encoder error", encoderCodec.getName());
+                        codec = VideoCodecs.JPEG;
+                    }
+                    closeEncoder();
+                }
+            }
+        } catch (InterruptedException e) {
+            // Shutting down
+        } finally {
+            closeEncoder();
+        }
+    }
+
+    private void closeEncoder() {
+        if (encoder != null) {
+            encoder.close();
+            encoder = null;
+            encoderCodec = null;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.dalvi.webcamhead.client.streaming;
+
+/**
+ * Decides when to tell the relay where the player is, so it only forwards frames between players
+ * close enough to see each other. Positions are sent at most once per {@link #MIN_INTERVAL_MS} and
+ * only after moving a block or changing dimension, with a refresh every {@link #REFRESH_INTERVAL_MS}.
+ */
+public class PositionReporter {
+    private static final long MIN_INTERVAL_MS = 1000;
+    private static final long REFRESH_INTERVAL_MS = 10000;
+    private static final double MIN_DISTANCE = 1.0;
+
+    private String lastDimension;
+    private double lastX;
+    private double lastY;
+    private double lastZ;
+    private long lastSentTime;
+
+    /**
+     * Whether the position should be sent now. If so, it becomes the last position sent.
+     */
+    public boolean shouldSend(String dimension, double x, double y, double z, long now) {
+        long sinceLast = now - lastSentTime;
+        boolean send;
+        if (lastDimension == null || !lastDimension.equals(dimension)) {
+            send = true;
+        } else if (sinceLast < MIN_INTERVAL_MS) {
+            send = false;
+        } else {
+            double dx = x - lastX;
+            double dy = y - lastY;
+            double dz = z - lastZ;
+            send = dx * dx + dy * dy + dz * dz >= MIN_DISTANCE * MIN_DISTANCE || sinceLast >= REFRESH_INTERVAL_MS;
+        }
+
+        if (send) {
+            lastDimension = dimension;
+            lastX = x;
+            lastY = y;
+            lastZ = z;
+            lastSentTime = now;
+        }
+        return send;
+    }
+
+    /**
+     * Forget the last position, so the next one is sent right away
+     */
+    public void reset() {
+        lastDimension = null;
+    }
+}
@@ -1,7 +1,10 @@
 package com.dalvi.webcamhead.client.streaming;
 
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodecs;
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import io.socket.client.Ack;
 import io.socket.client.IO;
 import io.socket.client.Socket;
 import io.socket.emitter.Emitter;
@@ -9,8 +12,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
 
 /**
  * Client for connecting to the video streaming signaling server using Socket.IO
@@ -25,12 +34,26 @@ public class SignalingClient {
     private final String playerName;
     private final String roomId;
 
+    // Size received faces are displayed at, advertised on join so senders don't send more pixels than needed
+    private IntSupplier displaySize = () -> 0;
+
+    // Simulcast layers we send, the layer we receive from each sender and the senders we can't see;
+    // all sent again after reconnecting
+    private volatile int layerCount = 1;
+    private final Map<UUID, Integer> subscriptions = new ConcurrentHashMap<>();
+    private final Set<UUID> unsubscribed = ConcurrentHashMap.newKeySet();
+    // Last position sent, sent again after reconnecting so the relay keeps forwarding nearby frames
+    private volatile String lastPosition;
+
     // Callbacks
     private Consumer<PlayerJoinedEvent> onPlayerJoined;
     private Consumer<PlayerInfo> onNewPlayer;
     private Consumer<String> onPlayerLeft;
     private Consumer<WebcamStatusEvent> onWebcamStatus;
-    private Consumer<VideoFrameEvent> onVideoFrame;
+    private Consumer<VideoFramePacket> onVideoFrame;
+    private Consumer<RoomCodecsEvent> onRoomCodecs;
+    private Consumer<KeyframeRequestEvent> onKeyframeRequest;
+    private Consumer<ReceiverCountEvent> onReceiverCount;
     private Consumer<String> onChatMessage; // Chat message callback
 
     public SignalingClient(String serverUrl, UUID playerUUID, String playerName, String roomId) {
@@ -133,6 +156,27 @@ public class SignalingClient {
                 handleVideoFrame(args);
             }
         });
+
+        socket.on("room:codecs", new Emitter.Listener() {
+            @Override
+            public void call(Object... args) {
+                handleRoomCodecs(args);
+            }
+        });
+
+        socket.on("video:keyframe", new Emitter.Listener() {
+            @Override
+            public void call(Object... args) {
+                handleKeyframeRequest(args);
+            }
+        });
+
+        socket.on("video:receivers", new Emitter.Listener() {
+            @Override
+            public void call(Object... args) {
+                handleReceiverCount(args);
+            }
+        });
     }
 
     /**
@@ -144,11 +188,104 @@ public class SignalingClient {
         data.addProperty("playerName", playerName);
         data.addProperty("roomId", roomId);
 
+        // Advertise the codecs we can decode so the room can agree on one
+        JsonArray codecs = new JsonArray();
+        VideoCodecs.availableNames().forEach(codecs::add);
+        data.add("codecs", codecs);
+        data.addProperty("faceResolution", displaySize.getAsInt());
+        data.addProperty("layers", layerCount);
+
         // Convert JsonObject to plain Object for Socket.IO
         String jsonString = gson.toJson(data);
 
         socket.emit("player:join", jsonString);
         LOGGER.info("Sent join request for room: {} with data: {}", roomId, jsonString);
+
+        subscriptions.forEach(this::emitSubscribe);
+        unsubscribed.forEach(this::emitUnsubscribe);
+        if (lastPosition != null) {
+            socket.emit("player:position", lastPosition);
+        }
+    }
+
+    /**
+     * Tell the relay how many simulcast layers we send
+     */
+    public void sendLayerCount(int layers) {
+        layerCount = layers;
+        if (socket == null || !socket.connected()) {
+            return;
+        }
+
+        JsonObject data = new JsonObject();
+        data.addProperty("layers", layers);
+        socket.emit("video:layers", gson.toJson(data));
+    }
+
+    /**
+     * Ask the relay for a sender's video in the given simulcast layer. Does nothing if already subscribed to it.
+     */
+    public void subscribe(UUID sender, int layer) {
+        Integer previous = subscriptions.put(sender, layer);
+        boolean resumed = unsubscribed.remove(sender);
+        if (resumed || previous == null || previous != layer) {
+            emitSubscribe(sender, layer);
+        }
+    }
+
+    /**
+     * Ask the relay to stop sending a sender's video until we subscribe again. Does nothing if already unsubscribed.
+     */
+    public void unsubscribe(UUID sender) {
+        if (unsubscribed.add(sender)) {
+            emitUnsubscribe(sender);
+        }
+    }
+
+    /**
+     * Forget the layer chosen for a sender, e.g. when they leave
+     */
+    public void forgetSubscription(UUID sender) {
+        subscriptions.remove(sender);
+        unsubscribed.remove(sender);
+    }
+
+    private void emitSubscribe(UUID sender, int layer) {
+        if (socket == null || !socket.connected()) {
+            return;
+        }
+
+        JsonObject data = new JsonObject();
+        data.addProperty("minecraftUUID", sender.toString());
+        data.addProperty("layer", layer);
+        socket.emit("video:subscribe", gson.toJson(data));
+    }
+
+    private void emitUnsubscribe(UUID sender) {
+        if (socket == null || !socket.connected()) {
+            return;
+        }
+
+        JsonObject data = new JsonObject();
+        data.addProperty("minecraftUUID", sender.toString());
+        socket.emit("video:unsubscribe", gson.toJson(data));
+    }
+
+    /**
+     * Tell the relay where we are, so it only forwards frames between players close enough to see each other
+     */
+    public void sendPosition(String dimension, double x, double y, double z) {
+        JsonObject data = new JsonObject();
+        data.addProperty("dimension", dimension);
+        data.addProperty("x", x);
+        data.addProperty("y", y);
+        data.addProperty("z", z);
+        lastPosition = gson.toJson(data);
+
+        if (socket == null || !socket.connected()) {
+            return;
+        }
+        socket.emit("player:position", lastPosition);
     }
 
     /**
@@ -169,18 +306,41 @@ public class SignalingClient {
     }
 
     /**
-     * Send video frame
+     * Send a video frame packet (see VideoFramePacket) as a binary attachment.
+     * {@code onAck} runs once the relay has received it.
      */
-    public void sendVideoFrame(String frameData) {
+    public void sendVideoFrame(byte[] packet, Runnable onAck) {
         if (socket == null || !socket.connected()) {
             return;
         }
 
-        JsonObject data = new JsonObject();
-        data.addProperty("frameData", frameData);
+        socket.emit("video:frame", new Object[]{packet}, (Ack) args -> onAck.run());
+    }
 
-        String jsonString = gson.toJson(data);
-        socket.emit("video:frame", jsonString);
+    /**
+     * Measure the round-trip time to the relay. The ping queues behind any frames still being sent,
+     * so it also shows how far behind the connection is.
+     */
+    public void sendPing(LongConsumer onRtt) {
+        if (socket == null || !socket.connected()) {
+            return;
+        }
+
+        long sentAt = System.nanoTime();
+        socket.emit("net:ping", new Object[0], (Ack) args -> onRtt.accept((System.nanoTime() - sentAt) / 1_000_000));
+    }
+
+    /**
+     * Ask a sender for a keyframe because our copy of their stream lost a frame
+     */
+    public void sendKeyframeRequest(UUID sender) {
+        if (socket == null || !socket.connected()) {
+            return;
+        }
+
+        JsonObject data = new JsonObject();
+        data.addProperty("minecraftUUID", sender.toString());
+        socket.emit("video:keyframe", gson.toJson(data));
     }
 
     // Event handlers
@@ -238,15 +398,48 @@ public class SignalingClient {
 
     private void handleVideoFrame(Object[] args) {
         if (args.length > 0 && onVideoFrame != null) {
+            if (!(args[0] instanceof byte[] packet)) {
+                LOGGER.warn("Ignoring non-binary video:frame event");
+                return;
+            }
             try {
-                VideoFrameEvent event = gson.fromJson(args[0].toString(), VideoFrameEvent.class);
-                onVideoFrame.accept(event);
+                onVideoFrame.accept(VideoFramePacket.decode(packet));
             } catch (Exception e) {
                 LOGGER.error("Error parsing video:frame event", e);
             }
         }
     }
 
+    private void handleRoomCodecs(Object[] args) {
+        if (args.length > 0 && onRoomCodecs != null) {
+            try {
+                onRoomCodecs.accept(gson.fromJson(args[0].toString(), RoomCodecsEvent.class));
+            } catch (Exception e) {
+                LOGGER.error("Error parsing room:codecs event", e);
+            }
+        }
+    }
+
+    private void handleKeyframeRequest(Object[] args) {
+        if (args.length > 0 && onKeyframeRequest != null) {
+            try {
+                onKeyframeRequest.accept(gson.fromJson(args[0].toString(), KeyframeRequestEvent.class));
+            } catch (Exception e) {
+                LOGGER.error("Error parsing video:keyframe event", e);
+            }
+        }
+    }
+
+    private void handleReceiverCount(Object[] args) {
+        if (args.length > 0 && onReceiverCount != null) {
+            try {
+                onReceiverCount.accept(gson.fromJson(args[0].toString(), ReceiverCountEvent.class));
+            } catch (Exception e) {
+                LOGGER.error("Error parsing video:receivers event", e);
+            }
+        }
+    }
+
     /**
      * Disconnect from the signaling server
      */
@@ -259,6 +452,10 @@ public class SignalingClient {
         }
     }
 
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
     public boolean isConnected() {
         return socket != null && socket.connected();
     }
@@ -289,10 +486,26 @@ public class SignalingClient {
         this.onWebcamStatus = callback;
     }
 
-    public void setOnVideoFrame(Consumer<VideoFrameEvent> callback) {
+    public void setOnVideoFrame(Consumer<VideoFramePacket> callback) {
         this.onVideoFrame = callback;
     }
 
+    public void setOnRoomCodecs(Consumer<RoomCodecsEvent> callback) {
+        this.onRoomCodecs = callback;
+    }
+
+    public void setDisplaySize(IntSupplier displaySize) {
+        this.displaySize = displaySize;
+    }
+
+    public void setOnKeyframeRequest(Consumer<KeyframeRequestEvent> callback) {
+        this.onKeyframeRequest = callback;
+    }
+
+    public void setOnReceiverCount(Consumer<ReceiverCountEvent> callback) {
+        this.onReceiverCount = callback;
+    }
+
     public void setOnChatMessage(Consumer<String> callback) {
         this.onChatMessage = callback;
     }
@@ -312,15 +525,32 @@ public class SignalingClient {
         public long connectedAt;
     }
 
+    /**
+     * What every member of the room can receive: common codecs and the largest face size displayed
+     */
+    public static class RoomCodecsEvent {
+        public List<String> codecs;
+        public int faceResolution;
+    }
+
+    /**
+     * A receiver asking for a keyframe, of one simulcast layer or of all of them (-1)
+     */
+    public static class KeyframeRequestEvent {
+        public String fromUUID;
+        public int layer = -1;
+    }
+
+    /**
+     * Number of players our frames are currently relayed to
+     */
+    public static class ReceiverCountEvent {
+        public int count;
+    }
+
     public static class WebcamStatusEvent {
         public String minecraftUUID;
         public String playerName;
         public boolean active;
     }
-
-    public static class VideoFrameEvent {
-        public String fromUUID;
-        public String fromName;
-        public String frameData;
-    }
 }
@@ -0,0 +1,98 @@
+package com.dalvi.webcamhead.client.streaming;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Binary video:frame packet: a fixed 32-byte big-endian header followed by the encoded frame.
+ * The version is bumped whenever a field changes meaning, so peers on another layout drop the packet
+ * instead of misreading it: 2 turned reserved byte 2 into the codec id, 3 turned byte 3 into the layer.
+ *
+ * <pre>
+ * offset size field
+ * 0      1    version (currently 3)
+ * 1      1    flags (FLAG_*)
+ * 2      1    codec id (see VideoCodecs)
+ * 3      1    simulcast layer (0 = full quality)
+ * 4      16   sender UUID (most significant bits first), stamped by the relay
+ * 20     4    sequence number, incremented per frame by the sender
+ * 24     8    capture timestamp, epoch milliseconds
+ * 32     ...  payload (encoded frame)
+ * </pre>
+ */
+public final class VideoFramePacket {
+    public static final int VERSION = 3;
+    public static final int HEADER_SIZE = 32;
+
+    // The payload can be decoded without any previous frame
+    public static final int FLAG_KEYFRAME = 0x01;
+
+    public final int flags;
+    public final int codec;
+    public final int layer;
+    public final UUID sender;
+    public final int sequence;
+    public final long timestamp;
+
+    // Payload is a view into the received array, so decoding never copies the frame
+    public final byte[] data;
+    public final int payloadOffset;
+    public final int payloadLength;
+
+    private VideoFramePacket(int flags, int codec, int layer, UUID sender, int sequence, long timestamp, byte[] data, int payloadOffset, int payloadLength) {
+        this.flags = flags;
+        this.codec = codec;
+        this.layer = layer;
+        this.sender = sender;
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.data = data;
+        this.payloadOffset = payloadOffset;
+        this.payloadLength = payloadLength;
+    }
+
+    public boolean isKeyframe() {
+        return (flags & FLAG_KEYFRAME) != 0;
+    }
+
+    /**
+     * Build a packet around an encoded frame. Sequence numbers are counted separately for each layer.
+     */
+    public static byte[] encode(int flags, int codec, int layer, UUID sender, int sequence, long timestamp, byte[] payload, int offset, int length) {
+        byte[] packet = new byte[HEADER_SIZE + length];
+        ByteBuffer buffer = ByteBuffer.wrap(packet);
+        buffer.put((byte) VERSION);
+        buffer.put((byte) flags);
+        buffer.put((byte) codec);
+        buffer.put((byte) layer);
+        buffer.putLong(sender.getMostSignificantBits());
+        buffer.putLong(sender.getLeastSignificantBits());
+        buffer.putInt(sequence);
+        buffer.putLong(timestamp);
+        System.arraycopy(payload, offset, packet, HEADER_SIZE, length);
+        return packet;
+    }
+
+    /**
+     * Parse a received packet
+     *
+     * @throws IllegalArgumentException if the packet is truncated or has an unknown version
+     */
+    public static VideoFramePacket decode(byte[] packet) {
+        if (packet.length < HEADER_SIZE) {
+            throw new IllegalArgumentException("Frame packet too short: " + packet.length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(packet);
+        int version = buffer.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported frame packet version " + version);
+        }
+        int flags = buffer.get() & 0xFF;
+        int codec = buffer.get() & 0xFF;
+        int layer = buffer.get() & 0xFF;
+        UUID sender = new UUID(buffer.getLong(), buffer.getLong());
+        int sequence = buffer.getInt();
+        long timestamp = buffer.getLong();
+        return new VideoFramePacket(flags, codec, layer, sender, sequence, timestamp, packet, HEADER_SIZE, packet.length - HEADER_SIZE);
+    }
+}
@@ -1,101 +1,311 @@
 package com.dalvi.webcamhead.client.streaming;
 
+import com.dalvi.webcamhead.client.config.ModConfig;
+import com.dalvi.webcamhead.client.streaming.codec.EncodedFrame;
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodec;
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodecs;
+import com.dalvi.webcamhead.client.webcam.FaceCropper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.util.Base64;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiConsumer;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 
 /**
- * Manages video streaming - sending local frames and receiving remote frames
+ * Manages video streaming - sending local frames and receiving remote frames.
+ *
+ * With simulcast enabled, the face is encoded in several layers, each at half the size and frame
+ * rate of the previous one, and the relay forwards each receiver only the layer it subscribed to.
  */
 public class VideoStreamClient {
     private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
 
+    // Smallest face size a simulcast layer is sent at
+    private static final int MIN_LAYER_RESOLUTION = 16;
+
     private final SignalingClient signalingClient;
-    private BiConsumer<UUID, BufferedImage> onFrameReceived;
+    private volatile FrameDecoderPool.DecodedFrameConsumer onFrameReceived;
+
+    // Frame rate, quality and face size follow the connection; the encoder workers lower the rate further when the face is still
+    private final BitrateController bitrate = new BitrateController();
+    private final AtomicInteger nextFrameId = new AtomicInteger();
+
+    // Encoded versions of the outgoing video, full quality first
+    private final List<Layer> layers = new CopyOnWriteArrayList<>();
+
+    // Codecs every member of the room can decode, null until the relay tells us
+    private volatile List<String> roomCodecs;
+
+    // Players the relay forwards our frames to, -1 until it tells us; nothing is encoded while it is 0
+    private volatile int receivers = -1;
+    private final AtomicLong framesSuspended = new AtomicLong();
+
+    // Side of the square face crop that is sent, the largest face size anyone in the room displays
+    private volatile int sendResolution = ModConfig.DEFAULT_FACE_RESOLUTION;
 
-    // Frame rate control
-    private long lastFrameSentTime = 0;
-    private static final long FRAME_INTERVAL_MS = 100; // 10 FPS
+    // Decodes incoming frames off the socket thread
+    private final FrameDecoderPool decoderPool;
 
-    // JPEG compression quality (0.0 to 1.0)
-    private static final float JPEG_QUALITY = 0.7f;
+    // Senders the layer selector found hidden or unloaded; their frames are dropped before decoding.
+    // Senders it hasn't judged yet, e.g. players who just joined, are received until it has.
+    private final Set<UUID> hiddenSenders = ConcurrentHashMap.newKeySet();
 
-    // Stats
-    private long framesSent = 0;
+    // Stats (sent counters are written by the encoder threads)
+    private final AtomicLong framesSent = new AtomicLong();
     private long framesReceived = 0;
-    private long bytesSent = 0;
+    private final AtomicLong framesNotVisible = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    /**
+     * One encoded version of the outgoing video. Layer n is sent at 1/2^n of the face size and frame rate.
+     */
+    private class Layer {
+        final int index;
+        final FaceCropper cropper = new FaceCropper();
+        final FrameEncoderWorker encoder;
+        long lastFrameSentTime = 0;
+        // Sequence number of the next frame of this layer, only touched by its encoder thread
+        int nextSequence = 0;
+
+        Layer(int index, VideoCodec codec) {
+            this.index = index;
+            this.encoder = new FrameEncoderWorker(codec, Math.max(1, ModConfig.getMaxSendFps() >> index), bitrate.getQuality(),
+                frame -> cropper.crop(frame, getLayerResolution(index)),
+                (frame, frameCodec, captureTime) -> sendEncodedFrame(this, frame, frameCodec, captureTime));
+        }
+    }
 
-    public VideoStreamClient(SignalingClient signalingClient) {
+    /**
+     * @param displaySize size in pixels received frames are displayed at, used to decode them at a reduced size
+     */
+    public VideoStreamClient(SignalingClient signalingClient, IntSupplier displaySize) {
         this.signalingClient = signalingClient;
+        this.signalingClient.setDisplaySize(displaySize);
+        this.layers.add(new Layer(0, VideoCodecs.JPEG));
+        updateLayers();
+        this.decoderPool = new FrameDecoderPool(FrameDecoderPool.defaultThreadCount(), displaySize, this::deliverFrame,
+            signalingClient::sendKeyframeRequest);
         setupFrameReceiver();
+        setupCodecNegotiation();
     }
 
     /**
-     * Setup receiver for incoming video frames
+     * Setup receiver for incoming video frames. Packets are only queued here, decoding happens on the decoder pool.
      */
     private void setupFrameReceiver() {
-        signalingClient.setOnVideoFrame((event) -> {
-            try {
-                // Decode base64 frame data
-                byte[] frameBytes = Base64.getDecoder().decode(event.frameData);
-
-                // Decode JPEG to BufferedImage
-                BufferedImage frame = ImageIO.read(new java.io.ByteArrayInputStream(frameBytes));
-
-                if (frame != null && onFrameReceived != null) {
-                    UUID senderUUID = UUID.fromString(event.fromUUID);
-                    onFrameReceived.accept(senderUUID, frame);
-                    framesReceived++;
-
-                    if (framesReceived % 100 == 0) {
-                        LOGGER.debug("Received {} frames from {}", framesReceived, event.fromName);
-                    }
+        signalingClient.setOnVideoFrame((packet) -> {
+            framesReceived++;
+            if (hiddenSenders.contains(packet.sender)) {
+                // Not on screen, or not loaded at all: tell the relay in case it didn't know yet
+                framesNotVisible.incrementAndGet();
+                signalingClient.unsubscribe(packet.sender);
+                return;
+            }
+            decoderPool.submit(packet);
+
+            if (framesReceived % 100 == 0) {
+                LOGGER.debug("Received {} frames (last from {}, seq {})", framesReceived, packet.sender, packet.sequence);
+            }
+        });
+    }
+
+    /**
+     * Follow the room's common codecs and face size, and keyframe requests from receivers
+     */
+    private void setupCodecNegotiation() {
+        signalingClient.setOnRoomCodecs((event) -> {
+            roomCodecs = event.codecs;
+            renegotiateCodec();
+
+            int resolution = Math.max(ModConfig.MIN_FACE_RESOLUTION, Math.min(ModConfig.MAX_FACE_RESOLUTION,
+                event.faceResolution > 0 ? event.faceResolution : ModConfig.DEFAULT_FACE_RESOLUTION));
+            if (resolution != sendResolution) {
+                LOGGER.info("Sending {}x{} face crop", resolution, resolution);
+                sendResolution = resolution;
+            }
+        });
+
+        signalingClient.setOnKeyframeRequest((request) -> {
+            LOGGER.debug("Keyframe of layer {} requested by {}", request.layer, request.fromUUID);
+            for (Layer layer : layers) {
+                if (request.layer < 0 || request.layer == layer.index) {
+                    layer.encoder.requestKeyframe();
+                }
+            }
+        });
+
+        signalingClient.setOnReceiverCount((event) -> {
+            int previous = receivers;
+            receivers = event.count;
+            if (event.count == 0 && previous != 0) {
+                LOGGER.info("Nobody receives our video, suspending encoding");
+            } else if (event.count > 0 && previous == 0) {
+                // Receivers have no reference to decode deltas against after the pause
+                LOGGER.info("Resuming encoding for {} receiver(s)", event.count);
+                for (Layer layer : layers) {
+                    layer.encoder.requestKeyframe();
                 }
-            } catch (Exception e) {
-                LOGGER.error("Error decoding video frame", e);
             }
         });
     }
 
     /**
-     * Send a video frame to all other players
+     * Pick the codec to send with from the configured preference and what the room supports
+     */
+    public void renegotiateCodec() {
+        VideoCodec codec = VideoCodecs.negotiate(ModConfig.getVideoCodec(), roomCodecs);
+        if (codec != getCodec()) {
+            LOGGER.info("Switching outgoing video codec to {} (room supports {})", codec.getName(), roomCodecs);
+            for (Layer layer : layers) {
+                layer.encoder.setCodec(codec);
+            }
+        }
+    }
+
+    /**
+     * Add or remove simulcast layers to match the configuration, and tell the relay how many there are
+     */
+    private void updateLayers() {
+        int wanted = ModConfig.getSimulcastLayers();
+        if (wanted == layers.size()) {
+            return;
+        }
+
+        while (layers.size() < wanted) {
+            layers.add(new Layer(layers.size(), getCodec()));
+        }
+        while (layers.size() > wanted) {
+            layers.remove(layers.size() - 1).encoder.shutdown();
+        }
+        signalingClient.sendLayerCount(wanted);
+        LOGGER.info("Sending {} simulcast layer(s)", wanted);
+    }
+
+    /**
+     * Face size a layer is sent at, halved for each layer below the first
+     */
+    private int getLayerResolution(int index) {
+        int resolution = bitrate.getResolution(sendResolution);
+        return index == 0 ? resolution : Math.min(resolution, Math.max(MIN_LAYER_RESOLUTION, resolution >> index));
+    }
+
+    /**
+     * Receive a sender's video in the given simulcast layer (0 = full quality)
+     */
+    public void subscribe(UUID sender, int layer) {
+        hiddenSenders.remove(sender);
+        signalingClient.subscribe(sender, layer);
+    }
+
+    /**
+     * Stop receiving a sender's video because their face can't be seen
+     */
+    public void unsubscribe(UUID sender) {
+        if (hiddenSenders.add(sender)) {
+            LOGGER.debug("Unsubscribing from {}, not visible", sender);
+            decoderPool.removeSender(sender);
+        }
+        signalingClient.unsubscribe(sender);
+    }
+
+    /**
+     * Side in pixels of the face crop currently sent
+     */
+    public int getSendResolution() {
+        return bitrate.getResolution(sendResolution);
+    }
+
+    /**
+     * Largest face size displayed in the room, the size of the full quality layer
+     */
+    public int getRoomFaceResolution() {
+        return sendResolution;
+    }
+
+    /**
+     * Whether nobody receives our video, so nothing is encoded
+     */
+    public boolean isSuspended() {
+        return receivers == 0;
+    }
+
+    /**
+     * Codec currently used for outgoing video
+     */
+    public VideoCodec getCodec() {
+        return layers.get(0).encoder.getCodec();
+    }
+
+    private void deliverFrame(UUID sender, BufferedImage frame, int[] changedRegions) {
+        FrameDecoderPool.DecodedFrameConsumer callback = onFrameReceived;
+        if (callback != null) {
+            callback.accept(sender, frame, changedRegions);
+        }
+    }
+
+    /**
+     * Send a video frame to all other players.
+     * Only publishes the frame to the encoder worker, so it is cheap to call from the client tick.
      */
     public void sendFrame(BufferedImage frame) {
         if (!signalingClient.isConnected()) {
             return;
         }
+        if (receivers == 0) {
+            framesSuspended.incrementAndGet();
+            return;
+        }
 
-        // Frame rate limiting
         long now = System.currentTimeMillis();
-        if (now - lastFrameSentTime < FRAME_INTERVAL_MS) {
-            return;
+        bitrate.update(now);
+        if (bitrate.shouldPing(now)) {
+            signalingClient.sendPing(bitrate::onRtt);
         }
-        lastFrameSentTime = now;
+        updateLayers();
 
-        try {
-            // Compress frame to JPEG
-            byte[] jpegBytes = compressFrameToJPEG(frame);
+        for (Layer layer : layers) {
+            // Frame rate limiting, halved for each layer below the first
+            if (now - layer.lastFrameSentTime < bitrate.getFrameIntervalMs() << layer.index) {
+                continue;
+            }
+            layer.lastFrameSentTime = now;
+
+            // Let the relay catch up rather than queue frames that would arrive seconds late
+            if (bitrate.isBacklogged()) {
+                bitrate.onFrameHeldBack();
+                continue;
+            }
 
-            // Encode to base64
-            String base64Frame = Base64.getEncoder().encodeToString(jpegBytes);
+            layer.encoder.setQuality(bitrate.getQuality());
+            layer.encoder.submit(frame, now);
+        }
+    }
 
-            // Send via signaling client
-            signalingClient.sendVideoFrame(base64Frame);
+    /**
+     * Wrap an encoded frame in a binary packet and send it. Runs on the layer's encoder thread.
+     */
+    private void sendEncodedFrame(Layer layer, EncodedFrame frame, VideoCodec codec, long captureTime) {
+        try {
+            int flags = frame.isKeyframe() ? VideoFramePacket.FLAG_KEYFRAME : 0;
+            byte[] packet = VideoFramePacket.encode(flags, codec.getId(), layer.index, signalingClient.getPlayerUUID(),
+                layer.nextSequence++, captureTime, frame.getBuffer(), 0, frame.getLength());
+            int frameId = nextFrameId.getAndIncrement();
+            bitrate.onFrameSent(frameId, System.currentTimeMillis());
+            signalingClient.sendVideoFrame(packet, () -> bitrate.onFrameAcknowledged(frameId));
 
-            framesSent++;
-            bytesSent += jpegBytes.length;
+            long sent = framesSent.incrementAndGet();
+            long bytes = bytesSent.addAndGet(frame.getLength());
 
-            if (framesSent % 100 == 0) {
-                long avgSize = bytesSent / framesSent;
-                LOGGER.debug("Sent {} frames, avg size: {} KB", framesSent, avgSize / 1024);
+            if (sent % 100 == 0) {
+                LOGGER.debug("Sent {} frames, avg size: {} KB", sent, bytes / sent / 1024);
             }
         } catch (Exception e) {
             LOGGER.error("Error sending video frame", e);
@@ -103,34 +313,28 @@ public class VideoStreamClient {
     }
 
     /**
-     * Compress a BufferedImage to JPEG bytes
+     * Drop any queued frames from a player, e.g. when they leave
      */
-    private byte[] compressFrameToJPEG(BufferedImage frame) throws Exception {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        // Use ImageIO with JPEG compression
-        javax.imageio.ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
-        javax.imageio.ImageWriteParam param = writer.getDefaultWriteParam();
+    public void removeSender(UUID playerId) {
+        decoderPool.removeSender(playerId);
+        hiddenSenders.remove(playerId);
+        signalingClient.forgetSubscription(playerId);
+    }
 
-        if (param.canWriteCompressed()) {
-            param.setCompressionMode(javax.imageio.ImageWriteParam.MODE_EXPLICIT);
-            param.setCompressionQuality(JPEG_QUALITY);
+    /**
+     * Stop the encoder and decoder workers
+     */
+    public void shutdown() {
+        for (Layer layer : layers) {
+            layer.encoder.shutdown();
         }
-
-        javax.imageio.stream.ImageOutputStream ios = ImageIO.createImageOutputStream(baos);
-        writer.setOutput(ios);
-        writer.write(null, new javax.imageio.IIOImage(frame, null, null), param);
-
-        ios.close();
-        writer.dispose();
-
-        return baos.toByteArray();
+        decoderPool.shutdown();
     }
 
     /**
      * Set callback for when a frame is received from another player
      */
-    public void setOnFrameReceived(BiConsumer<UUID, BufferedImage> callback) {
+    public void setOnFrameReceived(FrameDecoderPool.DecodedFrameConsumer callback) {
         this.onFrameReceived = callback;
     }
 
@@ -138,18 +342,46 @@ public class VideoStreamClient {
      * Get statistics
      */
     public VideoStats getStats() {
-        return new VideoStats(framesSent, framesReceived, bytesSent);
+        FrameEncoderWorker encoder = layers.get(0).encoder;
+        return new VideoStats(encoder.getCodec().getName(), getSendResolution(), layers.size(), framesSent.get(),
+            encoder.getFramesUnchanged(), framesSuspended.get(), encoder.getSendIntervalMs(), receivers, framesReceived,
+            framesNotVisible.get(), bytesSent.get(), decoderPool.getFramesDecoded(), decoderPool.getFramesDropped(),
+            bitrate.getStats(sendResolution));
     }
 
     public static class VideoStats {
+        public final String codec;
+        public final int sendResolution;
+        public final int layers;
         public final long framesSent;
+        public final long framesUnchanged;
+        public final long framesSuspended;
+        public final long sendIntervalMs;
+        public final int receivers;
         public final long framesReceived;
+        public final long framesNotVisible;
         public final long bytesSent;
+        public final long framesDecoded;
+        public final long framesDecodeDropped;
+        public final BitrateController.BitrateStats bitrate;
 
-        public VideoStats(long framesSent, long framesReceived, long bytesSent) {
+        public VideoStats(String codec, int sendResolution, int layers, long framesSent, long framesUnchanged, long framesSuspended,
+                          long sendIntervalMs, int receivers, long framesReceived, long framesNotVisible, long bytesSent,
+                          long framesDecoded, long framesDecodeDropped, BitrateController.BitrateStats bitrate) {
+            this.codec = codec;
+            this.sendResolution = sendResolution;
+            this.layers = layers;
             this.framesSent = framesSent;
+            this.framesUnchanged = framesUnchanged;
+            this.framesSuspended = framesSuspended;
+            this.sendIntervalMs = sendIntervalMs;
+            this.receivers = receivers;
             this.framesReceived = framesReceived;
+            this.framesNotVisible = framesNotVisible;
             this.bytesSent = bytesSent;
+            this.framesDecoded = framesDecoded;
+            this.framesDecodeDropped = framesDecodeDropped;
+            this.bitrate = bitrate;
         }
 
         public long getAverageFrameSize() {
@@ -0,0 +1,42 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+
+/**
+ * Access to frame pixels as tightly packed 24-bit BGR rows, the layout webcam frames are captured in
+ */
+final class BgrFrames {
+
+    private BgrFrames() {
+    }
+
+    /**
+     * Converts frames of other layouts into a reused BGR image
+     */
+    static class Converter {
+        private BufferedImage converted;
+
+        /**
+         * Get the BGR bytes of a frame without copying when it is already in that layout.
+         * The returned array may be reused by the next call.
+         */
+        byte[] pixels(BufferedImage frame) {
+            int width = frame.getWidth();
+            int height = frame.getHeight();
+            if (frame.getType() == BufferedImage.TYPE_3BYTE_BGR
+                    && frame.getRaster().getDataBuffer().getSize() == width * height * 3) {
+                return ((DataBufferByte) frame.getRaster().getDataBuffer()).getData();
+            }
+
+            if (converted == null || converted.getWidth() != width || converted.getHeight() != height) {
+                converted = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+            }
+            Graphics graphics = converted.getGraphics();
+            graphics.drawImage(frame, 0, 0, null);
+            graphics.dispose();
+            return ((DataBufferByte) converted.getRaster().getDataBuffer()).getData();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import javax.imageio.stream.ImageInputStreamImpl;
+
+/**
+ * ImageInputStream over a region of a byte array that can be pointed at a new array and reused.
+ * Unlike ImageIO.createImageInputStream, nothing is copied into a cache.
+ */
+public class ByteArrayImageInputStream extends ImageInputStreamImpl {
+    private byte[] data = new byte[0];
+    private int offset = 0;
+    private int length = 0;
+
+    /**
+     * Read from a new region, starting again at position 0
+     */
+    public void reset(byte[] data, int offset, int length) {
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+        streamPos = 0;
+        flushedPos = 0;
+        bitOffset = 0;
+    }
+
+    @Override
+    public int read() {
+        bitOffset = 0;
+        return streamPos < length ? data[offset + (int) streamPos++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        bitOffset = 0;
+        if (streamPos >= length) {
+            return -1;
+        }
+        int count = Math.min(len, length - (int) streamPos);
+        System.arraycopy(data, offset + (int) streamPos, b, off, count);
+        streamPos += count;
+        return count;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+}
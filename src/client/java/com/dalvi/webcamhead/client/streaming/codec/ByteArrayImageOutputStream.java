@@ -0,0 +1,90 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import javax.imageio.stream.ImageOutputStreamImpl;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * In-memory ImageOutputStream over a growable byte array that can be rewound and reused,
+ * so encoding a frame doesn't allocate a new stream or buffer each time.
+ */
+public class ByteArrayImageOutputStream extends ImageOutputStreamImpl {
+    private byte[] buffer;
+    private int length = 0;
+
+    public ByteArrayImageOutputStream(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Discard the contents and start writing from the beginning again, keeping the buffer
+     */
+    public void rewind() {
+        length = 0;
+        streamPos = 0;
+        flushedPos = 0;
+        bitOffset = 0;
+    }
+
+    /**
+     * Backing array; only the first {@link #size()} bytes are valid
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        flushBits();
+        ensureCapacity(streamPos + 1);
+        buffer[(int) streamPos++] = (byte) b;
+        length = Math.max(length, (int) streamPos);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        flushBits();
+        ensureCapacity(streamPos + len);
+        System.arraycopy(b, off, buffer, (int) streamPos, len);
+        streamPos += len;
+        length = Math.max(length, (int) streamPos);
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkClosed();
+        bitOffset = 0;
+        return streamPos < length ? buffer[(int) streamPos++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkClosed();
+        bitOffset = 0;
+        if (streamPos >= length) {
+            return -1;
+        }
+        int count = Math.min(len, length - (int) streamPos);
+        System.arraycopy(buffer, (int) streamPos, b, off, count);
+        streamPos += count;
+        return count;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    private void ensureCapacity(long required) throws IOException {
+        if (required > Integer.MAX_VALUE - 8) {
+            throw new IOException("Encoded frame too large");
+        }
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, (int) Math.max(required, buffer.length * 2L));
+        }
+    }
+}
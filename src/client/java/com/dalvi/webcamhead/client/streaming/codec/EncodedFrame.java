@@ -0,0 +1,58 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import java.util.Arrays;
+
+/**
+ * Reusable output of a VideoEncoder: the encoded bytes and whether the frame can be decoded on its own
+ */
+public class EncodedFrame {
+    private byte[] buffer;
+    private int length;
+    private boolean keyframe;
+
+    public EncodedFrame(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Backing array; only the first {@link #getLength()} bytes are valid
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public boolean isKeyframe() {
+        return keyframe;
+    }
+
+    /**
+     * Copy encoded bytes in, growing the buffer if needed
+     */
+    public void set(byte[] data, int offset, int length, boolean keyframe) {
+        if (length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(length, buffer.length * 2));
+        }
+        System.arraycopy(data, offset, buffer, 0, length);
+        this.length = length;
+        this.keyframe = keyframe;
+    }
+
+    /**
+     * Make sure the buffer can hold at least the given number of bytes, for encoders that write into it directly
+     */
+    public byte[] ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+        return buffer;
+    }
+
+    public void setLength(int length, boolean keyframe) {
+        this.length = length;
+        this.keyframe = keyframe;
+    }
+}
@@ -0,0 +1,356 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import org.bytedeco.ffmpeg.avcodec.AVCodec;
+import org.bytedeco.ffmpeg.avcodec.AVCodecContext;
+import org.bytedeco.ffmpeg.avcodec.AVPacket;
+import org.bytedeco.ffmpeg.avutil.AVDictionary;
+import org.bytedeco.ffmpeg.avutil.AVFrame;
+import org.bytedeco.ffmpeg.swscale.SwsContext;
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.DoublePointer;
+import org.bytedeco.javacpp.IntPointer;
+import org.bytedeco.javacpp.Loader;
+import org.bytedeco.javacpp.PointerPointer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+import static org.bytedeco.ffmpeg.global.avcodec.*;
+import static org.bytedeco.ffmpeg.global.avutil.*;
+import static org.bytedeco.ffmpeg.global.swscale.*;
+
+/**
+ * Low-latency H.264 through FFmpeg (JavaCV). Frames after a keyframe only carry what changed,
+ * so a mostly static face costs a small fraction of per-frame JPEG.
+ *
+ * No B-frames and no lookahead, so every frame is output as soon as it is encoded.
+ * A keyframe is forced every two seconds of wall time (a still face sends few frames, so counting
+ * frames would stretch that a lot) and whenever a receiver asks for one. Quality changes
+ * wait for the next keyframe, where the encoder is reopened at the new bitrate, since FFmpeg's
+ * OpenH264 wrapper ignores bit rate changes on an open encoder.
+ */
+public class H264Codec implements VideoCodec {
+    private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
+
+    public static final int ID = 1;
+    public static final String NAME = "h264";
+
+    // Bits per pixel per frame at quality 1.0
+    private static final double BITS_PER_PIXEL = 0.04;
+    private static final int MIN_BITRATE = 32_000;
+    private static final int MAX_BITRATE = 2_000_000;
+    private static final long KEYFRAME_INTERVAL_MS = 2000;
+    // Keyframes are forced by time in encode(), the encoder's own interval only comes into play if that fails
+    private static final int MAX_GOP_SECONDS = 10;
+
+    private static Boolean available;
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isInterFrame() {
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isAvailable() {
+        if (available == null) {
+            try {
+                Loader.load(org.bytedeco.ffmpeg.global.avcodec.class);
+                available = avcodec_find_encoder(AV_CODEC_ID_H264) != null && avcodec_find_decoder(AV_CODEC_ID_H264) != null;
+            } catch (Throwable t) {
+                LOGGER.warn("H.264 codec unavailable: {}", t.toString());
+                available = false;
+            }
+        }
+        return available;
+    }
+
+    @Override
+    public VideoEncoder createEncoder(int fps, float quality) {
+        return new Encoder(fps, quality, System::currentTimeMillis);
+    }
+
+    @Override
+    public VideoDecoder createDecoder() {
+        return new Decoder();
+    }
+
+    static class Encoder implements VideoEncoder {
+        private final int fps;
+        private final LongSupplier clock;
+        private float quality;
+        private final BgrFrames.Converter converter = new BgrFrames.Converter();
+
+        // Created for the first frame and again whenever the frame size changes
+        private AVCodecContext context;
+        private AVFrame picture;
+        private AVPacket packet;
+        private SwsContext sws;
+        private BytePointer bgr;
+        private PointerPointer<BytePointer> bgrPlanes;
+        private IntPointer bgrStride;
+        private int width;
+        private int height;
+        private long pts;
+        // Quality the open encoder's bitrate was computed from
+        private float openedQuality;
+        private long lastKeyframeTime;
+
+        /**
+         * @param clock current time in milliseconds, for the keyframe interval
+         */
+        Encoder(int fps, float quality, LongSupplier clock) {
+            this.fps = Math.max(1, fps);
+            this.clock = clock;
+            this.quality = quality;
+        }
+
+        @Override
+        public boolean encode(BufferedImage frame, boolean forceKeyframe, EncodedFrame out) throws IOException {
+            // 4:2:0 chroma needs even dimensions, so an odd last row/column is dropped
+            int frameWidth = frame.getWidth() & ~1;
+            int frameHeight = frame.getHeight() & ~1;
+            long now = clock.getAsLong();
+            forceKeyframe |= now - lastKeyframeTime >= KEYFRAME_INTERVAL_MS;
+            if (context == null || frameWidth != width || frameHeight != height
+                || (quality != openedQuality && forceKeyframe)) {
+                close();
+                open(frameWidth, frameHeight);
+                forceKeyframe = true;
+            }
+
+            // The encoder may still reference the previous picture's buffers
+            if (av_frame_make_writable(picture) < 0) {
+                throw new IOException("Could not make encoder picture writable");
+            }
+
+            byte[] pixels = converter.pixels(frame);
+            bgr.position(0).put(pixels, 0, Math.min(pixels.length, frame.getWidth() * frame.getHeight() * 3));
+            bgrStride.put(0, frame.getWidth() * 3);
+            sws_scale(sws, bgrPlanes, bgrStride, 0, height, picture.data(), picture.linesize());
+
+            picture.pts(pts++);
+            picture.pict_type(forceKeyframe ? AV_PICTURE_TYPE_I : AV_PICTURE_TYPE_NONE);
+
+            int result = avcodec_send_frame(context, picture);
+            if (result < 0) {
+                throw new IOException("avcodec_send_frame failed: " + result);
+            }
+
+            boolean produced = false;
+            while (avcodec_receive_packet(context, packet) == 0) {
+                int size = packet.size();
+                byte[] buffer = out.ensureCapacity(size);
+                packet.data().position(0).get(buffer, 0, size);
+                boolean keyframe = (packet.flags() & AV_PKT_FLAG_KEY) != 0;
+                out.setLength(size, keyframe);
+                if (keyframe) {
+                    lastKeyframeTime = now;
+                }
+                av_packet_unref(packet);
+                produced = true;
+            }
+            return produced;
+        }
+
+        @Override
+        public void setQuality(float quality) {
+            this.quality = quality;
+        }
+
+        private void open(int width, int height) throws IOException {
+            AVCodec codec = avcodec_find_encoder(AV_CODEC_ID_H264);
+            if (codec == null) {
+                throw new IOException("No H.264 encoder available");
+            }
+
+            context = avcodec_alloc_context3(codec);
+            context.width(width);
+            context.height(height);
+            context.pix_fmt(AV_PIX_FMT_YUV420P);
+            context.time_base(av_make_q(1, fps));
+            context.framerate(av_make_q(fps, 1));
+            context.gop_size(fps * MAX_GOP_SECONDS);
+            context.max_b_frames(0);
+            context.thread_count(1);
+            long bitrate = Math.round((double) width * height * fps * BITS_PER_PIXEL * quality);
+            context.bit_rate(Math.max(MIN_BITRATE, Math.min(MAX_BITRATE, bitrate)));
+
+            AVDictionary options = new AVDictionary(null);
+            av_dict_set(options, "preset", "ultrafast", 0);
+            av_dict_set(options, "tune", "zerolatency", 0);
+            av_dict_set(options, "forced-idr", "1", 0);
+            int result = avcodec_open2(context, codec, options);
+            av_dict_free(options);
+            if (result < 0) {
+                avcodec_free_context(context);
+                context = null;
+                throw new IOException("Could not open H.264 encoder: " + result);
+            }
+
+            picture = av_frame_alloc();
+            picture.format(AV_PIX_FMT_YUV420P);
+            picture.width(width);
+            picture.height(height);
+            av_frame_get_buffer(picture, 32);
+            packet = av_packet_alloc();
+
+            sws = sws_getContext(width, height, AV_PIX_FMT_BGR24, width, height, AV_PIX_FMT_YUV420P,
+                SWS_FAST_BILINEAR, null, null, (DoublePointer) null);
+            bgr = new BytePointer((long) (width + 1) * (height + 1) * 3);
+            // sws_scale reads four planes and strides whatever the pixel format
+            bgrPlanes = new PointerPointer<>(4);
+            bgrPlanes.put(0, bgr);
+            bgrStride = new IntPointer(4);
+
+            this.width = width;
+            this.height = height;
+            this.pts = 0;
+            this.openedQuality = quality;
+            LOGGER.info("Opened H.264 encoder {} at {}x{}, {} fps, {} bps",
+                codec.name().getString(), width, height, fps, context.bit_rate());
+        }
+
+        @Override
+        public void close() {
+            if (context != null) {
+                avcodec_free_context(context);
+                context = null;
+            }
+            if (picture != null) {
+                av_frame_free(picture);
+                picture = null;
+            }
+            if (packet != null) {
+                av_packet_free(packet);
+                packet = null;
+            }
+            if (sws != null) {
+                sws_freeContext(sws);
+                sws = null;
+            }
+            if (bgr != null) {
+                bgrPlanes.close();
+                bgrStride.close();
+                bgr.close();
+                bgr = null;
+            }
+        }
+    }
+
+    private static class Decoder implements VideoDecoder {
+        private AVCodecContext context;
+        private final AVPacket packet = av_packet_alloc();
+        private final AVFrame picture = av_frame_alloc();
+        private BytePointer input = new BytePointer(64 * 1024 + AV_INPUT_BUFFER_PADDING_SIZE);
+
+        // Output scaling, recreated only when the stream or target size changes
+        private SwsContext sws;
+        private BytePointer output;
+        private final PointerPointer<BytePointer> outputPlanes = new PointerPointer<>(4);
+        private final IntPointer outputStride = new IntPointer(4);
+
+        Decoder() {
+            AVCodec codec = avcodec_find_decoder(AV_CODEC_ID_H264);
+            context = avcodec_alloc_context3(codec);
+            context.flags(context.flags() | AV_CODEC_FLAG_LOW_DELAY);
+            context.thread_count(1);
+            if (avcodec_open2(context, codec, (AVDictionary) null) < 0) {
+                avcodec_free_context(context);
+                context = null;
+            }
+        }
+
+        @Override
+        public BufferedImage decode(byte[] data, int offset, int length, int targetSize) throws IOException {
+            if (context == null) {
+                throw new IOException("Could not open H.264 decoder");
+            }
+
+            // FFmpeg reads slightly past the end of the packet, so the padding must stay zeroed
+            if (input.capacity() < length + AV_INPUT_BUFFER_PADDING_SIZE) {
+                input.close();
+                input = new BytePointer((long) length * 2 + AV_INPUT_BUFFER_PADDING_SIZE);
+            }
+            input.position(0).put(data, offset, length);
+            input.position(length).fill(0).position(0);
+            packet.data(input);
+            packet.size(length);
+
+            int result = avcodec_send_packet(context, packet);
+            if (result < 0) {
+                throw new IOException("avcodec_send_packet failed: " + result);
+            }
+
+            BufferedImage image = null;
+            while (avcodec_receive_frame(context, picture) == 0) {
+                image = toImage(targetSize);
+                av_frame_unref(picture);
+            }
+            return image;
+        }
+
+        /**
+         * Convert the decoded picture to BGR, scaled down so its short side is about the target size
+         */
+        private BufferedImage toImage(int targetSize) {
+            int width = picture.width();
+            int height = picture.height();
+            double scale = Math.min(1.0, (double) Math.max(1, targetSize) / Math.min(width, height));
+            int outWidth = Math.max(1, (int) Math.round(width * scale));
+            int outHeight = Math.max(1, (int) Math.round(height * scale));
+
+            sws = sws_getCachedContext(sws, width, height, picture.format(), outWidth, outHeight, AV_PIX_FMT_BGR24,
+                SWS_FAST_BILINEAR, null, null, (DoublePointer) null);
+            long outSize = (long) outWidth * outHeight * 3;
+            if (output == null || output.capacity() < outSize) {
+                if (output != null) {
+                    output.close();
+                }
+                output = new BytePointer(outSize);
+            }
+            outputPlanes.put(0, output);
+            outputStride.put(0, outWidth * 3);
+            sws_scale(sws, picture.data(), picture.linesize(), 0, height, outputPlanes, outputStride);
+
+            BufferedImage image = new BufferedImage(outWidth, outHeight, BufferedImage.TYPE_3BYTE_BGR);
+            byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+            output.position(0).get(pixels, 0, pixels.length);
+            return image;
+        }
+
+        @Override
+        public void close() {
+            if (context != null) {
+                avcodec_free_context(context);
+                context = null;
+            }
+            av_packet_free(packet);
+            av_frame_free(picture);
+            if (sws != null) {
+                sws_freeContext(sws);
+                sws = null;
+            }
+            if (output != null) {
+                output.close();
+                output = null;
+            }
+            input.close();
+            outputPlanes.close();
+            outputStride.close();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * Independent JPEG frames through ImageIO. It is the only codec the web viewer can display,
+ * so it is always available as the fallback.
+ *
+ * Most frames are abbreviated: their quantization and Huffman tables are left out and the receiver
+ * reuses the ones from the last keyframe. Keyframes carry the tables and are sent on the first frame,
+ * when the tables change, periodically and when a receiver asks for one.
+ */
+public class JpegCodec implements VideoCodec {
+    public static final int ID = 0;
+    public static final String NAME = "jpeg";
+
+    // Frames between two keyframes, so a receiver that missed the tables recovers on its own
+    private static final int TABLE_REFRESH_FRAMES = 50;
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isInterFrame() {
+        return false;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public VideoEncoder createEncoder(int fps, float quality) {
+        return new Encoder(quality);
+    }
+
+    @Override
+    public VideoDecoder createDecoder() {
+        return new Decoder();
+    }
+
+    /**
+     * Reuses one ImageWriter, its parameters and a rewindable output buffer for every frame
+     */
+    private static class Encoder implements VideoEncoder {
+        private final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        private final ImageWriteParam param = writer.getDefaultWriteParam();
+        private final ByteArrayImageOutputStream output = new ByteArrayImageOutputStream(64 * 1024);
+        private final JpegTables tables = new JpegTables();
+        private int framesSinceTables;
+
+        Encoder(float quality) {
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            }
+            setQuality(quality);
+        }
+
+        @Override
+        public boolean encode(BufferedImage frame, boolean forceKeyframe, EncodedFrame out) throws IOException {
+            output.rewind();
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(frame, null, null), param);
+            output.flush();
+
+            boolean includeTables = forceKeyframe || framesSinceTables >= TABLE_REFRESH_FRAMES;
+            if (tables.abbreviate(output.getBuffer(), output.size(), includeTables, out)) {
+                framesSinceTables = 0;
+            } else {
+                framesSinceTables++;
+            }
+            return true;
+        }
+
+        @Override
+        public void setQuality(float quality) {
+            // The next frame carries the new tables, as they no longer match the kept ones
+            if (param.canWriteCompressed()) {
+                param.setCompressionQuality(quality);
+            }
+        }
+
+        @Override
+        public void close() {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Reuses one ImageReader and decodes with source subsampling so the result is close to the display size
+     */
+    private static class Decoder implements VideoDecoder {
+        private final ImageReader reader = ImageIO.getImageReadersByFormatName("jpeg").next();
+        private final ByteArrayImageInputStream input = new ByteArrayImageInputStream();
+        private final JpegTables tables = new JpegTables();
+        private byte[] spliced = new byte[0];
+        private boolean missingTables;
+
+        @Override
+        public BufferedImage decode(byte[] data, int offset, int length, int targetSize) throws IOException {
+            missingTables = false;
+            if (tables.absorb(data, offset, length)) {
+                input.reset(data, offset, length);
+            } else if (tables.matchesLastFrame()) {
+                if (spliced.length < length + tables.length()) {
+                    spliced = new byte[(length + tables.length()) * 2];
+                }
+                input.reset(spliced, 0, tables.splice(data, offset, length, spliced));
+            } else {
+                // Abbreviated frame before any keyframe, or encoded with tables whose frame was lost
+                missingTables = true;
+                return null;
+            }
+            try {
+                reader.setInput(input, true, true);
+
+                // Skip whole source pixels so the short side ends up no smaller than the display size
+                int shortSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, shortSide / Math.max(1, targetSize));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.reset();
+            }
+        }
+
+        @Override
+        public boolean needsKeyframe() {
+            return missingTables;
+        }
+
+        @Override
+        public void close() {
+            reader.dispose();
+        }
+    }
+}
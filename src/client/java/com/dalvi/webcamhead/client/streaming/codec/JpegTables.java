@@ -0,0 +1,171 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The quantization and Huffman tables of a JPEG stream, kept so they can be left out of frames.
+ *
+ * Frames encoded at a fixed quality carry identical DQT and DHT segments every time. An abbreviated
+ * frame leaves them out (along with the JFIF APP0 header) and the receiver re-inserts the tables it
+ * last saw from that sender right after SOI, giving ImageIO a complete stream again.
+ *
+ * Every frame starts with an APP15 segment holding a one-byte generation, bumped by the sender each
+ * time its tables change. A receiver that missed the frame carrying new tables sees a generation it
+ * doesn't know and asks for a keyframe, instead of decoding with the old tables.
+ */
+final class JpegTables {
+    private static final int SOI = 0xD8;
+    private static final int SOS = 0xDA;
+    private static final int DQT = 0xDB;
+    private static final int DHT = 0xC4;
+    private static final int APP0 = 0xE0;
+    private static final int APP15 = 0xEF;
+    private static final int GENERATION_SEGMENT_LENGTH = 5;
+
+    // Concatenated DQT and DHT segments, markers included
+    private byte[] tables = new byte[1024];
+    private int tablesLength = -1;
+    // Generation of the kept tables
+    private int generation;
+    // Tables and generation (-1 if none) found by the last scanHeader call
+    private byte[] scanned = new byte[1024];
+    private int scannedLength;
+    private int scannedGeneration;
+
+    boolean hasTables() {
+        return tablesLength >= 0;
+    }
+
+    int length() {
+        return Math.max(0, tablesLength);
+    }
+
+    /**
+     * Whether the frame last passed to {@link #absorb} can be completed with the kept tables:
+     * it was encoded with them, or carries no generation
+     */
+    boolean matchesLastFrame() {
+        return hasTables() && (scannedGeneration < 0 || scannedGeneration == generation);
+    }
+
+    /**
+     * Write a complete JPEG stream into {@code out} without its APP0 header, and without its tables
+     * unless {@code includeTables} is set or they differ from the ones kept before.
+     * Returns true if the tables were written.
+     */
+    boolean abbreviate(byte[] data, int length, boolean includeTables, EncodedFrame out) throws IOException {
+        int headerEnd = scanHeader(data, 0, length);
+        boolean changed = scannedLength != tablesLength || !Arrays.equals(scanned, 0, scannedLength, tables, 0, scannedLength);
+        if (changed) {
+            byte[] previous = tables;
+            tables = scanned;
+            scanned = previous;
+            tablesLength = scannedLength;
+            generation = (generation + 1) & 0xFF;
+        }
+        boolean writeTables = includeTables || changed;
+
+        byte[] buffer = out.ensureCapacity(length + tablesLength + GENERATION_SEGMENT_LENGTH);
+        buffer[0] = (byte) 0xFF;
+        buffer[1] = (byte) SOI;
+        buffer[2] = (byte) 0xFF;
+        buffer[3] = (byte) APP15;
+        buffer[4] = 0;
+        buffer[5] = (byte) (GENERATION_SEGMENT_LENGTH - 2);
+        buffer[6] = (byte) generation;
+        int written = 2 + GENERATION_SEGMENT_LENGTH;
+        if (writeTables) {
+            System.arraycopy(tables, 0, buffer, written, tablesLength);
+            written += tablesLength;
+        }
+
+        // Remaining header segments (frame header, restart interval, ...)
+        int position = 2;
+        while (position < headerEnd) {
+            int marker = data[position + 1] & 0xFF;
+            int segmentLength = segmentLength(data, position);
+            if (marker != DQT && marker != DHT && marker != APP0 && marker != APP15) {
+                System.arraycopy(data, position, buffer, written, segmentLength);
+                written += segmentLength;
+            }
+            position += segmentLength;
+        }
+
+        // The scan and everything after it is copied unchanged
+        System.arraycopy(data, headerEnd, buffer, written, length - headerEnd);
+        written += length - headerEnd;
+        out.setLength(written, writeTables);
+        return writeTables;
+    }
+
+    /**
+     * Keep the tables of a received frame if it has any. Returns true if the frame is complete.
+     */
+    boolean absorb(byte[] data, int offset, int length) throws IOException {
+        scanHeader(data, offset, length);
+        if (scannedLength == 0) {
+            return false;
+        }
+        byte[] previous = tables;
+        tables = scanned;
+        scanned = previous;
+        tablesLength = scannedLength;
+        generation = scannedGeneration;
+        return true;
+    }
+
+    /**
+     * Rebuild a complete stream from an abbreviated frame by inserting the kept tables after SOI.
+     * {@code dst} must hold at least {@code length + length()} bytes. Returns the stream length.
+     */
+    int splice(byte[] data, int offset, int length, byte[] dst) {
+        dst[0] = (byte) 0xFF;
+        dst[1] = (byte) SOI;
+        System.arraycopy(tables, 0, dst, 2, tablesLength);
+        System.arraycopy(data, offset + 2, dst, 2 + tablesLength, length - 2);
+        return length + tablesLength;
+    }
+
+    /**
+     * Collect the DQT and DHT segments before the first scan into {@code scanned}.
+     * Returns the position of the SOS marker.
+     */
+    private int scanHeader(byte[] data, int offset, int length) throws IOException {
+        int end = offset + length;
+        if (length < 4 || (data[offset] & 0xFF) != 0xFF || (data[offset + 1] & 0xFF) != SOI) {
+            throw new IOException("Not a JPEG stream");
+        }
+
+        scannedLength = 0;
+        scannedGeneration = -1;
+        int position = offset + 2;
+        while (true) {
+            if (position + 4 > end || (data[position] & 0xFF) != 0xFF) {
+                throw new IOException("Malformed JPEG header");
+            }
+            int marker = data[position + 1] & 0xFF;
+            if (marker == SOS) {
+                return position - offset;
+            }
+            int segmentLength = segmentLength(data, position);
+            if (position + segmentLength > end) {
+                throw new IOException("Truncated JPEG segment");
+            }
+            if (marker == DQT || marker == DHT) {
+                if (scannedLength + segmentLength > scanned.length) {
+                    scanned = Arrays.copyOf(scanned, Math.max(scannedLength + segmentLength, scanned.length * 2));
+                }
+                System.arraycopy(data, position, scanned, scannedLength, segmentLength);
+                scannedLength += segmentLength;
+            } else if (marker == APP15 && segmentLength == GENERATION_SEGMENT_LENGTH) {
+                scannedGeneration = data[position + 4] & 0xFF;
+            }
+            position += segmentLength;
+        }
+    }
+
+    private static int segmentLength(byte[] data, int position) {
+        return 2 + (((data[position + 2] & 0xFF) << 8) | (data[position + 3] & 0xFF));
+    }
+}
@@ -0,0 +1,134 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Lossless frames for LAN use: 24-bit BGR pixels compressed with Deflate at its fastest level.
+ * Costs far more bandwidth than JPEG or H.264 but almost no CPU and no quality loss.
+ *
+ * Payload: u16 width, u16 height (big-endian), then the deflated BGR rows.
+ */
+public class RawCodec implements VideoCodec {
+    public static final int ID = 2;
+    public static final String NAME = "raw";
+
+    private static final int HEADER_SIZE = 4;
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isInterFrame() {
+        return false;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public VideoEncoder createEncoder(int fps, float quality) {
+        return new Encoder();
+    }
+
+    @Override
+    public VideoDecoder createDecoder() {
+        return new Decoder();
+    }
+
+    private static class Encoder implements VideoEncoder {
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final BgrFrames.Converter converter = new BgrFrames.Converter();
+
+        @Override
+        public boolean encode(BufferedImage frame, boolean forceKeyframe, EncodedFrame out) {
+            int width = frame.getWidth();
+            int height = frame.getHeight();
+            byte[] pixels = converter.pixels(frame);
+
+            byte[] buffer = out.ensureCapacity(HEADER_SIZE + pixels.length + 64);
+            buffer[0] = (byte) (width >> 8);
+            buffer[1] = (byte) width;
+            buffer[2] = (byte) (height >> 8);
+            buffer[3] = (byte) height;
+
+            deflater.reset();
+            deflater.setInput(pixels);
+            deflater.finish();
+            int length = HEADER_SIZE;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = out.ensureCapacity(buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            out.setLength(length, true);
+            return true;
+        }
+
+        @Override
+        public void setQuality(float quality) {
+            // Lossless, there is no quality to change
+        }
+
+        @Override
+        public void close() {
+            deflater.end();
+        }
+    }
+
+    private static class Decoder implements VideoDecoder {
+        private final Inflater inflater = new Inflater();
+
+        @Override
+        public BufferedImage decode(byte[] data, int offset, int length, int targetSize) throws IOException {
+            if (length < HEADER_SIZE) {
+                throw new IOException("Raw frame too short");
+            }
+            int width = ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF);
+            int height = ((data[offset + 2] & 0xFF) << 8) | (data[offset + 3] & 0xFF);
+            if (width == 0 || height == 0) {
+                throw new IOException("Invalid raw frame size " + width + "x" + height);
+            }
+
+            BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+            byte[] pixels = ((DataBufferByte) frame.getRaster().getDataBuffer()).getData();
+            inflater.reset();
+            inflater.setInput(data, offset + HEADER_SIZE, length - HEADER_SIZE);
+            try {
+                int filled = 0;
+                while (filled < pixels.length && !inflater.finished()) {
+                    int count = inflater.inflate(pixels, filled, pixels.length - filled);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    filled += count;
+                }
+                if (filled != pixels.length) {
+                    throw new IOException("Truncated raw frame");
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupt raw frame", e);
+            }
+            return frame;
+        }
+
+        @Override
+        public void close() {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+/**
+ * JPEG tiles: the frame is split into {@value #TILE_SIZE}px tiles and only the tiles that changed
+ * since the last frame sent are encoded. Keyframes carry the whole frame as a single JPEG.
+ * A lighter alternative to H.264 that keeps decoding cheap, and lets receivers upload only the
+ * changed parts of the face texture.
+ *
+ * Payload: u16 width, u16 height, u16 region count, then for each region u16 x, u16 y, u16 width,
+ * u16 height, u32 length and a JPEG of that length (big-endian). Consecutive changed tiles of a
+ * row are sent as one region. JPEGs are abbreviated as in {@link JpegCodec}.
+ */
+public class TileCodec implements VideoCodec {
+    public static final int ID = 3;
+    public static final String NAME = "tiles";
+
+    static final int TILE_SIZE = 32;
+
+    private static final int HEADER_SIZE = 6;
+    private static final int REGION_HEADER_SIZE = 12;
+
+    // Mean absolute difference per color channel (0-255) above which a tile is sent again
+    private static final int CHANGE_THRESHOLD = 3;
+    // Wall time between keyframes, so receivers that drifted or joined late get a clean frame. Not
+    // counted in frames, since a still face only sends one every few seconds.
+    private static final long KEYFRAME_INTERVAL_MS = 3000;
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isInterFrame() {
+        return true;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public VideoEncoder createEncoder(int fps, float quality) {
+        return new Encoder(fps, quality, System::currentTimeMillis);
+    }
+
+    @Override
+    public VideoDecoder createDecoder() {
+        return new Decoder();
+    }
+
+    static class Encoder implements VideoEncoder {
+        private final VideoEncoder jpeg;
+        private final LongSupplier clock;
+        private final BgrFrames.Converter converter = new BgrFrames.Converter();
+        private final EncodedFrame region = new EncodedFrame(16 * 1024);
+
+        // Pixels receivers currently show, as last sent for each tile
+        private byte[] reference;
+        private int width;
+        private int height;
+        private long lastKeyframeTime;
+
+        /**
+         * @param clock current time in milliseconds, for the keyframe interval
+         */
+        Encoder(int fps, float quality, LongSupplier clock) {
+            this.jpeg = VideoCodecs.JPEG.createEncoder(fps, quality);
+            this.clock = clock;
+        }
+
+        @Override
+        public boolean encode(BufferedImage frame, boolean forceKeyframe, EncodedFrame out) throws IOException {
+            byte[] pixels = converter.pixels(frame);
+            long now = clock.getAsLong();
+            boolean keyframe = forceKeyframe || reference == null || frame.getWidth() != width || frame.getHeight() != height
+                || now - lastKeyframeTime >= KEYFRAME_INTERVAL_MS;
+            width = frame.getWidth();
+            height = frame.getHeight();
+
+            int length = HEADER_SIZE;
+            int regions = 0;
+            if (keyframe) {
+                length = appendRegion(frame, 0, 0, width, height, true, out, length);
+                regions = 1;
+                lastKeyframeTime = now;
+                if (reference == null || reference.length != pixels.length) {
+                    reference = new byte[pixels.length];
+                }
+                System.arraycopy(pixels, 0, reference, 0, pixels.length);
+            } else {
+                int columns = (width + TILE_SIZE - 1) / TILE_SIZE;
+                int rows = (height + TILE_SIZE - 1) / TILE_SIZE;
+                for (int row = 0; row < rows; row++) {
+                    int column = 0;
+                    while (column < columns) {
+                        if (!tileChanged(pixels, column, row)) {
+                            column++;
+                            continue;
+                        }
+                        int first = column++;
+                        while (column < columns && tileChanged(pixels, column, row)) {
+                            column++;
+                        }
+                        int x = first * TILE_SIZE;
+                        int y = row * TILE_SIZE;
+                        int w = Math.min(width, column * TILE_SIZE) - x;
+                        int h = Math.min(TILE_SIZE, height - y);
+                        length = appendRegion(frame, x, y, w, h, false, out, length);
+                        regions++;
+
+                        // Only what was sent moves the reference, so slow changes still add up to a resend
+                        for (int line = y; line < y + h; line++) {
+                            int start = (line * width + x) * 3;
+                            System.arraycopy(pixels, start, reference, start, w * 3);
+                        }
+                    }
+                }
+                if (regions == 0) {
+                    return false;
+                }
+            }
+
+            byte[] buffer = out.getBuffer();
+            putShort(buffer, 0, width);
+            putShort(buffer, 2, height);
+            putShort(buffer, 4, regions);
+            out.setLength(length, keyframe);
+            return true;
+        }
+
+        /**
+         * Encode part of the frame as JPEG and append it to the output at {@code offset}. Returns the new length.
+         */
+        private int appendRegion(BufferedImage frame, int x, int y, int w, int h, boolean keyframe,
+                                 EncodedFrame out, int offset) throws IOException {
+            BufferedImage area = w == frame.getWidth() && h == frame.getHeight() ? frame : frame.getSubimage(x, y, w, h);
+            jpeg.encode(area, keyframe, region);
+
+            byte[] buffer = out.ensureCapacity(offset + REGION_HEADER_SIZE + region.getLength());
+            putShort(buffer, offset, x);
+            putShort(buffer, offset + 2, y);
+            putShort(buffer, offset + 4, w);
+            putShort(buffer, offset + 6, h);
+            putInt(buffer, offset + 8, region.getLength());
+            System.arraycopy(region.getBuffer(), 0, buffer, offset + REGION_HEADER_SIZE, region.getLength());
+            return offset + REGION_HEADER_SIZE + region.getLength();
+        }
+
+        private boolean tileChanged(byte[] pixels, int column, int row) {
+            int x0 = column * TILE_SIZE;
+            int y0 = row * TILE_SIZE;
+            int x1 = Math.min(width, x0 + TILE_SIZE);
+            int y1 = Math.min(height, y0 + TILE_SIZE);
+
+            long total = 0;
+            for (int y = y0; y < y1; y++) {
+                int start = (y * width + x0) * 3;
+                int end = (y * width + x1) * 3;
+                for (int i = start; i < end; i++) {
+                    total += Math.abs((pixels[i] & 0xFF) - (reference[i] & 0xFF));
+                }
+            }
+            return total > (long) CHANGE_THRESHOLD * (x1 - x0) * (y1 - y0) * 3;
+        }
+
+        @Override
+        public void setQuality(float quality) {
+            // Only tiles encoded from now on use it; unchanged tiles are not resent
+            jpeg.setQuality(quality);
+        }
+
+        @Override
+        public void close() {
+            jpeg.close();
+        }
+    }
+
+    private static class Decoder implements VideoDecoder {
+        private final VideoDecoder jpeg = VideoCodecs.JPEG.createDecoder();
+
+        // What the sender last sent, patched by each frame
+        private BufferedImage canvas;
+        private int[] changedRegions;
+        private boolean missingKeyframe;
+
+        @Override
+        public BufferedImage decode(byte[] data, int offset, int length, int targetSize) throws IOException {
+            if (length < HEADER_SIZE) {
+                throw new IOException("Tile frame too short");
+            }
+            int width = getShort(data, offset);
+            int height = getShort(data, offset + 2);
+            int regions = getShort(data, offset + 4);
+            if (width == 0 || height == 0) {
+                throw new IOException("Invalid tile frame size " + width + "x" + height);
+            }
+
+            // A frame that doesn't start with a full region can only patch a canvas of the same size
+            boolean full = regions > 0 && length >= HEADER_SIZE + REGION_HEADER_SIZE
+                && getShort(data, offset + HEADER_SIZE + 4) == width && getShort(data, offset + HEADER_SIZE + 6) == height;
+            missingKeyframe = !full && (canvas == null || canvas.getWidth() != width || canvas.getHeight() != height);
+            if (missingKeyframe) {
+                return null;
+            }
+            if (canvas == null || canvas.getWidth() != width || canvas.getHeight() != height) {
+                canvas = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+            }
+
+            int[] changed = new int[regions * 4];
+            int position = offset + HEADER_SIZE;
+            int end = offset + length;
+            for (int i = 0; i < regions; i++) {
+                if (position + REGION_HEADER_SIZE > end) {
+                    throw new IOException("Truncated tile frame");
+                }
+                int x = getShort(data, position);
+                int y = getShort(data, position + 2);
+                int w = getShort(data, position + 4);
+                int h = getShort(data, position + 6);
+                int size = getInt(data, position + 8);
+                position += REGION_HEADER_SIZE;
+                if (size < 0 || position + size > end || x + w > width || y + h > height) {
+                    throw new IOException("Invalid tile region");
+                }
+
+                // Decode at full size, the region must line up with the canvas pixels
+                BufferedImage tile = jpeg.decode(data, position, size, Integer.MAX_VALUE);
+                if (tile == null) {
+                    missingKeyframe = jpeg.needsKeyframe();
+                    return null;
+                }
+                canvas.getRaster().setRect(x, y, tile.getRaster().createChild(0, 0, Math.min(w, tile.getWidth()),
+                    Math.min(h, tile.getHeight()), 0, 0, null));
+                position += size;
+
+                changed[i * 4] = x;
+                changed[i * 4 + 1] = y;
+                changed[i * 4 + 2] = w;
+                changed[i * 4 + 3] = h;
+            }
+            changedRegions = full ? null : changed;
+
+            // The canvas keeps changing, so hand out a copy
+            BufferedImage copy = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+            byte[] source = ((DataBufferByte) canvas.getRaster().getDataBuffer()).getData();
+            byte[] target = ((DataBufferByte) copy.getRaster().getDataBuffer()).getData();
+            System.arraycopy(source, 0, target, 0, source.length);
+            return copy;
+        }
+
+        @Override
+        public int[] getChangedRegions() {
+            return changedRegions;
+        }
+
+        @Override
+        public boolean needsKeyframe() {
+            return missingKeyframe;
+        }
+
+        @Override
+        public void close() {
+            jpeg.close();
+        }
+    }
+
+    private static void putShort(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >> 8);
+        buffer[offset + 1] = (byte) value;
+    }
+
+    private static void putInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >> 24);
+        buffer[offset + 1] = (byte) (value >> 16);
+        buffer[offset + 2] = (byte) (value >> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    private static int getShort(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF);
+    }
+
+    private static int getInt(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 24) | ((data[offset + 1] & 0xFF) << 16)
+            | ((data[offset + 2] & 0xFF) << 8) | (data[offset + 3] & 0xFF);
+    }
+}
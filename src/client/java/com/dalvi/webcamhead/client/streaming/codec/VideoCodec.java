@@ -0,0 +1,32 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+/**
+ * A video codec that can be negotiated for a room. The id is sent in every frame packet.
+ */
+public interface VideoCodec {
+
+    int getId();
+
+    /**
+     * Name used in capability negotiation with the relay
+     */
+    String getName();
+
+    /**
+     * True if frames depend on previous frames, so receivers need a keyframe after any loss
+     */
+    boolean isInterFrame();
+
+    /**
+     * Check whether this codec can be used on this machine (e.g. its native libraries load)
+     */
+    boolean isAvailable();
+
+    /**
+     * @param fps     frame rate the encoder will be fed at
+     * @param quality 0.0 to 1.0, mapped to the codec's own quality or bitrate setting
+     */
+    VideoEncoder createEncoder(int fps, float quality);
+
+    VideoDecoder createDecoder();
+}
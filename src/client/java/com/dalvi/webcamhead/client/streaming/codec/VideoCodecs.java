@@ -0,0 +1,94 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Registry of the video codecs this client knows, and codec negotiation for a room.
+ */
+public final class VideoCodecs {
+    public static final String AUTO = "auto";
+
+    public static final VideoCodec JPEG = new JpegCodec();
+    public static final VideoCodec H264 = new H264Codec();
+    public static final VideoCodec RAW = new RawCodec();
+    public static final VideoCodec TILES = new TileCodec();
+
+    // Order of preference when the user hasn't picked a codec; raw is LAN-only and must be chosen explicitly
+    private static final List<VideoCodec> AUTO_PREFERENCE = List.of(H264, TILES, JPEG);
+    private static final List<VideoCodec> ALL = List.of(JPEG, H264, RAW, TILES);
+
+    private VideoCodecs() {
+    }
+
+    /**
+     * Get a codec by the id carried in frame packets, or null if unknown
+     */
+    public static VideoCodec byId(int id) {
+        for (VideoCodec codec : ALL) {
+            if (codec.getId() == id) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get a codec by name, or null if unknown
+     */
+    public static VideoCodec byName(String name) {
+        for (VideoCodec codec : ALL) {
+            if (codec.getName().equalsIgnoreCase(name)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Names of all codecs usable on this machine, advertised to the relay when joining
+     */
+    public static List<String> availableNames() {
+        List<String> names = new ArrayList<>();
+        for (VideoCodec codec : ALL) {
+            if (codec.isAvailable()) {
+                names.add(codec.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Pick the codec to send with: the preferred one (or the best automatic one) that every
+     * member of the room can decode. Falls back to JPEG, which every client supports.
+     *
+     * @param preferred  codec name from the config, or {@link #AUTO}
+     * @param roomCodecs codecs every room member can decode, or null if not known yet
+     */
+    public static VideoCodec negotiate(String preferred, Collection<String> roomCodecs) {
+        List<VideoCodec> candidates = new ArrayList<>();
+        VideoCodec chosen = byName(preferred);
+        if (chosen != null) {
+            candidates.add(chosen);
+        } else {
+            candidates.addAll(AUTO_PREFERENCE);
+        }
+
+        for (VideoCodec codec : candidates) {
+            if (codec.isAvailable() && roomCodecs != null && containsIgnoreCase(roomCodecs, codec.getName())) {
+                return codec;
+            }
+        }
+        return JPEG;
+    }
+
+    private static boolean containsIgnoreCase(Collection<String> names, String name) {
+        for (String candidate : names) {
+            if (candidate.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
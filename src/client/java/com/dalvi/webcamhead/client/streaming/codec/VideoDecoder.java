@@ -0,0 +1,34 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * Decodes frames of one incoming stream. Instances are stateful and used by one thread at a time.
+ */
+public interface VideoDecoder extends AutoCloseable {
+
+    /**
+     * Decode a frame, scaling it down towards {@code targetSize} (short side) where that is cheap.
+     * Returns null if the data produced no picture, e.g. a delta frame without its reference.
+     */
+    BufferedImage decode(byte[] data, int offset, int length, int targetSize) throws IOException;
+
+    /**
+     * Rectangles of the last decoded picture that changed, as {x, y, width, height} quadruples,
+     * or null if the whole picture may have changed
+     */
+    default int[] getChangedRegions() {
+        return null;
+    }
+
+    /**
+     * Whether the last frame could not be decoded until the sender sends a keyframe
+     */
+    default boolean needsKeyframe() {
+        return false;
+    }
+
+    @Override
+    void close();
+}
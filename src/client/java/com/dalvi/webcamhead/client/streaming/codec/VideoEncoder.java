@@ -0,0 +1,27 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * Encodes frames of one outgoing stream. Instances are stateful and used from a single thread.
+ */
+public interface VideoEncoder extends AutoCloseable {
+
+    /**
+     * Encode a frame into {@code out}.
+     * Returns false if the encoder produced no output for this frame (e.g. it is still buffering).
+     *
+     * @param forceKeyframe encode a frame that can be decoded without any previous frame
+     */
+    boolean encode(BufferedImage frame, boolean forceKeyframe, EncodedFrame out) throws IOException;
+
+    /**
+     * Change the quality (0.0 to 1.0) of the following frames without starting the stream over,
+     * so no keyframe is forced. Encoders that can't change it mid-stream apply it at their next keyframe.
+     */
+    void setQuality(float quality);
+
+    @Override
+    void close();
+}
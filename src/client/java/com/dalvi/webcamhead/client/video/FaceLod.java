@@ -0,0 +1,136 @@
+package com.dalvi.webcamhead.client.video;
+
+import com.dalvi.webcamhead.client.config.ModConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Level of detail of remote faces: how large a face is on screen, which follows from distance, FOV and
+ * window size, picks a tier with its own face texture size and update rate. Faces close up get every frame
+ * at full size, far away ones a 16x16 face updated twice a second.
+ *
+ * Tier boundaries are set in ModConfig, in screen pixels covered by the head. Only accessed from the client thread.
+ */
+public class FaceLod {
+    public enum Tier {
+        NEAR("Near", Integer.MAX_VALUE, 0),
+        MEDIUM("Medium", 32, 200),
+        FAR("Far", 16, 500);
+
+        public final String label;
+        // Largest face texture size, capped by the configured face resolution
+        public final int maxResolution;
+        // Minimum time between face updates
+        public final long intervalMs;
+
+        Tier(String label, int maxResolution, long intervalMs) {
+            this.label = label;
+            this.maxResolution = maxResolution;
+            this.intervalMs = intervalMs;
+        }
+
+        public int getResolution(int faceResolution) {
+            return Math.min(faceResolution, maxResolution);
+        }
+    }
+
+    private static class PlayerLod {
+        Tier tier = Tier.NEAR;
+        long lastUpdateTime;
+        // Frames were skipped since the last update, so the next one can't be applied as a partial update
+        boolean skipped;
+    }
+
+    private final Map<UUID, PlayerLod> players = new HashMap<>();
+    private final long[] framesApplied = new long[Tier.values().length];
+    private final long[] framesSkipped = new long[Tier.values().length];
+
+    /**
+     * Move a player to the tier for their face size on screen ({@code screenSize} in pixels, negative if unknown)
+     * and decide whether a frame received from them should be applied now
+     */
+    public boolean shouldApply(UUID playerId, double screenSize, long now) {
+        PlayerLod lod = players.computeIfAbsent(playerId, id -> new PlayerLod());
+        lod.tier = tierFor(screenSize, lod.tier);
+
+        if (now - lod.lastUpdateTime < lod.tier.intervalMs) {
+            lod.skipped = true;
+            framesSkipped[lod.tier.ordinal()]++;
+            return false;
+        }
+        lod.lastUpdateTime = now;
+        framesApplied[lod.tier.ordinal()]++;
+        return true;
+    }
+
+    /**
+     * Whether the frame about to be applied must be written whole, because frames before it were skipped.
+     * Clears the flag.
+     */
+    public boolean takeNeedsFullFrame(UUID playerId) {
+        PlayerLod lod = players.get(playerId);
+        if (lod == null || !lod.skipped) {
+            return false;
+        }
+        lod.skipped = false;
+        return true;
+    }
+
+    public Tier getTier(UUID playerId) {
+        PlayerLod lod = players.get(playerId);
+        return lod != null ? lod.tier : Tier.NEAR;
+    }
+
+    /**
+     * Tier for a face size on screen. Faces only move to a lower tier once clearly below its boundary,
+     * so a player on the edge doesn't keep resizing their face texture.
+     */
+    static Tier tierFor(double screenSize, Tier current) {
+        if (!ModConfig.isLodEnabled() || screenSize < 0) {
+            return Tier.NEAR;
+        }
+
+        double near = ModConfig.getLodNearSize();
+        double far = ModConfig.getLodFarSize();
+        Tier tier = screenSize >= near ? Tier.NEAR : screenSize >= far ? Tier.MEDIUM : Tier.FAR;
+        if (tier.ordinal() > current.ordinal()) {
+            double hysteresis = screenSize * 5 / 4;
+            Tier lenient = hysteresis >= near ? Tier.NEAR : hysteresis >= far ? Tier.MEDIUM : Tier.FAR;
+            tier = lenient.ordinal() > current.ordinal() ? lenient : current;
+        }
+        return tier;
+    }
+
+    public void remove(UUID playerId) {
+        players.remove(playerId);
+    }
+
+    public void clear() {
+        players.clear();
+    }
+
+    public LodStats getStats() {
+        int[] playerCounts = new int[Tier.values().length];
+        for (PlayerLod lod : players.values()) {
+            playerCounts[lod.tier.ordinal()]++;
+        }
+        return new LodStats(playerCounts, framesApplied.clone(), framesSkipped.clone());
+    }
+
+    /**
+     * Counters indexed by {@link Tier#ordinal()}
+     */
+    public static class LodStats {
+        public final int[] players;
+        public final long[] framesApplied;
+        public final long[] framesSkipped;
+
+        public LodStats(int[] players, long[] framesApplied, long[] framesSkipped) {
+            this.players = players;
+            this.framesApplied = framesApplied;
+            this.framesSkipped = framesSkipped;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.dalvi.webcamhead.client.video;
+
+import com.dalvi.webcamhead.client.config.ModConfig;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Applies received faces within a time budget per rendered frame, so a burst of frames from many
+ * players is spread over the next frames instead of stalling one of them.
+ *
+ * Waiting faces are updated largest on screen first, and a face gains priority the longer it has
+ * gone without an update, so small faces are late but never starved. An update is only started
+ * if the average update still fits in what is left of the budget; at least one runs every frame.
+ * Faces left over stay in the mailbox, where newer frames replace them, and keep their turn.
+ * Frames that shouldn't be applied at all (see {@code due}) are dropped before any of this, so they
+ * are neither timed nor counted as updates. Only used from the render thread.
+ */
+public class FaceUpdateScheduler {
+    // Staleness after which a face's priority has doubled
+    private static final double STALENESS_WEIGHT_MS = 100;
+
+    // Time each player's face was last updated, in nanoseconds
+    private final Map<UUID, Long> lastUpdateTimes = new HashMap<>();
+    // Players found due whose update was deferred, so they aren't asked again
+    private final Set<UUID> deferred = new HashSet<>();
+
+    private double averageUpdateNs = 0;
+    private long framesRun = 0;
+    private long framesOverBudget = 0;
+    private long updatesRun = 0;
+    private long updatesDeferred = 0;
+    private long lastWorkUs = 0;
+    private long maxWorkUs = 0;
+
+    /**
+     * Apply as many waiting faces as the budget allows
+     *
+     * @param due        whether a player's waiting frame should be applied; asked once per frame, and frames
+     *                   it rejects are discarded
+     * @param screenSize head size on screen in pixels of a player, negative if unknown
+     */
+    public void run(FrameMailbox mailbox, Predicate<UUID> due, ToDoubleFunction<UUID> screenSize,
+                    FrameMailbox.FrameConsumer consumer) {
+        List<UUID> pending = mailbox.getPendingPlayers();
+        pending.removeIf(playerId -> {
+            if (deferred.contains(playerId) || due.test(playerId)) {
+                return false;
+            }
+            mailbox.discard(playerId);
+            return true;
+        });
+        deferred.clear();
+        if (pending.isEmpty()) {
+            lastWorkUs = 0;
+            return;
+        }
+
+        long start = System.nanoTime();
+        long budgetNs = ModConfig.getFaceUpdateBudgetUs() * 1000L;
+
+        Map<UUID, Double> priorities = new HashMap<>();
+        for (UUID playerId : pending) {
+            long staleNs = start - lastUpdateTimes.getOrDefault(playerId, 0L);
+            double staleness = Math.min(staleNs / 1_000_000.0, 60_000) / STALENESS_WEIGHT_MS;
+            priorities.put(playerId, Math.max(1, screenSize.applyAsDouble(playerId)) * (1 + staleness));
+        }
+        pending.sort((a, b) -> Double.compare(priorities.get(b), priorities.get(a)));
+
+        int run = 0;
+        for (UUID playerId : pending) {
+            long before = System.nanoTime();
+            if (run > 0 && before - start + averageUpdateNs > budgetNs) {
+                updatesDeferred += pending.size() - run;
+                deferred.addAll(pending.subList(run, pending.size()));
+                break;
+            }
+
+            if (mailbox.deliver(playerId, consumer)) {
+                long after = System.nanoTime();
+                // A one-off stall (first texture of a player, class loading) must not hold back the next frames for long
+                long cost = Math.min(after - before, budgetNs);
+                averageUpdateNs = averageUpdateNs * 0.75 + cost * 0.25;
+                lastUpdateTimes.put(playerId, after);
+                updatesRun++;
+            }
+            run++;
+        }
+
+        long workNs = System.nanoTime() - start;
+        lastWorkUs = workNs / 1000;
+        maxWorkUs = Math.max(maxWorkUs, lastWorkUs);
+        framesRun++;
+        if (workNs > budgetNs) {
+            framesOverBudget++;
+        }
+    }
+
+    public void remove(UUID playerId) {
+        lastUpdateTimes.remove(playerId);
+        deferred.remove(playerId);
+    }
+
+    public void clear() {
+        lastUpdateTimes.clear();
+        deferred.clear();
+    }
+
+    public SchedulerStats getStats() {
+        return new SchedulerStats(updatesRun, updatesDeferred, framesRun, framesOverBudget,
+            (long) (averageUpdateNs / 1000), lastWorkUs, maxWorkUs);
+    }
+
+    public static class SchedulerStats {
+        public final long updatesRun;
+        public final long updatesDeferred;
+        public final long framesRun;
+        public final long framesOverBudget;
+        public final long averageUpdateUs;
+        public final long lastWorkUs;
+        public final long maxWorkUs;
+
+        public SchedulerStats(long updatesRun, long updatesDeferred, long framesRun, long framesOverBudget,
+                              long averageUpdateUs, long lastWorkUs, long maxWorkUs) {
+            this.updatesRun = updatesRun;
+            this.updatesDeferred = updatesDeferred;
+            this.framesRun = framesRun;
+            this.framesOverBudget = framesOverBudget;
+            this.averageUpdateUs = averageUpdateUs;
+            this.lastWorkUs = lastWorkUs;
+            this.maxWorkUs = maxWorkUs;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.dalvi.webcamhead.client.video;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One-slot-per-player mailbox for received frames with latest-frame-wins semantics.
+ *
+ * Network threads post frames as they arrive; the client thread takes them player by player.
+ * A frame that is replaced before it was drained is dropped without any conversion or upload work.
+ * When frames only changed some regions, the regions of a replaced frame are carried over to the
+ * one replacing it, so the consumer still updates everything that changed since the last drain.
+ */
+public class FrameMailbox {
+    // Merged region lists longer than this are replaced by a full update
+    private static final int MAX_REGIONS = 64;
+
+    @FunctionalInterface
+    public interface FrameConsumer {
+        /**
+         * @param changedRegions {x, y, width, height} quadruples that changed since the previous
+         *                       drained frame, or null if the whole frame must be updated
+         */
+        void accept(UUID playerId, BufferedImage frame, int[] changedRegions);
+    }
+
+    private static class Slot {
+        final BufferedImage frame;
+        final int[] changedRegions;
+
+        Slot(BufferedImage frame, int[] changedRegions) {
+            this.frame = frame;
+            this.changedRegions = changedRegions;
+        }
+    }
+
+    private final Map<UUID, Slot> slots = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> droppedPerPlayer = new ConcurrentHashMap<>();
+
+    private final AtomicLong framesPosted = new AtomicLong();
+    private final AtomicLong framesDelivered = new AtomicLong();
+    private final AtomicLong framesDropped = new AtomicLong();
+
+    /**
+     * Post a frame for a player, replacing any frame that hasn't been drained yet. Thread-safe.
+     * {@code changedRegions} lists what changed since the previous frame, or is null if all of it did.
+     */
+    public void post(UUID playerId, BufferedImage frame, int[] changedRegions) {
+        framesPosted.incrementAndGet();
+        Slot[] replaced = new Slot[1];
+        slots.merge(playerId, new Slot(frame, changedRegions), (previous, latest) -> {
+            replaced[0] = previous;
+            return new Slot(latest.frame, mergeRegions(previous.changedRegions, latest.changedRegions));
+        });
+        if (replaced[0] != null) {
+            framesDropped.incrementAndGet();
+            droppedPerPlayer.computeIfAbsent(playerId, id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private static int[] mergeRegions(int[] previous, int[] latest) {
+        if (previous == null || latest == null || previous.length + latest.length > MAX_REGIONS * 4) {
+            return null;
+        }
+        int[] merged = new int[previous.length + latest.length];
+        System.arraycopy(previous, 0, merged, 0, previous.length);
+        System.arraycopy(latest, 0, merged, previous.length, latest.length);
+        return merged;
+    }
+
+    /**
+     * Hand a player's latest frame to the consumer, if one is waiting. Returns whether one was.
+     */
+    public boolean deliver(UUID playerId, FrameConsumer consumer) {
+        Slot slot = slots.remove(playerId);
+        if (slot == null) {
+            return false;
+        }
+        consumer.accept(playerId, slot.frame, slot.changedRegions);
+        framesDelivered.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Drop a player's waiting frame without handing it to anyone, e.g. because it would be skipped.
+     * Returns whether one was waiting.
+     */
+    public boolean discard(UUID playerId) {
+        return slots.remove(playerId) != null;
+    }
+
+    /**
+     * Players with a frame waiting, as of now
+     */
+    public List<UUID> getPendingPlayers() {
+        return new ArrayList<>(slots.keySet());
+    }
+
+    /**
+     * Discard a player's pending frame and counters, e.g. when they leave
+     */
+    public void remove(UUID playerId) {
+        slots.remove(playerId);
+        droppedPerPlayer.remove(playerId);
+    }
+
+    public void clear() {
+        slots.clear();
+        droppedPerPlayer.clear();
+    }
+
+    /**
+     * Number of frames from a player that were superseded before being drained
+     */
+    public long getDroppedFrames(UUID playerId) {
+        AtomicLong dropped = droppedPerPlayer.get(playerId);
+        return dropped != null ? dropped.get() : 0;
+    }
+
+    public MailboxStats getStats() {
+        return new MailboxStats(framesPosted.get(), framesDelivered.get(), framesDropped.get());
+    }
+
+    public static class MailboxStats {
+        public final long framesPosted;
+        public final long framesDelivered;
+        public final long framesDropped;
+
+        public MailboxStats(long framesPosted, long framesDelivered, long framesDropped) {
+            this.framesPosted = framesPosted;
+            this.framesDelivered = framesDelivered;
+            this.framesDropped = framesDropped;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.dalvi.webcamhead.client.video;
+
+import com.dalvi.webcamhead.client.config.ModConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.AbstractClientPlayerEntity;
+import net.minecraft.client.render.Camera;
+import net.minecraft.client.util.Window;
+import net.minecraft.util.hit.HitResult;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.RaycastContext;
+import org.lwjgl.glfw.GLFW;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Picks what to receive from each loaded player, from how their face appears on screen.
+ *
+ * Players whose face can't be seen (behind the camera, hidden behind blocks, too far to cover a pixel,
+ * or while the game window is minimized or in the background) are unsubscribed from once they have stayed
+ * hidden for a moment. The others get the smallest simulcast layer that still has at least as many pixels
+ * as their face covers. The face sizes on screen are kept for {@link FaceLod}.
+ */
+public class LayerSelector {
+    // Ticks between updates; a layer change only takes effect on the sender's next keyframe anyway
+    private static final int UPDATE_INTERVAL_TICKS = 10;
+    // Updates a face must stay hidden before unsubscribing, as coming back costs a keyframe
+    private static final int HIDE_AFTER_UPDATES = 4;
+    // Height of a player's head in blocks
+    private static final double HEAD_SIZE = 0.5;
+    // Projected face size in pixels below which the face counts as not visible
+    private static final double MIN_VISIBLE_PIXELS = 2;
+    // Widens the view cone, which sprinting and speed effects stretch beyond the configured FOV
+    private static final double FOV_MARGIN = 1.2;
+
+    private final Map<UUID, Integer> layers = new HashMap<>();
+    // Consecutive updates each player has been hidden for
+    private final Map<UUID, Integer> hiddenUpdates = new HashMap<>();
+    // Head size on screen in pixels of each loaded player, as of the last update
+    private final Map<UUID, Double> screenSizes = new HashMap<>();
+    private int ticksUntilUpdate = 0;
+
+    /**
+     * @param faceResolution size of the full quality layer, the largest face size displayed in the room
+     * @param displaySize    size faces are drawn at locally, no layer larger than that is needed
+     * @param subscribe      called with the layer wanted for each visible player
+     * @param unsubscribe    called for players that can't be seen
+     */
+    public void tick(MinecraftClient client, PlayerEntityIndex players, int faceResolution, int displaySize,
+                     BiConsumer<UUID, Integer> subscribe, Consumer<UUID> unsubscribe) {
+        if (--ticksUntilUpdate > 0) {
+            return;
+        }
+        ticksUntilUpdate = UPDATE_INTERVAL_TICKS;
+        if (client.player == null || client.world == null) {
+            return;
+        }
+
+        Camera camera = client.gameRenderer.getCamera();
+        Vec3d cameraPos = camera.getPos();
+        Vec3d forward = Vec3d.fromPolar(camera.getPitch(), camera.getYaw());
+        Window window = client.getWindow();
+        boolean windowVisible = isWindowVisible(client);
+
+        double fov = Math.toRadians(client.options.getFov().getValue());
+        // Screen pixels covered by one block at a distance of one block
+        double pixelsPerBlock = window.getFramebufferHeight() / (2 * Math.tan(fov / 2));
+        // Angle from the view direction to the screen corners
+        double aspect = (double) window.getFramebufferWidth() / Math.max(1, window.getFramebufferHeight());
+        double viewAngle = Math.atan(Math.tan(fov / 2) * FOV_MARGIN * Math.sqrt(1 + aspect * aspect));
+
+        Set<UUID> seen = new HashSet<>();
+        for (AbstractClientPlayerEntity player : players.all()) {
+            if (player == client.player) {
+                continue;
+            }
+            UUID playerId = player.getUuid();
+            seen.add(playerId);
+
+            Vec3d head = player.getEyePos();
+            double distance = Math.max(0.1, cameraPos.distanceTo(head));
+            double projected = HEAD_SIZE * pixelsPerBlock / distance;
+            screenSizes.put(playerId, projected);
+
+            boolean visible = windowVisible && projected >= MIN_VISIBLE_PIXELS && !player.isInvisibleTo(client.player)
+                && isInView(cameraPos, forward, head, distance, viewAngle) && !isOccluded(client, cameraPos, head);
+            if (!visible) {
+                if (hiddenUpdates.merge(playerId, 1, Integer::sum) >= HIDE_AFTER_UPDATES) {
+                    layers.remove(playerId);
+                    unsubscribe.accept(playerId);
+                }
+                continue;
+            }
+            hiddenUpdates.remove(playerId);
+
+            int pixels = (int) Math.min(displaySize, projected);
+            int layer = layerFor(pixels, faceResolution);
+
+            Integer current = layers.get(playerId);
+            if (current != null && layer > current) {
+                // Only step down once the face is clearly smaller, so a player on the boundary doesn't cause a keyframe every update
+                layer = Math.max(current, layerFor(pixels * 5 / 4, faceResolution));
+            }
+            layers.put(playerId, layer);
+            subscribe.accept(playerId, layer);
+        }
+
+        // Players unloaded since the last update can't be seen either
+        Set<UUID> gone = new HashSet<>(screenSizes.keySet());
+        gone.removeAll(seen);
+        for (UUID playerId : gone) {
+            remove(playerId);
+            unsubscribe.accept(playerId);
+        }
+    }
+
+    /**
+     * Whether a head is within the view cone around the camera direction, allowing for its size
+     */
+    private static boolean isInView(Vec3d camera, Vec3d forward, Vec3d head, double distance, double viewAngle) {
+        double cos = head.subtract(camera).multiply(1 / distance).dotProduct(forward);
+        double angle = Math.acos(Math.max(-1, Math.min(1, cos)));
+        return angle <= viewAngle + Math.atan(HEAD_SIZE / distance);
+    }
+
+    /**
+     * Whether blocks hide a head, checked along rays to its center and its top
+     */
+    private static boolean isOccluded(MinecraftClient client, Vec3d camera, Vec3d head) {
+        for (double offset : new double[] {0, HEAD_SIZE / 2}) {
+            Vec3d target = head.add(0, offset, 0);
+            HitResult hit = client.world.raycast(new RaycastContext(camera, target, RaycastContext.ShapeType.VISUAL,
+                RaycastContext.FluidHandling.NONE, client.player));
+            if (hit.getType() == HitResult.Type.MISS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the game is on screen: not minimized, and focused unless the game keeps running in the background
+     */
+    private static boolean isWindowVisible(MinecraftClient client) {
+        Window window = client.getWindow();
+        if (window.getFramebufferWidth() == 0 || window.getFramebufferHeight() == 0
+            || GLFW.glfwGetWindowAttrib(window.getHandle(), GLFW.GLFW_ICONIFIED) == GLFW.GLFW_TRUE) {
+            return false;
+        }
+        return client.isWindowFocused() || !client.options.pauseOnLostFocus;
+    }
+
+    /**
+     * Smallest layer (layer n is 1/2^n of the full size) still at least {@code pixels} wide
+     */
+    static int layerFor(int pixels, int faceResolution) {
+        int layer = 0;
+        while (layer + 1 < ModConfig.MAX_SIMULCAST_LAYERS && (faceResolution >> (layer + 1)) >= pixels) {
+            layer++;
+        }
+        return layer;
+    }
+
+    /**
+     * Head size on screen in pixels of a loaded player, or -1 if unknown
+     */
+    public double getScreenSize(UUID playerId) {
+        return screenSizes.getOrDefault(playerId, -1.0);
+    }
+
+    public void remove(UUID playerId) {
+        layers.remove(playerId);
+        hiddenUpdates.remove(playerId);
+        screenSizes.remove(playerId);
+    }
+
+    public void clear() {
+        layers.clear();
+        hiddenUpdates.clear();
+        screenSizes.clear();
+    }
+}
@@ -0,0 +1,53 @@
+package com.dalvi.webcamhead.client.video;
+
+import net.minecraft.client.network.AbstractClientPlayerEntity;
+import net.minecraft.entity.Entity;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * UUID to player entity index for the current client world.
+ * Kept up to date from entity load and unload events so frame delivery never scans the world's player list.
+ */
+public class PlayerEntityIndex {
+
+    private final Map<UUID, AbstractClientPlayerEntity> players = new HashMap<>();
+
+    public void onEntityLoad(Entity entity) {
+        if (entity instanceof AbstractClientPlayerEntity player) {
+            players.put(player.getUuid(), player);
+        }
+    }
+
+    public void onEntityUnload(Entity entity) {
+        if (entity instanceof AbstractClientPlayerEntity player) {
+            // Only drop the mapping if it still points at this entity (respawns reuse the UUID)
+            players.remove(player.getUuid(), player);
+        }
+    }
+
+    /**
+     * Get a loaded player by UUID, or null if they aren't loaded in the current world
+     */
+    public AbstractClientPlayerEntity get(UUID playerId) {
+        return players.get(playerId);
+    }
+
+    /**
+     * All loaded players, the local one included
+     */
+    public Collection<AbstractClientPlayerEntity> all() {
+        return players.values();
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    public void clear() {
+        players.clear();
+    }
+}
@@ -0,0 +1,90 @@
+package com.dalvi.webcamhead.client.video;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Players waiting for their webcam skin to be initialized, retried with exponential backoff.
+ * A player whose skin isn't ready yet costs nothing until their next attempt is due,
+ * instead of a full initialization attempt on every received frame.
+ */
+public class SkinInitQueue {
+    private static final int INITIAL_DELAY_TICKS = 5;
+    private static final int MAX_DELAY_TICKS = 200; // 10 seconds
+
+    private final Map<UUID, PendingInit> pending = new HashMap<>();
+    private long currentTick = 0;
+
+    private static class PendingInit {
+        int attempts;
+        long nextAttemptTick;
+    }
+
+    /**
+     * Queue a player for initialization. Does nothing if they are already queued.
+     */
+    public void request(UUID playerId) {
+        if (!pending.containsKey(playerId)) {
+            PendingInit init = new PendingInit();
+            init.nextAttemptTick = currentTick;
+            pending.put(playerId, init);
+        }
+    }
+
+    /**
+     * Make a queued player's next attempt due immediately, e.g. when their entity just loaded
+     */
+    public void retryNow(UUID playerId) {
+        PendingInit init = pending.get(playerId);
+        if (init != null) {
+            init.nextAttemptTick = currentTick;
+        }
+    }
+
+    /**
+     * Advance one tick and attempt every due initialization.
+     * The attempt returns true when the player no longer needs to be queued.
+     */
+    public void tick(Predicate<UUID> attempt) {
+        currentTick++;
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Iterator<Map.Entry<UUID, PendingInit>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PendingInit> entry = iterator.next();
+            PendingInit init = entry.getValue();
+            if (init.nextAttemptTick > currentTick) {
+                continue;
+            }
+
+            if (attempt.test(entry.getKey())) {
+                iterator.remove();
+            } else {
+                init.attempts++;
+                long delay = Math.min(MAX_DELAY_TICKS, (long) INITIAL_DELAY_TICKS << Math.min(init.attempts - 1, 16));
+                init.nextAttemptTick = currentTick + delay;
+            }
+        }
+    }
+
+    public boolean isQueued(UUID playerId) {
+        return pending.containsKey(playerId);
+    }
+
+    public void remove(UUID playerId) {
+        pending.remove(playerId);
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    public void clear() {
+        pending.clear();
+    }
+}
@@ -0,0 +1,93 @@
+package com.dalvi.webcamhead.client.webcam;
+
+import com.dalvi.webcamhead.client.config.ModConfig;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Cuts the square face region out of a webcam frame and scales it to the face resolution.
+ *
+ * The region follows the face when a FaceTracker is running, and otherwise comes from the face crop
+ * settings in ModConfig (centered, full height by default). The output image is reused, so each instance must stay on one thread and the result must be
+ * consumed before the next call.
+ */
+public class FaceCropper {
+    // Region published by the face tracker, null when it isn't running
+    private static volatile Region trackedRegion;
+
+    private BufferedImage output;
+    private Graphics2D graphics;
+
+    /**
+     * Crop the face region of a frame into a {@code size}x{@code size} image
+     */
+    public BufferedImage crop(BufferedImage frame, int size) {
+        if (output == null || output.getWidth() != size) {
+            if (graphics != null) {
+                graphics.dispose();
+            }
+            output = new BufferedImage(size, size, BufferedImage.TYPE_3BYTE_BGR);
+            graphics = output.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+
+        Rectangle region = region(frame.getWidth(), frame.getHeight());
+        graphics.drawImage(frame, 0, 0, size, size,
+            region.x, region.y, region.x + region.width, region.y + region.height, null);
+        return output;
+    }
+
+    /**
+     * The square crop region for a frame of the given size, kept inside the frame
+     */
+    public static Rectangle region(int width, int height) {
+        Region tracked = trackedRegion;
+        float centerX = tracked != null ? tracked.centerX : ModConfig.getFaceCropX();
+        float centerY = tracked != null ? tracked.centerY : ModConfig.getFaceCropY();
+        float size = tracked != null ? tracked.size : ModConfig.getFaceCropSize();
+
+        int side = Math.max(1, Math.round(Math.min(width, height) * size));
+        int x = Math.round(width * centerX) - side / 2;
+        int y = Math.round(height * centerY) - side / 2;
+        x = Math.max(0, Math.min(width - side, x));
+        y = Math.max(0, Math.min(height - side, y));
+        return new Rectangle(x, y, side, side);
+    }
+
+    /**
+     * Make every cropper follow a tracked face, or go back to the configured crop with null
+     */
+    public static void setTrackedRegion(Region region) {
+        trackedRegion = region;
+    }
+
+    public static boolean isTracking() {
+        return trackedRegion != null;
+    }
+
+    public void dispose() {
+        if (graphics != null) {
+            graphics.dispose();
+            graphics = null;
+        }
+        output = null;
+    }
+
+    /**
+     * A square crop: center as fractions of the frame width and height, side as a fraction of its shorter side
+     */
+    public static class Region {
+        public final float centerX;
+        public final float centerY;
+        public final float size;
+
+        public Region(float centerX, float centerY, float size) {
+            this.centerX = centerX;
+            this.centerY = centerY;
+            this.size = Math.max(ModConfig.MIN_FACE_CROP_SIZE, Math.min(1.0f, size));
+        }
+    }
+}
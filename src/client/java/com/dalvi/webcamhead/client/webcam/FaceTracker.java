@@ -0,0 +1,230 @@
+package com.dalvi.webcamhead.client.webcam;
+
+import com.dalvi.webcamhead.client.config.ModConfig;
+import net.fabricmc.loader.api.FabricLoader;
+import org.bytedeco.opencv.opencv_core.Mat;
+import org.bytedeco.opencv.opencv_core.Rect;
+import org.bytedeco.opencv.opencv_core.RectVector;
+import org.bytedeco.opencv.opencv_core.Size;
+import org.bytedeco.opencv.opencv_objdetect.CascadeClassifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.bytedeco.opencv.global.opencv_imgproc.*;
+
+/**
+ * Finds the face in captured frames and moves the face crop to follow it.
+ *
+ * A Haar cascade runs on a small grayscale copy of the frame every few frames; how often depends on
+ * how long detection takes and how busy the CPU is. Between detections the crop eases towards the
+ * last face found, so it doesn't jump around. Runs on the capture thread.
+ */
+public class FaceTracker {
+    private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
+
+    public static final String CASCADE_FILE = "haarcascade_frontalface_default.xml";
+
+    // Width of the frame copy the detector runs on
+    private static final int DETECT_WIDTH = 160;
+    private static final int MIN_FACE_SIZE = 24;
+
+    // Fraction of the capture thread's time detection may use, and the resulting frame interval bounds
+    private static final double DETECT_BUDGET = 0.2;
+    private static final int MIN_INTERVAL = 2;
+    private static final int MAX_INTERVAL = 30;
+    // Above this CPU load, detection runs half as often
+    private static final double HIGH_CPU_LOAD = 0.75;
+
+    // Head size relative to the detected face box, which only covers eyes to mouth
+    private static final float HEAD_MARGIN = 1.8f;
+    // Share of the remaining distance to the detected face covered each frame
+    private static final float SMOOTHING = 0.3f;
+    // Missed detections in a row before going back to the configured crop
+    private static final int LOST_AFTER = 5;
+
+    private final CascadeClassifier classifier;
+    private final int frameIntervalMs;
+    private final Mat gray = new Mat();
+    private final Mat small = new Mat();
+    private final RectVector faces = new RectVector();
+    private final Size minFaceSize = new Size(MIN_FACE_SIZE, MIN_FACE_SIZE);
+    private final Size noMaxSize = new Size();
+    private final Size detectSize = new Size();
+
+    private int framesUntilDetect = 0;
+    private volatile int interval = MIN_INTERVAL;
+    private volatile double averageDetectMs = -1;
+    private volatile int missedDetections = 0;
+    private volatile long detections = 0;
+    private volatile long facesFound = 0;
+
+    // Crop being eased towards, and the crop currently published (same units as FaceCropper.Region)
+    private float targetX;
+    private float targetY;
+    private float targetSize;
+    private float currentX;
+    private float currentY;
+    private float currentSize;
+
+    private FaceTracker(CascadeClassifier classifier, int fps) {
+        this.classifier = classifier;
+        this.frameIntervalMs = 1000 / Math.max(1, fps);
+        resetToConfiguredCrop();
+        currentX = targetX;
+        currentY = targetY;
+        currentSize = targetSize;
+    }
+
+    /**
+     * Load the face cascade, or return null if it is missing or invalid
+     */
+    public static FaceTracker create(int fps) {
+        Path cascade = getCascadePath();
+        if (!Files.isRegularFile(cascade)) {
+            LOGGER.warn("Face tracking needs {} (from the OpenCV data/haarcascades folder), not found", cascade);
+            return null;
+        }
+
+        CascadeClassifier classifier = new CascadeClassifier(cascade.toString());
+        if (classifier.empty()) {
+            LOGGER.warn("Could not load face cascade {}", cascade);
+            classifier.close();
+            return null;
+        }
+
+        LOGGER.info("Face tracking enabled with {}", cascade);
+        return new FaceTracker(classifier, fps);
+    }
+
+    /**
+     * Where the face cascade is expected: the webcamhead folder of the game directory
+     */
+    public static Path getCascadePath() {
+        return FabricLoader.getInstance().getGameDir().resolve("webcamhead").resolve(CASCADE_FILE);
+    }
+
+    /**
+     * Track the face in a captured frame (BGR or grayscale) and publish the updated crop
+     */
+    public void process(Mat frame) {
+        if (--framesUntilDetect <= 0) {
+            long start = System.nanoTime();
+            detect(frame);
+            double detectMs = (System.nanoTime() - start) / 1_000_000.0;
+            averageDetectMs = averageDetectMs < 0 ? detectMs : averageDetectMs * 0.8 + detectMs * 0.2;
+            interval = computeInterval();
+            framesUntilDetect = interval;
+        }
+
+        currentX += (targetX - currentX) * SMOOTHING;
+        currentY += (targetY - currentY) * SMOOTHING;
+        currentSize += (targetSize - currentSize) * SMOOTHING;
+        FaceCropper.setTrackedRegion(new FaceCropper.Region(currentX, currentY, currentSize));
+    }
+
+    private void detect(Mat frame) {
+        int width = frame.cols();
+        int height = frame.rows();
+        if (frame.channels() == 1) {
+            frame.copyTo(gray);
+        } else {
+            cvtColor(frame, gray, COLOR_BGR2GRAY);
+        }
+
+        double scale = (double) DETECT_WIDTH / width;
+        detectSize.width(DETECT_WIDTH).height(Math.max(1, (int) Math.round(height * scale)));
+        resize(gray, small, detectSize);
+        equalizeHist(small, small);
+
+        classifier.detectMultiScale(small, faces, 1.2, 3, 0, minFaceSize, noMaxSize);
+        detections++;
+
+        // The largest face is the one closest to the camera
+        Rect best = null;
+        for (long i = 0; i < faces.size(); i++) {
+            Rect face = faces.get(i);
+            if (best == null || face.area() > best.area()) {
+                best = face;
+            }
+        }
+
+        if (best == null) {
+            if (++missedDetections >= LOST_AFTER) {
+                resetToConfiguredCrop();
+            }
+            return;
+        }
+
+        missedDetections = 0;
+        facesFound++;
+        double shortSide = Math.min(width, height);
+        targetX = (float) ((best.x() + best.width() / 2.0) / scale / width);
+        targetY = (float) ((best.y() + best.height() / 2.0) / scale / height);
+        targetSize = (float) Math.min(1.0, best.width() / scale * HEAD_MARGIN / shortSide);
+    }
+
+    /**
+     * Frames between detections, so detection stays within its share of the capture thread
+     * and backs off when the machine is busy
+     */
+    private int computeInterval() {
+        int frames = (int) Math.ceil(averageDetectMs / (frameIntervalMs * DETECT_BUDGET));
+        if (getCpuLoad() > HIGH_CPU_LOAD) {
+            frames *= 2;
+        }
+        return Math.max(MIN_INTERVAL, Math.min(MAX_INTERVAL, frames));
+    }
+
+    private static double getCpuLoad() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            return sunOs.getCpuLoad();
+        }
+        return -1;
+    }
+
+    private void resetToConfiguredCrop() {
+        targetX = ModConfig.getFaceCropX();
+        targetY = ModConfig.getFaceCropY();
+        targetSize = ModConfig.getFaceCropSize();
+    }
+
+    public TrackerStats getStats() {
+        return new TrackerStats(interval, averageDetectMs, detections, facesFound, missedDetections < LOST_AFTER && facesFound > 0);
+    }
+
+    /**
+     * Release the detector and go back to the configured crop
+     */
+    public void close() {
+        FaceCropper.setTrackedRegion(null);
+        classifier.close();
+        gray.close();
+        small.close();
+        faces.close();
+        minFaceSize.close();
+        noMaxSize.close();
+        detectSize.close();
+    }
+
+    public static class TrackerStats {
+        public final int interval;
+        public final double averageDetectMs;
+        public final long detections;
+        public final long facesFound;
+        public final boolean tracking;
+
+        public TrackerStats(int interval, double averageDetectMs, long detections, long facesFound, boolean tracking) {
+            this.interval = interval;
+            this.averageDetectMs = averageDetectMs;
+            this.detections = detections;
+            this.facesFound = facesFound;
+            this.tracking = tracking;
+        }
+    }
+}
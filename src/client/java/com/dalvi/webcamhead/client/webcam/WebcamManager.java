@@ -1,5 +1,6 @@
 package com.dalvi.webcamhead.client.webcam;
 
+import com.dalvi.webcamhead.client.config.ModConfig;
 import org.bytedeco.javacv.Frame;
 import org.bytedeco.javacv.FrameGrabber;
 import org.bytedeco.javacv.OpenCVFrameConverter;
@@ -21,6 +22,10 @@ public class WebcamManager {
     private Thread captureThread;
     private volatile BufferedImage latestFrame;
 
+    // Optional face tracking, created on the capture thread while enabled in ModConfig
+    private volatile FaceTracker faceTracker;
+    private boolean faceTrackerFailed = false;
+
     private final int targetWidth;
     private final int targetHeight;
     private final int targetFps;
@@ -114,6 +119,11 @@ public class WebcamManager {
             grabber = null;
         }
 
+        if (faceTracker != null) {
+            faceTracker.close();
+            faceTracker = null;
+        }
+
         LOGGER.info("Webcam stopped");
     }
 
@@ -156,6 +166,8 @@ public class WebcamManager {
             mat = resized;
         }
 
+        updateFaceTracker(mat);
+
         int width = mat.cols();
         int height = mat.rows();
         int channels = mat.channels();
@@ -172,6 +184,43 @@ public class WebcamManager {
         return image;
     }
 
+    /**
+     * Run the face tracker on a captured frame while face tracking is enabled, creating or releasing it as needed
+     */
+    private void updateFaceTracker(Mat mat) {
+        if (!ModConfig.isFaceTracking()) {
+            faceTrackerFailed = false;
+            if (faceTracker != null) {
+                faceTracker.close();
+                faceTracker = null;
+            }
+            return;
+        }
+
+        if (faceTracker == null && !faceTrackerFailed) {
+            faceTracker = FaceTracker.create(targetFps);
+            faceTrackerFailed = faceTracker == null;
+        }
+        if (faceTracker != null) {
+            try {
+                faceTracker.process(mat);
+            } catch (Exception e) {
+                LOGGER.error("Face tracking failed, disabling it", e);
+                faceTracker.close();
+                faceTracker = null;
+                faceTrackerFailed = true;
+            }
+        }
+    }
+
+    /**
+     * Face tracker statistics, or null if face tracking isn't running
+     */
+    public FaceTracker.TrackerStats getFaceTrackerStats() {
+        FaceTracker tracker = faceTracker;
+        return tracker != null ? tracker.getStats() : null;
+    }
+
     public BufferedImage getLatestFrame() {
         return latestFrame;
     }
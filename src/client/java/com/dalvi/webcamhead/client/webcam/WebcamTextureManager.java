@@ -1,5 +1,6 @@
 package com.dalvi.webcamhead.client.webcam;
 
+import com.dalvi.webcamhead.client.render.NativeImagePixels;
 import net.minecraft.client.texture.NativeImage;
 import net.minecraft.client.texture.NativeImageBackedTexture;
 import net.minecraft.util.Identifier;
@@ -8,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.image.BufferedImage;
+import java.nio.IntBuffer;
 
 public class WebcamTextureManager {
     private static final Logger LOGGER = LoggerFactory.getLogger("WebcamHead");
@@ -15,6 +17,8 @@ public class WebcamTextureManager {
 
     private NativeImageBackedTexture texture;
     private NativeImage nativeImage;
+    private IntBuffer pixels;
+    private int[] rowScratch;
     private final int width;
     private final int height;
 
@@ -29,6 +33,8 @@ public class WebcamTextureManager {
         }
 
         nativeImage = new NativeImage(width, height, true);
+        pixels = NativeImagePixels.view(nativeImage);
+        rowScratch = new int[width];
         texture = new NativeImageBackedTexture(nativeImage);
         MinecraftClient.getInstance().getTextureManager().registerTexture(WEBCAM_TEXTURE_ID, texture);
 
@@ -41,28 +47,8 @@ public class WebcamTextureManager {
         }
 
         try {
-            // Convert BufferedImage to NativeImage
-            // NativeImage stores pixels in ABGR format
-            for (int y = 0; y < Math.min(height, frame.getHeight()); y++) {
-                for (int x = 0; x < Math.min(width, frame.getWidth()); x++) {
-                    int argb = frame.getRGB(x, y);
-
-                    // Extract ARGB components
-                    int a = (argb >> 24) & 0xFF;
-                    int r = (argb >> 16) & 0xFF;
-                    int g = (argb >> 8) & 0xFF;
-                    int b = argb & 0xFF;
-
-                    // Ensure fully opaque
-                    if (a == 0) a = 255;
-
-                    // Convert to ABGR format that NativeImage uses
-                    int abgr = (a << 24) | (b << 16) | (g << 8) | r;
-
-                    // Use fillRect to set a single pixel (it's the only public method available)
-                    nativeImage.fillRect(x, y, 1, 1, abgr);
-                }
-            }
+            // Write the frame straight into the image's native memory in one pass
+            NativeImagePixels.copyFrame(frame, pixels, width, 0, 0, width, height, rowScratch);
 
             // Upload to GPU
             texture.upload();
@@ -84,6 +70,7 @@ public class WebcamTextureManager {
             nativeImage.close();
             nativeImage = null;
         }
+        pixels = null;
         LOGGER.info("Cleaned up webcam texture");
     }
 
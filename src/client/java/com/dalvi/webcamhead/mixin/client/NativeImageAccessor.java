@@ -0,0 +1,15 @@
+package com.dalvi.webcamhead.mixin.client;
+
+import net.minecraft.client.texture.NativeImage;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Exposes the native memory address of a NativeImage so pixels can be written in bulk
+ */
+@Mixin(NativeImage.class)
+public interface NativeImageAccessor {
+
+    @Accessor("pointer")
+    long getWebcamheadPointer();
+}
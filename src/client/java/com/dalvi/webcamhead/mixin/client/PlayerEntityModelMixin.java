@@ -1,37 +1,50 @@
 package com.dalvi.webcamhead.mixin.client;
 
+import com.dalvi.webcamhead.client.render.DerivedValueCache;
 import com.dalvi.webcamhead.client.render.SkinOverlayRenderer;
+import com.llamalad7.mixinextras.injector.ModifyReturnValue;
 import net.minecraft.client.network.AbstractClientPlayerEntity;
 import net.minecraft.client.util.SkinTextures;
 import net.minecraft.util.Identifier;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(AbstractClientPlayerEntity.class)
 public class PlayerEntityModelMixin {
 
-    @Inject(method = "getSkinTextures", at = @At("RETURN"), cancellable = true)
-    private void webcamhead$modifySkinTexture(CallbackInfoReturnable<SkinTextures> cir) {
+    // getSkinTextures() is called several times per player per frame, so the modified
+    // SkinTextures is built once and reused until the original skin or the modified texture changes
+    @Unique
+    private DerivedValueCache<SkinTextures, SkinTextures> webcamhead$skinTextures;
+
+    @ModifyReturnValue(method = "getSkinTextures", at = @At("RETURN"))
+    private SkinTextures webcamhead$modifySkinTexture(SkinTextures original) {
+        if (webcamhead$skinTextures == null) {
+            webcamhead$skinTextures = new DerivedValueCache<>(this::webcamhead$createModified);
+        }
+        SkinTextures modified = webcamhead$skinTextures.get(original, SkinOverlayRenderer.getSkinGeneration());
+
+        return modified != null ? modified : original;
+    }
+
+    @Unique
+    private SkinTextures webcamhead$createModified(SkinTextures original) {
         AbstractClientPlayerEntity player = (AbstractClientPlayerEntity) (Object) this;
         Identifier modifiedTexture = SkinOverlayRenderer.getModifiedSkinTexture(player.getUuid());
 
-        if (modifiedTexture != null) {
-            // Get the original SkinTextures
-            SkinTextures original = cir.getReturnValue();
-
-            // Create a new SkinTextures with our modified texture
-            SkinTextures modified = new SkinTextures(
-                modifiedTexture,  // Use our modified texture
-                original.textureUrl(),
-                original.capeTexture(),
-                original.elytraTexture(),
-                original.model(),
-                original.secure()
-            );
-
-            cir.setReturnValue(modified);
+        if (modifiedTexture == null) {
+            return null;
         }
+
+        // Create a new SkinTextures with our modified texture
+        return new SkinTextures(
+            modifiedTexture,  // Use our modified texture
+            original.textureUrl(),
+            original.capeTexture(),
+            original.elytraTexture(),
+            original.model(),
+            original.secure()
+        );
     }
 }
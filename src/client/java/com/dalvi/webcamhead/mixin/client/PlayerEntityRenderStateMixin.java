@@ -0,0 +1,25 @@
+package com.dalvi.webcamhead.mixin.client;
+
+import com.dalvi.webcamhead.client.render.WebcamRenderState;
+import net.minecraft.client.render.entity.state.PlayerEntityRenderState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import java.util.UUID;
+
+@Mixin(PlayerEntityRenderState.class)
+public class PlayerEntityRenderStateMixin implements WebcamRenderState {
+
+    @Unique
+    private UUID webcamhead$playerUuid;
+
+    @Override
+    public UUID webcamhead$getPlayerUuid() {
+        return webcamhead$playerUuid;
+    }
+
+    @Override
+    public void webcamhead$setPlayerUuid(UUID playerUuid) {
+        this.webcamhead$playerUuid = playerUuid;
+    }
+}
@@ -0,0 +1,113 @@
+package com.dalvi.webcamhead.client.render;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class DerivedValueCacheTest {
+    // Stands in for the SkinTextures record, which compares by value
+    private record Textures(String texture) {
+    }
+
+    private final AtomicInteger builds = new AtomicInteger();
+    private final DerivedValueCache<Textures, Textures> cache = new DerivedValueCache<>(original -> {
+        builds.incrementAndGet();
+        return new Textures("modified:" + original.texture());
+    });
+
+    @Test
+    void reusesTheValueWhileSourceAndGenerationAreUnchanged() {
+        Textures original = new Textures("steve");
+        Textures first = cache.get(original, 3);
+        for (int i = 0; i < 1000; i++) {
+            assertSame(first, cache.get(original, 3));
+        }
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void steadyStateLookupsAllocateNothing() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+            "no per-thread allocation counter on this JVM");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+            "per-thread allocation counter disabled");
+        long thread = Thread.currentThread().getId();
+
+        Textures original = new Textures("steve");
+        Textures first = cache.get(original, 3);
+        // Warm up, so the loop below runs compiled
+        int misses = lookups(original, first, 200_000);
+
+        // Whatever reading the counter costs by itself
+        long overhead = threads.getThreadAllocatedBytes(thread);
+        overhead = threads.getThreadAllocatedBytes(thread) - overhead;
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        misses += lookups(original, first, 100_000);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertEquals(0, misses);
+        assertTrue(allocated <= overhead, allocated + " bytes allocated over 100000 lookups");
+        assertEquals(1, builds.get());
+    }
+
+    private int lookups(Textures source, Textures expected, int count) {
+        int misses = 0;
+        for (int i = 0; i < count; i++) {
+            if (cache.get(source, 3) != expected) {
+                misses++;
+            }
+        }
+        return misses;
+    }
+
+    @Test
+    void reusesTheValueForAnEqualSource() {
+        Textures first = cache.get(new Textures("steve"), 0);
+        assertSame(first, cache.get(new Textures("steve"), 0));
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void rebuildsWhenTheGenerationChanges() {
+        Textures original = new Textures("steve");
+        Textures first = cache.get(original, 0);
+        Textures second = cache.get(original, 1);
+
+        assertNotSame(first, second);
+        assertEquals(2, builds.get());
+        assertSame(second, cache.get(original, 1));
+    }
+
+    @Test
+    void rebuildsWhenTheSourceChanges() {
+        cache.get(new Textures("steve"), 0);
+        Textures rebuilt = cache.get(new Textures("alex"), 0);
+
+        assertEquals(new Textures("modified:alex"), rebuilt);
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void cachesNullValuesToo() {
+        AtomicInteger nullBuilds = new AtomicInteger();
+        DerivedValueCache<Textures, Textures> none = new DerivedValueCache<>(original -> {
+            nullBuilds.incrementAndGet();
+            return null;
+        });
+        Textures original = new Textures("steve");
+
+        assertNull(none.get(original, 0));
+        assertNull(none.get(original, 0));
+        assertEquals(1, nullBuilds.get());
+    }
+}
@@ -0,0 +1,133 @@
+package com.dalvi.webcamhead.client.render;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirtyRegionTrackerTest {
+
+    @Test
+    void mergesOverlappingRegions() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(128, 128, 8);
+        tracker.markDirty(0, 0, 10, 10);
+        tracker.markDirty(5, 5, 10, 10);
+
+        assertEquals(List.of(List.of(0, 0, 15, 15)), regions(tracker));
+    }
+
+    @Test
+    void mergesNeighboursWhoseUnionIsARectangle() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(128, 128, 8);
+        tracker.markDirty(0, 0, 8, 8);
+        tracker.markDirty(8, 0, 8, 8);
+        tracker.markDirty(0, 8, 16, 4);
+
+        assertEquals(List.of(List.of(0, 0, 16, 12)), regions(tracker));
+    }
+
+    @Test
+    void keepsDiagonalAndMisalignedNeighboursApart() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(128, 128, 8);
+        tracker.markDirty(0, 0, 8, 8);
+        tracker.markDirty(8, 8, 8, 8);
+        tracker.markDirty(16, 0, 8, 4);
+
+        assertEquals(3, tracker.getRegionCount());
+        assertEquals(3 * 64 - 32, tracker.getDirtyArea());
+    }
+
+    @Test
+    void mergesChainsThatANewRegionBridges() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(128, 128, 8);
+        tracker.markDirty(0, 0, 4, 4);
+        tracker.markDirty(20, 0, 4, 4);
+        tracker.markDirty(2, 0, 20, 4);
+
+        assertEquals(List.of(List.of(0, 0, 24, 4)), regions(tracker));
+    }
+
+    @Test
+    void clampsToTheTexture() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(64, 32, 8);
+        tracker.markDirty(-5, -5, 10, 10);
+        tracker.markDirty(60, 30, 10, 10);
+
+        assertEquals(List.of(List.of(0, 0, 5, 5), List.of(60, 30, 4, 2)), regions(tracker));
+    }
+
+    @Test
+    void ignoresEmptyAndOutsideRegions() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(64, 64, 8);
+        tracker.markDirty(10, 10, 0, 5);
+        tracker.markDirty(10, 10, 5, -1);
+        tracker.markDirty(64, 0, 5, 5);
+        tracker.markDirty(-10, 0, 10, 5);
+
+        assertFalse(tracker.isDirty());
+    }
+
+    @Test
+    void staysWithinTheRegionCapAndCoversEverything() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(128, 128, 2);
+        tracker.markDirty(0, 0, 4, 4);
+        tracker.markDirty(100, 100, 4, 4);
+        tracker.markDirty(0, 10, 4, 4);
+
+        assertEquals(2, tracker.getRegionCount());
+        // The nearest region grew to take in the new one
+        assertEquals(List.of(List.of(100, 100, 4, 4), List.of(0, 0, 4, 14)), regions(tracker));
+    }
+
+    @Test
+    void singleRegionTrackerKeepsTheBoundingBox() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(128, 128, 1);
+        tracker.markDirty(10, 10, 2, 2);
+        tracker.markDirty(50, 20, 2, 2);
+        tracker.markDirty(30, 90, 2, 2);
+
+        assertEquals(List.of(List.of(10, 10, 42, 82)), regions(tracker));
+    }
+
+    @Test
+    void fullFrameReplacesAndAbsorbsRegions() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(128, 64, 8);
+        tracker.markDirty(0, 0, 4, 4);
+        tracker.markDirty(50, 50, 4, 4);
+        tracker.markAllDirty();
+        tracker.markDirty(10, 10, 4, 4);
+
+        assertEquals(List.of(List.of(0, 0, 128, 64)), regions(tracker));
+        assertEquals(128 * 64, tracker.getDirtyArea());
+    }
+
+    @Test
+    void drainVisitsThenClears() {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(128, 128, 8);
+        tracker.markDirty(0, 0, 4, 4);
+        tracker.markDirty(64, 64, 4, 4);
+
+        List<List<Integer>> drained = new ArrayList<>();
+        tracker.drain((x, y, width, height) -> drained.add(List.of(x, y, width, height)));
+
+        assertEquals(2, drained.size());
+        assertFalse(tracker.isDirty());
+        assertTrue(regions(tracker).isEmpty());
+    }
+
+    @Test
+    void rejectsAZeroRegionCap() {
+        assertThrows(IllegalArgumentException.class, () -> new DirtyRegionTracker(16, 16, 0));
+    }
+
+    private static List<List<Integer>> regions(DirtyRegionTracker tracker) {
+        List<List<Integer>> regions = new ArrayList<>();
+        tracker.forEach((x, y, width, height) -> regions.add(List.of(x, y, width, height)));
+        return regions;
+    }
+}
@@ -0,0 +1,146 @@
+package com.dalvi.webcamhead.client.render;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.nio.IntBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the bulk copies against the per-pixel getRGB path they replaced
+ */
+class NativeImagePixelsTest {
+    private static final int SENTINEL = 0x12345678;
+
+    // One image type per copy path: BGR bytes, packed ints, and the getRGB fallback
+    private static final int[] TYPES = {
+        BufferedImage.TYPE_3BYTE_BGR,
+        BufferedImage.TYPE_INT_ARGB,
+        BufferedImage.TYPE_INT_RGB,
+        BufferedImage.TYPE_4BYTE_ABGR,
+        BufferedImage.TYPE_INT_BGR,
+        BufferedImage.TYPE_BYTE_GRAY
+    };
+
+    @Test
+    void copiesWholeFramesOfOddSizes() {
+        for (int type : TYPES) {
+            for (int[] size : new int[][] {{1, 1}, {7, 5}, {13, 11}, {33, 17}}) {
+                BufferedImage frame = randomImage(size[0], size[1], type, size[0] * 31 + type);
+                assertCopy(frame, size[0], size[1], 0, 0, size[0], size[1]);
+            }
+        }
+    }
+
+    @Test
+    void copiesIntoAnOffsetInALargerBuffer() {
+        for (int type : TYPES) {
+            BufferedImage frame = randomImage(9, 7, type, type);
+            assertCopy(frame, 23, 19, 5, 3, 9, 7);
+        }
+    }
+
+    @Test
+    void clipsToTheFrameAndTheRequestedRegion() {
+        for (int type : TYPES) {
+            BufferedImage frame = randomImage(11, 9, type, type + 100);
+            // Smaller than the frame: only the top-left region is copied
+            assertCopy(frame, 16, 16, 2, 1, 6, 5);
+            // Larger than the frame: clipped to the frame
+            assertCopy(frame, 16, 16, 1, 2, 15, 14);
+        }
+    }
+
+    @Test
+    void copiesSubImages() {
+        for (int type : TYPES) {
+            BufferedImage frame = randomImage(21, 15, type, type + 200);
+            for (int[] rect : new int[][] {{0, 0, 5, 5}, {3, 2, 7, 9}, {20, 14, 1, 1}, {1, 7, 20, 8}}) {
+                BufferedImage sub = frame.getSubimage(rect[0], rect[1], rect[2], rect[3]);
+                assertCopy(sub, 24, 18, 2, 3, rect[2], rect[3]);
+            }
+        }
+    }
+
+    @Test
+    void copiesFromASourceOffsetLikeASubImage() {
+        for (int type : TYPES) {
+            BufferedImage frame = randomImage(19, 13, type, type + 300);
+            for (int[] rect : new int[][] {{0, 0, 19, 13}, {4, 3, 6, 5}, {18, 12, 1, 1}, {10, 6, 20, 20}}) {
+                IntBuffer expected = IntBuffer.allocate(19 * 13);
+                IntBuffer actual = IntBuffer.allocate(19 * 13);
+                int w = Math.min(rect[2], 19 - rect[0]);
+                int h = Math.min(rect[3], 13 - rect[1]);
+                NativeImagePixels.copyFrame(frame.getSubimage(rect[0], rect[1], w, h), expected, 19, rect[0], rect[1], w, h, new int[w]);
+                NativeImagePixels.copyFrame(frame, rect[0], rect[1], actual, 19, rect[0], rect[1], rect[2], rect[3], new int[rect[2]]);
+
+                for (int i = 0; i < 19 * 13; i++) {
+                    assertEquals(expected.get(i), actual.get(i), "type " + type + " rect " + rect[0] + "," + rect[1] + " at " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void makesTransparentPixelsOpaque() {
+        BufferedImage frame = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+        frame.setRGB(0, 0, 0x00102030);
+        frame.setRGB(1, 0, 0x80102030);
+        IntBuffer dst = IntBuffer.allocate(2);
+        NativeImagePixels.copyFrame(frame, dst, 2, 0, 0, 2, 1, new int[2]);
+
+        assertEquals(0xFF302010, dst.get(0));
+        assertEquals(0x80302010, dst.get(1));
+    }
+
+    /**
+     * Copy a frame into a sentinel-filled buffer and compare every pixel with the old per-pixel conversion
+     */
+    private static void assertCopy(BufferedImage frame, int dstWidth, int dstHeight, int dstX, int dstY, int width, int height) {
+        IntBuffer dst = IntBuffer.allocate(dstWidth * dstHeight);
+        for (int i = 0; i < dst.capacity(); i++) {
+            dst.put(i, SENTINEL);
+        }
+        NativeImagePixels.copyFrame(frame, dst, dstWidth, dstX, dstY, width, height, new int[width]);
+
+        int copiedWidth = Math.min(width, frame.getWidth());
+        int copiedHeight = Math.min(height, frame.getHeight());
+        for (int y = 0; y < dstHeight; y++) {
+            for (int x = 0; x < dstWidth; x++) {
+                int fx = x - dstX;
+                int fy = y - dstY;
+                boolean copied = fx >= 0 && fy >= 0 && fx < copiedWidth && fy < copiedHeight;
+                int expected = copied ? perPixelAbgr(frame.getRGB(fx, fy)) : SENTINEL;
+                assertEquals(expected, dst.get(y * dstWidth + x),
+                    "type " + frame.getType() + " " + frame.getWidth() + "x" + frame.getHeight() + " at " + x + "," + y);
+            }
+        }
+    }
+
+    /**
+     * The conversion WebcamTextureManager used to do for each pixel before writing it with fillRect
+     */
+    private static int perPixelAbgr(int argb) {
+        int a = (argb >> 24) & 0xFF;
+        int r = (argb >> 16) & 0xFF;
+        int g = (argb >> 8) & 0xFF;
+        int b = argb & 0xFF;
+        if (a == 0) a = 255;
+        return (a << 24) | (b << 16) | (g << 8) | r;
+    }
+
+    private static BufferedImage randomImage(int width, int height, int type, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                // Include fully transparent pixels, which must come out opaque
+                int argb = random.nextInt();
+                image.setRGB(x, y, random.nextInt(8) == 0 ? argb & 0x00FFFFFF : argb);
+            }
+        }
+        return image;
+    }
+}
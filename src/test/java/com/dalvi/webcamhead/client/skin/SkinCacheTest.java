@@ -0,0 +1,66 @@
+package com.dalvi.webcamhead.client.skin;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SkinCacheTest {
+    private static final long TTL_MILLIS = 60_000;
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    void evictsTheLeastRecentlyUsedSkins() throws Exception {
+        SkinCache cache = new SkinCache(cacheDir, TTL_MILLIS, 250);
+        cache.writeSkin("aa", new byte[100]);
+        cache.writeSkin("bb", new byte[100]);
+        setLastUsed("aa", 1_000);
+        setLastUsed("bb", 2_000);
+
+        // Reading marks "aa" as used now, so "bb" is the oldest when the cache overflows
+        assertNotNull(cache.readSkin("aa"));
+        cache.writeSkin("cc", new byte[100]);
+
+        assertNotNull(cache.readSkin("aa"));
+        assertNull(cache.readSkin("bb"));
+        assertNotNull(cache.readSkin("cc"));
+    }
+
+    @Test
+    void keepsProfilesAcrossInstancesUntilTheyExpire() throws Exception {
+        UUID player = UUID.randomUUID();
+        new SkinCache(cacheDir, TTL_MILLIS, 1024).putProfile(player, "abcdef", "http://example/texture/abcdef");
+
+        SkinCache.ProfileEntry entry = new SkinCache(cacheDir, TTL_MILLIS, 1024).getFreshProfile(player);
+        assertNotNull(entry);
+        assertEquals("abcdef", entry.textureHash);
+
+        Thread.sleep(20);
+        assertNull(new SkinCache(cacheDir, 1, 1024).getFreshProfile(player));
+    }
+
+    @Test
+    void onlyUsesHexTextureHashesAsFileNames() {
+        SkinCache cache = new SkinCache(cacheDir, TTL_MILLIS, 1024);
+        cache.writeSkin("../escape", new byte[] {1});
+
+        assertFalse(Files.exists(cacheDir.resolveSibling("escape.png")));
+        assertFalse(SkinCache.isValidTextureHash("../escape"));
+        assertFalse(SkinCache.isValidTextureHash(""));
+        assertNull(cache.readSkin("../escape"));
+    }
+
+    private void setLastUsed(String textureHash, long millis) throws Exception {
+        Files.setLastModifiedTime(cacheDir.resolve(textureHash + ".png"), FileTime.fromMillis(millis));
+    }
+}
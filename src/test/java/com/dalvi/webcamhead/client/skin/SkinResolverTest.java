@@ -0,0 +1,164 @@
+package com.dalvi.webcamhead.client.skin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Runs the resolver against a local stand-in for the session and texture servers
+ */
+class SkinResolverTest {
+    private static final UUID PLAYER = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    private static final String TEXTURE_HASH = "1a4af718455d4aab528e7a61f86fa25e6a369d1768dcb13f7df319a713eb810b";
+    private static final byte[] SKIN_PNG = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3, 4};
+    private static final long TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger profileRequests = new AtomicInteger();
+    private final AtomicInteger skinRequests = new AtomicInteger();
+    // Released to let a profile request answer, for tests that need a lookup to stay in flight
+    private volatile CountDownLatch profileGate = new CountDownLatch(0);
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+
+        server.createContext("/profile/", exchange -> {
+            profileRequests.incrementAndGet();
+            try {
+                profileGate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String id = exchange.getRequestURI().getPath().substring("/profile/".length());
+            if (!id.equals(PLAYER.toString().replace("-", ""))) {
+                respond(exchange, 204, new byte[0]);
+                return;
+            }
+            respond(exchange, 200, profileJson().getBytes(StandardCharsets.UTF_8));
+        });
+        server.createContext("/texture/", exchange -> {
+            skinRequests.incrementAndGet();
+            respond(exchange, 200, SKIN_PNG);
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void downloadsTheSkinNamedInTheProfile() throws Exception {
+        SkinResolver resolver = resolver(TTL_MILLIS);
+
+        assertArrayEquals(SKIN_PNG, resolve(resolver, PLAYER));
+        assertEquals(1, profileRequests.get());
+        assertEquals(1, skinRequests.get());
+    }
+
+    @Test
+    void servesRepeatLookupsFromTheCache() throws Exception {
+        resolve(resolver(TTL_MILLIS), PLAYER);
+
+        // A new resolver and cache on the same directory, as after a restart
+        assertArrayEquals(SKIN_PNG, resolve(resolver(TTL_MILLIS), PLAYER));
+        assertEquals(1, profileRequests.get());
+        assertEquals(1, skinRequests.get());
+    }
+
+    @Test
+    void refetchesExpiredProfilesButKeepsTheSkin() throws Exception {
+        SkinResolver resolver = resolver(1);
+        resolve(resolver, PLAYER);
+        Thread.sleep(20);
+
+        assertArrayEquals(SKIN_PNG, resolve(resolver, PLAYER));
+        assertEquals(2, profileRequests.get());
+        // Skins are stored by texture hash, so the unchanged skin isn't downloaded again
+        assertEquals(1, skinRequests.get());
+    }
+
+    @Test
+    void sharesOneLookupBetweenConcurrentRequests() throws Exception {
+        profileGate = new CountDownLatch(1);
+        SkinResolver resolver = resolver(TTL_MILLIS);
+
+        CompletableFuture<byte[]> first = resolver.resolve(PLAYER);
+        CompletableFuture<byte[]> second = resolver.resolve(PLAYER);
+        assertSame(first, second);
+        assertEquals(1, resolver.getInFlightCount());
+
+        profileGate.countDown();
+        assertArrayEquals(SKIN_PNG, first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, profileRequests.get());
+        assertEquals(1, skinRequests.get());
+    }
+
+    @Test
+    void completesWithNullForUnknownPlayers() throws Exception {
+        assertNull(resolve(resolver(TTL_MILLIS), UUID.randomUUID()));
+        assertEquals(0, skinRequests.get());
+    }
+
+    @Test
+    void completesWithNullWhenTheServerIsDown() throws Exception {
+        server.stop(0);
+        assertNull(resolve(resolver(TTL_MILLIS), PLAYER));
+    }
+
+    @Test
+    void extractsTextureHashesFromUrls() {
+        assertEquals("abc123", SkinResolver.textureHashOf("http://textures.minecraft.net/texture/abc123"));
+        assertEquals("abc123", SkinResolver.textureHashOf("http://textures.minecraft.net/texture/abc123?v=2"));
+    }
+
+    private SkinResolver resolver(long ttlMillis) {
+        return new SkinResolver(baseUrl + "/profile", new SkinCache(cacheDir, ttlMillis, 1024 * 1024));
+    }
+
+    private static byte[] resolve(SkinResolver resolver, UUID playerId) throws Exception {
+        return resolver.resolve(playerId).get(10, TimeUnit.SECONDS);
+    }
+
+    private String profileJson() {
+        String textures = "{\"textures\":{\"SKIN\":{\"url\":\"" + baseUrl + "/texture/" + TEXTURE_HASH + "\"}}}";
+        String encoded = Base64.getEncoder().encodeToString(textures.getBytes(StandardCharsets.UTF_8));
+        return "{\"id\":\"" + PLAYER.toString().replace("-", "") + "\",\"name\":\"Test\","
+            + "\"properties\":[{\"name\":\"textures\",\"value\":\"" + encoded + "\"}]}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.dalvi.webcamhead.client.streaming;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeDetectorTest {
+    private static final int SIZE = ChangeDetector.THUMBNAIL_SIZE;
+
+    private static final int[] TYPES = {
+        BufferedImage.TYPE_3BYTE_BGR,
+        BufferedImage.TYPE_4BYTE_ABGR,
+        BufferedImage.TYPE_INT_RGB,
+        BufferedImage.TYPE_INT_ARGB,
+        BufferedImage.TYPE_INT_BGR,
+        BufferedImage.TYPE_USHORT_565_RGB,
+    };
+
+    private final ChangeDetector detector = new ChangeDetector(100);
+    private final Random random = new Random(17);
+
+    @Test
+    void thumbnailMatchesThePerPixelLumaForEveryImageType() {
+        for (int type : TYPES) {
+            for (int[] size : new int[][] {{97, 61}, {32, 32}, {13, 7}}) {
+                BufferedImage frame = noise(type, size[0], size[1]);
+                assertThumbnail(frame, "type " + type + " at " + size[0] + "x" + size[1]);
+            }
+        }
+    }
+
+    @Test
+    void thumbnailOfASubImageOnlyReadsThatRegion() {
+        for (int type : TYPES) {
+            // Sub-images share the parent's buffer, with a data offset and the parent's row stride
+            BufferedImage parent = noise(type, 120, 90);
+            BufferedImage frame = parent.getSubimage(17, 11, 71, 53);
+            assertThumbnail(frame, "sub-image of type " + type);
+        }
+    }
+
+    @Test
+    void skipsIdenticalFramesAndSendsChangedOnes() {
+        BufferedImage frame = noise(BufferedImage.TYPE_3BYTE_BGR, 64, 48);
+        BufferedImage other = noise(BufferedImage.TYPE_3BYTE_BGR, 64, 48);
+
+        assertTrue(detector.shouldSend(frame, 0));
+        assertFalse(detector.shouldSend(frame, 500));
+        assertTrue(detector.shouldSend(other, 600));
+        // Unchanged frames are still sent once the refresh interval has passed
+        assertTrue(detector.shouldSend(other, 3000));
+    }
+
+    private void assertThumbnail(BufferedImage frame, String message) {
+        int[] actual = new int[SIZE * SIZE];
+        detector.computeThumbnail(frame, actual);
+        assertArrayEquals(referenceThumbnail(frame), actual, message);
+    }
+
+    private BufferedImage noise(int type, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, 0xFF000000 | random.nextInt(0x1000000));
+            }
+        }
+        return image;
+    }
+
+    private static int[] referenceThumbnail(BufferedImage frame) {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        int[] out = new int[SIZE * SIZE];
+        for (int ty = 0; ty < SIZE; ty++) {
+            int y0 = ty * height / SIZE;
+            int y1 = Math.max(y0 + 1, (ty + 1) * height / SIZE);
+            for (int tx = 0; tx < SIZE; tx++) {
+                int x0 = tx * width / SIZE;
+                int x1 = Math.max(x0 + 1, (tx + 1) * width / SIZE);
+                int sum = 0;
+                for (int y = y0; y < y1; y++) {
+                    for (int x = x0; x < x1; x++) {
+                        int rgb = frame.getRGB(x, y);
+                        sum += (77 * ((rgb >> 16) & 0xFF) + 150 * ((rgb >> 8) & 0xFF) + 29 * (rgb & 0xFF)) >> 8;
+                    }
+                }
+                out[ty * SIZE + tx] = sum / ((y1 - y0) * (x1 - x0));
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,207 @@
+package com.dalvi.webcamhead.client.streaming;
+
+import com.dalvi.webcamhead.client.streaming.codec.EncodedFrame;
+import com.dalvi.webcamhead.client.streaming.codec.JpegCodec;
+import com.dalvi.webcamhead.client.streaming.codec.TileCodec;
+import com.dalvi.webcamhead.client.streaming.codec.VideoCodecs;
+import com.dalvi.webcamhead.client.streaming.codec.VideoEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameDecoderPoolTest {
+    private static final UUID SENDER = UUID.randomUUID();
+    private static final int SIZE = 64;
+
+    private final ManualExecutor executor = new ManualExecutor();
+    private final List<Integer> decodedColors = new ArrayList<>();
+    private final List<Long> keyframeRequests = new ArrayList<>();
+    private long now = 10_000;
+    private final FrameDecoderPool pool = new FrameDecoderPool(executor, () -> now, () -> SIZE,
+        (sender, frame, regions) -> decodedColors.add(frame.getRGB(SIZE / 2, SIZE / 2) & 0xFFFFFF),
+        sender -> keyframeRequests.add(now));
+
+    private final VideoEncoder tiles = VideoCodecs.TILES.createEncoder(10, 0.9f);
+    private final EncodedFrame out = new EncodedFrame(1024);
+    private final Random random = new Random(5);
+    private int sequence = 0;
+
+    @AfterEach
+    void close() {
+        tiles.close();
+        pool.shutdown();
+    }
+
+    @Test
+    void aStandaloneFrameSupersedesTheFramesWaitingBeforeIt() throws Exception {
+        VideoEncoder jpeg = VideoCodecs.JPEG.createEncoder(10, 0.9f);
+        for (int color : new int[] {0x000000, 0x808080, 0xFFFFFF}) {
+            assertTrue(jpeg.encode(solid(color), true, out));
+            pool.submit(packet(JpegCodec.ID, sequence++));
+        }
+        jpeg.close();
+        executor.runAll();
+
+        assertEquals(1, decodedColors.size());
+        assertTrue(decodedColors.get(0) > 0xF0F0F0, "decoded the latest frame");
+        assertEquals(2, pool.getFramesDropped());
+    }
+
+    @Test
+    void deltaFramesQueueUpUntilTooManyAreWaiting() throws Exception {
+        submitTiles(true);
+        executor.runAll();
+
+        // Queued behind each other while the worker is busy, none of them is dropped
+        for (int i = 0; i < 8; i++) {
+            submitTiles(false);
+        }
+        assertEquals(0, pool.getFramesDropped());
+
+        // One more is too far behind: the waiting deltas are dropped and the stream waits for a keyframe
+        submitTiles(false);
+        assertEquals(8, pool.getFramesDropped());
+        executor.runAll();
+        assertEquals(1, decodedColors.size());
+        assertEquals(1, keyframeRequests.size());
+
+        submitTiles(false);
+        executor.runAll();
+        assertEquals(1, decodedColors.size());
+
+        submitTiles(true);
+        submitTiles(false);
+        executor.runAll();
+        assertEquals(3, decodedColors.size());
+    }
+
+    @Test
+    void aSequenceGapSkipsDeltasUntilTheNextKeyframe() throws Exception {
+        submitTiles(true);
+        submitTiles(false);
+        executor.runAll();
+        assertEquals(2, decodedColors.size());
+
+        // A lost frame
+        encodeTiles(false);
+        sequence++;
+
+        submitTiles(false);
+        submitTiles(false);
+        executor.runAll();
+        assertEquals(2, decodedColors.size());
+        assertEquals(List.of(now), keyframeRequests);
+
+        submitTiles(true);
+        submitTiles(false);
+        executor.runAll();
+        assertEquals(4, decodedColors.size());
+        assertEquals(1, keyframeRequests.size());
+    }
+
+    @Test
+    void requestsAtMostOneKeyframePerInterval() throws Exception {
+        // The keyframe is lost, so none of the deltas after it can be decoded
+        encodeTiles(true);
+        sequence++;
+        for (int i = 0; i < 5; i++) {
+            submitTiles(false);
+            executor.runAll();
+            now += 100;
+        }
+        assertEquals(1, keyframeRequests.size());
+
+        now += 600;
+        submitTiles(false);
+        executor.runAll();
+        assertEquals(2, keyframeRequests.size());
+        assertTrue(decodedColors.isEmpty());
+    }
+
+    private void submitTiles(boolean keyframe) throws Exception {
+        encodeTiles(keyframe);
+        pool.submit(packet(TileCodec.ID, sequence++));
+    }
+
+    private void encodeTiles(boolean keyframe) throws Exception {
+        // A new color every time, so every tile changes and every frame carries data
+        assertTrue(tiles.encode(solid(random.nextInt(0x1000000)), keyframe, out));
+        assertEquals(keyframe, out.isKeyframe());
+    }
+
+    private VideoFramePacket packet(int codec, int sequence) {
+        int flags = out.isKeyframe() ? VideoFramePacket.FLAG_KEYFRAME : 0;
+        return VideoFramePacket.decode(VideoFramePacket.encode(flags, codec, 0, SENDER, sequence, now,
+            out.getBuffer(), 0, out.getLength()));
+    }
+
+    private static BufferedImage solid(int color) {
+        BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_3BYTE_BGR);
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                image.setRGB(x, y, color);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Runs submitted tasks only when asked, so frames can be queued while the "worker" is busy
+     */
+    private static class ManualExecutor extends AbstractExecutorService {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean shutdown;
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> remaining = new ArrayList<>(tasks);
+            tasks.clear();
+            return remaining;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return isTerminated();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dalvi.webcamhead.client.streaming;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VideoFramePacketTest {
+    private static final UUID SENDER = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+
+    @Test
+    void roundTripsEveryHeaderField() {
+        byte[] payload = {9, 8, 7, 6, 5};
+        byte[] encoded = VideoFramePacket.encode(VideoFramePacket.FLAG_KEYFRAME, 3, 2, SENDER, 0x12345678, 1_700_000_000_123L,
+            payload, 1, 3);
+        VideoFramePacket packet = VideoFramePacket.decode(encoded);
+
+        assertEquals(VideoFramePacket.HEADER_SIZE + 3, encoded.length);
+        assertTrue(packet.isKeyframe());
+        assertEquals(3, packet.codec);
+        assertEquals(2, packet.layer);
+        assertEquals(SENDER, packet.sender);
+        assertEquals(0x12345678, packet.sequence);
+        assertEquals(1_700_000_000_123L, packet.timestamp);
+        assertArrayEquals(new byte[] {8, 7, 6},
+            Arrays.copyOfRange(packet.data, packet.payloadOffset, packet.payloadOffset + packet.payloadLength));
+    }
+
+    @Test
+    void rejectsPacketsOfOtherHeaderVersions() {
+        byte[] encoded = VideoFramePacket.encode(0, 0, 0, SENDER, 1, 0, new byte[4], 0, 4);
+        for (int version : new int[] {0, 1, 2, VideoFramePacket.VERSION + 1}) {
+            encoded[0] = (byte) version;
+            assertThrows(IllegalArgumentException.class, () -> VideoFramePacket.decode(encoded), "version " + version);
+        }
+    }
+
+    @Test
+    void rejectsTruncatedPackets() {
+        assertThrows(IllegalArgumentException.class, () -> VideoFramePacket.decode(new byte[VideoFramePacket.HEADER_SIZE - 1]));
+    }
+}
@@ -0,0 +1,120 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class H264CodecTest {
+    private static final int WIDTH = 65;
+    private static final int HEIGHT = 49;
+    private static final int FACE_RESOLUTION = 64;
+
+    private long now = 10_000;
+
+    @Test
+    void roundTripsFramesThroughTheEncoderAndDecoder() throws Exception {
+        // The natives for this platform may not be on the test classpath
+        assumeTrue(VideoCodecs.H264.isAvailable(), "no H.264 encoder in this ffmpeg build");
+
+        VideoEncoder encoder = VideoCodecs.H264.createEncoder(10, 0.7f);
+        VideoDecoder decoder = VideoCodecs.H264.createDecoder();
+        EncodedFrame out = new EncodedFrame(1024);
+        int decoded = 0;
+        long error = 0;
+        try {
+            for (int frame = 0; frame < 30; frame++) {
+                BufferedImage image = gradient(frame);
+                boolean forceKeyframe = frame == 15;
+                if (!encoder.encode(image, forceKeyframe, out)) {
+                    continue;
+                }
+                if (frame == 0 || forceKeyframe) {
+                    assertTrue(out.isKeyframe(), "frame " + frame + " should be a keyframe");
+                }
+
+                BufferedImage result = decoder.decode(out.getBuffer(), 0, out.getLength(), FACE_RESOLUTION);
+                assertNotNull(result, "frame " + frame + " did not decode");
+                // Frames smaller than the face are never scaled up, the encoder only rounds them to even sizes
+                assertEquals(WIDTH & ~1, result.getWidth());
+                assertEquals(HEIGHT & ~1, result.getHeight());
+                decoded++;
+                error += Math.abs(((image.getRGB(32, 24) >> 8) & 0xFF) - ((result.getRGB(32, 24) >> 8) & 0xFF));
+            }
+        } finally {
+            encoder.close();
+            decoder.close();
+        }
+
+        assertTrue(decoded >= 25, "decoded " + decoded + " of 30 frames");
+        assertTrue(error / decoded < 16, "mean green error " + (error / decoded));
+    }
+
+    @Test
+    void qualityChangesWaitForTheNextKeyframe() throws Exception {
+        assumeTrue(VideoCodecs.H264.isAvailable(), "no H.264 encoder in this ffmpeg build");
+
+        int fps = 10;
+        VideoEncoder encoder = new H264Codec.Encoder(fps, 1.0f, () -> now);
+        VideoDecoder decoder = VideoCodecs.H264.createDecoder();
+        EncodedFrame out = new EncodedFrame(1024);
+        try {
+            for (int frame = 0; frame < 5; frame++) {
+                assertTrue(encoder.encode(gradient(frame), false, out));
+                assertNotNull(decoder.decode(out.getBuffer(), 0, out.getLength(), FACE_RESOLUTION));
+                now += 1000 / fps;
+            }
+            encoder.setQuality(0.2f);
+
+            // The group of pictures runs to its end before the new bitrate is used
+            for (int frame = 5; frame < 2 * fps; frame++) {
+                assertTrue(encoder.encode(gradient(frame), false, out));
+                assertFalse(out.isKeyframe(), "frame " + frame + " should not be a keyframe");
+                assertNotNull(decoder.decode(out.getBuffer(), 0, out.getLength(), FACE_RESOLUTION));
+                now += 1000 / fps;
+            }
+            assertTrue(encoder.encode(gradient(2 * fps), false, out));
+            assertTrue(out.isKeyframe());
+            assertNotNull(decoder.decode(out.getBuffer(), 0, out.getLength(), FACE_RESOLUTION));
+        } finally {
+            encoder.close();
+            decoder.close();
+        }
+    }
+
+    @Test
+    void keyframesFollowWallTimeWhenFewFramesAreSent() throws Exception {
+        assumeTrue(VideoCodecs.H264.isAvailable(), "no H.264 encoder in this ffmpeg build");
+
+        // A still face only sends a refresh frame every couple of seconds, well below the nominal rate
+        VideoEncoder encoder = new H264Codec.Encoder(10, 0.7f, () -> now);
+        EncodedFrame out = new EncodedFrame(1024);
+        try {
+            for (int frame = 0; frame < 5; frame++) {
+                assertTrue(encoder.encode(gradient(frame), false, out));
+                assertEquals(frame % 2 == 0, out.isKeyframe(), "frame " + frame);
+                now += 1000;
+            }
+        } finally {
+            encoder.close();
+        }
+    }
+
+    /**
+     * Odd-sized frame whose green channel only depends on the row
+     */
+    private static BufferedImage gradient(int frame) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_3BYTE_BGR);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                image.setRGB(x, y, ((x * 4 + frame) & 0xFF) << 16 | (y * 5) << 8 | 0x80);
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,79 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JpegCodecTest {
+    private final VideoEncoder encoder = VideoCodecs.JPEG.createEncoder(10, 0.8f);
+    private final VideoDecoder decoder = VideoCodecs.JPEG.createDecoder();
+    private final EncodedFrame out = new EncodedFrame(1024);
+
+    @Test
+    void leavesTheTablesOutOfFramesAfterTheFirst() throws Exception {
+        assertTrue(encode(0, true));
+        assertFalse(encode(1, false));
+        assertFalse(encode(2, false));
+    }
+
+    @Test
+    void sendsTheNewTablesOnceWhenTheQualityChanges() throws Exception {
+        encode(0, true);
+        encode(1, false);
+        int fullQualitySize = out.getLength();
+
+        encoder.setQuality(0.3f);
+        assertTrue(encode(2, false), "the first frame at the new quality carries its tables");
+        assertFalse(encode(3, false));
+        assertTrue(out.getLength() < fullQualitySize, out.getLength() + " bytes at 0.3, " + fullQualitySize + " at 0.8");
+    }
+
+    @Test
+    void asksForAKeyframeWhenTheFrameWithNewTablesIsLost() throws Exception {
+        encode(0, true);
+        encode(1, false);
+
+        encoder.setQuality(0.3f);
+        assertTrue(encoder.encode(noise(2), false, out), "the frame carrying the new tables is never decoded");
+        assertTrue(out.isKeyframe());
+
+        // The next frame was encoded with tables this decoder hasn't seen, so it must not reuse the old ones
+        assertTrue(encoder.encode(noise(3), false, out));
+        assertFalse(out.isKeyframe());
+        assertNull(decoder.decode(out.getBuffer(), 0, out.getLength(), 64));
+        assertTrue(decoder.needsKeyframe());
+
+        assertTrue(encode(4, true));
+        assertFalse(decoder.needsKeyframe());
+        assertFalse(encode(5, false));
+    }
+
+    /**
+     * Encode and decode a frame, returning whether it carried the tables
+     */
+    private boolean encode(int frame, boolean forceKeyframe) throws Exception {
+        assertTrue(encoder.encode(noise(frame), forceKeyframe, out));
+        BufferedImage decoded = decoder.decode(out.getBuffer(), 0, out.getLength(), 64);
+        assertNotNull(decoded, "frame " + frame + " did not decode");
+        assertEquals(64, decoded.getWidth());
+        return out.isKeyframe();
+    }
+
+    private static BufferedImage noise(int seed) {
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_3BYTE_BGR);
+        Random random = new Random(seed);
+        for (int y = 0; y < 64; y++) {
+            for (int x = 0; x < 64; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        return image;
+    }
+}
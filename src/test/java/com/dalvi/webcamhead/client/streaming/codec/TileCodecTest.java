@@ -0,0 +1,41 @@
+package com.dalvi.webcamhead.client.streaming.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TileCodecTest {
+    private static final int SIZE = 64;
+
+    private long now = 10_000;
+
+    @Test
+    void keyframesFollowWallTimeWhenFewFramesAreSent() throws Exception {
+        // A still face only sends a refresh frame every couple of seconds, well below the nominal rate
+        VideoEncoder encoder = new TileCodec.Encoder(10, 0.8f, () -> now);
+        EncodedFrame out = new EncodedFrame(1024);
+        try {
+            boolean[] expected = {true, false, true, false, true};
+            for (int frame = 0; frame < expected.length; frame++) {
+                assertTrue(encoder.encode(solid(frame * 0x202020), false, out));
+                assertEquals(expected[frame], out.isKeyframe(), "frame " + frame);
+                now += 1500;
+            }
+        } finally {
+            encoder.close();
+        }
+    }
+
+    private static BufferedImage solid(int color) {
+        BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_3BYTE_BGR);
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                image.setRGB(x, y, color);
+            }
+        }
+        return image;
+    }
+}
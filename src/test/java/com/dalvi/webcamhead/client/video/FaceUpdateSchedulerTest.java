@@ -0,0 +1,91 @@
+package com.dalvi.webcamhead.client.video;
+
+import com.dalvi.webcamhead.client.config.ModConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FaceUpdateSchedulerTest {
+    private static final UUID NEAR = UUID.randomUUID();
+    private static final UUID FAR = UUID.randomUUID();
+    private static final BufferedImage FRAME = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+
+    private final FrameMailbox mailbox = new FrameMailbox();
+    private final FaceUpdateScheduler scheduler = new FaceUpdateScheduler();
+    private final int budgetUs = ModConfig.getFaceUpdateBudgetUs();
+
+    @AfterEach
+    void restoreBudget() {
+        ModConfig.setFaceUpdateBudgetUs(budgetUs);
+    }
+
+    @Test
+    void discardsFramesThatAreNotDueWithoutRunningOrCountingThem() {
+        mailbox.post(NEAR, FRAME, null);
+        mailbox.post(FAR, FRAME, null);
+        List<UUID> applied = new ArrayList<>();
+
+        scheduler.run(mailbox, playerId -> playerId.equals(NEAR), playerId -> 10,
+            (playerId, frame, regions) -> applied.add(playerId));
+
+        assertEquals(List.of(NEAR), applied);
+        assertEquals(1, scheduler.getStats().updatesRun);
+        assertEquals(0, scheduler.getStats().updatesDeferred);
+        assertTrue(mailbox.getPendingPlayers().isEmpty(), "the skipped frame is not kept either");
+    }
+
+    @Test
+    void skippedFramesDoNotLowerTheAverageUpdateCost() {
+        ModConfig.setFaceUpdateBudgetUs(ModConfig.MAX_FACE_UPDATE_BUDGET_US);
+        mailbox.post(NEAR, FRAME, null);
+        scheduler.run(mailbox, playerId -> true, playerId -> 10, (playerId, frame, regions) -> spin(2_000_000));
+        long average = scheduler.getStats().averageUpdateUs;
+
+        for (int i = 0; i < 20; i++) {
+            mailbox.post(FAR, FRAME, null);
+            scheduler.run(mailbox, playerId -> false, playerId -> 10, (playerId, frame, regions) -> { });
+        }
+
+        assertEquals(average, scheduler.getStats().averageUpdateUs);
+        assertEquals(1, scheduler.getStats().updatesRun);
+    }
+
+    @Test
+    void deferredFacesKeepTheirTurnWithoutBeingAskedAgain() {
+        ModConfig.setFaceUpdateBudgetUs(ModConfig.MIN_FACE_UPDATE_BUDGET_US);
+        mailbox.post(NEAR, FRAME, null);
+        mailbox.post(FAR, FRAME, null);
+        List<UUID> asked = new ArrayList<>();
+        List<UUID> applied = new ArrayList<>();
+
+        // The first update uses up the budget, so the smaller face waits for the next frame
+        for (int frame = 0; frame < 2; frame++) {
+            scheduler.run(mailbox, playerId -> asked.add(playerId), playerId -> playerId.equals(NEAR) ? 100 : 1,
+                (playerId, image, regions) -> {
+                    applied.add(playerId);
+                    spin(1_000_000);
+                });
+        }
+
+        assertEquals(Set.of(NEAR, FAR), Set.copyOf(asked));
+        assertEquals(2, asked.size());
+        assertEquals(List.of(NEAR, FAR), applied);
+        assertEquals(1, scheduler.getStats().updatesDeferred);
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            LockSupport.parkNanos(10_000);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.dalvi.webcamhead.client.video;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkinInitQueueTest {
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    private final SkinInitQueue queue = new SkinInitQueue();
+
+    @Test
+    void attemptsOnTheNextTick() {
+        queue.request(PLAYER);
+        List<Integer> attempts = run(1, tick -> false);
+
+        assertEquals(List.of(1), attempts);
+    }
+
+    @Test
+    void doublesTheDelayAfterEachFailureUpToTheCap() {
+        queue.request(PLAYER);
+        List<Integer> attempts = run(1200, tick -> false);
+
+        List<Integer> delays = new ArrayList<>();
+        for (int i = 1; i < attempts.size(); i++) {
+            delays.add(attempts.get(i) - attempts.get(i - 1));
+        }
+        assertEquals(List.of(5, 10, 20, 40, 80, 160, 200, 200, 200), delays.subList(0, 9));
+        // Still retried every 200 ticks after reaching the cap
+        assertTrue(delays.stream().skip(6).allMatch(delay -> delay == 200));
+        assertTrue(queue.isQueued(PLAYER));
+    }
+
+    @Test
+    void leavesTheQueueOnceAnAttemptSucceedsAfterTheCap() {
+        queue.request(PLAYER);
+        // Attempts fail until well past the cap, then the skin becomes ready
+        List<Integer> attempts = run(1500, tick -> tick > 1000);
+
+        assertFalse(queue.isQueued(PLAYER));
+        assertEquals(0, queue.size());
+        int last = attempts.get(attempts.size() - 1);
+        assertTrue(last > 1000 && last <= 1200, "succeeded at tick " + last);
+    }
+
+    @Test
+    void retryNowMakesTheNextAttemptDueImmediately() {
+        queue.request(PLAYER);
+        run(1, tick -> false);
+        queue.retryNow(PLAYER);
+
+        assertEquals(List.of(1), run(1, tick -> false));
+    }
+
+    @Test
+    void requestingAgainDoesNotResetTheBackoff() {
+        queue.request(PLAYER);
+        run(8, tick -> false);
+        queue.request(PLAYER);
+
+        // The third attempt stays 10 ticks after the second, at tick 16
+        assertEquals(List.of(8), run(20, tick -> false));
+    }
+
+    @Test
+    void removedPlayersAreNotAttempted() {
+        queue.request(PLAYER);
+        queue.remove(PLAYER);
+
+        assertTrue(run(10, tick -> false).isEmpty());
+        assertFalse(queue.isQueued(PLAYER));
+    }
+
+    @FunctionalInterface
+    private interface Attempt {
+        boolean succeeds(int tick);
+    }
+
+    /**
+     * Run the queue for a number of ticks, returning the ticks (counted from 1) at which PLAYER was attempted
+     */
+    private List<Integer> run(int ticks, Attempt attempt) {
+        List<Integer> attempts = new ArrayList<>();
+        for (int tick = 1; tick <= ticks; tick++) {
+            int current = tick;
+            queue.tick(playerId -> {
+                attempts.add(current);
+                return attempt.succeeds(current);
+            });
+        }
+        return attempts;
+    }
+}
@@ -46,4 +46,4 @@
 `+h[n].replace(" at new "," at ");return t.displayName&&_.includes("<anonymous>")&&(_=_.replace("<anonymous>",t.displayName)),_}while(1<=n&&0<=a);break}}}finally{ui=!1,Error.prepareStackTrace=l}return(l=t?t.displayName||t.name:"")?Rl(l):""}function bd(t,e){switch(t.tag){case 26:case 27:case 5:return Rl(t.type);case 16:return Rl("Lazy");case 13:return t.child!==e&&e!==null?Rl("Suspense Fallback"):Rl("Suspense");case 19:return Rl("SuspenseList");case 0:case 15:return ii(t.type,!1);case 11:return ii(t.type.render,!1);case 1:return ii(t.type,!0);case 31:return Rl("Activity");default:return""}}function wf(t){try{var e="",l=null;do e+=bd(t,l),l=t,t=t.return;while(t);return e}catch(n){return`
 Error generating stack: `+n.message+`
 `+n.stack}}var ci=Object.prototype.hasOwnProperty,fi=r.unstable_scheduleCallback,si=r.unstable_cancelCallback,_d=r.unstable_shouldYield,Ed=r.unstable_requestPaint,ee=r.unstable_now,Td=r.unstable_getCurrentPriorityLevel,Kf=r.unstable_ImmediatePriority,Jf=r.unstable_UserBlockingPriority,Ba=r.unstable_NormalPriority,Ad=r.unstable_LowPriority,kf=r.unstable_IdlePriority,zd=r.log,Od=r.unstable_setDisableYieldValue,xn=null,le=null;function ll(t){if(typeof zd=="function"&&Od(t),le&&typeof le.setStrictMode=="function")try{le.setStrictMode(xn,t)}catch{}}var ne=Math.clz32?Math.clz32:Rd,Nd=Math.log,Dd=Math.LN2;function Rd(t){return t>>>=0,t===0?32:31-(Nd(t)/Dd|0)|0}var qa=256,Ha=262144,xa=4194304;function Ml(t){var e=t&42;if(e!==0)return e;switch(t&-t){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:return 64;case 128:return 128;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:return t&261888;case 262144:case 524288:case 1048576:case 2097152:return t&3932160;case 4194304:case 8388608:case 16777216:case 33554432:return t&62914560;case 67108864:return 67108864;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 0;default:return t}}function Ya(t,e,l){var n=t.pendingLanes;if(n===0)return 0;var a=0,u=t.suspendedLanes,c=t.pingedLanes;t=t.warmLanes;var o=n&134217727;return o!==0?(n=o&~u,n!==0?a=Ml(n):(c&=o,c!==0?a=Ml(c):l||(l=o&~t,l!==0&&(a=Ml(l))))):(o=n&~u,o!==0?a=Ml(o):c!==0?a=Ml(c):l||(l=n&~t,l!==0&&(a=Ml(l)))),a===0?0:e!==0&&e!==a&&(e&u)===0&&(u=a&-a,l=e&-e,u>=l||u===32&&(l&4194048)!==0)?e:a}function Yn(t,e){return(t.pendingLanes&~(t.suspendedLanes&~t.pingedLanes)&e)===0}function Md(t,e){switch(t){case 1:case 2:case 4:case 8:case 64:return e+250;case 16:case 32:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return e+5e3;case 4194304:case 8388608:case 16777216:case 33554432:return-1;case 67108864:case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function Wf(){var t=xa;return xa<<=1,(xa&62914560)===0&&(xa=4194304),t}function ri(t){for(var e=[],l=0;31>l;l++)e.push(t);return e}function jn(t,e){t.pendingLanes|=e,e!==268435456&&(t.suspendedLanes=0,t.pingedLanes=0,t.warmLanes=0)}function Ud(t,e,l,n,a,u){var c=t.pendingLanes;t.pendingLanes=l,t.suspendedLanes=0,t.pingedLanes=0,t.warmLanes=0,t.expiredLanes&=l,t.entangledLanes&=l,t.errorRecoveryDisabledLanes&=l,t.shellSuspendCounter=0;var o=t.entanglements,h=t.expirationTimes,g=t.hiddenUpdates;for(l=c&~l;0<l;){var _=31-ne(l),O=1<<_;o[_]=0,h[_]=-1;var S=g[_];if(S!==null)for(g[_]=null,_=0;_<S.length;_++){var b=S[_];b!==null&&(b.lane&=-536870913)}l&=~O}n!==0&&$f(t,n,0),u!==0&&a===0&&t.tag!==0&&(t.suspendedLanes|=u&~(c&~e))}function $f(t,e,l){t.pendingLanes|=e,t.suspendedLanes&=~e;var n=31-ne(e);t.entangledLanes|=e,t.entanglements[n]=t.entanglements[n]|1073741824|l&261930}function Ff(t,e){var l=t.entangledLanes|=e;for(t=t.entanglements;l;){var n=31-ne(l),a=1<<n;a&e|t[n]&e&&(t[n]|=e),l&=~a}}function If(t,e){var l=e&-e;return l=(l&42)!==0?1:oi(l),(l&(t.suspendedLanes|e))!==0?0:l}function oi(t){switch(t){case 2:t=1;break;case 8:t=4;break;case 32:t=16;break;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:t=128;break;case 268435456:t=134217728;break;default:t=0}return t}function hi(t){return t&=-t,2<t?8<t?(t&134217727)!==0?32:268435456:8:2}function Pf(){var t=M.p;return t!==0?t:(t=window.event,t===void 0?32:Lh(t.type))}function ts(t,e){var l=M.p;try{return M.p=t,e()}finally{M.p=l}}var nl=Math.random().toString(36).slice(2),Ht="__reactFiber$"+nl,Jt="__reactProps$"+nl,Wl="__reactContainer$"+nl,di="__reactEvents$"+nl,Cd="__reactListeners$"+nl,Bd="__reactHandles$"+nl,es="__reactResources$"+nl,Ln="__reactMarker$"+nl;function yi(t){delete t[Ht],delete t[Jt],delete t[di],delete t[Cd],delete t[Bd]}function $l(t){var e=t[Ht];if(e)return e;for(var l=t.parentNode;l;){if(e=l[Wl]||l[Ht]){if(l=e.alternate,e.child!==null||l!==null&&l.child!==null)for(t=Th(t);t!==null;){if(l=t[Ht])return l;t=Th(t)}return e}t=l,l=t.parentNode}return null}function Fl(t){if(t=t[Ht]||t[Wl]){var e=t.tag;if(e===5||e===6||e===13||e===31||e===26||e===27||e===3)return t}return null}function Xn(t){var e=t.tag;if(e===5||e===26||e===27||e===6)return t.stateNode;throw Error(s(33))}function Il(t){var e=t[es];return e||(e=t[es]={hoistableStyles:new Map,hoistableScripts:new Map}),e}function Ct(t){t[Ln]=!0}var ls=new Set,ns={};function Ul(t,e){Pl(t,e),Pl(t+"Capture",e)}function Pl(t,e){for(ns[t]=e,t=0;t<e.length;t++)ls.add(e[t])}var qd=RegExp("^[:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD][:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040]*$"),as={},us={};function Hd(t){return ci.call(us,t)?!0:ci.call(as,t)?!1:qd.test(t)?us[t]=!0:(as[t]=!0,!1)}function ja(t,e,l){if(Hd(e))if(l===null)t.removeAttribute(e);else{switch(typeof l){case"undefined":case"function":case"symbol":t.removeAttribute(e);return;case"boolean":var n=e.toLowerCase().slice(0,5);if(n!=="data-"&&n!=="aria-"){t.removeAttribute(e);return}}t.setAttribute(e,""+l)}}function La(t,e,l){if(l===null)t.removeAttribute(e);else{switch(typeof l){case"undefined":case"function":case"symbol":case"boolean":t.removeAttribute(e);return}t.setAttribute(e,""+l)}}function je(t,e,l,n){if(n===null)t.removeAttribute(l);else{switch(typeof n){case"undefined":case"function":case"symbol":case"boolean":t.removeAttribute(l);return}t.setAttributeNS(e,l,""+n)}}function he(t){switch(typeof t){case"bigint":case"boolean":case"number":case"string":case"undefined":return t;case"object":return t;default:return""}}function is(t){var e=t.type;return(t=t.nodeName)&&t.toLowerCase()==="input"&&(e==="checkbox"||e==="radio")}function xd(t,e,l){var n=Object.getOwnPropertyDescriptor(t.constructor.prototype,e);if(!t.hasOwnProperty(e)&&typeof n<"u"&&typeof n.get=="function"&&typeof n.set=="function"){var a=n.get,u=n.set;return Object.defineProperty(t,e,{configurable:!0,get:function(){return a.call(this)},set:function(c){l=""+c,u.call(this,c)}}),Object.defineProperty(t,e,{enumerable:n.enumerable}),{getValue:function(){return l},setValue:function(c){l=""+c},stopTracking:function(){t._valueTracker=null,delete t[e]}}}}function mi(t){if(!t._valueTracker){var e=is(t)?"checked":"value";t._valueTracker=xd(t,e,""+t[e])}}function cs(t){if(!t)return!1;var e=t._valueTracker;if(!e)return!0;var l=e.getValue(),n="";return t&&(n=is(t)?t.checked?"true":"false":t.value),t=n,t!==l?(e.setValue(t),!0):!1}function Xa(t){if(t=t||(typeof document<"u"?document:void 0),typeof t>"u")return null;try{return t.activeElement||t.body}catch{return t.body}}var Yd=/[\n"\\]/g;function de(t){return t.replace(Yd,function(e){return"\\"+e.charCodeAt(0).toString(16)+" "})}function vi(t,e,l,n,a,u,c,o){t.name="",c!=null&&typeof c!="function"&&typeof c!="symbol"&&typeof c!="boolean"?t.type=c:t.removeAttribute("type"),e!=null?c==="number"?(e===0&&t.value===""||t.value!=e)&&(t.value=""+he(e)):t.value!==""+he(e)&&(t.value=""+he(e)):c!=="submit"&&c!=="reset"||t.removeAttribute("value"),e!=null?pi(t,c,he(e)):l!=null?pi(t,c,he(l)):n!=null&&t.removeAttribute("value"),a==null&&u!=null&&(t.defaultChecked=!!u),a!=null&&(t.checked=a&&typeof a!="function"&&typeof a!="symbol"),o!=null&&typeof o!="function"&&typeof o!="symbol"&&typeof o!="boolean"?t.name=""+he(o):t.removeAttribute("name")}function fs(t,e,l,n,a,u,c,o){if(u!=null&&typeof u!="function"&&typeof u!="symbol"&&typeof u!="boolean"&&(t.type=u),e!=null||l!=null){if(!(u!=="submit"&&u!=="reset"||e!=null)){mi(t);return}l=l!=null?""+he(l):"",e=e!=null?""+he(e):l,o||e===t.value||(t.value=e),t.defaultValue=e}n=n??a,n=typeof n!="function"&&typeof n!="symbol"&&!!n,t.checked=o?t.checked:!!n,t.defaultChecked=!!n,c!=null&&typeof c!="function"&&typeof c!="symbol"&&typeof c!="boolean"&&(t.name=c),mi(t)}function pi(t,e,l){e==="number"&&Xa(t.ownerDocument)===t||t.defaultValue===""+l||(t.defaultValue=""+l)}function tn(t,e,l,n){if(t=t.options,e){e={};for(var a=0;a<l.length;a++)e["$"+l[a]]=!0;for(l=0;l<t.length;l++)a=e.hasOwnProperty("$"+t[l].value),t[l].selected!==a&&(t[l].selected=a),a&&n&&(t[l].defaultSelected=!0)}else{for(l=""+he(l),e=null,a=0;a<t.length;a++){if(t[a].value===l){t[a].selected=!0,n&&(t[a].defaultSelected=!0);return}e!==null||t[a].disabled||(e=t[a])}e!==null&&(e.selected=!0)}}function ss(t,e,l){if(e!=null&&(e=""+he(e),e!==t.value&&(t.value=e),l==null)){t.defaultValue!==e&&(t.defaultValue=e);return}t.defaultValue=l!=null?""+he(l):""}function rs(t,e,l,n){if(e==null){if(n!=null){if(l!=null)throw Error(s(92));if(Te(n)){if(1<n.length)throw Error(s(93));n=n[0]}l=n}l==null&&(l=""),e=l}l=he(e),t.defaultValue=l,n=t.textContent,n===l&&n!==""&&n!==null&&(t.value=n),mi(t)}function en(t,e){if(e){var l=t.firstChild;if(l&&l===t.lastChild&&l.nodeType===3){l.nodeValue=e;return}}t.textContent=e}var jd=new Set("animationIterationCount aspectRatio borderImageOutset borderImageSlice borderImageWidth boxFlex boxFlexGroup boxOrdinalGroup columnCount columns flex flexGrow flexPositive flexShrink flexNegative flexOrder gridArea gridRow gridRowEnd gridRowSpan gridRowStart gridColumn gridColumnEnd gridColumnSpan gridColumnStart fontWeight lineClamp lineHeight opacity order orphans scale tabSize widows zIndex zoom fillOpacity floodOpacity stopOpacity strokeDasharray strokeDashoffset strokeMiterlimit strokeOpacity strokeWidth MozAnimationIterationCount MozBoxFlex MozBoxFlexGroup MozLineClamp msAnimationIterationCount msFlex msZoom msFlexGrow msFlexNegative msFlexOrder msFlexPositive msFlexShrink msGridColumn msGridColumnSpan msGridRow msGridRowSpan WebkitAnimationIterationCount WebkitBoxFlex WebKitBoxFlexGroup WebkitBoxOrdinalGroup WebkitColumnCount WebkitColumns WebkitFlex WebkitFlexGrow WebkitFlexPositive WebkitFlexShrink WebkitLineClamp".split(" "));function os(t,e,l){var n=e.indexOf("--")===0;l==null||typeof l=="boolean"||l===""?n?t.setProperty(e,""):e==="float"?t.cssFloat="":t[e]="":n?t.setProperty(e,l):typeof l!="number"||l===0||jd.has(e)?e==="float"?t.cssFloat=l:t[e]=(""+l).trim():t[e]=l+"px"}function hs(t,e,l){if(e!=null&&typeof e!="object")throw Error(s(62));if(t=t.style,l!=null){for(var n in l)!l.hasOwnProperty(n)||e!=null&&e.hasOwnProperty(n)||(n.indexOf("--")===0?t.setProperty(n,""):n==="float"?t.cssFloat="":t[n]="");for(var a in e)n=e[a],e.hasOwnProperty(a)&&l[a]!==n&&os(t,a,n)}else for(var u in e)e.hasOwnProperty(u)&&os(t,u,e[u])}function gi(t){if(t.indexOf("-")===-1)return!1;switch(t){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var Ld=new Map([["acceptCharset","accept-charset"],["htmlFor","for"],["httpEquiv","http-equiv"],["crossOrigin","crossorigin"],["accentHeight","accent-height"],["alignmentBaseline","alignment-baseline"],["arabicForm","arabic-form"],["baselineShift","baseline-shift"],["capHeight","cap-height"],["clipPath","clip-path"],["clipRule","clip-rule"],["colorInterpolation","color-interpolation"],["colorInterpolationFilters","color-interpolation-filters"],["colorProfile","color-profile"],["colorRendering","color-rendering"],["dominantBaseline","dominant-baseline"],["enableBackground","enable-background"],["fillOpacity","fill-opacity"],["fillRule","fill-rule"],["floodColor","flood-color"],["floodOpacity","flood-opacity"],["fontFamily","font-family"],["fontSize","font-size"],["fontSizeAdjust","font-size-adjust"],["fontStretch","font-stretch"],["fontStyle","font-style"],["fontVariant","font-variant"],["fontWeight","font-weight"],["glyphName","glyph-name"],["glyphOrientationHorizontal","glyph-orientation-horizontal"],["glyphOrientationVertical","glyph-orientation-vertical"],["horizAdvX","horiz-adv-x"],["horizOriginX","horiz-origin-x"],["imageRendering","image-rendering"],["letterSpacing","letter-spacing"],["lightingColor","lighting-color"],["markerEnd","marker-end"],["markerMid","marker-mid"],["markerStart","marker-start"],["overlinePosition","overline-position"],["overlineThickness","overline-thickness"],["paintOrder","paint-order"],["panose-1","panose-1"],["pointerEvents","pointer-events"],["renderingIntent","rendering-intent"],["shapeRendering","shape-rendering"],["stopColor","stop-color"],["stopOpacity","stop-opacity"],["strikethroughPosition","strikethrough-position"],["strikethroughThickness","strikethrough-thickness"],["strokeDasharray","stroke-dasharray"],["strokeDashoffset","stroke-dashoffset"],["strokeLinecap","stroke-linecap"],["strokeLinejoin","stroke-linejoin"],["strokeMiterlimit","stroke-miterlimit"],["strokeOpacity","stroke-opacity"],["strokeWidth","stroke-width"],["textAnchor","text-anchor"],["textDecoration","text-decoration"],["textRendering","text-rendering"],["transformOrigin","transform-origin"],["underlinePosition","underline-position"],["underlineThickness","underline-thickness"],["unicodeBidi","unicode-bidi"],["unicodeRange","unicode-range"],["unitsPerEm","units-per-em"],["vAlphabetic","v-alphabetic"],["vHanging","v-hanging"],["vIdeographic","v-ideographic"],["vMathematical","v-mathematical"],["vectorEffect","vector-effect"],["vertAdvY","vert-adv-y"],["vertOriginX","vert-origin-x"],["vertOriginY","vert-origin-y"],["wordSpacing","word-spacing"],["writingMode","writing-mode"],["xmlnsXlink","xmlns:xlink"],["xHeight","x-height"]]),Xd=/^[\u0000-\u001F ]*j[\r\n\t]*a[\r\n\t]*v[\r\n\t]*a[\r\n\t]*s[\r\n\t]*c[\r\n\t]*r[\r\n\t]*i[\r\n\t]*p[\r\n\t]*t[\r\n\t]*:/i;function Ga(t){return Xd.test(""+t)?"javascript:throw new Error('React has blocked a javascript: URL as a security precaution.')":t}function Le(){}var Si=null;function bi(t){return t=t.target||t.srcElement||window,t.correspondingUseElement&&(t=t.correspondingUseElement),t.nodeType===3?t.parentNode:t}var ln=null,nn=null;function ds(t){var e=Fl(t);if(e&&(t=e.stateNode)){var l=t[Jt]||null;t:switch(t=e.stateNode,e.type){case"input":if(vi(t,l.value,l.defaultValue,l.defaultValue,l.checked,l.defaultChecked,l.type,l.name),e=l.name,l.type==="radio"&&e!=null){for(l=t;l.parentNode;)l=l.parentNode;for(l=l.querySelectorAll('input[name="'+de(""+e)+'"][type="radio"]'),e=0;e<l.length;e++){var n=l[e];if(n!==t&&n.form===t.form){var a=n[Jt]||null;if(!a)throw Error(s(90));vi(n,a.value,a.defaultValue,a.defaultValue,a.checked,a.defaultChecked,a.type,a.name)}}for(e=0;e<l.length;e++)n=l[e],n.form===t.form&&cs(n)}break t;case"textarea":ss(t,l.value,l.defaultValue);break t;case"select":e=l.value,e!=null&&tn(t,!!l.multiple,e,!1)}}}var _i=!1;function ys(t,e,l){if(_i)return t(e,l);_i=!0;try{var n=t(e);return n}finally{if(_i=!1,(ln!==null||nn!==null)&&(Du(),ln&&(e=ln,t=nn,nn=ln=null,ds(e),t)))for(e=0;e<t.length;e++)ds(t[e])}}function Gn(t,e){var l=t.stateNode;if(l===null)return null;var n=l[Jt]||null;if(n===null)return null;l=n[e];t:switch(e){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(n=!n.disabled)||(t=t.type,n=!(t==="button"||t==="input"||t==="select"||t==="textarea")),t=!n;break t;default:t=!1}if(t)return null;if(l&&typeof l!="function")throw Error(s(231,e,typeof l));return l}var Xe=!(typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"),Ei=!1;if(Xe)try{var Qn={};Object.defineProperty(Qn,"passive",{get:function(){Ei=!0}}),window.addEventListener("test",Qn,Qn),window.removeEventListener("test",Qn,Qn)}catch{Ei=!1}var al=null,Ti=null,Qa=null;function ms(){if(Qa)return Qa;var t,e=Ti,l=e.length,n,a="value"in al?al.value:al.textContent,u=a.length;for(t=0;t<l&&e[t]===a[t];t++);var c=l-t;for(n=1;n<=c&&e[l-n]===a[u-n];n++);return Qa=a.slice(t,1<n?1-n:void 0)}function Va(t){var e=t.keyCode;return"charCode"in t?(t=t.charCode,t===0&&e===13&&(t=13)):t=e,t===10&&(t=13),32<=t||t===13?t:0}function Za(){return!0}function vs(){return!1}function kt(t){function e(l,n,a,u,c){this._reactName=l,this._targetInst=a,this.type=n,this.nativeEvent=u,this.target=c,this.currentTarget=null;for(var o in t)t.hasOwnProperty(o)&&(l=t[o],this[o]=l?l(u):u[o]);return this.isDefaultPrevented=(u.defaultPrevented!=null?u.defaultPrevented:u.returnValue===!1)?Za:vs,this.isPropagationStopped=vs,this}return C(e.prototype,{preventDefault:function(){this.defaultPrevented=!0;var l=this.nativeEvent;l&&(l.preventDefault?l.preventDefault():typeof l.returnValue!="unknown"&&(l.returnValue=!1),this.isDefaultPrevented=Za)},stopPropagation:function(){var l=this.nativeEvent;l&&(l.stopPropagation?l.stopPropagation():typeof l.cancelBubble!="unknown"&&(l.cancelBubble=!0),this.isPropagationStopped=Za)},persist:function(){},isPersistent:Za}),e}var Cl={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(t){return t.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},wa=kt(Cl),Vn=C({},Cl,{view:0,detail:0}),Gd=kt(Vn),Ai,zi,Zn,Ka=C({},Vn,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:Ni,button:0,buttons:0,relatedTarget:function(t){return t.relatedTarget===void 0?t.fromElement===t.srcElement?t.toElement:t.fromElement:t.relatedTarget},movementX:function(t){return"movementX"in t?t.movementX:(t!==Zn&&(Zn&&t.type==="mousemove"?(Ai=t.screenX-Zn.screenX,zi=t.screenY-Zn.screenY):zi=Ai=0,Zn=t),Ai)},movementY:function(t){return"movementY"in t?t.movementY:zi}}),ps=kt(Ka),Qd=C({},Ka,{dataTransfer:0}),Vd=kt(Qd),Zd=C({},Vn,{relatedTarget:0}),Oi=kt(Zd),wd=C({},Cl,{animationName:0,elapsedTime:0,pseudoElement:0}),Kd=kt(wd),Jd=C({},Cl,{clipboardData:function(t){return"clipboardData"in t?t.clipboardData:window.clipboardData}}),kd=kt(Jd),Wd=C({},Cl,{data:0}),gs=kt(Wd),$d={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},Fd={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},Id={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function Pd(t){var e=this.nativeEvent;return e.getModifierState?e.getModifierState(t):(t=Id[t])?!!e[t]:!1}function Ni(){return Pd}var ty=C({},Vn,{key:function(t){if(t.key){var e=$d[t.key]||t.key;if(e!=="Unidentified")return e}return t.type==="keypress"?(t=Va(t),t===13?"Enter":String.fromCharCode(t)):t.type==="keydown"||t.type==="keyup"?Fd[t.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:Ni,charCode:function(t){return t.type==="keypress"?Va(t):0},keyCode:function(t){return t.type==="keydown"||t.type==="keyup"?t.keyCode:0},which:function(t){return t.type==="keypress"?Va(t):t.type==="keydown"||t.type==="keyup"?t.keyCode:0}}),ey=kt(ty),ly=C({},Ka,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),Ss=kt(ly),ny=C({},Vn,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:Ni}),ay=kt(ny),uy=C({},Cl,{propertyName:0,elapsedTime:0,pseudoElement:0}),iy=kt(uy),cy=C({},Ka,{deltaX:function(t){return"deltaX"in t?t.deltaX:"wheelDeltaX"in t?-t.wheelDeltaX:0},deltaY:function(t){return"deltaY"in t?t.deltaY:"wheelDeltaY"in t?-t.wheelDeltaY:"wheelDelta"in t?-t.wheelDelta:0},deltaZ:0,deltaMode:0}),fy=kt(cy),sy=C({},Cl,{newState:0,oldState:0}),ry=kt(sy),oy=[9,13,27,32],Di=Xe&&"CompositionEvent"in window,wn=null;Xe&&"documentMode"in document&&(wn=document.documentMode);var hy=Xe&&"TextEvent"in window&&!wn,bs=Xe&&(!Di||wn&&8<wn&&11>=wn),_s=" ",Es=!1;function Ts(t,e){switch(t){case"keyup":return oy.indexOf(e.keyCode)!==-1;case"keydown":return e.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function As(t){return t=t.detail,typeof t=="object"&&"data"in t?t.data:null}var an=!1;function dy(t,e){switch(t){case"compositionend":return As(e);case"keypress":return e.which!==32?null:(Es=!0,_s);case"textInput":return t=e.data,t===_s&&Es?null:t;default:return null}}function yy(t,e){if(an)return t==="compositionend"||!Di&&Ts(t,e)?(t=ms(),Qa=Ti=al=null,an=!1,t):null;switch(t){case"paste":return null;case"keypress":if(!(e.ctrlKey||e.altKey||e.metaKey)||e.ctrlKey&&e.altKey){if(e.char&&1<e.char.length)return e.char;if(e.which)return String.fromCharCode(e.which)}return null;case"compositionend":return bs&&e.locale!=="ko"?null:e.data;default:return null}}var my={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function zs(t){var e=t&&t.nodeName&&t.nodeName.toLowerCase();return e==="input"?!!my[t.type]:e==="textarea"}function Os(t,e,l,n){ln?nn?nn.push(n):nn=[n]:ln=n,e=Hu(e,"onChange"),0<e.length&&(l=new wa("onChange","change",null,l,n),t.push({event:l,listeners:e}))}var Kn=null,Jn=null;function vy(t){sh(t,0)}function Ja(t){var e=Xn(t);if(cs(e))return t}function Ns(t,e){if(t==="change")return e}var Ds=!1;if(Xe){var Ri;if(Xe){var Mi="oninput"in document;if(!Mi){var Rs=document.createElement("div");Rs.setAttribute("oninput","return;"),Mi=typeof Rs.oninput=="function"}Ri=Mi}else Ri=!1;Ds=Ri&&(!document.documentMode||9<document.documentMode)}function Ms(){Kn&&(Kn.detachEvent("onpropertychange",Us),Jn=Kn=null)}function Us(t){if(t.propertyName==="value"&&Ja(Jn)){var e=[];Os(e,Jn,t,bi(t)),ys(vy,e)}}function py(t,e,l){t==="focusin"?(Ms(),Kn=e,Jn=l,Kn.attachEvent("onpropertychange",Us)):t==="focusout"&&Ms()}function gy(t){if(t==="selectionchange"||t==="keyup"||t==="keydown")return Ja(Jn)}function Sy(t,e){if(t==="click")return Ja(e)}function by(t,e){if(t==="input"||t==="change")return Ja(e)}function _y(t,e){return t===e&&(t!==0||1/t===1/e)||t!==t&&e!==e}var ae=typeof Object.is=="function"?Object.is:_y;function kn(t,e){if(ae(t,e))return!0;if(typeof t!="object"||t===null||typeof e!="object"||e===null)return!1;var l=Object.keys(t),n=Object.keys(e);if(l.length!==n.length)return!1;for(n=0;n<l.length;n++){var a=l[n];if(!ci.call(e,a)||!ae(t[a],e[a]))return!1}return!0}function Cs(t){for(;t&&t.firstChild;)t=t.firstChild;return t}function Bs(t,e){var l=Cs(t);t=0;for(var n;l;){if(l.nodeType===3){if(n=t+l.textContent.length,t<=e&&n>=e)return{node:l,offset:e-t};t=n}t:{for(;l;){if(l.nextSibling){l=l.nextSibling;break t}l=l.parentNode}l=void 0}l=Cs(l)}}function qs(t,e){return t&&e?t===e?!0:t&&t.nodeType===3?!1:e&&e.nodeType===3?qs(t,e.parentNode):"contains"in t?t.contains(e):t.compareDocumentPosition?!!(t.compareDocumentPosition(e)&16):!1:!1}function Hs(t){t=t!=null&&t.ownerDocument!=null&&t.ownerDocument.defaultView!=null?t.ownerDocument.defaultView:window;for(var e=Xa(t.document);e instanceof t.HTMLIFrameElement;){try{var l=typeof e.contentWindow.location.href=="string"}catch{l=!1}if(l)t=e.contentWindow;else break;e=Xa(t.document)}return e}function Ui(t){var e=t&&t.nodeName&&t.nodeName.toLowerCase();return e&&(e==="input"&&(t.type==="text"||t.type==="search"||t.type==="tel"||t.type==="url"||t.type==="password")||e==="textarea"||t.contentEditable==="true")}var Ey=Xe&&"documentMode"in document&&11>=document.documentMode,un=null,Ci=null,Wn=null,Bi=!1;function xs(t,e,l){var n=l.window===l?l.document:l.nodeType===9?l:l.ownerDocument;Bi||un==null||un!==Xa(n)||(n=un,"selectionStart"in n&&Ui(n)?n={start:n.selectionStart,end:n.selectionEnd}:(n=(n.ownerDocument&&n.ownerDocument.defaultView||window).getSelection(),n={anchorNode:n.anchorNode,anchorOffset:n.anchorOffset,focusNode:n.focusNode,focusOffset:n.focusOffset}),Wn&&kn(Wn,n)||(Wn=n,n=Hu(Ci,"onSelect"),0<n.length&&(e=new wa("onSelect","select",null,e,l),t.push({event:e,listeners:n}),e.target=un)))}function Bl(t,e){var l={};return l[t.toLowerCase()]=e.toLowerCase(),l["Webkit"+t]="webkit"+e,l["Moz"+t]="moz"+e,l}var cn={animationend:Bl("Animation","AnimationEnd"),animationiteration:Bl("Animation","AnimationIteration"),animationstart:Bl("Animation","AnimationStart"),transitionrun:Bl("Transition","TransitionRun"),transitionstart:Bl("Transition","TransitionStart"),transitioncancel:Bl("Transition","TransitionCancel"),transitionend:Bl("Transition","TransitionEnd")},qi={},Ys={};Xe&&(Ys=document.createElement("div").style,"AnimationEvent"in window||(delete cn.animationend.animation,delete cn.animationiteration.animation,delete cn.animationstart.animation),"TransitionEvent"in window||delete cn.transitionend.transition);function ql(t){if(qi[t])return qi[t];if(!cn[t])return t;var e=cn[t],l;for(l in e)if(e.hasOwnProperty(l)&&l in Ys)return qi[t]=e[l];return t}var js=ql("animationend"),Ls=ql("animationiteration"),Xs=ql("animationstart"),Ty=ql("transitionrun"),Ay=ql("transitionstart"),zy=ql("transitioncancel"),Gs=ql("transitionend"),Qs=new Map,Hi="abort auxClick beforeToggle cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll toggle touchMove waiting wheel".split(" ");Hi.push("scrollEnd");function Ae(t,e){Qs.set(t,e),Ul(e,[t])}var ka=typeof reportError=="function"?reportError:function(t){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var e=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof t=="object"&&t!==null&&typeof t.message=="string"?String(t.message):String(t),error:t});if(!window.dispatchEvent(e))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",t);return}console.error(t)},ye=[],fn=0,xi=0;function Wa(){for(var t=fn,e=xi=fn=0;e<t;){var l=ye[e];ye[e++]=null;var n=ye[e];ye[e++]=null;var a=ye[e];ye[e++]=null;var u=ye[e];if(ye[e++]=null,n!==null&&a!==null){var c=n.pending;c===null?a.next=a:(a.next=c.next,c.next=a),n.pending=a}u!==0&&Vs(l,a,u)}}function $a(t,e,l,n){ye[fn++]=t,ye[fn++]=e,ye[fn++]=l,ye[fn++]=n,xi|=n,t.lanes|=n,t=t.alternate,t!==null&&(t.lanes|=n)}function Yi(t,e,l,n){return $a(t,e,l,n),Fa(t)}function Hl(t,e){return $a(t,null,null,e),Fa(t)}function Vs(t,e,l){t.lanes|=l;var n=t.alternate;n!==null&&(n.lanes|=l);for(var a=!1,u=t.return;u!==null;)u.childLanes|=l,n=u.alternate,n!==null&&(n.childLanes|=l),u.tag===22&&(t=u.stateNode,t===null||t._visibility&1||(a=!0)),t=u,u=u.return;return t.tag===3?(u=t.stateNode,a&&e!==null&&(a=31-ne(l),t=u.hiddenUpdates,n=t[a],n===null?t[a]=[e]:n.push(e),e.lane=l|536870912),u):null}function Fa(t){if(50<pa)throw pa=0,Kc=null,Error(s(185));for(var e=t.return;e!==null;)t=e,e=t.return;return t.tag===3?t.stateNode:null}var sn={};function Oy(t,e,l,n){this.tag=t,this.key=l,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.refCleanup=this.ref=null,this.pendingProps=e,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=n,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function ue(t,e,l,n){return new Oy(t,e,l,n)}function ji(t){return t=t.prototype,!(!t||!t.isReactComponent)}function Ge(t,e){var l=t.alternate;return l===null?(l=ue(t.tag,e,t.key,t.mode),l.elementType=t.elementType,l.type=t.type,l.stateNode=t.stateNode,l.alternate=t,t.alternate=l):(l.pendingProps=e,l.type=t.type,l.flags=0,l.subtreeFlags=0,l.deletions=null),l.flags=t.flags&65011712,l.childLanes=t.childLanes,l.lanes=t.lanes,l.child=t.child,l.memoizedProps=t.memoizedProps,l.memoizedState=t.memoizedState,l.updateQueue=t.updateQueue,e=t.dependencies,l.dependencies=e===null?null:{lanes:e.lanes,firstContext:e.firstContext},l.sibling=t.sibling,l.index=t.index,l.ref=t.ref,l.refCleanup=t.refCleanup,l}function Zs(t,e){t.flags&=65011714;var l=t.alternate;return l===null?(t.childLanes=0,t.lanes=e,t.child=null,t.subtreeFlags=0,t.memoizedProps=null,t.memoizedState=null,t.updateQueue=null,t.dependencies=null,t.stateNode=null):(t.childLanes=l.childLanes,t.lanes=l.lanes,t.child=l.child,t.subtreeFlags=0,t.deletions=null,t.memoizedProps=l.memoizedProps,t.memoizedState=l.memoizedState,t.updateQueue=l.updateQueue,t.type=l.type,e=l.dependencies,t.dependencies=e===null?null:{lanes:e.lanes,firstContext:e.firstContext}),t}function Ia(t,e,l,n,a,u){var c=0;if(n=t,typeof t=="function")ji(t)&&(c=1);else if(typeof t=="string")c=Um(t,l,H.current)?26:t==="html"||t==="head"||t==="body"?27:5;else t:switch(t){case Re:return t=ue(31,l,e,a),t.elementType=Re,t.lanes=u,t;case it:return xl(l.children,a,u,e);case vt:c=8,a|=24;break;case qt:return t=ue(12,l,e,a|2),t.elementType=qt,t.lanes=u,t;case De:return t=ue(13,l,e,a),t.elementType=De,t.lanes=u,t;case Zt:return t=ue(19,l,e,a),t.elementType=Zt,t.lanes=u,t;default:if(typeof t=="object"&&t!==null)switch(t.$$typeof){case zt:c=10;break t;case te:c=9;break t;case oe:c=11;break t;case P:c=14;break t;case wt:c=16,n=null;break t}c=29,l=Error(s(130,t===null?"null":typeof t,"")),n=null}return e=ue(c,l,e,a),e.elementType=t,e.type=n,e.lanes=u,e}function xl(t,e,l,n){return t=ue(7,t,n,e),t.lanes=l,t}function Li(t,e,l){return t=ue(6,t,null,e),t.lanes=l,t}function ws(t){var e=ue(18,null,null,0);return e.stateNode=t,e}function Xi(t,e,l){return e=ue(4,t.children!==null?t.children:[],t.key,e),e.lanes=l,e.stateNode={containerInfo:t.containerInfo,pendingChildren:null,implementation:t.implementation},e}var Ks=new WeakMap;function me(t,e){if(typeof t=="object"&&t!==null){var l=Ks.get(t);return l!==void 0?l:(e={value:t,source:e,stack:wf(e)},Ks.set(t,e),e)}return{value:t,source:e,stack:wf(e)}}var rn=[],on=0,Pa=null,$n=0,ve=[],pe=0,ul=null,Ue=1,Ce="";function Qe(t,e){rn[on++]=$n,rn[on++]=Pa,Pa=t,$n=e}function Js(t,e,l){ve[pe++]=Ue,ve[pe++]=Ce,ve[pe++]=ul,ul=t;var n=Ue;t=Ce;var a=32-ne(n)-1;n&=~(1<<a),l+=1;var u=32-ne(e)+a;if(30<u){var c=a-a%5;u=(n&(1<<c)-1).toString(32),n>>=c,a-=c,Ue=1<<32-ne(e)+a|l<<a|n,Ce=u+t}else Ue=1<<u|l<<a|n,Ce=t}function Gi(t){t.return!==null&&(Qe(t,1),Js(t,1,0))}function Qi(t){for(;t===Pa;)Pa=rn[--on],rn[on]=null,$n=rn[--on],rn[on]=null;for(;t===ul;)ul=ve[--pe],ve[pe]=null,Ce=ve[--pe],ve[pe]=null,Ue=ve[--pe],ve[pe]=null}function ks(t,e){ve[pe++]=Ue,ve[pe++]=Ce,ve[pe++]=ul,Ue=e.id,Ce=e.overflow,ul=t}var xt=null,pt=null,tt=!1,il=null,ge=!1,Vi=Error(s(519));function cl(t){var e=Error(s(418,1<arguments.length&&arguments[1]!==void 0&&arguments[1]?"text":"HTML",""));throw Fn(me(e,t)),Vi}function Ws(t){var e=t.stateNode,l=t.type,n=t.memoizedProps;switch(e[Ht]=t,e[Jt]=n,l){case"dialog":$("cancel",e),$("close",e);break;case"iframe":case"object":case"embed":$("load",e);break;case"video":case"audio":for(l=0;l<Sa.length;l++)$(Sa[l],e);break;case"source":$("error",e);break;case"img":case"image":case"link":$("error",e),$("load",e);break;case"details":$("toggle",e);break;case"input":$("invalid",e),fs(e,n.value,n.defaultValue,n.checked,n.defaultChecked,n.type,n.name,!0);break;case"select":$("invalid",e);break;case"textarea":$("invalid",e),rs(e,n.value,n.defaultValue,n.children)}l=n.children,typeof l!="string"&&typeof l!="number"&&typeof l!="bigint"||e.textContent===""+l||n.suppressHydrationWarning===!0||dh(e.textContent,l)?(n.popover!=null&&($("beforetoggle",e),$("toggle",e)),n.onScroll!=null&&$("scroll",e),n.onScrollEnd!=null&&$("scrollend",e),n.onClick!=null&&(e.onclick=Le),e=!0):e=!1,e||cl(t,!0)}function $s(t){for(xt=t.return;xt;)switch(xt.tag){case 5:case 31:case 13:ge=!1;return;case 27:case 3:ge=!0;return;default:xt=xt.return}}function hn(t){if(t!==xt)return!1;if(!tt)return $s(t),tt=!0,!1;var e=t.tag,l;if((l=e!==3&&e!==27)&&((l=e===5)&&(l=t.type,l=!(l!=="form"&&l!=="button")||ff(t.type,t.memoizedProps)),l=!l),l&&pt&&cl(t),$s(t),e===13){if(t=t.memoizedState,t=t!==null?t.dehydrated:null,!t)throw Error(s(317));pt=Eh(t)}else if(e===31){if(t=t.memoizedState,t=t!==null?t.dehydrated:null,!t)throw Error(s(317));pt=Eh(t)}else e===27?(e=pt,_l(t.type)?(t=df,df=null,pt=t):pt=e):pt=xt?be(t.stateNode.nextSibling):null;return!0}function Yl(){pt=xt=null,tt=!1}function Zi(){var t=il;return t!==null&&(It===null?It=t:It.push.apply(It,t),il=null),t}function Fn(t){il===null?il=[t]:il.push(t)}var wi=y(null),jl=null,Ve=null;function fl(t,e,l){U(wi,e._currentValue),e._currentValue=l}function Ze(t){t._currentValue=wi.current,N(wi)}function Ki(t,e,l){for(;t!==null;){var n=t.alternate;if((t.childLanes&e)!==e?(t.childLanes|=e,n!==null&&(n.childLanes|=e)):n!==null&&(n.childLanes&e)!==e&&(n.childLanes|=e),t===l)break;t=t.return}}function Ji(t,e,l,n){var a=t.child;for(a!==null&&(a.return=t);a!==null;){var u=a.dependencies;if(u!==null){var c=a.child;u=u.firstContext;t:for(;u!==null;){var o=u;u=a;for(var h=0;h<e.length;h++)if(o.context===e[h]){u.lanes|=l,o=u.alternate,o!==null&&(o.lanes|=l),Ki(u.return,l,t),n||(c=null);break t}u=o.next}}else if(a.tag===18){if(c=a.return,c===null)throw Error(s(341));c.lanes|=l,u=c.alternate,u!==null&&(u.lanes|=l),Ki(c,l,t),c=null}else c=a.child;if(c!==null)c.return=a;else for(c=a;c!==null;){if(c===t){c=null;break}if(a=c.sibling,a!==null){a.return=c.return,c=a;break}c=c.return}a=c}}function dn(t,e,l,n){t=null;for(var a=e,u=!1;a!==null;){if(!u){if((a.flags&524288)!==0)u=!0;else if((a.flags&262144)!==0)break}if(a.tag===10){var c=a.alternate;if(c===null)throw Error(s(387));if(c=c.memoizedProps,c!==null){var o=a.type;ae(a.pendingProps.value,c.value)||(t!==null?t.push(o):t=[o])}}else if(a===ct.current){if(c=a.alternate,c===null)throw Error(s(387));c.memoizedState.memoizedState!==a.memoizedState.memoizedState&&(t!==null?t.push(Aa):t=[Aa])}a=a.return}t!==null&&Ji(e,t,l,n),e.flags|=262144}function tu(t){for(t=t.firstContext;t!==null;){if(!ae(t.context._currentValue,t.memoizedValue))return!0;t=t.next}return!1}function Ll(t){jl=t,Ve=null,t=t.dependencies,t!==null&&(t.firstContext=null)}function Yt(t){return Fs(jl,t)}function eu(t,e){return jl===null&&Ll(t),Fs(t,e)}function Fs(t,e){var l=e._currentValue;if(e={context:e,memoizedValue:l,next:null},Ve===null){if(t===null)throw Error(s(308));Ve=e,t.dependencies={lanes:0,firstContext:e},t.flags|=524288}else Ve=Ve.next=e;return l}var Ny=typeof AbortController<"u"?AbortController:function(){var t=[],e=this.signal={aborted:!1,addEventListener:function(l,n){t.push(n)}};this.abort=function(){e.aborted=!0,t.forEach(function(l){return l()})}},Dy=r.unstable_scheduleCallback,Ry=r.unstable_NormalPriority,Ot={$$typeof:zt,Consumer:null,Provider:null,_currentValue:null,_currentValue2:null,_threadCount:0};function ki(){return{controller:new Ny,data:new Map,refCount:0}}function In(t){t.refCount--,t.refCount===0&&Dy(Ry,function(){t.controller.abort()})}var Pn=null,Wi=0,yn=0,mn=null;function My(t,e){if(Pn===null){var l=Pn=[];Wi=0,yn=Ic(),mn={status:"pending",value:void 0,then:function(n){l.push(n)}}}return Wi++,e.then(Is,Is),e}function Is(){if(--Wi===0&&Pn!==null){mn!==null&&(mn.status="fulfilled");var t=Pn;Pn=null,yn=0,mn=null;for(var e=0;e<t.length;e++)(0,t[e])()}}function Uy(t,e){var l=[],n={status:"pending",value:null,reason:null,then:function(a){l.push(a)}};return t.then(function(){n.status="fulfilled",n.value=e;for(var a=0;a<l.length;a++)(0,l[a])(e)},function(a){for(n.status="rejected",n.reason=a,a=0;a<l.length;a++)(0,l[a])(void 0)}),n}var Ps=E.S;E.S=function(t,e){Yo=ee(),typeof e=="object"&&e!==null&&typeof e.then=="function"&&My(t,e),Ps!==null&&Ps(t,e)};var Xl=y(null);function $i(){var t=Xl.current;return t!==null?t:mt.pooledCache}function lu(t,e){e===null?U(Xl,Xl.current):U(Xl,e.pool)}function tr(){var t=$i();return t===null?null:{parent:Ot._currentValue,pool:t}}var vn=Error(s(460)),Fi=Error(s(474)),nu=Error(s(542)),au={then:function(){}};function er(t){return t=t.status,t==="fulfilled"||t==="rejected"}function lr(t,e,l){switch(l=t[l],l===void 0?t.push(e):l!==e&&(e.then(Le,Le),e=l),e.status){case"fulfilled":return e.value;case"rejected":throw t=e.reason,ar(t),t;default:if(typeof e.status=="string")e.then(Le,Le);else{if(t=mt,t!==null&&100<t.shellSuspendCounter)throw Error(s(482));t=e,t.status="pending",t.then(function(n){if(e.status==="pending"){var a=e;a.status="fulfilled",a.value=n}},function(n){if(e.status==="pending"){var a=e;a.status="rejected",a.reason=n}})}switch(e.status){case"fulfilled":return e.value;case"rejected":throw t=e.reason,ar(t),t}throw Ql=e,vn}}function Gl(t){try{var e=t._init;return e(t._payload)}catch(l){throw l!==null&&typeof l=="object"&&typeof l.then=="function"?(Ql=l,vn):l}}var Ql=null;function nr(){if(Ql===null)throw Error(s(459));var t=Ql;return Ql=null,t}function ar(t){if(t===vn||t===nu)throw Error(s(483))}var pn=null,ta=0;function uu(t){var e=ta;return ta+=1,pn===null&&(pn=[]),lr(pn,t,e)}function ea(t,e){e=e.props.ref,t.ref=e!==void 0?e:null}function iu(t,e){throw e.$$typeof===lt?Error(s(525)):(t=Object.prototype.toString.call(e),Error(s(31,t==="[object Object]"?"object with keys {"+Object.keys(e).join(", ")+"}":t)))}function ur(t){function e(m,d){if(t){var p=m.deletions;p===null?(m.deletions=[d],m.flags|=16):p.push(d)}}function l(m,d){if(!t)return null;for(;d!==null;)e(m,d),d=d.sibling;return null}function n(m){for(var d=new Map;m!==null;)m.key!==null?d.set(m.key,m):d.set(m.index,m),m=m.sibling;return d}function a(m,d){return m=Ge(m,d),m.index=0,m.sibling=null,m}function u(m,d,p){return m.index=p,t?(p=m.alternate,p!==null?(p=p.index,p<d?(m.flags|=67108866,d):p):(m.flags|=67108866,d)):(m.flags|=1048576,d)}function c(m){return t&&m.alternate===null&&(m.flags|=67108866),m}function o(m,d,p,A){return d===null||d.tag!==6?(d=Li(p,m.mode,A),d.return=m,d):(d=a(d,p),d.return=m,d)}function h(m,d,p,A){var L=p.type;return L===it?_(m,d,p.props.children,A,p.key):d!==null&&(d.elementType===L||typeof L=="object"&&L!==null&&L.$$typeof===wt&&Gl(L)===d.type)?(d=a(d,p.props),ea(d,p),d.return=m,d):(d=Ia(p.type,p.key,p.props,null,m.mode,A),ea(d,p),d.return=m,d)}function g(m,d,p,A){return d===null||d.tag!==4||d.stateNode.containerInfo!==p.containerInfo||d.stateNode.implementation!==p.implementation?(d=Xi(p,m.mode,A),d.return=m,d):(d=a(d,p.children||[]),d.return=m,d)}function _(m,d,p,A,L){return d===null||d.tag!==7?(d=xl(p,m.mode,A,L),d.return=m,d):(d=a(d,p),d.return=m,d)}function O(m,d,p){if(typeof d=="string"&&d!==""||typeof d=="number"||typeof d=="bigint")return d=Li(""+d,m.mode,p),d.return=m,d;if(typeof d=="object"&&d!==null){switch(d.$$typeof){case Q:return p=Ia(d.type,d.key,d.props,null,m.mode,p),ea(p,d),p.return=m,p;case J:return d=Xi(d,m.mode,p),d.return=m,d;case wt:return d=Gl(d),O(m,d,p)}if(Te(d)||Kt(d))return d=xl(d,m.mode,p,null),d.return=m,d;if(typeof d.then=="function")return O(m,uu(d),p);if(d.$$typeof===zt)return O(m,eu(m,d),p);iu(m,d)}return null}function S(m,d,p,A){var L=d!==null?d.key:null;if(typeof p=="string"&&p!==""||typeof p=="number"||typeof p=="bigint")return L!==null?null:o(m,d,""+p,A);if(typeof p=="object"&&p!==null){switch(p.$$typeof){case Q:return p.key===L?h(m,d,p,A):null;case J:return p.key===L?g(m,d,p,A):null;case wt:return p=Gl(p),S(m,d,p,A)}if(Te(p)||Kt(p))return L!==null?null:_(m,d,p,A,null);if(typeof p.then=="function")return S(m,d,uu(p),A);if(p.$$typeof===zt)return S(m,d,eu(m,p),A);iu(m,p)}return null}function b(m,d,p,A,L){if(typeof A=="string"&&A!==""||typeof A=="number"||typeof A=="bigint")return m=m.get(p)||null,o(d,m,""+A,L);if(typeof A=="object"&&A!==null){switch(A.$$typeof){case Q:return m=m.get(A.key===null?p:A.key)||null,h(d,m,A,L);case J:return m=m.get(A.key===null?p:A.key)||null,g(d,m,A,L);case wt:return A=Gl(A),b(m,d,p,A,L)}if(Te(A)||Kt(A))return m=m.get(p)||null,_(d,m,A,L,null);if(typeof A.then=="function")return b(m,d,p,uu(A),L);if(A.$$typeof===zt)return b(m,d,p,eu(d,A),L);iu(d,A)}return null}function B(m,d,p,A){for(var L=null,nt=null,x=d,K=d=0,I=null;x!==null&&K<p.length;K++){x.index>K?(I=x,x=null):I=x.sibling;var at=S(m,x,p[K],A);if(at===null){x===null&&(x=I);break}t&&x&&at.alternate===null&&e(m,x),d=u(at,d,K),nt===null?L=at:nt.sibling=at,nt=at,x=I}if(K===p.length)return l(m,x),tt&&Qe(m,K),L;if(x===null){for(;K<p.length;K++)x=O(m,p[K],A),x!==null&&(d=u(x,d,K),nt===null?L=x:nt.sibling=x,nt=x);return tt&&Qe(m,K),L}for(x=n(x);K<p.length;K++)I=b(x,m,K,p[K],A),I!==null&&(t&&I.alternate!==null&&x.delete(I.key===null?K:I.key),d=u(I,d,K),nt===null?L=I:nt.sibling=I,nt=I);return t&&x.forEach(function(Ol){return e(m,Ol)}),tt&&Qe(m,K),L}function X(m,d,p,A){if(p==null)throw Error(s(151));for(var L=null,nt=null,x=d,K=d=0,I=null,at=p.next();x!==null&&!at.done;K++,at=p.next()){x.index>K?(I=x,x=null):I=x.sibling;var Ol=S(m,x,at.value,A);if(Ol===null){x===null&&(x=I);break}t&&x&&Ol.alternate===null&&e(m,x),d=u(Ol,d,K),nt===null?L=Ol:nt.sibling=Ol,nt=Ol,x=I}if(at.done)return l(m,x),tt&&Qe(m,K),L;if(x===null){for(;!at.done;K++,at=p.next())at=O(m,at.value,A),at!==null&&(d=u(at,d,K),nt===null?L=at:nt.sibling=at,nt=at);return tt&&Qe(m,K),L}for(x=n(x);!at.done;K++,at=p.next())at=b(x,m,K,at.value,A),at!==null&&(t&&at.alternate!==null&&x.delete(at.key===null?K:at.key),d=u(at,d,K),nt===null?L=at:nt.sibling=at,nt=at);return t&&x.forEach(function(Qm){return e(m,Qm)}),tt&&Qe(m,K),L}function dt(m,d,p,A){if(typeof p=="object"&&p!==null&&p.type===it&&p.key===null&&(p=p.props.children),typeof p=="object"&&p!==null){switch(p.$$typeof){case Q:t:{for(var L=p.key;d!==null;){if(d.key===L){if(L=p.type,L===it){if(d.tag===7){l(m,d.sibling),A=a(d,p.props.children),A.return=m,m=A;break t}}else if(d.elementType===L||typeof L=="object"&&L!==null&&L.$$typeof===wt&&Gl(L)===d.type){l(m,d.sibling),A=a(d,p.props),ea(A,p),A.return=m,m=A;break t}l(m,d);break}else e(m,d);d=d.sibling}p.type===it?(A=xl(p.props.children,m.mode,A,p.key),A.return=m,m=A):(A=Ia(p.type,p.key,p.props,null,m.mode,A),ea(A,p),A.return=m,m=A)}return c(m);case J:t:{for(L=p.key;d!==null;){if(d.key===L)if(d.tag===4&&d.stateNode.containerInfo===p.containerInfo&&d.stateNode.implementation===p.implementation){l(m,d.sibling),A=a(d,p.children||[]),A.return=m,m=A;break t}else{l(m,d);break}else e(m,d);d=d.sibling}A=Xi(p,m.mode,A),A.return=m,m=A}return c(m);case wt:return p=Gl(p),dt(m,d,p,A)}if(Te(p))return B(m,d,p,A);if(Kt(p)){if(L=Kt(p),typeof L!="function")throw Error(s(150));return p=L.call(p),X(m,d,p,A)}if(typeof p.then=="function")return dt(m,d,uu(p),A);if(p.$$typeof===zt)return dt(m,d,eu(m,p),A);iu(m,p)}return typeof p=="string"&&p!==""||typeof p=="number"||typeof p=="bigint"?(p=""+p,d!==null&&d.tag===6?(l(m,d.sibling),A=a(d,p),A.return=m,m=A):(l(m,d),A=Li(p,m.mode,A),A.return=m,m=A),c(m)):l(m,d)}return function(m,d,p,A){try{ta=0;var L=dt(m,d,p,A);return pn=null,L}catch(x){if(x===vn||x===nu)throw x;var nt=ue(29,x,null,m.mode);return nt.lanes=A,nt.return=m,nt}finally{}}}var Vl=ur(!0),ir=ur(!1),sl=!1;function Ii(t){t.updateQueue={baseState:t.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,lanes:0,hiddenCallbacks:null},callbacks:null}}function Pi(t,e){t=t.updateQueue,e.updateQueue===t&&(e.updateQueue={baseState:t.baseState,firstBaseUpdate:t.firstBaseUpdate,lastBaseUpdate:t.lastBaseUpdate,shared:t.shared,callbacks:null})}function rl(t){return{lane:t,tag:0,payload:null,callback:null,next:null}}function ol(t,e,l){var n=t.updateQueue;if(n===null)return null;if(n=n.shared,(ut&2)!==0){var a=n.pending;return a===null?e.next=e:(e.next=a.next,a.next=e),n.pending=e,e=Fa(t),Vs(t,null,l),e}return $a(t,n,e,l),Fa(t)}function la(t,e,l){if(e=e.updateQueue,e!==null&&(e=e.shared,(l&4194048)!==0)){var n=e.lanes;n&=t.pendingLanes,l|=n,e.lanes=l,Ff(t,l)}}function tc(t,e){var l=t.updateQueue,n=t.alternate;if(n!==null&&(n=n.updateQueue,l===n)){var a=null,u=null;if(l=l.firstBaseUpdate,l!==null){do{var c={lane:l.lane,tag:l.tag,payload:l.payload,callback:null,next:null};u===null?a=u=c:u=u.next=c,l=l.next}while(l!==null);u===null?a=u=e:u=u.next=e}else a=u=e;l={baseState:n.baseState,firstBaseUpdate:a,lastBaseUpdate:u,shared:n.shared,callbacks:n.callbacks},t.updateQueue=l;return}t=l.lastBaseUpdate,t===null?l.firstBaseUpdate=e:t.next=e,l.lastBaseUpdate=e}var ec=!1;function na(){if(ec){var t=mn;if(t!==null)throw t}}function aa(t,e,l,n){ec=!1;var a=t.updateQueue;sl=!1;var u=a.firstBaseUpdate,c=a.lastBaseUpdate,o=a.shared.pending;if(o!==null){a.shared.pending=null;var h=o,g=h.next;h.next=null,c===null?u=g:c.next=g,c=h;var _=t.alternate;_!==null&&(_=_.updateQueue,o=_.lastBaseUpdate,o!==c&&(o===null?_.firstBaseUpdate=g:o.next=g,_.lastBaseUpdate=h))}if(u!==null){var O=a.baseState;c=0,_=g=h=null,o=u;do{var S=o.lane&-536870913,b=S!==o.lane;if(b?(F&S)===S:(n&S)===S){S!==0&&S===yn&&(ec=!0),_!==null&&(_=_.next={lane:0,tag:o.tag,payload:o.payload,callback:null,next:null});t:{var B=t,X=o;S=e;var dt=l;switch(X.tag){case 1:if(B=X.payload,typeof B=="function"){O=B.call(dt,O,S);break t}O=B;break t;case 3:B.flags=B.flags&-65537|128;case 0:if(B=X.payload,S=typeof B=="function"?B.call(dt,O,S):B,S==null)break t;O=C({},O,S);break t;case 2:sl=!0}}S=o.callback,S!==null&&(t.flags|=64,b&&(t.flags|=8192),b=a.callbacks,b===null?a.callbacks=[S]:b.push(S))}else b={lane:S,tag:o.tag,payload:o.payload,callback:o.callback,next:null},_===null?(g=_=b,h=O):_=_.next=b,c|=S;if(o=o.next,o===null){if(o=a.shared.pending,o===null)break;b=o,o=b.next,b.next=null,a.lastBaseUpdate=b,a.shared.pending=null}}while(!0);_===null&&(h=O),a.baseState=h,a.firstBaseUpdate=g,a.lastBaseUpdate=_,u===null&&(a.shared.lanes=0),vl|=c,t.lanes=c,t.memoizedState=O}}function cr(t,e){if(typeof t!="function")throw Error(s(191,t));t.call(e)}function fr(t,e){var l=t.callbacks;if(l!==null)for(t.callbacks=null,t=0;t<l.length;t++)cr(l[t],e)}var gn=y(null),cu=y(0);function sr(t,e){t=Pe,U(cu,t),U(gn,e),Pe=t|e.baseLanes}function lc(){U(cu,Pe),U(gn,gn.current)}function nc(){Pe=cu.current,N(gn),N(cu)}var ie=y(null),Se=null;function hl(t){var e=t.alternate;U(Tt,Tt.current&1),U(ie,t),Se===null&&(e===null||gn.current!==null||e.memoizedState!==null)&&(Se=t)}function ac(t){U(Tt,Tt.current),U(ie,t),Se===null&&(Se=t)}function rr(t){t.tag===22?(U(Tt,Tt.current),U(ie,t),Se===null&&(Se=t)):dl()}function dl(){U(Tt,Tt.current),U(ie,ie.current)}function ce(t){N(ie),Se===t&&(Se=null),N(Tt)}var Tt=y(0);function fu(t){for(var e=t;e!==null;){if(e.tag===13){var l=e.memoizedState;if(l!==null&&(l=l.dehydrated,l===null||of(l)||hf(l)))return e}else if(e.tag===19&&(e.memoizedProps.revealOrder==="forwards"||e.memoizedProps.revealOrder==="backwards"||e.memoizedProps.revealOrder==="unstable_legacy-backwards"||e.memoizedProps.revealOrder==="together")){if((e.flags&128)!==0)return e}else if(e.child!==null){e.child.return=e,e=e.child;continue}if(e===t)break;for(;e.sibling===null;){if(e.return===null||e.return===t)return null;e=e.return}e.sibling.return=e.return,e=e.sibling}return null}var we=0,w=null,ot=null,Nt=null,su=!1,Sn=!1,Zl=!1,ru=0,ua=0,bn=null,Cy=0;function bt(){throw Error(s(321))}function uc(t,e){if(e===null)return!1;for(var l=0;l<e.length&&l<t.length;l++)if(!ae(t[l],e[l]))return!1;return!0}function ic(t,e,l,n,a,u){return we=u,w=e,e.memoizedState=null,e.updateQueue=null,e.lanes=0,E.H=t===null||t.memoizedState===null?Jr:_c,Zl=!1,u=l(n,a),Zl=!1,Sn&&(u=hr(e,l,n,a)),or(t),u}function or(t){E.H=fa;var e=ot!==null&&ot.next!==null;if(we=0,Nt=ot=w=null,su=!1,ua=0,bn=null,e)throw Error(s(300));t===null||Dt||(t=t.dependencies,t!==null&&tu(t)&&(Dt=!0))}function hr(t,e,l,n){w=t;var a=0;do{if(Sn&&(bn=null),ua=0,Sn=!1,25<=a)throw Error(s(301));if(a+=1,Nt=ot=null,t.updateQueue!=null){var u=t.updateQueue;u.lastEffect=null,u.events=null,u.stores=null,u.memoCache!=null&&(u.memoCache.index=0)}E.H=kr,u=e(l,n)}while(Sn);return u}function By(){var t=E.H,e=t.useState()[0];return e=typeof e.then=="function"?ia(e):e,t=t.useState()[0],(ot!==null?ot.memoizedState:null)!==t&&(w.flags|=1024),e}function cc(){var t=ru!==0;return ru=0,t}function fc(t,e,l){e.updateQueue=t.updateQueue,e.flags&=-2053,t.lanes&=~l}function sc(t){if(su){for(t=t.memoizedState;t!==null;){var e=t.queue;e!==null&&(e.pending=null),t=t.next}su=!1}we=0,Nt=ot=w=null,Sn=!1,ua=ru=0,bn=null}function Vt(){var t={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return Nt===null?w.memoizedState=Nt=t:Nt=Nt.next=t,Nt}function At(){if(ot===null){var t=w.alternate;t=t!==null?t.memoizedState:null}else t=ot.next;var e=Nt===null?w.memoizedState:Nt.next;if(e!==null)Nt=e,ot=t;else{if(t===null)throw w.alternate===null?Error(s(467)):Error(s(310));ot=t,t={memoizedState:ot.memoizedState,baseState:ot.baseState,baseQueue:ot.baseQueue,queue:ot.queue,next:null},Nt===null?w.memoizedState=Nt=t:Nt=Nt.next=t}return Nt}function ou(){return{lastEffect:null,events:null,stores:null,memoCache:null}}function ia(t){var e=ua;return ua+=1,bn===null&&(bn=[]),t=lr(bn,t,e),e=w,(Nt===null?e.memoizedState:Nt.next)===null&&(e=e.alternate,E.H=e===null||e.memoizedState===null?Jr:_c),t}function hu(t){if(t!==null&&typeof t=="object"){if(typeof t.then=="function")return ia(t);if(t.$$typeof===zt)return Yt(t)}throw Error(s(438,String(t)))}function rc(t){var e=null,l=w.updateQueue;if(l!==null&&(e=l.memoCache),e==null){var n=w.alternate;n!==null&&(n=n.updateQueue,n!==null&&(n=n.memoCache,n!=null&&(e={data:n.data.map(function(a){return a.slice()}),index:0})))}if(e==null&&(e={data:[],index:0}),l===null&&(l=ou(),w.updateQueue=l),l.memoCache=e,l=e.data[e.index],l===void 0)for(l=e.data[e.index]=Array(t),n=0;n<t;n++)l[n]=kl;return e.index++,l}function Ke(t,e){return typeof e=="function"?e(t):e}function du(t){var e=At();return oc(e,ot,t)}function oc(t,e,l){var n=t.queue;if(n===null)throw Error(s(311));n.lastRenderedReducer=l;var a=t.baseQueue,u=n.pending;if(u!==null){if(a!==null){var c=a.next;a.next=u.next,u.next=c}e.baseQueue=a=u,n.pending=null}if(u=t.baseState,a===null)t.memoizedState=u;else{e=a.next;var o=c=null,h=null,g=e,_=!1;do{var O=g.lane&-536870913;if(O!==g.lane?(F&O)===O:(we&O)===O){var S=g.revertLane;if(S===0)h!==null&&(h=h.next={lane:0,revertLane:0,gesture:null,action:g.action,hasEagerState:g.hasEagerState,eagerState:g.eagerState,next:null}),O===yn&&(_=!0);else if((we&S)===S){g=g.next,S===yn&&(_=!0);continue}else O={lane:0,revertLane:g.revertLane,gesture:null,action:g.action,hasEagerState:g.hasEagerState,eagerState:g.eagerState,next:null},h===null?(o=h=O,c=u):h=h.next=O,w.lanes|=S,vl|=S;O=g.action,Zl&&l(u,O),u=g.hasEagerState?g.eagerState:l(u,O)}else S={lane:O,revertLane:g.revertLane,gesture:g.gesture,action:g.action,hasEagerState:g.hasEagerState,eagerState:g.eagerState,next:null},h===null?(o=h=S,c=u):h=h.next=S,w.lanes|=O,vl|=O;g=g.next}while(g!==null&&g!==e);if(h===null?c=u:h.next=o,!ae(u,t.memoizedState)&&(Dt=!0,_&&(l=mn,l!==null)))throw l;t.memoizedState=u,t.baseState=c,t.baseQueue=h,n.lastRenderedState=u}return a===null&&(n.lanes=0),[t.memoizedState,n.dispatch]}function hc(t){var e=At(),l=e.queue;if(l===null)throw Error(s(311));l.lastRenderedReducer=t;var n=l.dispatch,a=l.pending,u=e.memoizedState;if(a!==null){l.pending=null;var c=a=a.next;do u=t(u,c.action),c=c.next;while(c!==a);ae(u,e.memoizedState)||(Dt=!0),e.memoizedState=u,e.baseQueue===null&&(e.baseState=u),l.lastRenderedState=u}return[u,n]}function dr(t,e,l){var n=w,a=At(),u=tt;if(u){if(l===void 0)throw Error(s(407));l=l()}else l=e();var c=!ae((ot||a).memoizedState,l);if(c&&(a.memoizedState=l,Dt=!0),a=a.queue,mc(vr.bind(null,n,a,t),[t]),a.getSnapshot!==e||c||Nt!==null&&Nt.memoizedState.tag&1){if(n.flags|=2048,_n(9,{destroy:void 0},mr.bind(null,n,a,l,e),null),mt===null)throw Error(s(349));u||(we&127)!==0||yr(n,e,l)}return l}function yr(t,e,l){t.flags|=16384,t={getSnapshot:e,value:l},e=w.updateQueue,e===null?(e=ou(),w.updateQueue=e,e.stores=[t]):(l=e.stores,l===null?e.stores=[t]:l.push(t))}function mr(t,e,l,n){e.value=l,e.getSnapshot=n,pr(e)&&gr(t)}function vr(t,e,l){return l(function(){pr(e)&&gr(t)})}function pr(t){var e=t.getSnapshot;t=t.value;try{var l=e();return!ae(t,l)}catch{return!0}}function gr(t){var e=Hl(t,2);e!==null&&Pt(e,t,2)}function dc(t){var e=Vt();if(typeof t=="function"){var l=t;if(t=l(),Zl){ll(!0);try{l()}finally{ll(!1)}}}return e.memoizedState=e.baseState=t,e.queue={pending:null,lanes:0,dispatch:null,lastRenderedReducer:Ke,lastRenderedState:t},e}function Sr(t,e,l,n){return t.baseState=l,oc(t,ot,typeof n=="function"?n:Ke)}function qy(t,e,l,n,a){if(vu(t))throw Error(s(485));if(t=e.action,t!==null){var u={payload:a,action:t,next:null,isTransition:!0,status:"pending",value:null,reason:null,listeners:[],then:function(c){u.listeners.push(c)}};E.T!==null?l(!0):u.isTransition=!1,n(u),l=e.pending,l===null?(u.next=e.pending=u,br(e,u)):(u.next=l.next,e.pending=l.next=u)}}function br(t,e){var l=e.action,n=e.payload,a=t.state;if(e.isTransition){var u=E.T,c={};E.T=c;try{var o=l(a,n),h=E.S;h!==null&&h(c,o),_r(t,e,o)}catch(g){yc(t,e,g)}finally{u!==null&&c.types!==null&&(u.types=c.types),E.T=u}}else try{u=l(a,n),_r(t,e,u)}catch(g){yc(t,e,g)}}function _r(t,e,l){l!==null&&typeof l=="object"&&typeof l.then=="function"?l.then(function(n){Er(t,e,n)},function(n){return yc(t,e,n)}):Er(t,e,l)}function Er(t,e,l){e.status="fulfilled",e.value=l,Tr(e),t.state=l,e=t.pending,e!==null&&(l=e.next,l===e?t.pending=null:(l=l.next,e.next=l,br(t,l)))}function yc(t,e,l){var n=t.pending;if(t.pending=null,n!==null){n=n.next;do e.status="rejected",e.reason=l,Tr(e),e=e.next;while(e!==n)}t.action=null}function Tr(t){t=t.listeners;for(var e=0;e<t.length;e++)(0,t[e])()}function Ar(t,e){return e}function zr(t,e){if(tt){var l=mt.formState;if(l!==null){t:{var n=w;if(tt){if(pt){e:{for(var a=pt,u=ge;a.nodeType!==8;){if(!u){a=null;break e}if(a=be(a.nextSibling),a===null){a=null;break e}}u=a.data,a=u==="F!"||u==="F"?a:null}if(a){pt=be(a.nextSibling),n=a.data==="F!";break t}}cl(n)}n=!1}n&&(e=l[0])}}return l=Vt(),l.memoizedState=l.baseState=e,n={pending:null,lanes:0,dispatch:null,lastRenderedReducer:Ar,lastRenderedState:e},l.queue=n,l=Zr.bind(null,w,n),n.dispatch=l,n=dc(!1),u=bc.bind(null,w,!1,n.queue),n=Vt(),a={state:e,dispatch:null,action:t,pending:null},n.queue=a,l=qy.bind(null,w,a,u,l),a.dispatch=l,n.memoizedState=t,[e,l,!1]}function Or(t){var e=At();return Nr(e,ot,t)}function Nr(t,e,l){if(e=oc(t,e,Ar)[0],t=du(Ke)[0],typeof e=="object"&&e!==null&&typeof e.then=="function")try{var n=ia(e)}catch(c){throw c===vn?nu:c}else n=e;e=At();var a=e.queue,u=a.dispatch;return l!==e.memoizedState&&(w.flags|=2048,_n(9,{destroy:void 0},Hy.bind(null,a,l),null)),[n,u,t]}function Hy(t,e){t.action=e}function Dr(t){var e=At(),l=ot;if(l!==null)return Nr(e,l,t);At(),e=e.memoizedState,l=At();var n=l.queue.dispatch;return l.memoizedState=t,[e,n,!1]}function _n(t,e,l,n){return t={tag:t,create:l,deps:n,inst:e,next:null},e=w.updateQueue,e===null&&(e=ou(),w.updateQueue=e),l=e.lastEffect,l===null?e.lastEffect=t.next=t:(n=l.next,l.next=t,t.next=n,e.lastEffect=t),t}function Rr(){return At().memoizedState}function yu(t,e,l,n){var a=Vt();w.flags|=t,a.memoizedState=_n(1|e,{destroy:void 0},l,n===void 0?null:n)}function mu(t,e,l,n){var a=At();n=n===void 0?null:n;var u=a.memoizedState.inst;ot!==null&&n!==null&&uc(n,ot.memoizedState.deps)?a.memoizedState=_n(e,u,l,n):(w.flags|=t,a.memoizedState=_n(1|e,u,l,n))}function Mr(t,e){yu(8390656,8,t,e)}function mc(t,e){mu(2048,8,t,e)}function xy(t){w.flags|=4;var e=w.updateQueue;if(e===null)e=ou(),w.updateQueue=e,e.events=[t];else{var l=e.events;l===null?e.events=[t]:l.push(t)}}function Ur(t){var e=At().memoizedState;return xy({ref:e,nextImpl:t}),function(){if((ut&2)!==0)throw Error(s(440));return e.impl.apply(void 0,arguments)}}function Cr(t,e){return mu(4,2,t,e)}function Br(t,e){return mu(4,4,t,e)}function qr(t,e){if(typeof e=="function"){t=t();var l=e(t);return function(){typeof l=="function"?l():e(null)}}if(e!=null)return t=t(),e.current=t,function(){e.current=null}}function Hr(t,e,l){l=l!=null?l.concat([t]):null,mu(4,4,qr.bind(null,e,t),l)}function vc(){}function xr(t,e){var l=At();e=e===void 0?null:e;var n=l.memoizedState;return e!==null&&uc(e,n[1])?n[0]:(l.memoizedState=[t,e],t)}function Yr(t,e){var l=At();e=e===void 0?null:e;var n=l.memoizedState;if(e!==null&&uc(e,n[1]))return n[0];if(n=t(),Zl){ll(!0);try{t()}finally{ll(!1)}}return l.memoizedState=[n,e],n}function pc(t,e,l){return l===void 0||(we&1073741824)!==0&&(F&261930)===0?t.memoizedState=e:(t.memoizedState=l,t=Lo(),w.lanes|=t,vl|=t,l)}function jr(t,e,l,n){return ae(l,e)?l:gn.current!==null?(t=pc(t,l,n),ae(t,e)||(Dt=!0),t):(we&42)===0||(we&1073741824)!==0&&(F&261930)===0?(Dt=!0,t.memoizedState=l):(t=Lo(),w.lanes|=t,vl|=t,e)}function Lr(t,e,l,n,a){var u=M.p;M.p=u!==0&&8>u?u:8;var c=E.T,o={};E.T=o,bc(t,!1,e,l);try{var h=a(),g=E.S;if(g!==null&&g(o,h),h!==null&&typeof h=="object"&&typeof h.then=="function"){var _=Uy(h,n);ca(t,e,_,re(t))}else ca(t,e,n,re(t))}catch(O){ca(t,e,{then:function(){},status:"rejected",reason:O},re())}finally{M.p=u,c!==null&&o.types!==null&&(c.types=o.types),E.T=c}}function Yy(){}function gc(t,e,l,n){if(t.tag!==5)throw Error(s(476));var a=Xr(t).queue;Lr(t,a,e,G,l===null?Yy:function(){return Gr(t),l(n)})}function Xr(t){var e=t.memoizedState;if(e!==null)return e;e={memoizedState:G,baseState:G,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Ke,lastRenderedState:G},next:null};var l={};return e.next={memoizedState:l,baseState:l,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Ke,lastRenderedState:l},next:null},t.memoizedState=e,t=t.alternate,t!==null&&(t.memoizedState=e),e}function Gr(t){var e=Xr(t);e.next===null&&(e=t.alternate.memoizedState),ca(t,e.next.queue,{},re())}function Sc(){return Yt(Aa)}function Qr(){return At().memoizedState}function Vr(){return At().memoizedState}function jy(t){for(var e=t.return;e!==null;){switch(e.tag){case 24:case 3:var l=re();t=rl(l);var n=ol(e,t,l);n!==null&&(Pt(n,e,l),la(n,e,l)),e={cache:ki()},t.payload=e;return}e=e.return}}function Ly(t,e,l){var n=re();l={lane:n,revertLane:0,gesture:null,action:l,hasEagerState:!1,eagerState:null,next:null},vu(t)?wr(e,l):(l=Yi(t,e,l,n),l!==null&&(Pt(l,t,n),Kr(l,e,n)))}function Zr(t,e,l){var n=re();ca(t,e,l,n)}function ca(t,e,l,n){var a={lane:n,revertLane:0,gesture:null,action:l,hasEagerState:!1,eagerState:null,next:null};if(vu(t))wr(e,a);else{var u=t.alternate;if(t.lanes===0&&(u===null||u.lanes===0)&&(u=e.lastRenderedReducer,u!==null))try{var c=e.lastRenderedState,o=u(c,l);if(a.hasEagerState=!0,a.eagerState=o,ae(o,c))return $a(t,e,a,0),mt===null&&Wa(),!1}catch{}finally{}if(l=Yi(t,e,a,n),l!==null)return Pt(l,t,n),Kr(l,e,n),!0}return!1}function bc(t,e,l,n){if(n={lane:2,revertLane:Ic(),gesture:null,action:n,hasEagerState:!1,eagerState:null,next:null},vu(t)){if(e)throw Error(s(479))}else e=Yi(t,l,n,2),e!==null&&Pt(e,t,2)}function vu(t){var e=t.alternate;return t===w||e!==null&&e===w}function wr(t,e){Sn=su=!0;var l=t.pending;l===null?e.next=e:(e.next=l.next,l.next=e),t.pending=e}function Kr(t,e,l){if((l&4194048)!==0){var n=e.lanes;n&=t.pendingLanes,l|=n,e.lanes=l,Ff(t,l)}}var fa={readContext:Yt,use:hu,useCallback:bt,useContext:bt,useEffect:bt,useImperativeHandle:bt,useLayoutEffect:bt,useInsertionEffect:bt,useMemo:bt,useReducer:bt,useRef:bt,useState:bt,useDebugValue:bt,useDeferredValue:bt,useTransition:bt,useSyncExternalStore:bt,useId:bt,useHostTransitionStatus:bt,useFormState:bt,useActionState:bt,useOptimistic:bt,useMemoCache:bt,useCacheRefresh:bt};fa.useEffectEvent=bt;var Jr={readContext:Yt,use:hu,useCallback:function(t,e){return Vt().memoizedState=[t,e===void 0?null:e],t},useContext:Yt,useEffect:Mr,useImperativeHandle:function(t,e,l){l=l!=null?l.concat([t]):null,yu(4194308,4,qr.bind(null,e,t),l)},useLayoutEffect:function(t,e){return yu(4194308,4,t,e)},useInsertionEffect:function(t,e){yu(4,2,t,e)},useMemo:function(t,e){var l=Vt();e=e===void 0?null:e;var n=t();if(Zl){ll(!0);try{t()}finally{ll(!1)}}return l.memoizedState=[n,e],n},useReducer:function(t,e,l){var n=Vt();if(l!==void 0){var a=l(e);if(Zl){ll(!0);try{l(e)}finally{ll(!1)}}}else a=e;return n.memoizedState=n.baseState=a,t={pending:null,lanes:0,dispatch:null,lastRenderedReducer:t,lastRenderedState:a},n.queue=t,t=t.dispatch=Ly.bind(null,w,t),[n.memoizedState,t]},useRef:function(t){var e=Vt();return t={current:t},e.memoizedState=t},useState:function(t){t=dc(t);var e=t.queue,l=Zr.bind(null,w,e);return e.dispatch=l,[t.memoizedState,l]},useDebugValue:vc,useDeferredValue:function(t,e){var l=Vt();return pc(l,t,e)},useTransition:function(){var t=dc(!1);return t=Lr.bind(null,w,t.queue,!0,!1),Vt().memoizedState=t,[!1,t]},useSyncExternalStore:function(t,e,l){var n=w,a=Vt();if(tt){if(l===void 0)throw Error(s(407));l=l()}else{if(l=e(),mt===null)throw Error(s(349));(F&127)!==0||yr(n,e,l)}a.memoizedState=l;var u={value:l,getSnapshot:e};return a.queue=u,Mr(vr.bind(null,n,u,t),[t]),n.flags|=2048,_n(9,{destroy:void 0},mr.bind(null,n,u,l,e),null),l},useId:function(){var t=Vt(),e=mt.identifierPrefix;if(tt){var l=Ce,n=Ue;l=(n&~(1<<32-ne(n)-1)).toString(32)+l,e="_"+e+"R_"+l,l=ru++,0<l&&(e+="H"+l.toString(32)),e+="_"}else l=Cy++,e="_"+e+"r_"+l.toString(32)+"_";return t.memoizedState=e},useHostTransitionStatus:Sc,useFormState:zr,useActionState:zr,useOptimistic:function(t){var e=Vt();e.memoizedState=e.baseState=t;var l={pending:null,lanes:0,dispatch:null,lastRenderedReducer:null,lastRenderedState:null};return e.queue=l,e=bc.bind(null,w,!0,l),l.dispatch=e,[t,e]},useMemoCache:rc,useCacheRefresh:function(){return Vt().memoizedState=jy.bind(null,w)},useEffectEvent:function(t){var e=Vt(),l={impl:t};return e.memoizedState=l,function(){if((ut&2)!==0)throw Error(s(440));return l.impl.apply(void 0,arguments)}}},_c={readContext:Yt,use:hu,useCallback:xr,useContext:Yt,useEffect:mc,useImperativeHandle:Hr,useInsertionEffect:Cr,useLayoutEffect:Br,useMemo:Yr,useReducer:du,useRef:Rr,useState:function(){return du(Ke)},useDebugValue:vc,useDeferredValue:function(t,e){var l=At();return jr(l,ot.memoizedState,t,e)},useTransition:function(){var t=du(Ke)[0],e=At().memoizedState;return[typeof t=="boolean"?t:ia(t),e]},useSyncExternalStore:dr,useId:Qr,useHostTransitionStatus:Sc,useFormState:Or,useActionState:Or,useOptimistic:function(t,e){var l=At();return Sr(l,ot,t,e)},useMemoCache:rc,useCacheRefresh:Vr};_c.useEffectEvent=Ur;var kr={readContext:Yt,use:hu,useCallback:xr,useContext:Yt,useEffect:mc,useImperativeHandle:Hr,useInsertionEffect:Cr,useLayoutEffect:Br,useMemo:Yr,useReducer:hc,useRef:Rr,useState:function(){return hc(Ke)},useDebugValue:vc,useDeferredValue:function(t,e){var l=At();return ot===null?pc(l,t,e):jr(l,ot.memoizedState,t,e)},useTransition:function(){var t=hc(Ke)[0],e=At().memoizedState;return[typeof t=="boolean"?t:ia(t),e]},useSyncExternalStore:dr,useId:Qr,useHostTransitionStatus:Sc,useFormState:Dr,useActionState:Dr,useOptimistic:function(t,e){var l=At();return ot!==null?Sr(l,ot,t,e):(l.baseState=t,[t,l.queue.dispatch])},useMemoCache:rc,useCacheRefresh:Vr};kr.useEffectEvent=Ur;function Ec(t,e,l,n){e=t.memoizedState,l=l(n,e),l=l==null?e:C({},e,l),t.memoizedState=l,t.lanes===0&&(t.updateQueue.baseState=l)}var Tc={enqueueSetState:function(t,e,l){t=t._reactInternals;var n=re(),a=rl(n);a.payload=e,l!=null&&(a.callback=l),e=ol(t,a,n),e!==null&&(Pt(e,t,n),la(e,t,n))},enqueueReplaceState:function(t,e,l){t=t._reactInternals;var n=re(),a=rl(n);a.tag=1,a.payload=e,l!=null&&(a.callback=l),e=ol(t,a,n),e!==null&&(Pt(e,t,n),la(e,t,n))},enqueueForceUpdate:function(t,e){t=t._reactInternals;var l=re(),n=rl(l);n.tag=2,e!=null&&(n.callback=e),e=ol(t,n,l),e!==null&&(Pt(e,t,l),la(e,t,l))}};function Wr(t,e,l,n,a,u,c){return t=t.stateNode,typeof t.shouldComponentUpdate=="function"?t.shouldComponentUpdate(n,u,c):e.prototype&&e.prototype.isPureReactComponent?!kn(l,n)||!kn(a,u):!0}function $r(t,e,l,n){t=e.state,typeof e.componentWillReceiveProps=="function"&&e.componentWillReceiveProps(l,n),typeof e.UNSAFE_componentWillReceiveProps=="function"&&e.UNSAFE_componentWillReceiveProps(l,n),e.state!==t&&Tc.enqueueReplaceState(e,e.state,null)}function wl(t,e){var l=e;if("ref"in e){l={};for(var n in e)n!=="ref"&&(l[n]=e[n])}if(t=t.defaultProps){l===e&&(l=C({},l));for(var a in t)l[a]===void 0&&(l[a]=t[a])}return l}function Fr(t){ka(t)}function Ir(t){console.error(t)}function Pr(t){ka(t)}function pu(t,e){try{var l=t.onUncaughtError;l(e.value,{componentStack:e.stack})}catch(n){setTimeout(function(){throw n})}}function to(t,e,l){try{var n=t.onCaughtError;n(l.value,{componentStack:l.stack,errorBoundary:e.tag===1?e.stateNode:null})}catch(a){setTimeout(function(){throw a})}}function Ac(t,e,l){return l=rl(l),l.tag=3,l.payload={element:null},l.callback=function(){pu(t,e)},l}function eo(t){return t=rl(t),t.tag=3,t}function lo(t,e,l,n){var a=l.type.getDerivedStateFromError;if(typeof a=="function"){var u=n.value;t.payload=function(){return a(u)},t.callback=function(){to(e,l,n)}}var c=l.stateNode;c!==null&&typeof c.componentDidCatch=="function"&&(t.callback=function(){to(e,l,n),typeof a!="function"&&(pl===null?pl=new Set([this]):pl.add(this));var o=n.stack;this.componentDidCatch(n.value,{componentStack:o!==null?o:""})})}function Xy(t,e,l,n,a){if(l.flags|=32768,n!==null&&typeof n=="object"&&typeof n.then=="function"){if(e=l.alternate,e!==null&&dn(e,l,a,!0),l=ie.current,l!==null){switch(l.tag){case 31:case 13:return Se===null?Ru():l.alternate===null&&_t===0&&(_t=3),l.flags&=-257,l.flags|=65536,l.lanes=a,n===au?l.flags|=16384:(e=l.updateQueue,e===null?l.updateQueue=new Set([n]):e.add(n),Wc(t,n,a)),!1;case 22:return l.flags|=65536,n===au?l.flags|=16384:(e=l.updateQueue,e===null?(e={transitions:null,markerInstances:null,retryQueue:new Set([n])},l.updateQueue=e):(l=e.retryQueue,l===null?e.retryQueue=new Set([n]):l.add(n)),Wc(t,n,a)),!1}throw Error(s(435,l.tag))}return Wc(t,n,a),Ru(),!1}if(tt)return e=ie.current,e!==null?((e.flags&65536)===0&&(e.flags|=256),e.flags|=65536,e.lanes=a,n!==Vi&&(t=Error(s(422),{cause:n}),Fn(me(t,l)))):(n!==Vi&&(e=Error(s(423),{cause:n}),Fn(me(e,l))),t=t.current.alternate,t.flags|=65536,a&=-a,t.lanes|=a,n=me(n,l),a=Ac(t.stateNode,n,a),tc(t,a),_t!==4&&(_t=2)),!1;var u=Error(s(520),{cause:n});if(u=me(u,l),va===null?va=[u]:va.push(u),_t!==4&&(_t=2),e===null)return!0;n=me(n,l),l=e;do{switch(l.tag){case 3:return l.flags|=65536,t=a&-a,l.lanes|=t,t=Ac(l.stateNode,n,t),tc(l,t),!1;case 1:if(e=l.type,u=l.stateNode,(l.flags&128)===0&&(typeof e.getDerivedStateFromError=="function"||u!==null&&typeof u.componentDidCatch=="function"&&(pl===null||!pl.has(u))))return l.flags|=65536,a&=-a,l.lanes|=a,a=eo(a),lo(a,t,l,n),tc(l,a),!1}l=l.return}while(l!==null);return!1}var zc=Error(s(461)),Dt=!1;function jt(t,e,l,n){e.child=t===null?ir(e,null,l,n):Vl(e,t.child,l,n)}function no(t,e,l,n,a){l=l.render;var u=e.ref;if("ref"in n){var c={};for(var o in n)o!=="ref"&&(c[o]=n[o])}else c=n;return Ll(e),n=ic(t,e,l,c,u,a),o=cc(),t!==null&&!Dt?(fc(t,e,a),Je(t,e,a)):(tt&&o&&Gi(e),e.flags|=1,jt(t,e,n,a),e.child)}function ao(t,e,l,n,a){if(t===null){var u=l.type;return typeof u=="function"&&!ji(u)&&u.defaultProps===void 0&&l.compare===null?(e.tag=15,e.type=u,uo(t,e,u,n,a)):(t=Ia(l.type,null,n,e,e.mode,a),t.ref=e.ref,t.return=e,e.child=t)}if(u=t.child,!Bc(t,a)){var c=u.memoizedProps;if(l=l.compare,l=l!==null?l:kn,l(c,n)&&t.ref===e.ref)return Je(t,e,a)}return e.flags|=1,t=Ge(u,n),t.ref=e.ref,t.return=e,e.child=t}function uo(t,e,l,n,a){if(t!==null){var u=t.memoizedProps;if(kn(u,n)&&t.ref===e.ref)if(Dt=!1,e.pendingProps=n=u,Bc(t,a))(t.flags&131072)!==0&&(Dt=!0);else return e.lanes=t.lanes,Je(t,e,a)}return Oc(t,e,l,n,a)}function io(t,e,l,n){var a=n.children,u=t!==null?t.memoizedState:null;if(t===null&&e.stateNode===null&&(e.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),n.mode==="hidden"){if((e.flags&128)!==0){if(u=u!==null?u.baseLanes|l:l,t!==null){for(n=e.child=t.child,a=0;n!==null;)a=a|n.lanes|n.childLanes,n=n.sibling;n=a&~u}else n=0,e.child=null;return co(t,e,u,l,n)}if((l&536870912)!==0)e.memoizedState={baseLanes:0,cachePool:null},t!==null&&lu(e,u!==null?u.cachePool:null),u!==null?sr(e,u):lc(),rr(e);else return n=e.lanes=536870912,co(t,e,u!==null?u.baseLanes|l:l,l,n)}else u!==null?(lu(e,u.cachePool),sr(e,u),dl(),e.memoizedState=null):(t!==null&&lu(e,null),lc(),dl());return jt(t,e,a,l),e.child}function sa(t,e){return t!==null&&t.tag===22||e.stateNode!==null||(e.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),e.sibling}function co(t,e,l,n,a){var u=$i();return u=u===null?null:{parent:Ot._currentValue,pool:u},e.memoizedState={baseLanes:l,cachePool:u},t!==null&&lu(e,null),lc(),rr(e),t!==null&&dn(t,e,n,!0),e.childLanes=a,null}function gu(t,e){return e=bu({mode:e.mode,children:e.children},t.mode),e.ref=t.ref,t.child=e,e.return=t,e}function fo(t,e,l){return Vl(e,t.child,null,l),t=gu(e,e.pendingProps),t.flags|=2,ce(e),e.memoizedState=null,t}function Gy(t,e,l){var n=e.pendingProps,a=(e.flags&128)!==0;if(e.flags&=-129,t===null){if(tt){if(n.mode==="hidden")return t=gu(e,n),e.lanes=536870912,sa(null,t);if(ac(e),(t=pt)?(t=_h(t,ge),t=t!==null&&t.data==="&"?t:null,t!==null&&(e.memoizedState={dehydrated:t,treeContext:ul!==null?{id:Ue,overflow:Ce}:null,retryLane:536870912,hydrationErrors:null},l=ws(t),l.return=e,e.child=l,xt=e,pt=null)):t=null,t===null)throw cl(e);return e.lanes=536870912,null}return gu(e,n)}var u=t.memoizedState;if(u!==null){var c=u.dehydrated;if(ac(e),a)if(e.flags&256)e.flags&=-257,e=fo(t,e,l);else if(e.memoizedState!==null)e.child=t.child,e.flags|=128,e=null;else throw Error(s(558));else if(Dt||dn(t,e,l,!1),a=(l&t.childLanes)!==0,Dt||a){if(n=mt,n!==null&&(c=If(n,l),c!==0&&c!==u.retryLane))throw u.retryLane=c,Hl(t,c),Pt(n,t,c),zc;Ru(),e=fo(t,e,l)}else t=u.treeContext,pt=be(c.nextSibling),xt=e,tt=!0,il=null,ge=!1,t!==null&&ks(e,t),e=gu(e,n),e.flags|=4096;return e}return t=Ge(t.child,{mode:n.mode,children:n.children}),t.ref=e.ref,e.child=t,t.return=e,t}function Su(t,e){var l=e.ref;if(l===null)t!==null&&t.ref!==null&&(e.flags|=4194816);else{if(typeof l!="function"&&typeof l!="object")throw Error(s(284));(t===null||t.ref!==l)&&(e.flags|=4194816)}}function Oc(t,e,l,n,a){return Ll(e),l=ic(t,e,l,n,void 0,a),n=cc(),t!==null&&!Dt?(fc(t,e,a),Je(t,e,a)):(tt&&n&&Gi(e),e.flags|=1,jt(t,e,l,a),e.child)}function so(t,e,l,n,a,u){return Ll(e),e.updateQueue=null,l=hr(e,n,l,a),or(t),n=cc(),t!==null&&!Dt?(fc(t,e,u),Je(t,e,u)):(tt&&n&&Gi(e),e.flags|=1,jt(t,e,l,u),e.child)}function ro(t,e,l,n,a){if(Ll(e),e.stateNode===null){var u=sn,c=l.contextType;typeof c=="object"&&c!==null&&(u=Yt(c)),u=new l(n,u),e.memoizedState=u.state!==null&&u.state!==void 0?u.state:null,u.updater=Tc,e.stateNode=u,u._reactInternals=e,u=e.stateNode,u.props=n,u.state=e.memoizedState,u.refs={},Ii(e),c=l.contextType,u.context=typeof c=="object"&&c!==null?Yt(c):sn,u.state=e.memoizedState,c=l.getDerivedStateFromProps,typeof c=="function"&&(Ec(e,l,c,n),u.state=e.memoizedState),typeof l.getDerivedStateFromProps=="function"||typeof u.getSnapshotBeforeUpdate=="function"||typeof u.UNSAFE_componentWillMount!="function"&&typeof u.componentWillMount!="function"||(c=u.state,typeof u.componentWillMount=="function"&&u.componentWillMount(),typeof u.UNSAFE_componentWillMount=="function"&&u.UNSAFE_componentWillMount(),c!==u.state&&Tc.enqueueReplaceState(u,u.state,null),aa(e,n,u,a),na(),u.state=e.memoizedState),typeof u.componentDidMount=="function"&&(e.flags|=4194308),n=!0}else if(t===null){u=e.stateNode;var o=e.memoizedProps,h=wl(l,o);u.props=h;var g=u.context,_=l.contextType;c=sn,typeof _=="object"&&_!==null&&(c=Yt(_));var O=l.getDerivedStateFromProps;_=typeof O=="function"||typeof u.getSnapshotBeforeUpdate=="function",o=e.pendingProps!==o,_||typeof u.UNSAFE_componentWillReceiveProps!="function"&&typeof u.componentWillReceiveProps!="function"||(o||g!==c)&&$r(e,u,n,c),sl=!1;var S=e.memoizedState;u.state=S,aa(e,n,u,a),na(),g=e.memoizedState,o||S!==g||sl?(typeof O=="function"&&(Ec(e,l,O,n),g=e.memoizedState),(h=sl||Wr(e,l,h,n,S,g,c))?(_||typeof u.UNSAFE_componentWillMount!="function"&&typeof u.componentWillMount!="function"||(typeof u.componentWillMount=="function"&&u.componentWillMount(),typeof u.UNSAFE_componentWillMount=="function"&&u.UNSAFE_componentWillMount()),typeof u.componentDidMount=="function"&&(e.flags|=4194308)):(typeof u.componentDidMount=="function"&&(e.flags|=4194308),e.memoizedProps=n,e.memoizedState=g),u.props=n,u.state=g,u.context=c,n=h):(typeof u.componentDidMount=="function"&&(e.flags|=4194308),n=!1)}else{u=e.stateNode,Pi(t,e),c=e.memoizedProps,_=wl(l,c),u.props=_,O=e.pendingProps,S=u.context,g=l.contextType,h=sn,typeof g=="object"&&g!==null&&(h=Yt(g)),o=l.getDerivedStateFromProps,(g=typeof o=="function"||typeof u.getSnapshotBeforeUpdate=="function")||typeof u.UNSAFE_componentWillReceiveProps!="function"&&typeof u.componentWillReceiveProps!="function"||(c!==O||S!==h)&&$r(e,u,n,h),sl=!1,S=e.memoizedState,u.state=S,aa(e,n,u,a),na();var b=e.memoizedState;c!==O||S!==b||sl||t!==null&&t.dependencies!==null&&tu(t.dependencies)?(typeof o=="function"&&(Ec(e,l,o,n),b=e.memoizedState),(_=sl||Wr(e,l,_,n,S,b,h)||t!==null&&t.dependencies!==null&&tu(t.dependencies))?(g||typeof u.UNSAFE_componentWillUpdate!="function"&&typeof u.componentWillUpdate!="function"||(typeof u.componentWillUpdate=="function"&&u.componentWillUpdate(n,b,h),typeof u.UNSAFE_componentWillUpdate=="function"&&u.UNSAFE_componentWillUpdate(n,b,h)),typeof u.componentDidUpdate=="function"&&(e.flags|=4),typeof u.getSnapshotBeforeUpdate=="function"&&(e.flags|=1024)):(typeof u.componentDidUpdate!="function"||c===t.memoizedProps&&S===t.memoizedState||(e.flags|=4),typeof u.getSnapshotBeforeUpdate!="function"||c===t.memoizedProps&&S===t.memoizedState||(e.flags|=1024),e.memoizedProps=n,e.memoizedState=b),u.props=n,u.state=b,u.context=h,n=_):(typeof u.componentDidUpdate!="function"||c===t.memoizedProps&&S===t.memoizedState||(e.flags|=4),typeof u.getSnapshotBeforeUpdate!="function"||c===t.memoizedProps&&S===t.memoizedState||(e.flags|=1024),n=!1)}return u=n,Su(t,e),n=(e.flags&128)!==0,u||n?(u=e.stateNode,l=n&&typeof l.getDerivedStateFromError!="function"?null:u.render(),e.flags|=1,t!==null&&n?(e.child=Vl(e,t.child,null,a),e.child=Vl(e,null,l,a)):jt(t,e,l,a),e.memoizedState=u.state,t=e.child):t=Je(t,e,a),t}function oo(t,e,l,n){return Yl(),e.flags|=256,jt(t,e,l,n),e.child}var Nc={dehydrated:null,treeContext:null,retryLane:0,hydrationErrors:null};function Dc(t){return{baseLanes:t,cachePool:tr()}}function Rc(t,e,l){return t=t!==null?t.childLanes&~l:0,e&&(t|=se),t}function ho(t,e,l){var n=e.pendingProps,a=!1,u=(e.flags&128)!==0,c;if((c=u)||(c=t!==null&&t.memoizedState===null?!1:(Tt.current&2)!==0),c&&(a=!0,e.flags&=-129),c=(e.flags&32)!==0,e.flags&=-33,t===null){if(tt){if(a?hl(e):dl(),(t=pt)?(t=_h(t,ge),t=t!==null&&t.data!=="&"?t:null,t!==null&&(e.memoizedState={dehydrated:t,treeContext:ul!==null?{id:Ue,overflow:Ce}:null,retryLane:536870912,hydrationErrors:null},l=ws(t),l.return=e,e.child=l,xt=e,pt=null)):t=null,t===null)throw cl(e);return hf(t)?e.lanes=32:e.lanes=536870912,null}var o=n.children;return n=n.fallback,a?(dl(),a=e.mode,o=bu({mode:"hidden",children:o},a),n=xl(n,a,l,null),o.return=e,n.return=e,o.sibling=n,e.child=o,n=e.child,n.memoizedState=Dc(l),n.childLanes=Rc(t,c,l),e.memoizedState=Nc,sa(null,n)):(hl(e),Mc(e,o))}var h=t.memoizedState;if(h!==null&&(o=h.dehydrated,o!==null)){if(u)e.flags&256?(hl(e),e.flags&=-257,e=Uc(t,e,l)):e.memoizedState!==null?(dl(),e.child=t.child,e.flags|=128,e=null):(dl(),o=n.fallback,a=e.mode,n=bu({mode:"visible",children:n.children},a),o=xl(o,a,l,null),o.flags|=2,n.return=e,o.return=e,n.sibling=o,e.child=n,Vl(e,t.child,null,l),n=e.child,n.memoizedState=Dc(l),n.childLanes=Rc(t,c,l),e.memoizedState=Nc,e=sa(null,n));else if(hl(e),hf(o)){if(c=o.nextSibling&&o.nextSibling.dataset,c)var g=c.dgst;c=g,n=Error(s(419)),n.stack="",n.digest=c,Fn({value:n,source:null,stack:null}),e=Uc(t,e,l)}else if(Dt||dn(t,e,l,!1),c=(l&t.childLanes)!==0,Dt||c){if(c=mt,c!==null&&(n=If(c,l),n!==0&&n!==h.retryLane))throw h.retryLane=n,Hl(t,n),Pt(c,t,n),zc;of(o)||Ru(),e=Uc(t,e,l)}else of(o)?(e.flags|=192,e.child=t.child,e=null):(t=h.treeContext,pt=be(o.nextSibling),xt=e,tt=!0,il=null,ge=!1,t!==null&&ks(e,t),e=Mc(e,n.children),e.flags|=4096);return e}return a?(dl(),o=n.fallback,a=e.mode,h=t.child,g=h.sibling,n=Ge(h,{mode:"hidden",children:n.children}),n.subtreeFlags=h.subtreeFlags&65011712,g!==null?o=Ge(g,o):(o=xl(o,a,l,null),o.flags|=2),o.return=e,n.return=e,n.sibling=o,e.child=n,sa(null,n),n=e.child,o=t.child.memoizedState,o===null?o=Dc(l):(a=o.cachePool,a!==null?(h=Ot._currentValue,a=a.parent!==h?{parent:h,pool:h}:a):a=tr(),o={baseLanes:o.baseLanes|l,cachePool:a}),n.memoizedState=o,n.childLanes=Rc(t,c,l),e.memoizedState=Nc,sa(t.child,n)):(hl(e),l=t.child,t=l.sibling,l=Ge(l,{mode:"visible",children:n.children}),l.return=e,l.sibling=null,t!==null&&(c=e.deletions,c===null?(e.deletions=[t],e.flags|=16):c.push(t)),e.child=l,e.memoizedState=null,l)}function Mc(t,e){return e=bu({mode:"visible",children:e},t.mode),e.return=t,t.child=e}function bu(t,e){return t=ue(22,t,null,e),t.lanes=0,t}function Uc(t,e,l){return Vl(e,t.child,null,l),t=Mc(e,e.pendingProps.children),t.flags|=2,e.memoizedState=null,t}function yo(t,e,l){t.lanes|=e;var n=t.alternate;n!==null&&(n.lanes|=e),Ki(t.return,e,l)}function Cc(t,e,l,n,a,u){var c=t.memoizedState;c===null?t.memoizedState={isBackwards:e,rendering:null,renderingStartTime:0,last:n,tail:l,tailMode:a,treeForkCount:u}:(c.isBackwards=e,c.rendering=null,c.renderingStartTime=0,c.last=n,c.tail=l,c.tailMode=a,c.treeForkCount=u)}function mo(t,e,l){var n=e.pendingProps,a=n.revealOrder,u=n.tail;n=n.children;var c=Tt.current,o=(c&2)!==0;if(o?(c=c&1|2,e.flags|=128):c&=1,U(Tt,c),jt(t,e,n,l),n=tt?$n:0,!o&&t!==null&&(t.flags&128)!==0)t:for(t=e.child;t!==null;){if(t.tag===13)t.memoizedState!==null&&yo(t,l,e);else if(t.tag===19)yo(t,l,e);else if(t.child!==null){t.child.return=t,t=t.child;continue}if(t===e)break t;for(;t.sibling===null;){if(t.return===null||t.return===e)break t;t=t.return}t.sibling.return=t.return,t=t.sibling}switch(a){case"forwards":for(l=e.child,a=null;l!==null;)t=l.alternate,t!==null&&fu(t)===null&&(a=l),l=l.sibling;l=a,l===null?(a=e.child,e.child=null):(a=l.sibling,l.sibling=null),Cc(e,!1,a,l,u,n);break;case"backwards":case"unstable_legacy-backwards":for(l=null,a=e.child,e.child=null;a!==null;){if(t=a.alternate,t!==null&&fu(t)===null){e.child=a;break}t=a.sibling,a.sibling=l,l=a,a=t}Cc(e,!0,l,null,u,n);break;case"together":Cc(e,!1,null,null,void 0,n);break;default:e.memoizedState=null}return e.child}function Je(t,e,l){if(t!==null&&(e.dependencies=t.dependencies),vl|=e.lanes,(l&e.childLanes)===0)if(t!==null){if(dn(t,e,l,!1),(l&e.childLanes)===0)return null}else return null;if(t!==null&&e.child!==t.child)throw Error(s(153));if(e.child!==null){for(t=e.child,l=Ge(t,t.pendingProps),e.child=l,l.return=e;t.sibling!==null;)t=t.sibling,l=l.sibling=Ge(t,t.pendingProps),l.return=e;l.sibling=null}return e.child}function Bc(t,e){return(t.lanes&e)!==0?!0:(t=t.dependencies,!!(t!==null&&tu(t)))}function Qy(t,e,l){switch(e.tag){case 3:Qt(e,e.stateNode.containerInfo),fl(e,Ot,t.memoizedState.cache),Yl();break;case 27:case 5:Hn(e);break;case 4:Qt(e,e.stateNode.containerInfo);break;case 10:fl(e,e.type,e.memoizedProps.value);break;case 31:if(e.memoizedState!==null)return e.flags|=128,ac(e),null;break;case 13:var n=e.memoizedState;if(n!==null)return n.dehydrated!==null?(hl(e),e.flags|=128,null):(l&e.child.childLanes)!==0?ho(t,e,l):(hl(e),t=Je(t,e,l),t!==null?t.sibling:null);hl(e);break;case 19:var a=(t.flags&128)!==0;if(n=(l&e.childLanes)!==0,n||(dn(t,e,l,!1),n=(l&e.childLanes)!==0),a){if(n)return mo(t,e,l);e.flags|=128}if(a=e.memoizedState,a!==null&&(a.rendering=null,a.tail=null,a.lastEffect=null),U(Tt,Tt.current),n)break;return null;case 22:return e.lanes=0,io(t,e,l,e.pendingProps);case 24:fl(e,Ot,t.memoizedState.cache)}return Je(t,e,l)}function vo(t,e,l){if(t!==null)if(t.memoizedProps!==e.pendingProps)Dt=!0;else{if(!Bc(t,l)&&(e.flags&128)===0)return Dt=!1,Qy(t,e,l);Dt=(t.flags&131072)!==0}else Dt=!1,tt&&(e.flags&1048576)!==0&&Js(e,$n,e.index);switch(e.lanes=0,e.tag){case 16:t:{var n=e.pendingProps;if(t=Gl(e.elementType),e.type=t,typeof t=="function")ji(t)?(n=wl(t,n),e.tag=1,e=ro(null,e,t,n,l)):(e.tag=0,e=Oc(null,e,t,n,l));else{if(t!=null){var a=t.$$typeof;if(a===oe){e.tag=11,e=no(null,e,t,n,l);break t}else if(a===P){e.tag=14,e=ao(null,e,t,n,l);break t}}throw e=Ye(t)||t,Error(s(306,e,""))}}return e;case 0:return Oc(t,e,e.type,e.pendingProps,l);case 1:return n=e.type,a=wl(n,e.pendingProps),ro(t,e,n,a,l);case 3:t:{if(Qt(e,e.stateNode.containerInfo),t===null)throw Error(s(387));n=e.pendingProps;var u=e.memoizedState;a=u.element,Pi(t,e),aa(e,n,null,l);var c=e.memoizedState;if(n=c.cache,fl(e,Ot,n),n!==u.cache&&Ji(e,[Ot],l,!0),na(),n=c.element,u.isDehydrated)if(u={element:n,isDehydrated:!1,cache:c.cache},e.updateQueue.baseState=u,e.memoizedState=u,e.flags&256){e=oo(t,e,n,l);break t}else if(n!==a){a=me(Error(s(424)),e),Fn(a),e=oo(t,e,n,l);break t}else{switch(t=e.stateNode.containerInfo,t.nodeType){case 9:t=t.body;break;default:t=t.nodeName==="HTML"?t.ownerDocument.body:t}for(pt=be(t.firstChild),xt=e,tt=!0,il=null,ge=!0,l=ir(e,null,n,l),e.child=l;l;)l.flags=l.flags&-3|4096,l=l.sibling}else{if(Yl(),n===a){e=Je(t,e,l);break t}jt(t,e,n,l)}e=e.child}return e;case 26:return Su(t,e),t===null?(l=Nh(e.type,null,e.pendingProps,null))?e.memoizedState=l:tt||(l=e.type,t=e.pendingProps,n=xu(k.current).createElement(l),n[Ht]=e,n[Jt]=t,Lt(n,l,t),Ct(n),e.stateNode=n):e.memoizedState=Nh(e.type,t.memoizedProps,e.pendingProps,t.memoizedState),null;case 27:return Hn(e),t===null&&tt&&(n=e.stateNode=Ah(e.type,e.pendingProps,k.current),xt=e,ge=!0,a=pt,_l(e.type)?(df=a,pt=be(n.firstChild)):pt=a),jt(t,e,e.pendingProps.children,l),Su(t,e),t===null&&(e.flags|=4194304),e.child;case 5:return t===null&&tt&&((a=n=pt)&&(n=gm(n,e.type,e.pendingProps,ge),n!==null?(e.stateNode=n,xt=e,pt=be(n.firstChild),ge=!1,a=!0):a=!1),a||cl(e)),Hn(e),a=e.type,u=e.pendingProps,c=t!==null?t.memoizedProps:null,n=u.children,ff(a,u)?n=null:c!==null&&ff(a,c)&&(e.flags|=32),e.memoizedState!==null&&(a=ic(t,e,By,null,null,l),Aa._currentValue=a),Su(t,e),jt(t,e,n,l),e.child;case 6:return t===null&&tt&&((t=l=pt)&&(l=Sm(l,e.pendingProps,ge),l!==null?(e.stateNode=l,xt=e,pt=null,t=!0):t=!1),t||cl(e)),null;case 13:return ho(t,e,l);case 4:return Qt(e,e.stateNode.containerInfo),n=e.pendingProps,t===null?e.child=Vl(e,null,n,l):jt(t,e,n,l),e.child;case 11:return no(t,e,e.type,e.pendingProps,l);case 7:return jt(t,e,e.pendingProps,l),e.child;case 8:return jt(t,e,e.pendingProps.children,l),e.child;case 12:return jt(t,e,e.pendingProps.children,l),e.child;case 10:return n=e.pendingProps,fl(e,e.type,n.value),jt(t,e,n.children,l),e.child;case 9:return a=e.type._context,n=e.pendingProps.children,Ll(e),a=Yt(a),n=n(a),e.flags|=1,jt(t,e,n,l),e.child;case 14:return ao(t,e,e.type,e.pendingProps,l);case 15:return uo(t,e,e.type,e.pendingProps,l);case 19:return mo(t,e,l);case 31:return Gy(t,e,l);case 22:return io(t,e,l,e.pendingProps);case 24:return Ll(e),n=Yt(Ot),t===null?(a=$i(),a===null&&(a=mt,u=ki(),a.pooledCache=u,u.refCount++,u!==null&&(a.pooledCacheLanes|=l),a=u),e.memoizedState={parent:n,cache:a},Ii(e),fl(e,Ot,a)):((t.lanes&l)!==0&&(Pi(t,e),aa(e,null,null,l),na()),a=t.memoizedState,u=e.memoizedState,a.parent!==n?(a={parent:n,cache:n},e.memoizedState=a,e.lanes===0&&(e.memoizedState=e.updateQueue.baseState=a),fl(e,Ot,n)):(n=u.cache,fl(e,Ot,n),n!==a.cache&&Ji(e,[Ot],l,!0))),jt(t,e,e.pendingProps.children,l),e.child;case 29:throw e.pendingProps}throw Error(s(156,e.tag))}function ke(t){t.flags|=4}function qc(t,e,l,n,a){if((e=(t.mode&32)!==0)&&(e=!1),e){if(t.flags|=16777216,(a&335544128)===a)if(t.stateNode.complete)t.flags|=8192;else if(Vo())t.flags|=8192;else throw Ql=au,Fi}else t.flags&=-16777217}function po(t,e){if(e.type!=="stylesheet"||(e.state.loading&4)!==0)t.flags&=-16777217;else if(t.flags|=16777216,!Ch(e))if(Vo())t.flags|=8192;else throw Ql=au,Fi}function _u(t,e){e!==null&&(t.flags|=4),t.flags&16384&&(e=t.tag!==22?Wf():536870912,t.lanes|=e,zn|=e)}function ra(t,e){if(!tt)switch(t.tailMode){case"hidden":e=t.tail;for(var l=null;e!==null;)e.alternate!==null&&(l=e),e=e.sibling;l===null?t.tail=null:l.sibling=null;break;case"collapsed":l=t.tail;for(var n=null;l!==null;)l.alternate!==null&&(n=l),l=l.sibling;n===null?e||t.tail===null?t.tail=null:t.tail.sibling=null:n.sibling=null}}function gt(t){var e=t.alternate!==null&&t.alternate.child===t.child,l=0,n=0;if(e)for(var a=t.child;a!==null;)l|=a.lanes|a.childLanes,n|=a.subtreeFlags&65011712,n|=a.flags&65011712,a.return=t,a=a.sibling;else for(a=t.child;a!==null;)l|=a.lanes|a.childLanes,n|=a.subtreeFlags,n|=a.flags,a.return=t,a=a.sibling;return t.subtreeFlags|=n,t.childLanes=l,e}function Vy(t,e,l){var n=e.pendingProps;switch(Qi(e),e.tag){case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return gt(e),null;case 1:return gt(e),null;case 3:return l=e.stateNode,n=null,t!==null&&(n=t.memoizedState.cache),e.memoizedState.cache!==n&&(e.flags|=2048),Ze(Ot),Et(),l.pendingContext&&(l.context=l.pendingContext,l.pendingContext=null),(t===null||t.child===null)&&(hn(e)?ke(e):t===null||t.memoizedState.isDehydrated&&(e.flags&256)===0||(e.flags|=1024,Zi())),gt(e),null;case 26:var a=e.type,u=e.memoizedState;return t===null?(ke(e),u!==null?(gt(e),po(e,u)):(gt(e),qc(e,a,null,n,l))):u?u!==t.memoizedState?(ke(e),gt(e),po(e,u)):(gt(e),e.flags&=-16777217):(t=t.memoizedProps,t!==n&&ke(e),gt(e),qc(e,a,t,n,l)),null;case 27:if(Ca(e),l=k.current,a=e.type,t!==null&&e.stateNode!=null)t.memoizedProps!==n&&ke(e);else{if(!n){if(e.stateNode===null)throw Error(s(166));return gt(e),null}t=H.current,hn(e)?Ws(e):(t=Ah(a,n,l),e.stateNode=t,ke(e))}return gt(e),null;case 5:if(Ca(e),a=e.type,t!==null&&e.stateNode!=null)t.memoizedProps!==n&&ke(e);else{if(!n){if(e.stateNode===null)throw Error(s(166));return gt(e),null}if(u=H.current,hn(e))Ws(e);else{var c=xu(k.current);switch(u){case 1:u=c.createElementNS("http://www.w3.org/2000/svg",a);break;case 2:u=c.createElementNS("http://www.w3.org/1998/Math/MathML",a);break;default:switch(a){case"svg":u=c.createElementNS("http://www.w3.org/2000/svg",a);break;case"math":u=c.createElementNS("http://www.w3.org/1998/Math/MathML",a);break;case"script":u=c.createElement("div"),u.innerHTML="<script><\/script>",u=u.removeChild(u.firstChild);break;case"select":u=typeof n.is=="string"?c.createElement("select",{is:n.is}):c.createElement("select"),n.multiple?u.multiple=!0:n.size&&(u.size=n.size);break;default:u=typeof n.is=="string"?c.createElement(a,{is:n.is}):c.createElement(a)}}u[Ht]=e,u[Jt]=n;t:for(c=e.child;c!==null;){if(c.tag===5||c.tag===6)u.appendChild(c.stateNode);else if(c.tag!==4&&c.tag!==27&&c.child!==null){c.child.return=c,c=c.child;continue}if(c===e)break t;for(;c.sibling===null;){if(c.return===null||c.return===e)break t;c=c.return}c.sibling.return=c.return,c=c.sibling}e.stateNode=u;t:switch(Lt(u,a,n),a){case"button":case"input":case"select":case"textarea":n=!!n.autoFocus;break t;case"img":n=!0;break t;default:n=!1}n&&ke(e)}}return gt(e),qc(e,e.type,t===null?null:t.memoizedProps,e.pendingProps,l),null;case 6:if(t&&e.stateNode!=null)t.memoizedProps!==n&&ke(e);else{if(typeof n!="string"&&e.stateNode===null)throw Error(s(166));if(t=k.current,hn(e)){if(t=e.stateNode,l=e.memoizedProps,n=null,a=xt,a!==null)switch(a.tag){case 27:case 5:n=a.memoizedProps}t[Ht]=e,t=!!(t.nodeValue===l||n!==null&&n.suppressHydrationWarning===!0||dh(t.nodeValue,l)),t||cl(e,!0)}else t=xu(t).createTextNode(n),t[Ht]=e,e.stateNode=t}return gt(e),null;case 31:if(l=e.memoizedState,t===null||t.memoizedState!==null){if(n=hn(e),l!==null){if(t===null){if(!n)throw Error(s(318));if(t=e.memoizedState,t=t!==null?t.dehydrated:null,!t)throw Error(s(557));t[Ht]=e}else Yl(),(e.flags&128)===0&&(e.memoizedState=null),e.flags|=4;gt(e),t=!1}else l=Zi(),t!==null&&t.memoizedState!==null&&(t.memoizedState.hydrationErrors=l),t=!0;if(!t)return e.flags&256?(ce(e),e):(ce(e),null);if((e.flags&128)!==0)throw Error(s(558))}return gt(e),null;case 13:if(n=e.memoizedState,t===null||t.memoizedState!==null&&t.memoizedState.dehydrated!==null){if(a=hn(e),n!==null&&n.dehydrated!==null){if(t===null){if(!a)throw Error(s(318));if(a=e.memoizedState,a=a!==null?a.dehydrated:null,!a)throw Error(s(317));a[Ht]=e}else Yl(),(e.flags&128)===0&&(e.memoizedState=null),e.flags|=4;gt(e),a=!1}else a=Zi(),t!==null&&t.memoizedState!==null&&(t.memoizedState.hydrationErrors=a),a=!0;if(!a)return e.flags&256?(ce(e),e):(ce(e),null)}return ce(e),(e.flags&128)!==0?(e.lanes=l,e):(l=n!==null,t=t!==null&&t.memoizedState!==null,l&&(n=e.child,a=null,n.alternate!==null&&n.alternate.memoizedState!==null&&n.alternate.memoizedState.cachePool!==null&&(a=n.alternate.memoizedState.cachePool.pool),u=null,n.memoizedState!==null&&n.memoizedState.cachePool!==null&&(u=n.memoizedState.cachePool.pool),u!==a&&(n.flags|=2048)),l!==t&&l&&(e.child.flags|=8192),_u(e,e.updateQueue),gt(e),null);case 4:return Et(),t===null&&lf(e.stateNode.containerInfo),gt(e),null;case 10:return Ze(e.type),gt(e),null;case 19:if(N(Tt),n=e.memoizedState,n===null)return gt(e),null;if(a=(e.flags&128)!==0,u=n.rendering,u===null)if(a)ra(n,!1);else{if(_t!==0||t!==null&&(t.flags&128)!==0)for(t=e.child;t!==null;){if(u=fu(t),u!==null){for(e.flags|=128,ra(n,!1),t=u.updateQueue,e.updateQueue=t,_u(e,t),e.subtreeFlags=0,t=l,l=e.child;l!==null;)Zs(l,t),l=l.sibling;return U(Tt,Tt.current&1|2),tt&&Qe(e,n.treeForkCount),e.child}t=t.sibling}n.tail!==null&&ee()>Ou&&(e.flags|=128,a=!0,ra(n,!1),e.lanes=4194304)}else{if(!a)if(t=fu(u),t!==null){if(e.flags|=128,a=!0,t=t.updateQueue,e.updateQueue=t,_u(e,t),ra(n,!0),n.tail===null&&n.tailMode==="hidden"&&!u.alternate&&!tt)return gt(e),null}else 2*ee()-n.renderingStartTime>Ou&&l!==536870912&&(e.flags|=128,a=!0,ra(n,!1),e.lanes=4194304);n.isBackwards?(u.sibling=e.child,e.child=u):(t=n.last,t!==null?t.sibling=u:e.child=u,n.last=u)}return n.tail!==null?(t=n.tail,n.rendering=t,n.tail=t.sibling,n.renderingStartTime=ee(),t.sibling=null,l=Tt.current,U(Tt,a?l&1|2:l&1),tt&&Qe(e,n.treeForkCount),t):(gt(e),null);case 22:case 23:return ce(e),nc(),n=e.memoizedState!==null,t!==null?t.memoizedState!==null!==n&&(e.flags|=8192):n&&(e.flags|=8192),n?(l&536870912)!==0&&(e.flags&128)===0&&(gt(e),e.subtreeFlags&6&&(e.flags|=8192)):gt(e),l=e.updateQueue,l!==null&&_u(e,l.retryQueue),l=null,t!==null&&t.memoizedState!==null&&t.memoizedState.cachePool!==null&&(l=t.memoizedState.cachePool.pool),n=null,e.memoizedState!==null&&e.memoizedState.cachePool!==null&&(n=e.memoizedState.cachePool.pool),n!==l&&(e.flags|=2048),t!==null&&N(Xl),null;case 24:return l=null,t!==null&&(l=t.memoizedState.cache),e.memoizedState.cache!==l&&(e.flags|=2048),Ze(Ot),gt(e),null;case 25:return null;case 30:return null}throw Error(s(156,e.tag))}function Zy(t,e){switch(Qi(e),e.tag){case 1:return t=e.flags,t&65536?(e.flags=t&-65537|128,e):null;case 3:return Ze(Ot),Et(),t=e.flags,(t&65536)!==0&&(t&128)===0?(e.flags=t&-65537|128,e):null;case 26:case 27:case 5:return Ca(e),null;case 31:if(e.memoizedState!==null){if(ce(e),e.alternate===null)throw Error(s(340));Yl()}return t=e.flags,t&65536?(e.flags=t&-65537|128,e):null;case 13:if(ce(e),t=e.memoizedState,t!==null&&t.dehydrated!==null){if(e.alternate===null)throw Error(s(340));Yl()}return t=e.flags,t&65536?(e.flags=t&-65537|128,e):null;case 19:return N(Tt),null;case 4:return Et(),null;case 10:return Ze(e.type),null;case 22:case 23:return ce(e),nc(),t!==null&&N(Xl),t=e.flags,t&65536?(e.flags=t&-65537|128,e):null;case 24:return Ze(Ot),null;case 25:return null;default:return null}}function go(t,e){switch(Qi(e),e.tag){case 3:Ze(Ot),Et();break;case 26:case 27:case 5:Ca(e);break;case 4:Et();break;case 31:e.memoizedState!==null&&ce(e);break;case 13:ce(e);break;case 19:N(Tt);break;case 10:Ze(e.type);break;case 22:case 23:ce(e),nc(),t!==null&&N(Xl);break;case 24:Ze(Ot)}}function oa(t,e){try{var l=e.updateQueue,n=l!==null?l.lastEffect:null;if(n!==null){var a=n.next;l=a;do{if((l.tag&t)===t){n=void 0;var u=l.create,c=l.inst;n=u(),c.destroy=n}l=l.next}while(l!==a)}}catch(o){st(e,e.return,o)}}function yl(t,e,l){try{var n=e.updateQueue,a=n!==null?n.lastEffect:null;if(a!==null){var u=a.next;n=u;do{if((n.tag&t)===t){var c=n.inst,o=c.destroy;if(o!==void 0){c.destroy=void 0,a=e;var h=l,g=o;try{g()}catch(_){st(a,h,_)}}}n=n.next}while(n!==u)}}catch(_){st(e,e.return,_)}}function So(t){var e=t.updateQueue;if(e!==null){var l=t.stateNode;try{fr(e,l)}catch(n){st(t,t.return,n)}}}function bo(t,e,l){l.props=wl(t.type,t.memoizedProps),l.state=t.memoizedState;try{l.componentWillUnmount()}catch(n){st(t,e,n)}}function ha(t,e){try{var l=t.ref;if(l!==null){switch(t.tag){case 26:case 27:case 5:var n=t.stateNode;break;case 30:n=t.stateNode;break;default:n=t.stateNode}typeof l=="function"?t.refCleanup=l(n):l.current=n}}catch(a){st(t,e,a)}}function Be(t,e){var l=t.ref,n=t.refCleanup;if(l!==null)if(typeof n=="function")try{n()}catch(a){st(t,e,a)}finally{t.refCleanup=null,t=t.alternate,t!=null&&(t.refCleanup=null)}else if(typeof l=="function")try{l(null)}catch(a){st(t,e,a)}else l.current=null}function _o(t){var e=t.type,l=t.memoizedProps,n=t.stateNode;try{t:switch(e){case"button":case"input":case"select":case"textarea":l.autoFocus&&n.focus();break t;case"img":l.src?n.src=l.src:l.srcSet&&(n.srcset=l.srcSet)}}catch(a){st(t,t.return,a)}}function Hc(t,e,l){try{var n=t.stateNode;hm(n,t.type,l,e),n[Jt]=e}catch(a){st(t,t.return,a)}}function Eo(t){return t.tag===5||t.tag===3||t.tag===26||t.tag===27&&_l(t.type)||t.tag===4}function xc(t){t:for(;;){for(;t.sibling===null;){if(t.return===null||Eo(t.return))return null;t=t.return}for(t.sibling.return=t.return,t=t.sibling;t.tag!==5&&t.tag!==6&&t.tag!==18;){if(t.tag===27&&_l(t.type)||t.flags&2||t.child===null||t.tag===4)continue t;t.child.return=t,t=t.child}if(!(t.flags&2))return t.stateNode}}function Yc(t,e,l){var n=t.tag;if(n===5||n===6)t=t.stateNode,e?(l.nodeType===9?l.body:l.nodeName==="HTML"?l.ownerDocument.body:l).insertBefore(t,e):(e=l.nodeType===9?l.body:l.nodeName==="HTML"?l.ownerDocument.body:l,e.appendChild(t),l=l._reactRootContainer,l!=null||e.onclick!==null||(e.onclick=Le));else if(n!==4&&(n===27&&_l(t.type)&&(l=t.stateNode,e=null),t=t.child,t!==null))for(Yc(t,e,l),t=t.sibling;t!==null;)Yc(t,e,l),t=t.sibling}function Eu(t,e,l){var n=t.tag;if(n===5||n===6)t=t.stateNode,e?l.insertBefore(t,e):l.appendChild(t);else if(n!==4&&(n===27&&_l(t.type)&&(l=t.stateNode),t=t.child,t!==null))for(Eu(t,e,l),t=t.sibling;t!==null;)Eu(t,e,l),t=t.sibling}function To(t){var e=t.stateNode,l=t.memoizedProps;try{for(var n=t.type,a=e.attributes;a.length;)e.removeAttributeNode(a[0]);Lt(e,n,l),e[Ht]=t,e[Jt]=l}catch(u){st(t,t.return,u)}}var We=!1,Rt=!1,jc=!1,Ao=typeof WeakSet=="function"?WeakSet:Set,Bt=null;function wy(t,e){if(t=t.containerInfo,uf=Vu,t=Hs(t),Ui(t)){if("selectionStart"in t)var l={start:t.selectionStart,end:t.selectionEnd};else t:{l=(l=t.ownerDocument)&&l.defaultView||window;var n=l.getSelection&&l.getSelection();if(n&&n.rangeCount!==0){l=n.anchorNode;var a=n.anchorOffset,u=n.focusNode;n=n.focusOffset;try{l.nodeType,u.nodeType}catch{l=null;break t}var c=0,o=-1,h=-1,g=0,_=0,O=t,S=null;e:for(;;){for(var b;O!==l||a!==0&&O.nodeType!==3||(o=c+a),O!==u||n!==0&&O.nodeType!==3||(h=c+n),O.nodeType===3&&(c+=O.nodeValue.length),(b=O.firstChild)!==null;)S=O,O=b;for(;;){if(O===t)break e;if(S===l&&++g===a&&(o=c),S===u&&++_===n&&(h=c),(b=O.nextSibling)!==null)break;O=S,S=O.parentNode}O=b}l=o===-1||h===-1?null:{start:o,end:h}}else l=null}l=l||{start:0,end:0}}else l=null;for(cf={focusedElem:t,selectionRange:l},Vu=!1,Bt=e;Bt!==null;)if(e=Bt,t=e.child,(e.subtreeFlags&1028)!==0&&t!==null)t.return=e,Bt=t;else for(;Bt!==null;){switch(e=Bt,u=e.alternate,t=e.flags,e.tag){case 0:if((t&4)!==0&&(t=e.updateQueue,t=t!==null?t.events:null,t!==null))for(l=0;l<t.length;l++)a=t[l],a.ref.impl=a.nextImpl;break;case 11:case 15:break;case 1:if((t&1024)!==0&&u!==null){t=void 0,l=e,a=u.memoizedProps,u=u.memoizedState,n=l.stateNode;try{var B=wl(l.type,a);t=n.getSnapshotBeforeUpdate(B,u),n.__reactInternalSnapshotBeforeUpdate=t}catch(X){st(l,l.return,X)}}break;case 3:if((t&1024)!==0){if(t=e.stateNode.containerInfo,l=t.nodeType,l===9)rf(t);else if(l===1)switch(t.nodeName){case"HEAD":case"HTML":case"BODY":rf(t);break;default:t.textContent=""}}break;case 5:case 26:case 27:case 6:case 4:case 17:break;default:if((t&1024)!==0)throw Error(s(163))}if(t=e.sibling,t!==null){t.return=e.return,Bt=t;break}Bt=e.return}}function zo(t,e,l){var n=l.flags;switch(l.tag){case 0:case 11:case 15:Fe(t,l),n&4&&oa(5,l);break;case 1:if(Fe(t,l),n&4)if(t=l.stateNode,e===null)try{t.componentDidMount()}catch(c){st(l,l.return,c)}else{var a=wl(l.type,e.memoizedProps);e=e.memoizedState;try{t.componentDidUpdate(a,e,t.__reactInternalSnapshotBeforeUpdate)}catch(c){st(l,l.return,c)}}n&64&&So(l),n&512&&ha(l,l.return);break;case 3:if(Fe(t,l),n&64&&(t=l.updateQueue,t!==null)){if(e=null,l.child!==null)switch(l.child.tag){case 27:case 5:e=l.child.stateNode;break;case 1:e=l.child.stateNode}try{fr(t,e)}catch(c){st(l,l.return,c)}}break;case 27:e===null&&n&4&&To(l);case 26:case 5:Fe(t,l),e===null&&n&4&&_o(l),n&512&&ha(l,l.return);break;case 12:Fe(t,l);break;case 31:Fe(t,l),n&4&&Do(t,l);break;case 13:Fe(t,l),n&4&&Ro(t,l),n&64&&(t=l.memoizedState,t!==null&&(t=t.dehydrated,t!==null&&(l=tm.bind(null,l),bm(t,l))));break;case 22:if(n=l.memoizedState!==null||We,!n){e=e!==null&&e.memoizedState!==null||Rt,a=We;var u=Rt;We=n,(Rt=e)&&!u?Ie(t,l,(l.subtreeFlags&8772)!==0):Fe(t,l),We=a,Rt=u}break;case 30:break;default:Fe(t,l)}}function Oo(t){var e=t.alternate;e!==null&&(t.alternate=null,Oo(e)),t.child=null,t.deletions=null,t.sibling=null,t.tag===5&&(e=t.stateNode,e!==null&&yi(e)),t.stateNode=null,t.return=null,t.dependencies=null,t.memoizedProps=null,t.memoizedState=null,t.pendingProps=null,t.stateNode=null,t.updateQueue=null}var St=null,Wt=!1;function $e(t,e,l){for(l=l.child;l!==null;)No(t,e,l),l=l.sibling}function No(t,e,l){if(le&&typeof le.onCommitFiberUnmount=="function")try{le.onCommitFiberUnmount(xn,l)}catch{}switch(l.tag){case 26:Rt||Be(l,e),$e(t,e,l),l.memoizedState?l.memoizedState.count--:l.stateNode&&(l=l.stateNode,l.parentNode.removeChild(l));break;case 27:Rt||Be(l,e);var n=St,a=Wt;_l(l.type)&&(St=l.stateNode,Wt=!1),$e(t,e,l),_a(l.stateNode),St=n,Wt=a;break;case 5:Rt||Be(l,e);case 6:if(n=St,a=Wt,St=null,$e(t,e,l),St=n,Wt=a,St!==null)if(Wt)try{(St.nodeType===9?St.body:St.nodeName==="HTML"?St.ownerDocument.body:St).removeChild(l.stateNode)}catch(u){st(l,e,u)}else try{St.removeChild(l.stateNode)}catch(u){st(l,e,u)}break;case 18:St!==null&&(Wt?(t=St,Sh(t.nodeType===9?t.body:t.nodeName==="HTML"?t.ownerDocument.body:t,l.stateNode),Bn(t)):Sh(St,l.stateNode));break;case 4:n=St,a=Wt,St=l.stateNode.containerInfo,Wt=!0,$e(t,e,l),St=n,Wt=a;break;case 0:case 11:case 14:case 15:yl(2,l,e),Rt||yl(4,l,e),$e(t,e,l);break;case 1:Rt||(Be(l,e),n=l.stateNode,typeof n.componentWillUnmount=="function"&&bo(l,e,n)),$e(t,e,l);break;case 21:$e(t,e,l);break;case 22:Rt=(n=Rt)||l.memoizedState!==null,$e(t,e,l),Rt=n;break;default:$e(t,e,l)}}function Do(t,e){if(e.memoizedState===null&&(t=e.alternate,t!==null&&(t=t.memoizedState,t!==null))){t=t.dehydrated;try{Bn(t)}catch(l){st(e,e.return,l)}}}function Ro(t,e){if(e.memoizedState===null&&(t=e.alternate,t!==null&&(t=t.memoizedState,t!==null&&(t=t.dehydrated,t!==null))))try{Bn(t)}catch(l){st(e,e.return,l)}}function Ky(t){switch(t.tag){case 31:case 13:case 19:var e=t.stateNode;return e===null&&(e=t.stateNode=new Ao),e;case 22:return t=t.stateNode,e=t._retryCache,e===null&&(e=t._retryCache=new Ao),e;default:throw Error(s(435,t.tag))}}function Tu(t,e){var l=Ky(t);e.forEach(function(n){if(!l.has(n)){l.add(n);var a=em.bind(null,t,n);n.then(a,a)}})}function $t(t,e){var l=e.deletions;if(l!==null)for(var n=0;n<l.length;n++){var a=l[n],u=t,c=e,o=c;t:for(;o!==null;){switch(o.tag){case 27:if(_l(o.type)){St=o.stateNode,Wt=!1;break t}break;case 5:St=o.stateNode,Wt=!1;break t;case 3:case 4:St=o.stateNode.containerInfo,Wt=!0;break t}o=o.return}if(St===null)throw Error(s(160));No(u,c,a),St=null,Wt=!1,u=a.alternate,u!==null&&(u.return=null),a.return=null}if(e.subtreeFlags&13886)for(e=e.child;e!==null;)Mo(e,t),e=e.sibling}var ze=null;function Mo(t,e){var l=t.alternate,n=t.flags;switch(t.tag){case 0:case 11:case 14:case 15:$t(e,t),Ft(t),n&4&&(yl(3,t,t.return),oa(3,t),yl(5,t,t.return));break;case 1:$t(e,t),Ft(t),n&512&&(Rt||l===null||Be(l,l.return)),n&64&&We&&(t=t.updateQueue,t!==null&&(n=t.callbacks,n!==null&&(l=t.shared.hiddenCallbacks,t.shared.hiddenCallbacks=l===null?n:l.concat(n))));break;case 26:var a=ze;if($t(e,t),Ft(t),n&512&&(Rt||l===null||Be(l,l.return)),n&4){var u=l!==null?l.memoizedState:null;if(n=t.memoizedState,l===null)if(n===null)if(t.stateNode===null){t:{n=t.type,l=t.memoizedProps,a=a.ownerDocument||a;e:switch(n){case"title":u=a.getElementsByTagName("title")[0],(!u||u[Ln]||u[Ht]||u.namespaceURI==="http://www.w3.org/2000/svg"||u.hasAttribute("itemprop"))&&(u=a.createElement(n),a.head.insertBefore(u,a.querySelector("head > title"))),Lt(u,n,l),u[Ht]=t,Ct(u),n=u;break t;case"link":var c=Mh("link","href",a).get(n+(l.href||""));if(c){for(var o=0;o<c.length;o++)if(u=c[o],u.getAttribute("href")===(l.href==null||l.href===""?null:l.href)&&u.getAttribute("rel")===(l.rel==null?null:l.rel)&&u.getAttribute("title")===(l.title==null?null:l.title)&&u.getAttribute("crossorigin")===(l.crossOrigin==null?null:l.crossOrigin)){c.splice(o,1);break e}}u=a.createElement(n),Lt(u,n,l),a.head.appendChild(u);break;case"meta":if(c=Mh("meta","content",a).get(n+(l.content||""))){for(o=0;o<c.length;o++)if(u=c[o],u.getAttribute("content")===(l.content==null?null:""+l.content)&&u.getAttribute("name")===(l.name==null?null:l.name)&&u.getAttribute("property")===(l.property==null?null:l.property)&&u.getAttribute("http-equiv")===(l.httpEquiv==null?null:l.httpEquiv)&&u.getAttribute("charset")===(l.charSet==null?null:l.charSet)){c.splice(o,1);break e}}u=a.createElement(n),Lt(u,n,l),a.head.appendChild(u);break;default:throw Error(s(468,n))}u[Ht]=t,Ct(u),n=u}t.stateNode=n}else Uh(a,t.type,t.stateNode);else t.stateNode=Rh(a,n,t.memoizedProps);else u!==n?(u===null?l.stateNode!==null&&(l=l.stateNode,l.parentNode.removeChild(l)):u.count--,n===null?Uh(a,t.type,t.stateNode):Rh(a,n,t.memoizedProps)):n===null&&t.stateNode!==null&&Hc(t,t.memoizedProps,l.memoizedProps)}break;case 27:$t(e,t),Ft(t),n&512&&(Rt||l===null||Be(l,l.return)),l!==null&&n&4&&Hc(t,t.memoizedProps,l.memoizedProps);break;case 5:if($t(e,t),Ft(t),n&512&&(Rt||l===null||Be(l,l.return)),t.flags&32){a=t.stateNode;try{en(a,"")}catch(B){st(t,t.return,B)}}n&4&&t.stateNode!=null&&(a=t.memoizedProps,Hc(t,a,l!==null?l.memoizedProps:a)),n&1024&&(jc=!0);break;case 6:if($t(e,t),Ft(t),n&4){if(t.stateNode===null)throw Error(s(162));n=t.memoizedProps,l=t.stateNode;try{l.nodeValue=n}catch(B){st(t,t.return,B)}}break;case 3:if(Lu=null,a=ze,ze=Yu(e.containerInfo),$t(e,t),ze=a,Ft(t),n&4&&l!==null&&l.memoizedState.isDehydrated)try{Bn(e.containerInfo)}catch(B){st(t,t.return,B)}jc&&(jc=!1,Uo(t));break;case 4:n=ze,ze=Yu(t.stateNode.containerInfo),$t(e,t),Ft(t),ze=n;break;case 12:$t(e,t),Ft(t);break;case 31:$t(e,t),Ft(t),n&4&&(n=t.updateQueue,n!==null&&(t.updateQueue=null,Tu(t,n)));break;case 13:$t(e,t),Ft(t),t.child.flags&8192&&t.memoizedState!==null!=(l!==null&&l.memoizedState!==null)&&(zu=ee()),n&4&&(n=t.updateQueue,n!==null&&(t.updateQueue=null,Tu(t,n)));break;case 22:a=t.memoizedState!==null;var h=l!==null&&l.memoizedState!==null,g=We,_=Rt;if(We=g||a,Rt=_||h,$t(e,t),Rt=_,We=g,Ft(t),n&8192)t:for(e=t.stateNode,e._visibility=a?e._visibility&-2:e._visibility|1,a&&(l===null||h||We||Rt||Kl(t)),l=null,e=t;;){if(e.tag===5||e.tag===26){if(l===null){h=l=e;try{if(u=h.stateNode,a)c=u.style,typeof c.setProperty=="function"?c.setProperty("display","none","important"):c.display="none";else{o=h.stateNode;var O=h.memoizedProps.style,S=O!=null&&O.hasOwnProperty("display")?O.display:null;o.style.display=S==null||typeof S=="boolean"?"":(""+S).trim()}}catch(B){st(h,h.return,B)}}}else if(e.tag===6){if(l===null){h=e;try{h.stateNode.nodeValue=a?"":h.memoizedProps}catch(B){st(h,h.return,B)}}}else if(e.tag===18){if(l===null){h=e;try{var b=h.stateNode;a?bh(b,!0):bh(h.stateNode,!1)}catch(B){st(h,h.return,B)}}}else if((e.tag!==22&&e.tag!==23||e.memoizedState===null||e===t)&&e.child!==null){e.child.return=e,e=e.child;continue}if(e===t)break t;for(;e.sibling===null;){if(e.return===null||e.return===t)break t;l===e&&(l=null),e=e.return}l===e&&(l=null),e.sibling.return=e.return,e=e.sibling}n&4&&(n=t.updateQueue,n!==null&&(l=n.retryQueue,l!==null&&(n.retryQueue=null,Tu(t,l))));break;case 19:$t(e,t),Ft(t),n&4&&(n=t.updateQueue,n!==null&&(t.updateQueue=null,Tu(t,n)));break;case 30:break;case 21:break;default:$t(e,t),Ft(t)}}function Ft(t){var e=t.flags;if(e&2){try{for(var l,n=t.return;n!==null;){if(Eo(n)){l=n;break}n=n.return}if(l==null)throw Error(s(160));switch(l.tag){case 27:var a=l.stateNode,u=xc(t);Eu(t,u,a);break;case 5:var c=l.stateNode;l.flags&32&&(en(c,""),l.flags&=-33);var o=xc(t);Eu(t,o,c);break;case 3:case 4:var h=l.stateNode.containerInfo,g=xc(t);Yc(t,g,h);break;default:throw Error(s(161))}}catch(_){st(t,t.return,_)}t.flags&=-3}e&4096&&(t.flags&=-4097)}function Uo(t){if(t.subtreeFlags&1024)for(t=t.child;t!==null;){var e=t;Uo(e),e.tag===5&&e.flags&1024&&e.stateNode.reset(),t=t.sibling}}function Fe(t,e){if(e.subtreeFlags&8772)for(e=e.child;e!==null;)zo(t,e.alternate,e),e=e.sibling}function Kl(t){for(t=t.child;t!==null;){var e=t;switch(e.tag){case 0:case 11:case 14:case 15:yl(4,e,e.return),Kl(e);break;case 1:Be(e,e.return);var l=e.stateNode;typeof l.componentWillUnmount=="function"&&bo(e,e.return,l),Kl(e);break;case 27:_a(e.stateNode);case 26:case 5:Be(e,e.return),Kl(e);break;case 22:e.memoizedState===null&&Kl(e);break;case 30:Kl(e);break;default:Kl(e)}t=t.sibling}}function Ie(t,e,l){for(l=l&&(e.subtreeFlags&8772)!==0,e=e.child;e!==null;){var n=e.alternate,a=t,u=e,c=u.flags;switch(u.tag){case 0:case 11:case 15:Ie(a,u,l),oa(4,u);break;case 1:if(Ie(a,u,l),n=u,a=n.stateNode,typeof a.componentDidMount=="function")try{a.componentDidMount()}catch(g){st(n,n.return,g)}if(n=u,a=n.updateQueue,a!==null){var o=n.stateNode;try{var h=a.shared.hiddenCallbacks;if(h!==null)for(a.shared.hiddenCallbacks=null,a=0;a<h.length;a++)cr(h[a],o)}catch(g){st(n,n.return,g)}}l&&c&64&&So(u),ha(u,u.return);break;case 27:To(u);case 26:case 5:Ie(a,u,l),l&&n===null&&c&4&&_o(u),ha(u,u.return);break;case 12:Ie(a,u,l);break;case 31:Ie(a,u,l),l&&c&4&&Do(a,u);break;case 13:Ie(a,u,l),l&&c&4&&Ro(a,u);break;case 22:u.memoizedState===null&&Ie(a,u,l),ha(u,u.return);break;case 30:break;default:Ie(a,u,l)}e=e.sibling}}function Lc(t,e){var l=null;t!==null&&t.memoizedState!==null&&t.memoizedState.cachePool!==null&&(l=t.memoizedState.cachePool.pool),t=null,e.memoizedState!==null&&e.memoizedState.cachePool!==null&&(t=e.memoizedState.cachePool.pool),t!==l&&(t!=null&&t.refCount++,l!=null&&In(l))}function Xc(t,e){t=null,e.alternate!==null&&(t=e.alternate.memoizedState.cache),e=e.memoizedState.cache,e!==t&&(e.refCount++,t!=null&&In(t))}function Oe(t,e,l,n){if(e.subtreeFlags&10256)for(e=e.child;e!==null;)Co(t,e,l,n),e=e.sibling}function Co(t,e,l,n){var a=e.flags;switch(e.tag){case 0:case 11:case 15:Oe(t,e,l,n),a&2048&&oa(9,e);break;case 1:Oe(t,e,l,n);break;case 3:Oe(t,e,l,n),a&2048&&(t=null,e.alternate!==null&&(t=e.alternate.memoizedState.cache),e=e.memoizedState.cache,e!==t&&(e.refCount++,t!=null&&In(t)));break;case 12:if(a&2048){Oe(t,e,l,n),t=e.stateNode;try{var u=e.memoizedProps,c=u.id,o=u.onPostCommit;typeof o=="function"&&o(c,e.alternate===null?"mount":"update",t.passiveEffectDuration,-0)}catch(h){st(e,e.return,h)}}else Oe(t,e,l,n);break;case 31:Oe(t,e,l,n);break;case 13:Oe(t,e,l,n);break;case 23:break;case 22:u=e.stateNode,c=e.alternate,e.memoizedState!==null?u._visibility&2?Oe(t,e,l,n):da(t,e):u._visibility&2?Oe(t,e,l,n):(u._visibility|=2,En(t,e,l,n,(e.subtreeFlags&10256)!==0||!1)),a&2048&&Lc(c,e);break;case 24:Oe(t,e,l,n),a&2048&&Xc(e.alternate,e);break;default:Oe(t,e,l,n)}}function En(t,e,l,n,a){for(a=a&&((e.subtreeFlags&10256)!==0||!1),e=e.child;e!==null;){var u=t,c=e,o=l,h=n,g=c.flags;switch(c.tag){case 0:case 11:case 15:En(u,c,o,h,a),oa(8,c);break;case 23:break;case 22:var _=c.stateNode;c.memoizedState!==null?_._visibility&2?En(u,c,o,h,a):da(u,c):(_._visibility|=2,En(u,c,o,h,a)),a&&g&2048&&Lc(c.alternate,c);break;case 24:En(u,c,o,h,a),a&&g&2048&&Xc(c.alternate,c);break;default:En(u,c,o,h,a)}e=e.sibling}}function da(t,e){if(e.subtreeFlags&10256)for(e=e.child;e!==null;){var l=t,n=e,a=n.flags;switch(n.tag){case 22:da(l,n),a&2048&&Lc(n.alternate,n);break;case 24:da(l,n),a&2048&&Xc(n.alternate,n);break;default:da(l,n)}e=e.sibling}}var ya=8192;function Tn(t,e,l){if(t.subtreeFlags&ya)for(t=t.child;t!==null;)Bo(t,e,l),t=t.sibling}function Bo(t,e,l){switch(t.tag){case 26:Tn(t,e,l),t.flags&ya&&t.memoizedState!==null&&Cm(l,ze,t.memoizedState,t.memoizedProps);break;case 5:Tn(t,e,l);break;case 3:case 4:var n=ze;ze=Yu(t.stateNode.containerInfo),Tn(t,e,l),ze=n;break;case 22:t.memoizedState===null&&(n=t.alternate,n!==null&&n.memoizedState!==null?(n=ya,ya=16777216,Tn(t,e,l),ya=n):Tn(t,e,l));break;default:Tn(t,e,l)}}function qo(t){var e=t.alternate;if(e!==null&&(t=e.child,t!==null)){e.child=null;do e=t.sibling,t.sibling=null,t=e;while(t!==null)}}function ma(t){var e=t.deletions;if((t.flags&16)!==0){if(e!==null)for(var l=0;l<e.length;l++){var n=e[l];Bt=n,xo(n,t)}qo(t)}if(t.subtreeFlags&10256)for(t=t.child;t!==null;)Ho(t),t=t.sibling}function Ho(t){switch(t.tag){case 0:case 11:case 15:ma(t),t.flags&2048&&yl(9,t,t.return);break;case 3:ma(t);break;case 12:ma(t);break;case 22:var e=t.stateNode;t.memoizedState!==null&&e._visibility&2&&(t.return===null||t.return.tag!==13)?(e._visibility&=-3,Au(t)):ma(t);break;default:ma(t)}}function Au(t){var e=t.deletions;if((t.flags&16)!==0){if(e!==null)for(var l=0;l<e.length;l++){var n=e[l];Bt=n,xo(n,t)}qo(t)}for(t=t.child;t!==null;){switch(e=t,e.tag){case 0:case 11:case 15:yl(8,e,e.return),Au(e);break;case 22:l=e.stateNode,l._visibility&2&&(l._visibility&=-3,Au(e));break;default:Au(e)}t=t.sibling}}function xo(t,e){for(;Bt!==null;){var l=Bt;switch(l.tag){case 0:case 11:case 15:yl(8,l,e);break;case 23:case 22:if(l.memoizedState!==null&&l.memoizedState.cachePool!==null){var n=l.memoizedState.cachePool.pool;n!=null&&n.refCount++}break;case 24:In(l.memoizedState.cache)}if(n=l.child,n!==null)n.return=l,Bt=n;else t:for(l=t;Bt!==null;){n=Bt;var a=n.sibling,u=n.return;if(Oo(n),n===l){Bt=null;break t}if(a!==null){a.return=u,Bt=a;break t}Bt=u}}}var Jy={getCacheForType:function(t){var e=Yt(Ot),l=e.data.get(t);return l===void 0&&(l=t(),e.data.set(t,l)),l},cacheSignal:function(){return Yt(Ot).controller.signal}},ky=typeof WeakMap=="function"?WeakMap:Map,ut=0,mt=null,W=null,F=0,ft=0,fe=null,ml=!1,An=!1,Gc=!1,Pe=0,_t=0,vl=0,Jl=0,Qc=0,se=0,zn=0,va=null,It=null,Vc=!1,zu=0,Yo=0,Ou=1/0,Nu=null,pl=null,Ut=0,gl=null,On=null,tl=0,Zc=0,wc=null,jo=null,pa=0,Kc=null;function re(){return(ut&2)!==0&&F!==0?F&-F:E.T!==null?Ic():Pf()}function Lo(){if(se===0)if((F&536870912)===0||tt){var t=Ha;Ha<<=1,(Ha&3932160)===0&&(Ha=262144),se=t}else se=536870912;return t=ie.current,t!==null&&(t.flags|=32),se}function Pt(t,e,l){(t===mt&&(ft===2||ft===9)||t.cancelPendingCommit!==null)&&(Nn(t,0),Sl(t,F,se,!1)),jn(t,l),((ut&2)===0||t!==mt)&&(t===mt&&((ut&2)===0&&(Jl|=l),_t===4&&Sl(t,F,se,!1)),qe(t))}function Xo(t,e,l){if((ut&6)!==0)throw Error(s(327));var n=!l&&(e&127)===0&&(e&t.expiredLanes)===0||Yn(t,e),a=n?Fy(t,e):kc(t,e,!0),u=n;do{if(a===0){An&&!n&&Sl(t,e,0,!1);break}else{if(l=t.current.alternate,u&&!Wy(l)){a=kc(t,e,!1),u=!1;continue}if(a===2){if(u=e,t.errorRecoveryDisabledLanes&u)var c=0;else c=t.pendingLanes&-536870913,c=c!==0?c:c&536870912?536870912:0;if(c!==0){e=c;t:{var o=t;a=va;var h=o.current.memoizedState.isDehydrated;if(h&&(Nn(o,c).flags|=256),c=kc(o,c,!1),c!==2){if(Gc&&!h){o.errorRecoveryDisabledLanes|=u,Jl|=u,a=4;break t}u=It,It=a,u!==null&&(It===null?It=u:It.push.apply(It,u))}a=c}if(u=!1,a!==2)continue}}if(a===1){Nn(t,0),Sl(t,e,0,!0);break}t:{switch(n=t,u=a,u){case 0:case 1:throw Error(s(345));case 4:if((e&4194048)!==e)break;case 6:Sl(n,e,se,!ml);break t;case 2:It=null;break;case 3:case 5:break;default:throw Error(s(329))}if((e&62914560)===e&&(a=zu+300-ee(),10<a)){if(Sl(n,e,se,!ml),Ya(n,0,!0)!==0)break t;tl=e,n.timeoutHandle=ph(Go.bind(null,n,l,It,Nu,Vc,e,se,Jl,zn,ml,u,"Throttled",-0,0),a);break t}Go(n,l,It,Nu,Vc,e,se,Jl,zn,ml,u,null,-0,0)}}break}while(!0);qe(t)}function Go(t,e,l,n,a,u,c,o,h,g,_,O,S,b){if(t.timeoutHandle=-1,O=e.subtreeFlags,O&8192||(O&16785408)===16785408){O={stylesheets:null,count:0,imgCount:0,imgBytes:0,suspenseyImages:[],waitingForImages:!0,waitingForViewTransition:!1,unsuspend:Le},Bo(e,u,O);var B=(u&62914560)===u?zu-ee():(u&4194048)===u?Yo-ee():0;if(B=Bm(O,B),B!==null){tl=u,t.cancelPendingCommit=B(Wo.bind(null,t,e,u,l,n,a,c,o,h,_,O,null,S,b)),Sl(t,u,c,!g);return}}Wo(t,e,u,l,n,a,c,o,h)}function Wy(t){for(var e=t;;){var l=e.tag;if((l===0||l===11||l===15)&&e.flags&16384&&(l=e.updateQueue,l!==null&&(l=l.stores,l!==null)))for(var n=0;n<l.length;n++){var a=l[n],u=a.getSnapshot;a=a.value;try{if(!ae(u(),a))return!1}catch{return!1}}if(l=e.child,e.subtreeFlags&16384&&l!==null)l.return=e,e=l;else{if(e===t)break;for(;e.sibling===null;){if(e.return===null||e.return===t)return!0;e=e.return}e.sibling.return=e.return,e=e.sibling}}return!0}function Sl(t,e,l,n){e&=~Qc,e&=~Jl,t.suspendedLanes|=e,t.pingedLanes&=~e,n&&(t.warmLanes|=e),n=t.expirationTimes;for(var a=e;0<a;){var u=31-ne(a),c=1<<u;n[u]=-1,a&=~c}l!==0&&$f(t,l,e)}function Du(){return(ut&6)===0?(ga(0),!1):!0}function Jc(){if(W!==null){if(ft===0)var t=W.return;else t=W,Ve=jl=null,sc(t),pn=null,ta=0,t=W;for(;t!==null;)go(t.alternate,t),t=t.return;W=null}}function Nn(t,e){var l=t.timeoutHandle;l!==-1&&(t.timeoutHandle=-1,mm(l)),l=t.cancelPendingCommit,l!==null&&(t.cancelPendingCommit=null,l()),tl=0,Jc(),mt=t,W=l=Ge(t.current,null),F=e,ft=0,fe=null,ml=!1,An=Yn(t,e),Gc=!1,zn=se=Qc=Jl=vl=_t=0,It=va=null,Vc=!1,(e&8)!==0&&(e|=e&32);var n=t.entangledLanes;if(n!==0)for(t=t.entanglements,n&=e;0<n;){var a=31-ne(n),u=1<<a;e|=t[a],n&=~u}return Pe=e,Wa(),l}function Qo(t,e){w=null,E.H=fa,e===vn||e===nu?(e=nr(),ft=3):e===Fi?(e=nr(),ft=4):ft=e===zc?8:e!==null&&typeof e=="object"&&typeof e.then=="function"?6:1,fe=e,W===null&&(_t=1,pu(t,me(e,t.current)))}function Vo(){var t=ie.current;return t===null?!0:(F&4194048)===F?Se===null:(F&62914560)===F||(F&536870912)!==0?t===Se:!1}function Zo(){var t=E.H;return E.H=fa,t===null?fa:t}function wo(){var t=E.A;return E.A=Jy,t}function Ru(){_t=4,ml||(F&4194048)!==F&&ie.current!==null||(An=!0),(vl&134217727)===0&&(Jl&134217727)===0||mt===null||Sl(mt,F,se,!1)}function kc(t,e,l){var n=ut;ut|=2;var a=Zo(),u=wo();(mt!==t||F!==e)&&(Nu=null,Nn(t,e)),e=!1;var c=_t;t:do try{if(ft!==0&&W!==null){var o=W,h=fe;switch(ft){case 8:Jc(),c=6;break t;case 3:case 2:case 9:case 6:ie.current===null&&(e=!0);var g=ft;if(ft=0,fe=null,Dn(t,o,h,g),l&&An){c=0;break t}break;default:g=ft,ft=0,fe=null,Dn(t,o,h,g)}}$y(),c=_t;break}catch(_){Qo(t,_)}while(!0);return e&&t.shellSuspendCounter++,Ve=jl=null,ut=n,E.H=a,E.A=u,W===null&&(mt=null,F=0,Wa()),c}function $y(){for(;W!==null;)Ko(W)}function Fy(t,e){var l=ut;ut|=2;var n=Zo(),a=wo();mt!==t||F!==e?(Nu=null,Ou=ee()+500,Nn(t,e)):An=Yn(t,e);t:do try{if(ft!==0&&W!==null){e=W;var u=fe;e:switch(ft){case 1:ft=0,fe=null,Dn(t,e,u,1);break;case 2:case 9:if(er(u)){ft=0,fe=null,Jo(e);break}e=function(){ft!==2&&ft!==9||mt!==t||(ft=7),qe(t)},u.then(e,e);break t;case 3:ft=7;break t;case 4:ft=5;break t;case 7:er(u)?(ft=0,fe=null,Jo(e)):(ft=0,fe=null,Dn(t,e,u,7));break;case 5:var c=null;switch(W.tag){case 26:c=W.memoizedState;case 5:case 27:var o=W;if(c?Ch(c):o.stateNode.complete){ft=0,fe=null;var h=o.sibling;if(h!==null)W=h;else{var g=o.return;g!==null?(W=g,Mu(g)):W=null}break e}}ft=0,fe=null,Dn(t,e,u,5);break;case 6:ft=0,fe=null,Dn(t,e,u,6);break;case 8:Jc(),_t=6;break t;default:throw Error(s(462))}}Iy();break}catch(_){Qo(t,_)}while(!0);return Ve=jl=null,E.H=n,E.A=a,ut=l,W!==null?0:(mt=null,F=0,Wa(),_t)}function Iy(){for(;W!==null&&!_d();)Ko(W)}function Ko(t){var e=vo(t.alternate,t,Pe);t.memoizedProps=t.pendingProps,e===null?Mu(t):W=e}function Jo(t){var e=t,l=e.alternate;switch(e.tag){case 15:case 0:e=so(l,e,e.pendingProps,e.type,void 0,F);break;case 11:e=so(l,e,e.pendingProps,e.type.render,e.ref,F);break;case 5:sc(e);default:go(l,e),e=W=Zs(e,Pe),e=vo(l,e,Pe)}t.memoizedProps=t.pendingProps,e===null?Mu(t):W=e}function Dn(t,e,l,n){Ve=jl=null,sc(e),pn=null,ta=0;var a=e.return;try{if(Xy(t,a,e,l,F)){_t=1,pu(t,me(l,t.current)),W=null;return}}catch(u){if(a!==null)throw W=a,u;_t=1,pu(t,me(l,t.current)),W=null;return}e.flags&32768?(tt||n===1?t=!0:An||(F&536870912)!==0?t=!1:(ml=t=!0,(n===2||n===9||n===3||n===6)&&(n=ie.current,n!==null&&n.tag===13&&(n.flags|=16384))),ko(e,t)):Mu(e)}function Mu(t){var e=t;do{if((e.flags&32768)!==0){ko(e,ml);return}t=e.return;var l=Vy(e.alternate,e,Pe);if(l!==null){W=l;return}if(e=e.sibling,e!==null){W=e;return}W=e=t}while(e!==null);_t===0&&(_t=5)}function ko(t,e){do{var l=Zy(t.alternate,t);if(l!==null){l.flags&=32767,W=l;return}if(l=t.return,l!==null&&(l.flags|=32768,l.subtreeFlags=0,l.deletions=null),!e&&(t=t.sibling,t!==null)){W=t;return}W=t=l}while(t!==null);_t=6,W=null}function Wo(t,e,l,n,a,u,c,o,h){t.cancelPendingCommit=null;do Uu();while(Ut!==0);if((ut&6)!==0)throw Error(s(327));if(e!==null){if(e===t.current)throw Error(s(177));if(u=e.lanes|e.childLanes,u|=xi,Ud(t,l,u,c,o,h),t===mt&&(W=mt=null,F=0),On=e,gl=t,tl=l,Zc=u,wc=a,jo=n,(e.subtreeFlags&10256)!==0||(e.flags&10256)!==0?(t.callbackNode=null,t.callbackPriority=0,lm(Ba,function(){return th(),null})):(t.callbackNode=null,t.callbackPriority=0),n=(e.flags&13878)!==0,(e.subtreeFlags&13878)!==0||n){n=E.T,E.T=null,a=M.p,M.p=2,c=ut,ut|=4;try{wy(t,e,l)}finally{ut=c,M.p=a,E.T=n}}Ut=1,$o(),Fo(),Io()}}function $o(){if(Ut===1){Ut=0;var t=gl,e=On,l=(e.flags&13878)!==0;if((e.subtreeFlags&13878)!==0||l){l=E.T,E.T=null;var n=M.p;M.p=2;var a=ut;ut|=4;try{Mo(e,t);var u=cf,c=Hs(t.containerInfo),o=u.focusedElem,h=u.selectionRange;if(c!==o&&o&&o.ownerDocument&&qs(o.ownerDocument.documentElement,o)){if(h!==null&&Ui(o)){var g=h.start,_=h.end;if(_===void 0&&(_=g),"selectionStart"in o)o.selectionStart=g,o.selectionEnd=Math.min(_,o.value.length);else{var O=o.ownerDocument||document,S=O&&O.defaultView||window;if(S.getSelection){var b=S.getSelection(),B=o.textContent.length,X=Math.min(h.start,B),dt=h.end===void 0?X:Math.min(h.end,B);!b.extend&&X>dt&&(c=dt,dt=X,X=c);var m=Bs(o,X),d=Bs(o,dt);if(m&&d&&(b.rangeCount!==1||b.anchorNode!==m.node||b.anchorOffset!==m.offset||b.focusNode!==d.node||b.focusOffset!==d.offset)){var p=O.createRange();p.setStart(m.node,m.offset),b.removeAllRanges(),X>dt?(b.addRange(p),b.extend(d.node,d.offset)):(p.setEnd(d.node,d.offset),b.addRange(p))}}}}for(O=[],b=o;b=b.parentNode;)b.nodeType===1&&O.push({element:b,left:b.scrollLeft,top:b.scrollTop});for(typeof o.focus=="function"&&o.focus(),o=0;o<O.length;o++){var A=O[o];A.element.scrollLeft=A.left,A.element.scrollTop=A.top}}Vu=!!uf,cf=uf=null}finally{ut=a,M.p=n,E.T=l}}t.current=e,Ut=2}}function Fo(){if(Ut===2){Ut=0;var t=gl,e=On,l=(e.flags&8772)!==0;if((e.subtreeFlags&8772)!==0||l){l=E.T,E.T=null;var n=M.p;M.p=2;var a=ut;ut|=4;try{zo(t,e.alternate,e)}finally{ut=a,M.p=n,E.T=l}}Ut=3}}function Io(){if(Ut===4||Ut===3){Ut=0,Ed();var t=gl,e=On,l=tl,n=jo;(e.subtreeFlags&10256)!==0||(e.flags&10256)!==0?Ut=5:(Ut=0,On=gl=null,Po(t,t.pendingLanes));var a=t.pendingLanes;if(a===0&&(pl=null),hi(l),e=e.stateNode,le&&typeof le.onCommitFiberRoot=="function")try{le.onCommitFiberRoot(xn,e,void 0,(e.current.flags&128)===128)}catch{}if(n!==null){e=E.T,a=M.p,M.p=2,E.T=null;try{for(var u=t.onRecoverableError,c=0;c<n.length;c++){var o=n[c];u(o.value,{componentStack:o.stack})}}finally{E.T=e,M.p=a}}(tl&3)!==0&&Uu(),qe(t),a=t.pendingLanes,(l&261930)!==0&&(a&42)!==0?t===Kc?pa++:(pa=0,Kc=t):pa=0,ga(0)}}function Po(t,e){(t.pooledCacheLanes&=e)===0&&(e=t.pooledCache,e!=null&&(t.pooledCache=null,In(e)))}function Uu(){return $o(),Fo(),Io(),th()}function th(){if(Ut!==5)return!1;var t=gl,e=Zc;Zc=0;var l=hi(tl),n=E.T,a=M.p;try{M.p=32>l?32:l,E.T=null,l=wc,wc=null;var u=gl,c=tl;if(Ut=0,On=gl=null,tl=0,(ut&6)!==0)throw Error(s(331));var o=ut;if(ut|=4,Ho(u.current),Co(u,u.current,c,l),ut=o,ga(0,!1),le&&typeof le.onPostCommitFiberRoot=="function")try{le.onPostCommitFiberRoot(xn,u)}catch{}return!0}finally{M.p=a,E.T=n,Po(t,e)}}function eh(t,e,l){e=me(l,e),e=Ac(t.stateNode,e,2),t=ol(t,e,2),t!==null&&(jn(t,2),qe(t))}function st(t,e,l){if(t.tag===3)eh(t,t,l);else for(;e!==null;){if(e.tag===3){eh(e,t,l);break}else if(e.tag===1){var n=e.stateNode;if(typeof e.type.getDerivedStateFromError=="function"||typeof n.componentDidCatch=="function"&&(pl===null||!pl.has(n))){t=me(l,t),l=eo(2),n=ol(e,l,2),n!==null&&(lo(l,n,e,t),jn(n,2),qe(n));break}}e=e.return}}function Wc(t,e,l){var n=t.pingCache;if(n===null){n=t.pingCache=new ky;var a=new Set;n.set(e,a)}else a=n.get(e),a===void 0&&(a=new Set,n.set(e,a));a.has(l)||(Gc=!0,a.add(l),t=Py.bind(null,t,e,l),e.then(t,t))}function Py(t,e,l){var n=t.pingCache;n!==null&&n.delete(e),t.pingedLanes|=t.suspendedLanes&l,t.warmLanes&=~l,mt===t&&(F&l)===l&&(_t===4||_t===3&&(F&62914560)===F&&300>ee()-zu?(ut&2)===0&&Nn(t,0):Qc|=l,zn===F&&(zn=0)),qe(t)}function lh(t,e){e===0&&(e=Wf()),t=Hl(t,e),t!==null&&(jn(t,e),qe(t))}function tm(t){var e=t.memoizedState,l=0;e!==null&&(l=e.retryLane),lh(t,l)}function em(t,e){var l=0;switch(t.tag){case 31:case 13:var n=t.stateNode,a=t.memoizedState;a!==null&&(l=a.retryLane);break;case 19:n=t.stateNode;break;case 22:n=t.stateNode._retryCache;break;default:throw Error(s(314))}n!==null&&n.delete(e),lh(t,l)}function lm(t,e){return fi(t,e)}var Cu=null,Rn=null,$c=!1,Bu=!1,Fc=!1,bl=0;function qe(t){t!==Rn&&t.next===null&&(Rn===null?Cu=Rn=t:Rn=Rn.next=t),Bu=!0,$c||($c=!0,am())}function ga(t,e){if(!Fc&&Bu){Fc=!0;do for(var l=!1,n=Cu;n!==null;){if(t!==0){var a=n.pendingLanes;if(a===0)var u=0;else{var c=n.suspendedLanes,o=n.pingedLanes;u=(1<<31-ne(42|t)+1)-1,u&=a&~(c&~o),u=u&201326741?u&201326741|1:u?u|2:0}u!==0&&(l=!0,ih(n,u))}else u=F,u=Ya(n,n===mt?u:0,n.cancelPendingCommit!==null||n.timeoutHandle!==-1),(u&3)===0||Yn(n,u)||(l=!0,ih(n,u));n=n.next}while(l);Fc=!1}}function nm(){nh()}function nh(){Bu=$c=!1;var t=0;bl!==0&&ym()&&(t=bl);for(var e=ee(),l=null,n=Cu;n!==null;){var a=n.next,u=ah(n,e);u===0?(n.next=null,l===null?Cu=a:l.next=a,a===null&&(Rn=l)):(l=n,(t!==0||(u&3)!==0)&&(Bu=!0)),n=a}Ut!==0&&Ut!==5||ga(t),bl!==0&&(bl=0)}function ah(t,e){for(var l=t.suspendedLanes,n=t.pingedLanes,a=t.expirationTimes,u=t.pendingLanes&-62914561;0<u;){var c=31-ne(u),o=1<<c,h=a[c];h===-1?((o&l)===0||(o&n)!==0)&&(a[c]=Md(o,e)):h<=e&&(t.expiredLanes|=o),u&=~o}if(e=mt,l=F,l=Ya(t,t===e?l:0,t.cancelPendingCommit!==null||t.timeoutHandle!==-1),n=t.callbackNode,l===0||t===e&&(ft===2||ft===9)||t.cancelPendingCommit!==null)return n!==null&&n!==null&&si(n),t.callbackNode=null,t.callbackPriority=0;if((l&3)===0||Yn(t,l)){if(e=l&-l,e===t.callbackPriority)return e;switch(n!==null&&si(n),hi(l)){case 2:case 8:l=Jf;break;case 32:l=Ba;break;case 268435456:l=kf;break;default:l=Ba}return n=uh.bind(null,t),l=fi(l,n),t.callbackPriority=e,t.callbackNode=l,e}return n!==null&&n!==null&&si(n),t.callbackPriority=2,t.callbackNode=null,2}function uh(t,e){if(Ut!==0&&Ut!==5)return t.callbackNode=null,t.callbackPriority=0,null;var l=t.callbackNode;if(Uu()&&t.callbackNode!==l)return null;var n=F;return n=Ya(t,t===mt?n:0,t.cancelPendingCommit!==null||t.timeoutHandle!==-1),n===0?null:(Xo(t,n,e),ah(t,ee()),t.callbackNode!=null&&t.callbackNode===l?uh.bind(null,t):null)}function ih(t,e){if(Uu())return null;Xo(t,e,!0)}function am(){vm(function(){(ut&6)!==0?fi(Kf,nm):nh()})}function Ic(){if(bl===0){var t=yn;t===0&&(t=qa,qa<<=1,(qa&261888)===0&&(qa=256)),bl=t}return bl}function ch(t){return t==null||typeof t=="symbol"||typeof t=="boolean"?null:typeof t=="function"?t:Ga(""+t)}function fh(t,e){var l=e.ownerDocument.createElement("input");return l.name=e.name,l.value=e.value,t.id&&l.setAttribute("form",t.id),e.parentNode.insertBefore(l,e),t=new FormData(t),l.parentNode.removeChild(l),t}function um(t,e,l,n,a){if(e==="submit"&&l&&l.stateNode===a){var u=ch((a[Jt]||null).action),c=n.submitter;c&&(e=(e=c[Jt]||null)?ch(e.formAction):c.getAttribute("formAction"),e!==null&&(u=e,c=null));var o=new wa("action","action",null,n,a);t.push({event:o,listeners:[{instance:null,listener:function(){if(n.defaultPrevented){if(bl!==0){var h=c?fh(a,c):new FormData(a);gc(l,{pending:!0,data:h,method:a.method,action:u},null,h)}}else typeof u=="function"&&(o.preventDefault(),h=c?fh(a,c):new FormData(a),gc(l,{pending:!0,data:h,method:a.method,action:u},u,h))},currentTarget:a}]})}}for(var Pc=0;Pc<Hi.length;Pc++){var tf=Hi[Pc],im=tf.toLowerCase(),cm=tf[0].toUpperCase()+tf.slice(1);Ae(im,"on"+cm)}Ae(js,"onAnimationEnd"),Ae(Ls,"onAnimationIteration"),Ae(Xs,"onAnimationStart"),Ae("dblclick","onDoubleClick"),Ae("focusin","onFocus"),Ae("focusout","onBlur"),Ae(Ty,"onTransitionRun"),Ae(Ay,"onTransitionStart"),Ae(zy,"onTransitionCancel"),Ae(Gs,"onTransitionEnd"),Pl("onMouseEnter",["mouseout","mouseover"]),Pl("onMouseLeave",["mouseout","mouseover"]),Pl("onPointerEnter",["pointerout","pointerover"]),Pl("onPointerLeave",["pointerout","pointerover"]),Ul("onChange","change click focusin focusout input keydown keyup selectionchange".split(" ")),Ul("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" ")),Ul("onBeforeInput",["compositionend","keypress","textInput","paste"]),Ul("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" ")),Ul("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" ")),Ul("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var Sa="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),fm=new Set("beforetoggle cancel close invalid load scroll scrollend toggle".split(" ").concat(Sa));function sh(t,e){e=(e&4)!==0;for(var l=0;l<t.length;l++){var n=t[l],a=n.event;n=n.listeners;t:{var u=void 0;if(e)for(var c=n.length-1;0<=c;c--){var o=n[c],h=o.instance,g=o.currentTarget;if(o=o.listener,h!==u&&a.isPropagationStopped())break t;u=o,a.currentTarget=g;try{u(a)}catch(_){ka(_)}a.currentTarget=null,u=h}else for(c=0;c<n.length;c++){if(o=n[c],h=o.instance,g=o.currentTarget,o=o.listener,h!==u&&a.isPropagationStopped())break t;u=o,a.currentTarget=g;try{u(a)}catch(_){ka(_)}a.currentTarget=null,u=h}}}}function $(t,e){var l=e[di];l===void 0&&(l=e[di]=new Set);var n=t+"__bubble";l.has(n)||(rh(e,t,2,!1),l.add(n))}function ef(t,e,l){var n=0;e&&(n|=4),rh(l,t,n,e)}var qu="_reactListening"+Math.random().toString(36).slice(2);function lf(t){if(!t[qu]){t[qu]=!0,ls.forEach(function(l){l!=="selectionchange"&&(fm.has(l)||ef(l,!1,t),ef(l,!0,t))});var e=t.nodeType===9?t:t.ownerDocument;e===null||e[qu]||(e[qu]=!0,ef("selectionchange",!1,e))}}function rh(t,e,l,n){switch(Lh(e)){case 2:var a=xm;break;case 8:a=Ym;break;default:a=gf}l=a.bind(null,e,l,t),a=void 0,!Ei||e!=="touchstart"&&e!=="touchmove"&&e!=="wheel"||(a=!0),n?a!==void 0?t.addEventListener(e,l,{capture:!0,passive:a}):t.addEventListener(e,l,!0):a!==void 0?t.addEventListener(e,l,{passive:a}):t.addEventListener(e,l,!1)}function nf(t,e,l,n,a){var u=n;if((e&1)===0&&(e&2)===0&&n!==null)t:for(;;){if(n===null)return;var c=n.tag;if(c===3||c===4){var o=n.stateNode.containerInfo;if(o===a)break;if(c===4)for(c=n.return;c!==null;){var h=c.tag;if((h===3||h===4)&&c.stateNode.containerInfo===a)return;c=c.return}for(;o!==null;){if(c=$l(o),c===null)return;if(h=c.tag,h===5||h===6||h===26||h===27){n=u=c;continue t}o=o.parentNode}}n=n.return}ys(function(){var g=u,_=bi(l),O=[];t:{var S=Qs.get(t);if(S!==void 0){var b=wa,B=t;switch(t){case"keypress":if(Va(l)===0)break t;case"keydown":case"keyup":b=ey;break;case"focusin":B="focus",b=Oi;break;case"focusout":B="blur",b=Oi;break;case"beforeblur":case"afterblur":b=Oi;break;case"click":if(l.button===2)break t;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":b=ps;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":b=Vd;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":b=ay;break;case js:case Ls:case Xs:b=Kd;break;case Gs:b=iy;break;case"scroll":case"scrollend":b=Gd;break;case"wheel":b=fy;break;case"copy":case"cut":case"paste":b=kd;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":b=Ss;break;case"toggle":case"beforetoggle":b=ry}var X=(e&4)!==0,dt=!X&&(t==="scroll"||t==="scrollend"),m=X?S!==null?S+"Capture":null:S;X=[];for(var d=g,p;d!==null;){var A=d;if(p=A.stateNode,A=A.tag,A!==5&&A!==26&&A!==27||p===null||m===null||(A=Gn(d,m),A!=null&&X.push(ba(d,A,p))),dt)break;d=d.return}0<X.length&&(S=new b(S,B,null,l,_),O.push({event:S,listeners:X}))}}if((e&7)===0){t:{if(S=t==="mouseover"||t==="pointerover",b=t==="mouseout"||t==="pointerout",S&&l!==Si&&(B=l.relatedTarget||l.fromElement)&&($l(B)||B[Wl]))break t;if((b||S)&&(S=_.window===_?_:(S=_.ownerDocument)?S.defaultView||S.parentWindow:window,b?(B=l.relatedTarget||l.toElement,b=g,B=B?$l(B):null,B!==null&&(dt=T(B),X=B.tag,B!==dt||X!==5&&X!==27&&X!==6)&&(B=null)):(b=null,B=g),b!==B)){if(X=ps,A="onMouseLeave",m="onMouseEnter",d="mouse",(t==="pointerout"||t==="pointerover")&&(X=Ss,A="onPointerLeave",m="onPointerEnter",d="pointer"),dt=b==null?S:Xn(b),p=B==null?S:Xn(B),S=new X(A,d+"leave",b,l,_),S.target=dt,S.relatedTarget=p,A=null,$l(_)===g&&(X=new X(m,d+"enter",B,l,_),X.target=p,X.relatedTarget=dt,A=X),dt=A,b&&B)e:{for(X=sm,m=b,d=B,p=0,A=m;A;A=X(A))p++;A=0;for(var L=d;L;L=X(L))A++;for(;0<p-A;)m=X(m),p--;for(;0<A-p;)d=X(d),A--;for(;p--;){if(m===d||d!==null&&m===d.alternate){X=m;break e}m=X(m),d=X(d)}X=null}else X=null;b!==null&&oh(O,S,b,X,!1),B!==null&&dt!==null&&oh(O,dt,B,X,!0)}}t:{if(S=g?Xn(g):window,b=S.nodeName&&S.nodeName.toLowerCase(),b==="select"||b==="input"&&S.type==="file")var nt=Ns;else if(zs(S))if(Ds)nt=by;else{nt=gy;var x=py}else b=S.nodeName,!b||b.toLowerCase()!=="input"||S.type!=="checkbox"&&S.type!=="radio"?g&&gi(g.elementType)&&(nt=Ns):nt=Sy;if(nt&&(nt=nt(t,g))){Os(O,nt,l,_);break t}x&&x(t,S,g),t==="focusout"&&g&&S.type==="number"&&g.memoizedProps.value!=null&&pi(S,"number",S.value)}switch(x=g?Xn(g):window,t){case"focusin":(zs(x)||x.contentEditable==="true")&&(un=x,Ci=g,Wn=null);break;case"focusout":Wn=Ci=un=null;break;case"mousedown":Bi=!0;break;case"contextmenu":case"mouseup":case"dragend":Bi=!1,xs(O,l,_);break;case"selectionchange":if(Ey)break;case"keydown":case"keyup":xs(O,l,_)}var K;if(Di)t:{switch(t){case"compositionstart":var I="onCompositionStart";break t;case"compositionend":I="onCompositionEnd";break t;case"compositionupdate":I="onCompositionUpdate";break t}I=void 0}else an?Ts(t,l)&&(I="onCompositionEnd"):t==="keydown"&&l.keyCode===229&&(I="onCompositionStart");I&&(bs&&l.locale!=="ko"&&(an||I!=="onCompositionStart"?I==="onCompositionEnd"&&an&&(K=ms()):(al=_,Ti="value"in al?al.value:al.textContent,an=!0)),x=Hu(g,I),0<x.length&&(I=new gs(I,t,null,l,_),O.push({event:I,listeners:x}),K?I.data=K:(K=As(l),K!==null&&(I.data=K)))),(K=hy?dy(t,l):yy(t,l))&&(I=Hu(g,"onBeforeInput"),0<I.length&&(x=new gs("onBeforeInput","beforeinput",null,l,_),O.push({event:x,listeners:I}),x.data=K)),um(O,t,g,l,_)}sh(O,e)})}function ba(t,e,l){return{instance:t,listener:e,currentTarget:l}}function Hu(t,e){for(var l=e+"Capture",n=[];t!==null;){var a=t,u=a.stateNode;if(a=a.tag,a!==5&&a!==26&&a!==27||u===null||(a=Gn(t,l),a!=null&&n.unshift(ba(t,a,u)),a=Gn(t,e),a!=null&&n.push(ba(t,a,u))),t.tag===3)return n;t=t.return}return[]}function sm(t){if(t===null)return null;do t=t.return;while(t&&t.tag!==5&&t.tag!==27);return t||null}function oh(t,e,l,n,a){for(var u=e._reactName,c=[];l!==null&&l!==n;){var o=l,h=o.alternate,g=o.stateNode;if(o=o.tag,h!==null&&h===n)break;o!==5&&o!==26&&o!==27||g===null||(h=g,a?(g=Gn(l,u),g!=null&&c.unshift(ba(l,g,h))):a||(g=Gn(l,u),g!=null&&c.push(ba(l,g,h)))),l=l.return}c.length!==0&&t.push({event:e,listeners:c})}var rm=/\r\n?/g,om=/\u0000|\uFFFD/g;function hh(t){return(typeof t=="string"?t:""+t).replace(rm,`
-`).replace(om,"")}function dh(t,e){return e=hh(e),hh(t)===e}function ht(t,e,l,n,a,u){switch(l){case"children":typeof n=="string"?e==="body"||e==="textarea"&&n===""||en(t,n):(typeof n=="number"||typeof n=="bigint")&&e!=="body"&&en(t,""+n);break;case"className":La(t,"class",n);break;case"tabIndex":La(t,"tabindex",n);break;case"dir":case"role":case"viewBox":case"width":case"height":La(t,l,n);break;case"style":hs(t,n,u);break;case"data":if(e!=="object"){La(t,"data",n);break}case"src":case"href":if(n===""&&(e!=="a"||l!=="href")){t.removeAttribute(l);break}if(n==null||typeof n=="function"||typeof n=="symbol"||typeof n=="boolean"){t.removeAttribute(l);break}n=Ga(""+n),t.setAttribute(l,n);break;case"action":case"formAction":if(typeof n=="function"){t.setAttribute(l,"javascript:throw new Error('A React form was unexpectedly submitted. If you called form.submit() manually, consider using form.requestSubmit() instead. If you\\'re trying to use event.stopPropagation() in a submit event handler, consider also calling event.preventDefault().')");break}else typeof u=="function"&&(l==="formAction"?(e!=="input"&&ht(t,e,"name",a.name,a,null),ht(t,e,"formEncType",a.formEncType,a,null),ht(t,e,"formMethod",a.formMethod,a,null),ht(t,e,"formTarget",a.formTarget,a,null)):(ht(t,e,"encType",a.encType,a,null),ht(t,e,"method",a.method,a,null),ht(t,e,"target",a.target,a,null)));if(n==null||typeof n=="symbol"||typeof n=="boolean"){t.removeAttribute(l);break}n=Ga(""+n),t.setAttribute(l,n);break;case"onClick":n!=null&&(t.onclick=Le);break;case"onScroll":n!=null&&$("scroll",t);break;case"onScrollEnd":n!=null&&$("scrollend",t);break;case"dangerouslySetInnerHTML":if(n!=null){if(typeof n!="object"||!("__html"in n))throw Error(s(61));if(l=n.__html,l!=null){if(a.children!=null)throw Error(s(60));t.innerHTML=l}}break;case"multiple":t.multiple=n&&typeof n!="function"&&typeof n!="symbol";break;case"muted":t.muted=n&&typeof n!="function"&&typeof n!="symbol";break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"defaultValue":case"defaultChecked":case"innerHTML":case"ref":break;case"autoFocus":break;case"xlinkHref":if(n==null||typeof n=="function"||typeof n=="boolean"||typeof n=="symbol"){t.removeAttribute("xlink:href");break}l=Ga(""+n),t.setAttributeNS("http://www.w3.org/1999/xlink","xlink:href",l);break;case"contentEditable":case"spellCheck":case"draggable":case"value":case"autoReverse":case"externalResourcesRequired":case"focusable":case"preserveAlpha":n!=null&&typeof n!="function"&&typeof n!="symbol"?t.setAttribute(l,""+n):t.removeAttribute(l);break;case"inert":case"allowFullScreen":case"async":case"autoPlay":case"controls":case"default":case"defer":case"disabled":case"disablePictureInPicture":case"disableRemotePlayback":case"formNoValidate":case"hidden":case"loop":case"noModule":case"noValidate":case"open":case"playsInline":case"readOnly":case"required":case"reversed":case"scoped":case"seamless":case"itemScope":n&&typeof n!="function"&&typeof n!="symbol"?t.setAttribute(l,""):t.removeAttribute(l);break;case"capture":case"download":n===!0?t.setAttribute(l,""):n!==!1&&n!=null&&typeof n!="function"&&typeof n!="symbol"?t.setAttribute(l,n):t.removeAttribute(l);break;case"cols":case"rows":case"size":case"span":n!=null&&typeof n!="function"&&typeof n!="symbol"&&!isNaN(n)&&1<=n?t.setAttribute(l,n):t.removeAttribute(l);break;case"rowSpan":case"start":n==null||typeof n=="function"||typeof n=="symbol"||isNaN(n)?t.removeAttribute(l):t.setAttribute(l,n);break;case"popover":$("beforetoggle",t),$("toggle",t),ja(t,"popover",n);break;case"xlinkActuate":je(t,"http://www.w3.org/1999/xlink","xlink:actuate",n);break;case"xlinkArcrole":je(t,"http://www.w3.org/1999/xlink","xlink:arcrole",n);break;case"xlinkRole":je(t,"http://www.w3.org/1999/xlink","xlink:role",n);break;case"xlinkShow":je(t,"http://www.w3.org/1999/xlink","xlink:show",n);break;case"xlinkTitle":je(t,"http://www.w3.org/1999/xlink","xlink:title",n);break;case"xlinkType":je(t,"http://www.w3.org/1999/xlink","xlink:type",n);break;case"xmlBase":je(t,"http://www.w3.org/XML/1998/namespace","xml:base",n);break;case"xmlLang":je(t,"http://www.w3.org/XML/1998/namespace","xml:lang",n);break;case"xmlSpace":je(t,"http://www.w3.org/XML/1998/namespace","xml:space",n);break;case"is":ja(t,"is",n);break;case"innerText":case"textContent":break;default:(!(2<l.length)||l[0]!=="o"&&l[0]!=="O"||l[1]!=="n"&&l[1]!=="N")&&(l=Ld.get(l)||l,ja(t,l,n))}}function af(t,e,l,n,a,u){switch(l){case"style":hs(t,n,u);break;case"dangerouslySetInnerHTML":if(n!=null){if(typeof n!="object"||!("__html"in n))throw Error(s(61));if(l=n.__html,l!=null){if(a.children!=null)throw Error(s(60));t.innerHTML=l}}break;case"children":typeof n=="string"?en(t,n):(typeof n=="number"||typeof n=="bigint")&&en(t,""+n);break;case"onScroll":n!=null&&$("scroll",t);break;case"onScrollEnd":n!=null&&$("scrollend",t);break;case"onClick":n!=null&&(t.onclick=Le);break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"innerHTML":case"ref":break;case"innerText":case"textContent":break;default:if(!ns.hasOwnProperty(l))t:{if(l[0]==="o"&&l[1]==="n"&&(a=l.endsWith("Capture"),e=l.slice(2,a?l.length-7:void 0),u=t[Jt]||null,u=u!=null?u[l]:null,typeof u=="function"&&t.removeEventListener(e,u,a),typeof n=="function")){typeof u!="function"&&u!==null&&(l in t?t[l]=null:t.hasAttribute(l)&&t.removeAttribute(l)),t.addEventListener(e,n,a);break t}l in t?t[l]=n:n===!0?t.setAttribute(l,""):ja(t,l,n)}}}function Lt(t,e,l){switch(e){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"img":$("error",t),$("load",t);var n=!1,a=!1,u;for(u in l)if(l.hasOwnProperty(u)){var c=l[u];if(c!=null)switch(u){case"src":n=!0;break;case"srcSet":a=!0;break;case"children":case"dangerouslySetInnerHTML":throw Error(s(137,e));default:ht(t,e,u,c,l,null)}}a&&ht(t,e,"srcSet",l.srcSet,l,null),n&&ht(t,e,"src",l.src,l,null);return;case"input":$("invalid",t);var o=u=c=a=null,h=null,g=null;for(n in l)if(l.hasOwnProperty(n)){var _=l[n];if(_!=null)switch(n){case"name":a=_;break;case"type":c=_;break;case"checked":h=_;break;case"defaultChecked":g=_;break;case"value":u=_;break;case"defaultValue":o=_;break;case"children":case"dangerouslySetInnerHTML":if(_!=null)throw Error(s(137,e));break;default:ht(t,e,n,_,l,null)}}fs(t,u,o,h,g,c,a,!1);return;case"select":$("invalid",t),n=c=u=null;for(a in l)if(l.hasOwnProperty(a)&&(o=l[a],o!=null))switch(a){case"value":u=o;break;case"defaultValue":c=o;break;case"multiple":n=o;default:ht(t,e,a,o,l,null)}e=u,l=c,t.multiple=!!n,e!=null?tn(t,!!n,e,!1):l!=null&&tn(t,!!n,l,!0);return;case"textarea":$("invalid",t),u=a=n=null;for(c in l)if(l.hasOwnProperty(c)&&(o=l[c],o!=null))switch(c){case"value":n=o;break;case"defaultValue":a=o;break;case"children":u=o;break;case"dangerouslySetInnerHTML":if(o!=null)throw Error(s(91));break;default:ht(t,e,c,o,l,null)}rs(t,n,a,u);return;case"option":for(h in l)if(l.hasOwnProperty(h)&&(n=l[h],n!=null))switch(h){case"selected":t.selected=n&&typeof n!="function"&&typeof n!="symbol";break;default:ht(t,e,h,n,l,null)}return;case"dialog":$("beforetoggle",t),$("toggle",t),$("cancel",t),$("close",t);break;case"iframe":case"object":$("load",t);break;case"video":case"audio":for(n=0;n<Sa.length;n++)$(Sa[n],t);break;case"image":$("error",t),$("load",t);break;case"details":$("toggle",t);break;case"embed":case"source":case"link":$("error",t),$("load",t);case"area":case"base":case"br":case"col":case"hr":case"keygen":case"meta":case"param":case"track":case"wbr":case"menuitem":for(g in l)if(l.hasOwnProperty(g)&&(n=l[g],n!=null))switch(g){case"children":case"dangerouslySetInnerHTML":throw Error(s(137,e));default:ht(t,e,g,n,l,null)}return;default:if(gi(e)){for(_ in l)l.hasOwnProperty(_)&&(n=l[_],n!==void 0&&af(t,e,_,n,l,void 0));return}}for(o in l)l.hasOwnProperty(o)&&(n=l[o],n!=null&&ht(t,e,o,n,l,null))}function hm(t,e,l,n){switch(e){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"input":var a=null,u=null,c=null,o=null,h=null,g=null,_=null;for(b in l){var O=l[b];if(l.hasOwnProperty(b)&&O!=null)switch(b){case"checked":break;case"value":break;case"defaultValue":h=O;default:n.hasOwnProperty(b)||ht(t,e,b,null,n,O)}}for(var S in n){var b=n[S];if(O=l[S],n.hasOwnProperty(S)&&(b!=null||O!=null))switch(S){case"type":u=b;break;case"name":a=b;break;case"checked":g=b;break;case"defaultChecked":_=b;break;case"value":c=b;break;case"defaultValue":o=b;break;case"children":case"dangerouslySetInnerHTML":if(b!=null)throw Error(s(137,e));break;default:b!==O&&ht(t,e,S,b,n,O)}}vi(t,c,o,h,g,_,u,a);return;case"select":b=c=o=S=null;for(u in l)if(h=l[u],l.hasOwnProperty(u)&&h!=null)switch(u){case"value":break;case"multiple":b=h;default:n.hasOwnProperty(u)||ht(t,e,u,null,n,h)}for(a in n)if(u=n[a],h=l[a],n.hasOwnProperty(a)&&(u!=null||h!=null))switch(a){case"value":S=u;break;case"defaultValue":o=u;break;case"multiple":c=u;default:u!==h&&ht(t,e,a,u,n,h)}e=o,l=c,n=b,S!=null?tn(t,!!l,S,!1):!!n!=!!l&&(e!=null?tn(t,!!l,e,!0):tn(t,!!l,l?[]:"",!1));return;case"textarea":b=S=null;for(o in l)if(a=l[o],l.hasOwnProperty(o)&&a!=null&&!n.hasOwnProperty(o))switch(o){case"value":break;case"children":break;default:ht(t,e,o,null,n,a)}for(c in n)if(a=n[c],u=l[c],n.hasOwnProperty(c)&&(a!=null||u!=null))switch(c){case"value":S=a;break;case"defaultValue":b=a;break;case"children":break;case"dangerouslySetInnerHTML":if(a!=null)throw Error(s(91));break;default:a!==u&&ht(t,e,c,a,n,u)}ss(t,S,b);return;case"option":for(var B in l)if(S=l[B],l.hasOwnProperty(B)&&S!=null&&!n.hasOwnProperty(B))switch(B){case"selected":t.selected=!1;break;default:ht(t,e,B,null,n,S)}for(h in n)if(S=n[h],b=l[h],n.hasOwnProperty(h)&&S!==b&&(S!=null||b!=null))switch(h){case"selected":t.selected=S&&typeof S!="function"&&typeof S!="symbol";break;default:ht(t,e,h,S,n,b)}return;case"img":case"link":case"area":case"base":case"br":case"col":case"embed":case"hr":case"keygen":case"meta":case"param":case"source":case"track":case"wbr":case"menuitem":for(var X in l)S=l[X],l.hasOwnProperty(X)&&S!=null&&!n.hasOwnProperty(X)&&ht(t,e,X,null,n,S);for(g in n)if(S=n[g],b=l[g],n.hasOwnProperty(g)&&S!==b&&(S!=null||b!=null))switch(g){case"children":case"dangerouslySetInnerHTML":if(S!=null)throw Error(s(137,e));break;default:ht(t,e,g,S,n,b)}return;default:if(gi(e)){for(var dt in l)S=l[dt],l.hasOwnProperty(dt)&&S!==void 0&&!n.hasOwnProperty(dt)&&af(t,e,dt,void 0,n,S);for(_ in n)S=n[_],b=l[_],!n.hasOwnProperty(_)||S===b||S===void 0&&b===void 0||af(t,e,_,S,n,b);return}}for(var m in l)S=l[m],l.hasOwnProperty(m)&&S!=null&&!n.hasOwnProperty(m)&&ht(t,e,m,null,n,S);for(O in n)S=n[O],b=l[O],!n.hasOwnProperty(O)||S===b||S==null&&b==null||ht(t,e,O,S,n,b)}function yh(t){switch(t){case"css":case"script":case"font":case"img":case"image":case"input":case"link":return!0;default:return!1}}function dm(){if(typeof performance.getEntriesByType=="function"){for(var t=0,e=0,l=performance.getEntriesByType("resource"),n=0;n<l.length;n++){var a=l[n],u=a.transferSize,c=a.initiatorType,o=a.duration;if(u&&o&&yh(c)){for(c=0,o=a.responseEnd,n+=1;n<l.length;n++){var h=l[n],g=h.startTime;if(g>o)break;var _=h.transferSize,O=h.initiatorType;_&&yh(O)&&(h=h.responseEnd,c+=_*(h<o?1:(o-g)/(h-g)))}if(--n,e+=8*(u+c)/(a.duration/1e3),t++,10<t)break}}if(0<t)return e/t/1e6}return navigator.connection&&(t=navigator.connection.downlink,typeof t=="number")?t:5}var uf=null,cf=null;function xu(t){return t.nodeType===9?t:t.ownerDocument}function mh(t){switch(t){case"http://www.w3.org/2000/svg":return 1;case"http://www.w3.org/1998/Math/MathML":return 2;default:return 0}}function vh(t,e){if(t===0)switch(e){case"svg":return 1;case"math":return 2;default:return 0}return t===1&&e==="foreignObject"?0:t}function ff(t,e){return t==="textarea"||t==="noscript"||typeof e.children=="string"||typeof e.children=="number"||typeof e.children=="bigint"||typeof e.dangerouslySetInnerHTML=="object"&&e.dangerouslySetInnerHTML!==null&&e.dangerouslySetInnerHTML.__html!=null}var sf=null;function ym(){var t=window.event;return t&&t.type==="popstate"?t===sf?!1:(sf=t,!0):(sf=null,!1)}var ph=typeof setTimeout=="function"?setTimeout:void 0,mm=typeof clearTimeout=="function"?clearTimeout:void 0,gh=typeof Promise=="function"?Promise:void 0,vm=typeof queueMicrotask=="function"?queueMicrotask:typeof gh<"u"?function(t){return gh.resolve(null).then(t).catch(pm)}:ph;function pm(t){setTimeout(function(){throw t})}function _l(t){return t==="head"}function Sh(t,e){var l=e,n=0;do{var a=l.nextSibling;if(t.removeChild(l),a&&a.nodeType===8)if(l=a.data,l==="/$"||l==="/&"){if(n===0){t.removeChild(a),Bn(e);return}n--}else if(l==="$"||l==="$?"||l==="$~"||l==="$!"||l==="&")n++;else if(l==="html")_a(t.ownerDocument.documentElement);else if(l==="head"){l=t.ownerDocument.head,_a(l);for(var u=l.firstChild;u;){var c=u.nextSibling,o=u.nodeName;u[Ln]||o==="SCRIPT"||o==="STYLE"||o==="LINK"&&u.rel.toLowerCase()==="stylesheet"||l.removeChild(u),u=c}}else l==="body"&&_a(t.ownerDocument.body);l=a}while(l);Bn(e)}function bh(t,e){var l=t;t=0;do{var n=l.nextSibling;if(l.nodeType===1?e?(l._stashedDisplay=l.style.display,l.style.display="none"):(l.style.display=l._stashedDisplay||"",l.getAttribute("style")===""&&l.removeAttribute("style")):l.nodeType===3&&(e?(l._stashedText=l.nodeValue,l.nodeValue=""):l.nodeValue=l._stashedText||""),n&&n.nodeType===8)if(l=n.data,l==="/$"){if(t===0)break;t--}else l!=="$"&&l!=="$?"&&l!=="$~"&&l!=="$!"||t++;l=n}while(l)}function rf(t){var e=t.firstChild;for(e&&e.nodeType===10&&(e=e.nextSibling);e;){var l=e;switch(e=e.nextSibling,l.nodeName){case"HTML":case"HEAD":case"BODY":rf(l),yi(l);continue;case"SCRIPT":case"STYLE":continue;case"LINK":if(l.rel.toLowerCase()==="stylesheet")continue}t.removeChild(l)}}function gm(t,e,l,n){for(;t.nodeType===1;){var a=l;if(t.nodeName.toLowerCase()!==e.toLowerCase()){if(!n&&(t.nodeName!=="INPUT"||t.type!=="hidden"))break}else if(n){if(!t[Ln])switch(e){case"meta":if(!t.hasAttribute("itemprop"))break;return t;case"link":if(u=t.getAttribute("rel"),u==="stylesheet"&&t.hasAttribute("data-precedence"))break;if(u!==a.rel||t.getAttribute("href")!==(a.href==null||a.href===""?null:a.href)||t.getAttribute("crossorigin")!==(a.crossOrigin==null?null:a.crossOrigin)||t.getAttribute("title")!==(a.title==null?null:a.title))break;return t;case"style":if(t.hasAttribute("data-precedence"))break;return t;case"script":if(u=t.getAttribute("src"),(u!==(a.src==null?null:a.src)||t.getAttribute("type")!==(a.type==null?null:a.type)||t.getAttribute("crossorigin")!==(a.crossOrigin==null?null:a.crossOrigin))&&u&&t.hasAttribute("async")&&!t.hasAttribute("itemprop"))break;return t;default:return t}}else if(e==="input"&&t.type==="hidden"){var u=a.name==null?null:""+a.name;if(a.type==="hidden"&&t.getAttribute("name")===u)return t}else return t;if(t=be(t.nextSibling),t===null)break}return null}function Sm(t,e,l){if(e==="")return null;for(;t.nodeType!==3;)if((t.nodeType!==1||t.nodeName!=="INPUT"||t.type!=="hidden")&&!l||(t=be(t.nextSibling),t===null))return null;return t}function _h(t,e){for(;t.nodeType!==8;)if((t.nodeType!==1||t.nodeName!=="INPUT"||t.type!=="hidden")&&!e||(t=be(t.nextSibling),t===null))return null;return t}function of(t){return t.data==="$?"||t.data==="$~"}function hf(t){return t.data==="$!"||t.data==="$?"&&t.ownerDocument.readyState!=="loading"}function bm(t,e){var l=t.ownerDocument;if(t.data==="$~")t._reactRetry=e;else if(t.data!=="$?"||l.readyState!=="loading")e();else{var n=function(){e(),l.removeEventListener("DOMContentLoaded",n)};l.addEventListener("DOMContentLoaded",n),t._reactRetry=n}}function be(t){for(;t!=null;t=t.nextSibling){var e=t.nodeType;if(e===1||e===3)break;if(e===8){if(e=t.data,e==="$"||e==="$!"||e==="$?"||e==="$~"||e==="&"||e==="F!"||e==="F")break;if(e==="/$"||e==="/&")return null}}return t}var df=null;function Eh(t){t=t.nextSibling;for(var e=0;t;){if(t.nodeType===8){var l=t.data;if(l==="/$"||l==="/&"){if(e===0)return be(t.nextSibling);e--}else l!=="$"&&l!=="$!"&&l!=="$?"&&l!=="$~"&&l!=="&"||e++}t=t.nextSibling}return null}function Th(t){t=t.previousSibling;for(var e=0;t;){if(t.nodeType===8){var l=t.data;if(l==="$"||l==="$!"||l==="$?"||l==="$~"||l==="&"){if(e===0)return t;e--}else l!=="/$"&&l!=="/&"||e++}t=t.previousSibling}return null}function Ah(t,e,l){switch(e=xu(l),t){case"html":if(t=e.documentElement,!t)throw Error(s(452));return t;case"head":if(t=e.head,!t)throw Error(s(453));return t;case"body":if(t=e.body,!t)throw Error(s(454));return t;default:throw Error(s(451))}}function _a(t){for(var e=t.attributes;e.length;)t.removeAttributeNode(e[0]);yi(t)}var _e=new Map,zh=new Set;function Yu(t){return typeof t.getRootNode=="function"?t.getRootNode():t.nodeType===9?t:t.ownerDocument}var el=M.d;M.d={f:_m,r:Em,D:Tm,C:Am,L:zm,m:Om,X:Dm,S:Nm,M:Rm};function _m(){var t=el.f(),e=Du();return t||e}function Em(t){var e=Fl(t);e!==null&&e.tag===5&&e.type==="form"?Gr(e):el.r(t)}var Mn=typeof document>"u"?null:document;function Oh(t,e,l){var n=Mn;if(n&&typeof e=="string"&&e){var a=de(e);a='link[rel="'+t+'"][href="'+a+'"]',typeof l=="string"&&(a+='[crossorigin="'+l+'"]'),zh.has(a)||(zh.add(a),t={rel:t,crossOrigin:l,href:e},n.querySelector(a)===null&&(e=n.createElement("link"),Lt(e,"link",t),Ct(e),n.head.appendChild(e)))}}function Tm(t){el.D(t),Oh("dns-prefetch",t,null)}function Am(t,e){el.C(t,e),Oh("preconnect",t,e)}function zm(t,e,l){el.L(t,e,l);var n=Mn;if(n&&t&&e){var a='link[rel="preload"][as="'+de(e)+'"]';e==="image"&&l&&l.imageSrcSet?(a+='[imagesrcset="'+de(l.imageSrcSet)+'"]',typeof l.imageSizes=="string"&&(a+='[imagesizes="'+de(l.imageSizes)+'"]')):a+='[href="'+de(t)+'"]';var u=a;switch(e){case"style":u=Un(t);break;case"script":u=Cn(t)}_e.has(u)||(t=C({rel:"preload",href:e==="image"&&l&&l.imageSrcSet?void 0:t,as:e},l),_e.set(u,t),n.querySelector(a)!==null||e==="style"&&n.querySelector(Ea(u))||e==="script"&&n.querySelector(Ta(u))||(e=n.createElement("link"),Lt(e,"link",t),Ct(e),n.head.appendChild(e)))}}function Om(t,e){el.m(t,e);var l=Mn;if(l&&t){var n=e&&typeof e.as=="string"?e.as:"script",a='link[rel="modulepreload"][as="'+de(n)+'"][href="'+de(t)+'"]',u=a;switch(n){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":u=Cn(t)}if(!_e.has(u)&&(t=C({rel:"modulepreload",href:t},e),_e.set(u,t),l.querySelector(a)===null)){switch(n){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":if(l.querySelector(Ta(u)))return}n=l.createElement("link"),Lt(n,"link",t),Ct(n),l.head.appendChild(n)}}}function Nm(t,e,l){el.S(t,e,l);var n=Mn;if(n&&t){var a=Il(n).hoistableStyles,u=Un(t);e=e||"default";var c=a.get(u);if(!c){var o={loading:0,preload:null};if(c=n.querySelector(Ea(u)))o.loading=5;else{t=C({rel:"stylesheet",href:t,"data-precedence":e},l),(l=_e.get(u))&&yf(t,l);var h=c=n.createElement("link");Ct(h),Lt(h,"link",t),h._p=new Promise(function(g,_){h.onload=g,h.onerror=_}),h.addEventListener("load",function(){o.loading|=1}),h.addEventListener("error",function(){o.loading|=2}),o.loading|=4,ju(c,e,n)}c={type:"stylesheet",instance:c,count:1,state:o},a.set(u,c)}}}function Dm(t,e){el.X(t,e);var l=Mn;if(l&&t){var n=Il(l).hoistableScripts,a=Cn(t),u=n.get(a);u||(u=l.querySelector(Ta(a)),u||(t=C({src:t,async:!0},e),(e=_e.get(a))&&mf(t,e),u=l.createElement("script"),Ct(u),Lt(u,"link",t),l.head.appendChild(u)),u={type:"script",instance:u,count:1,state:null},n.set(a,u))}}function Rm(t,e){el.M(t,e);var l=Mn;if(l&&t){var n=Il(l).hoistableScripts,a=Cn(t),u=n.get(a);u||(u=l.querySelector(Ta(a)),u||(t=C({src:t,async:!0,type:"module"},e),(e=_e.get(a))&&mf(t,e),u=l.createElement("script"),Ct(u),Lt(u,"link",t),l.head.appendChild(u)),u={type:"script",instance:u,count:1,state:null},n.set(a,u))}}function Nh(t,e,l,n){var a=(a=k.current)?Yu(a):null;if(!a)throw Error(s(446));switch(t){case"meta":case"title":return null;case"style":return typeof l.precedence=="string"&&typeof l.href=="string"?(e=Un(l.href),l=Il(a).hoistableStyles,n=l.get(e),n||(n={type:"style",instance:null,count:0,state:null},l.set(e,n)),n):{type:"void",instance:null,count:0,state:null};case"link":if(l.rel==="stylesheet"&&typeof l.href=="string"&&typeof l.precedence=="string"){t=Un(l.href);var u=Il(a).hoistableStyles,c=u.get(t);if(c||(a=a.ownerDocument||a,c={type:"stylesheet",instance:null,count:0,state:{loading:0,preload:null}},u.set(t,c),(u=a.querySelector(Ea(t)))&&!u._p&&(c.instance=u,c.state.loading=5),_e.has(t)||(l={rel:"preload",as:"style",href:l.href,crossOrigin:l.crossOrigin,integrity:l.integrity,media:l.media,hrefLang:l.hrefLang,referrerPolicy:l.referrerPolicy},_e.set(t,l),u||Mm(a,t,l,c.state))),e&&n===null)throw Error(s(528,""));return c}if(e&&n!==null)throw Error(s(529,""));return null;case"script":return e=l.async,l=l.src,typeof l=="string"&&e&&typeof e!="function"&&typeof e!="symbol"?(e=Cn(l),l=Il(a).hoistableScripts,n=l.get(e),n||(n={type:"script",instance:null,count:0,state:null},l.set(e,n)),n):{type:"void",instance:null,count:0,state:null};default:throw Error(s(444,t))}}function Un(t){return'href="'+de(t)+'"'}function Ea(t){return'link[rel="stylesheet"]['+t+"]"}function Dh(t){return C({},t,{"data-precedence":t.precedence,precedence:null})}function Mm(t,e,l,n){t.querySelector('link[rel="preload"][as="style"]['+e+"]")?n.loading=1:(e=t.createElement("link"),n.preload=e,e.addEventListener("load",function(){return n.loading|=1}),e.addEventListener("error",function(){return n.loading|=2}),Lt(e,"link",l),Ct(e),t.head.appendChild(e))}function Cn(t){return'[src="'+de(t)+'"]'}function Ta(t){return"script[async]"+t}function Rh(t,e,l){if(e.count++,e.instance===null)switch(e.type){case"style":var n=t.querySelector('style[data-href~="'+de(l.href)+'"]');if(n)return e.instance=n,Ct(n),n;var a=C({},l,{"data-href":l.href,"data-precedence":l.precedence,href:null,precedence:null});return n=(t.ownerDocument||t).createElement("style"),Ct(n),Lt(n,"style",a),ju(n,l.precedence,t),e.instance=n;case"stylesheet":a=Un(l.href);var u=t.querySelector(Ea(a));if(u)return e.state.loading|=4,e.instance=u,Ct(u),u;n=Dh(l),(a=_e.get(a))&&yf(n,a),u=(t.ownerDocument||t).createElement("link"),Ct(u);var c=u;return c._p=new Promise(function(o,h){c.onload=o,c.onerror=h}),Lt(u,"link",n),e.state.loading|=4,ju(u,l.precedence,t),e.instance=u;case"script":return u=Cn(l.src),(a=t.querySelector(Ta(u)))?(e.instance=a,Ct(a),a):(n=l,(a=_e.get(u))&&(n=C({},l),mf(n,a)),t=t.ownerDocument||t,a=t.createElement("script"),Ct(a),Lt(a,"link",n),t.head.appendChild(a),e.instance=a);case"void":return null;default:throw Error(s(443,e.type))}else e.type==="stylesheet"&&(e.state.loading&4)===0&&(n=e.instance,e.state.loading|=4,ju(n,l.precedence,t));return e.instance}function ju(t,e,l){for(var n=l.querySelectorAll('link[rel="stylesheet"][data-precedence],style[data-precedence]'),a=n.length?n[n.length-1]:null,u=a,c=0;c<n.length;c++){var o=n[c];if(o.dataset.precedence===e)u=o;else if(u!==a)break}u?u.parentNode.insertBefore(t,u.nextSibling):(e=l.nodeType===9?l.head:l,e.insertBefore(t,e.firstChild))}function yf(t,e){t.crossOrigin==null&&(t.crossOrigin=e.crossOrigin),t.referrerPolicy==null&&(t.referrerPolicy=e.referrerPolicy),t.title==null&&(t.title=e.title)}function mf(t,e){t.crossOrigin==null&&(t.crossOrigin=e.crossOrigin),t.referrerPolicy==null&&(t.referrerPolicy=e.referrerPolicy),t.integrity==null&&(t.integrity=e.integrity)}var Lu=null;function Mh(t,e,l){if(Lu===null){var n=new Map,a=Lu=new Map;a.set(l,n)}else a=Lu,n=a.get(l),n||(n=new Map,a.set(l,n));if(n.has(t))return n;for(n.set(t,null),l=l.getElementsByTagName(t),a=0;a<l.length;a++){var u=l[a];if(!(u[Ln]||u[Ht]||t==="link"&&u.getAttribute("rel")==="stylesheet")&&u.namespaceURI!=="http://www.w3.org/2000/svg"){var c=u.getAttribute(e)||"";c=t+c;var o=n.get(c);o?o.push(u):n.set(c,[u])}}return n}function Uh(t,e,l){t=t.ownerDocument||t,t.head.insertBefore(l,e==="title"?t.querySelector("head > title"):null)}function Um(t,e,l){if(l===1||e.itemProp!=null)return!1;switch(t){case"meta":case"title":return!0;case"style":if(typeof e.precedence!="string"||typeof e.href!="string"||e.href==="")break;return!0;case"link":if(typeof e.rel!="string"||typeof e.href!="string"||e.href===""||e.onLoad||e.onError)break;switch(e.rel){case"stylesheet":return t=e.disabled,typeof e.precedence=="string"&&t==null;default:return!0}case"script":if(e.async&&typeof e.async!="function"&&typeof e.async!="symbol"&&!e.onLoad&&!e.onError&&e.src&&typeof e.src=="string")return!0}return!1}function Ch(t){return!(t.type==="stylesheet"&&(t.state.loading&3)===0)}function Cm(t,e,l,n){if(l.type==="stylesheet"&&(typeof n.media!="string"||matchMedia(n.media).matches!==!1)&&(l.state.loading&4)===0){if(l.instance===null){var a=Un(n.href),u=e.querySelector(Ea(a));if(u){e=u._p,e!==null&&typeof e=="object"&&typeof e.then=="function"&&(t.count++,t=Xu.bind(t),e.then(t,t)),l.state.loading|=4,l.instance=u,Ct(u);return}u=e.ownerDocument||e,n=Dh(n),(a=_e.get(a))&&yf(n,a),u=u.createElement("link"),Ct(u);var c=u;c._p=new Promise(function(o,h){c.onload=o,c.onerror=h}),Lt(u,"link",n),l.instance=u}t.stylesheets===null&&(t.stylesheets=new Map),t.stylesheets.set(l,e),(e=l.state.preload)&&(l.state.loading&3)===0&&(t.count++,l=Xu.bind(t),e.addEventListener("load",l),e.addEventListener("error",l))}}var vf=0;function Bm(t,e){return t.stylesheets&&t.count===0&&Qu(t,t.stylesheets),0<t.count||0<t.imgCount?function(l){var n=setTimeout(function(){if(t.stylesheets&&Qu(t,t.stylesheets),t.unsuspend){var u=t.unsuspend;t.unsuspend=null,u()}},6e4+e);0<t.imgBytes&&vf===0&&(vf=62500*dm());var a=setTimeout(function(){if(t.waitingForImages=!1,t.count===0&&(t.stylesheets&&Qu(t,t.stylesheets),t.unsuspend)){var u=t.unsuspend;t.unsuspend=null,u()}},(t.imgBytes>vf?50:800)+e);return t.unsuspend=l,function(){t.unsuspend=null,clearTimeout(n),clearTimeout(a)}}:null}function Xu(){if(this.count--,this.count===0&&(this.imgCount===0||!this.waitingForImages)){if(this.stylesheets)Qu(this,this.stylesheets);else if(this.unsuspend){var t=this.unsuspend;this.unsuspend=null,t()}}}var Gu=null;function Qu(t,e){t.stylesheets=null,t.unsuspend!==null&&(t.count++,Gu=new Map,e.forEach(qm,t),Gu=null,Xu.call(t))}function qm(t,e){if(!(e.state.loading&4)){var l=Gu.get(t);if(l)var n=l.get(null);else{l=new Map,Gu.set(t,l);for(var a=t.querySelectorAll("link[data-precedence],style[data-precedence]"),u=0;u<a.length;u++){var c=a[u];(c.nodeName==="LINK"||c.getAttribute("media")!=="not all")&&(l.set(c.dataset.precedence,c),n=c)}n&&l.set(null,n)}a=e.instance,c=a.getAttribute("data-precedence"),u=l.get(c)||n,u===n&&l.set(null,a),l.set(c,a),this.count++,n=Xu.bind(this),a.addEventListener("load",n),a.addEventListener("error",n),u?u.parentNode.insertBefore(a,u.nextSibling):(t=t.nodeType===9?t.head:t,t.insertBefore(a,t.firstChild)),e.state.loading|=4}}var Aa={$$typeof:zt,Provider:null,Consumer:null,_currentValue:G,_currentValue2:G,_threadCount:0};function Hm(t,e,l,n,a,u,c,o,h){this.tag=1,this.containerInfo=t,this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.next=this.pendingContext=this.context=this.cancelPendingCommit=null,this.callbackPriority=0,this.expirationTimes=ri(-1),this.entangledLanes=this.shellSuspendCounter=this.errorRecoveryDisabledLanes=this.expiredLanes=this.warmLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=ri(0),this.hiddenUpdates=ri(null),this.identifierPrefix=n,this.onUncaughtError=a,this.onCaughtError=u,this.onRecoverableError=c,this.pooledCache=null,this.pooledCacheLanes=0,this.formState=h,this.incompleteTransitions=new Map}function Bh(t,e,l,n,a,u,c,o,h,g,_,O){return t=new Hm(t,e,l,c,h,g,_,O,o),e=1,u===!0&&(e|=24),u=ue(3,null,null,e),t.current=u,u.stateNode=t,e=ki(),e.refCount++,t.pooledCache=e,e.refCount++,u.memoizedState={element:n,isDehydrated:l,cache:e},Ii(u),t}function qh(t){return t?(t=sn,t):sn}function Hh(t,e,l,n,a,u){a=qh(a),n.context===null?n.context=a:n.pendingContext=a,n=rl(e),n.payload={element:l},u=u===void 0?null:u,u!==null&&(n.callback=u),l=ol(t,n,e),l!==null&&(Pt(l,t,e),la(l,t,e))}function xh(t,e){if(t=t.memoizedState,t!==null&&t.dehydrated!==null){var l=t.retryLane;t.retryLane=l!==0&&l<e?l:e}}function pf(t,e){xh(t,e),(t=t.alternate)&&xh(t,e)}function Yh(t){if(t.tag===13||t.tag===31){var e=Hl(t,67108864);e!==null&&Pt(e,t,67108864),pf(t,67108864)}}function jh(t){if(t.tag===13||t.tag===31){var e=re();e=oi(e);var l=Hl(t,e);l!==null&&Pt(l,t,e),pf(t,e)}}var Vu=!0;function xm(t,e,l,n){var a=E.T;E.T=null;var u=M.p;try{M.p=2,gf(t,e,l,n)}finally{M.p=u,E.T=a}}function Ym(t,e,l,n){var a=E.T;E.T=null;var u=M.p;try{M.p=8,gf(t,e,l,n)}finally{M.p=u,E.T=a}}function gf(t,e,l,n){if(Vu){var a=Sf(n);if(a===null)nf(t,e,n,Zu,l),Xh(t,n);else if(Lm(a,t,e,l,n))n.stopPropagation();else if(Xh(t,n),e&4&&-1<jm.indexOf(t)){for(;a!==null;){var u=Fl(a);if(u!==null)switch(u.tag){case 3:if(u=u.stateNode,u.current.memoizedState.isDehydrated){var c=Ml(u.pendingLanes);if(c!==0){var o=u;for(o.pendingLanes|=2,o.entangledLanes|=2;c;){var h=1<<31-ne(c);o.entanglements[1]|=h,c&=~h}qe(u),(ut&6)===0&&(Ou=ee()+500,ga(0))}}break;case 31:case 13:o=Hl(u,2),o!==null&&Pt(o,u,2),Du(),pf(u,2)}if(u=Sf(n),u===null&&nf(t,e,n,Zu,l),u===a)break;a=u}a!==null&&n.stopPropagation()}else nf(t,e,n,null,l)}}function Sf(t){return t=bi(t),bf(t)}var Zu=null;function bf(t){if(Zu=null,t=$l(t),t!==null){var e=T(t);if(e===null)t=null;else{var l=e.tag;if(l===13){if(t=R(e),t!==null)return t;t=null}else if(l===31){if(t=q(e),t!==null)return t;t=null}else if(l===3){if(e.stateNode.current.memoizedState.isDehydrated)return e.tag===3?e.stateNode.containerInfo:null;t=null}else e!==t&&(t=null)}}return Zu=t,null}function Lh(t){switch(t){case"beforetoggle":case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"toggle":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 2;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 8;case"message":switch(Td()){case Kf:return 2;case Jf:return 8;case Ba:case Ad:return 32;case kf:return 268435456;default:return 32}default:return 32}}var _f=!1,El=null,Tl=null,Al=null,za=new Map,Oa=new Map,zl=[],jm="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset".split(" ");function Xh(t,e){switch(t){case"focusin":case"focusout":El=null;break;case"dragenter":case"dragleave":Tl=null;break;case"mouseover":case"mouseout":Al=null;break;case"pointerover":case"pointerout":za.delete(e.pointerId);break;case"gotpointercapture":case"lostpointercapture":Oa.delete(e.pointerId)}}function Na(t,e,l,n,a,u){return t===null||t.nativeEvent!==u?(t={blockedOn:e,domEventName:l,eventSystemFlags:n,nativeEvent:u,targetContainers:[a]},e!==null&&(e=Fl(e),e!==null&&Yh(e)),t):(t.eventSystemFlags|=n,e=t.targetContainers,a!==null&&e.indexOf(a)===-1&&e.push(a),t)}function Lm(t,e,l,n,a){switch(e){case"focusin":return El=Na(El,t,e,l,n,a),!0;case"dragenter":return Tl=Na(Tl,t,e,l,n,a),!0;case"mouseover":return Al=Na(Al,t,e,l,n,a),!0;case"pointerover":var u=a.pointerId;return za.set(u,Na(za.get(u)||null,t,e,l,n,a)),!0;case"gotpointercapture":return u=a.pointerId,Oa.set(u,Na(Oa.get(u)||null,t,e,l,n,a)),!0}return!1}function Gh(t){var e=$l(t.target);if(e!==null){var l=T(e);if(l!==null){if(e=l.tag,e===13){if(e=R(l),e!==null){t.blockedOn=e,ts(t.priority,function(){jh(l)});return}}else if(e===31){if(e=q(l),e!==null){t.blockedOn=e,ts(t.priority,function(){jh(l)});return}}else if(e===3&&l.stateNode.current.memoizedState.isDehydrated){t.blockedOn=l.tag===3?l.stateNode.containerInfo:null;return}}}t.blockedOn=null}function wu(t){if(t.blockedOn!==null)return!1;for(var e=t.targetContainers;0<e.length;){var l=Sf(t.nativeEvent);if(l===null){l=t.nativeEvent;var n=new l.constructor(l.type,l);Si=n,l.target.dispatchEvent(n),Si=null}else return e=Fl(l),e!==null&&Yh(e),t.blockedOn=l,!1;e.shift()}return!0}function Qh(t,e,l){wu(t)&&l.delete(e)}function Xm(){_f=!1,El!==null&&wu(El)&&(El=null),Tl!==null&&wu(Tl)&&(Tl=null),Al!==null&&wu(Al)&&(Al=null),za.forEach(Qh),Oa.forEach(Qh)}function Ku(t,e){t.blockedOn===e&&(t.blockedOn=null,_f||(_f=!0,r.unstable_scheduleCallback(r.unstable_NormalPriority,Xm)))}var Ju=null;function Vh(t){Ju!==t&&(Ju=t,r.unstable_scheduleCallback(r.unstable_NormalPriority,function(){Ju===t&&(Ju=null);for(var e=0;e<t.length;e+=3){var l=t[e],n=t[e+1],a=t[e+2];if(typeof n!="function"){if(bf(n||l)===null)continue;break}var u=Fl(l);u!==null&&(t.splice(e,3),e-=3,gc(u,{pending:!0,data:a,method:l.method,action:n},n,a))}}))}function Bn(t){function e(h){return Ku(h,t)}El!==null&&Ku(El,t),Tl!==null&&Ku(Tl,t),Al!==null&&Ku(Al,t),za.forEach(e),Oa.forEach(e);for(var l=0;l<zl.length;l++){var n=zl[l];n.blockedOn===t&&(n.blockedOn=null)}for(;0<zl.length&&(l=zl[0],l.blockedOn===null);)Gh(l),l.blockedOn===null&&zl.shift();if(l=(t.ownerDocument||t).$$reactFormReplay,l!=null)for(n=0;n<l.length;n+=3){var a=l[n],u=l[n+1],c=a[Jt]||null;if(typeof u=="function")c||Vh(l);else if(c){var o=null;if(u&&u.hasAttribute("formAction")){if(a=u,c=u[Jt]||null)o=c.formAction;else if(bf(a)!==null)continue}else o=c.action;typeof o=="function"?l[n+1]=o:(l.splice(n,3),n-=3),Vh(l)}}}function Zh(){function t(u){u.canIntercept&&u.info==="react-transition"&&u.intercept({handler:function(){return new Promise(function(c){return a=c})},focusReset:"manual",scroll:"manual"})}function e(){a!==null&&(a(),a=null),n||setTimeout(l,20)}function l(){if(!n&&!navigation.transition){var u=navigation.currentEntry;u&&u.url!=null&&navigation.navigate(u.url,{state:u.getState(),info:"react-transition",history:"replace"})}}if(typeof navigation=="object"){var n=!1,a=null;return navigation.addEventListener("navigate",t),navigation.addEventListener("navigatesuccess",e),navigation.addEventListener("navigateerror",e),setTimeout(l,100),function(){n=!0,navigation.removeEventListener("navigate",t),navigation.removeEventListener("navigatesuccess",e),navigation.removeEventListener("navigateerror",e),a!==null&&(a(),a=null)}}}function Ef(t){this._internalRoot=t}ku.prototype.render=Ef.prototype.render=function(t){var e=this._internalRoot;if(e===null)throw Error(s(409));var l=e.current,n=re();Hh(l,n,t,e,null,null)},ku.prototype.unmount=Ef.prototype.unmount=function(){var t=this._internalRoot;if(t!==null){this._internalRoot=null;var e=t.containerInfo;Hh(t.current,2,null,t,null,null),Du(),e[Wl]=null}};function ku(t){this._internalRoot=t}ku.prototype.unstable_scheduleHydration=function(t){if(t){var e=Pf();t={blockedOn:null,target:t,priority:e};for(var l=0;l<zl.length&&e!==0&&e<zl[l].priority;l++);zl.splice(l,0,t),l===0&&Gh(t)}};var wh=i.version;if(wh!=="19.2.0")throw Error(s(527,wh,"19.2.0"));M.findDOMNode=function(t){var e=t._reactInternals;if(e===void 0)throw typeof t.render=="function"?Error(s(188)):(t=Object.keys(t).join(","),Error(s(268,t)));return t=z(e),t=t!==null?j(t):null,t=t===null?null:t.stateNode,t};var Gm={bundleType:0,version:"19.2.0",rendererPackageName:"react-dom",currentDispatcherRef:E,reconcilerVersion:"19.2.0"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var Wu=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!Wu.isDisabled&&Wu.supportsFiber)try{xn=Wu.inject(Gm),le=Wu}catch{}}return Ra.createRoot=function(t,e){if(!v(t))throw Error(s(299));var l=!1,n="",a=Fr,u=Ir,c=Pr;return e!=null&&(e.unstable_strictMode===!0&&(l=!0),e.identifierPrefix!==void 0&&(n=e.identifierPrefix),e.onUncaughtError!==void 0&&(a=e.onUncaughtError),e.onCaughtError!==void 0&&(u=e.onCaughtError),e.onRecoverableError!==void 0&&(c=e.onRecoverableError)),e=Bh(t,1,!1,null,null,l,n,null,a,u,c,Zh),t[Wl]=e.current,lf(t),new Ef(e)},Ra.hydrateRoot=function(t,e,l){if(!v(t))throw Error(s(299));var n=!1,a="",u=Fr,c=Ir,o=Pr,h=null;return l!=null&&(l.unstable_strictMode===!0&&(n=!0),l.identifierPrefix!==void 0&&(a=l.identifierPrefix),l.onUncaughtError!==void 0&&(u=l.onUncaughtError),l.onCaughtError!==void 0&&(c=l.onCaughtError),l.onRecoverableError!==void 0&&(o=l.onRecoverableError),l.formState!==void 0&&(h=l.formState)),e=Bh(t,1,!0,e,l??null,n,a,h,u,c,o,Zh),e.context=qh(null),l=e.current,n=re(),n=oi(n),a=rl(n),a.callback=null,ol(l,a,n),l=n,e.current.lanes=l,jn(e,l),qe(e),t[Wl]=e.current,lf(t),new ku(e)},Ra.version="19.2.0",Ra}var ed;function Fm(){if(ed)return zf.exports;ed=1;function r(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(r)}catch(i){console.error(i)}}return r(),zf.exports=$m(),zf.exports}var Im=Fm();const xe=Object.create(null);xe.open="0";xe.close="1";xe.ping="2";xe.pong="3";xe.message="4";xe.upgrade="5";xe.noop="6";const Iu=Object.create(null);Object.keys(xe).forEach(r=>{Iu[xe[r]]=r});const Cf={type:"error",data:"parser error"},cd=typeof Blob=="function"||typeof Blob<"u"&&Object.prototype.toString.call(Blob)==="[object BlobConstructor]",fd=typeof ArrayBuffer=="function",sd=r=>typeof ArrayBuffer.isView=="function"?ArrayBuffer.isView(r):r&&r.buffer instanceof ArrayBuffer,Lf=({type:r,data:i},f,s)=>cd&&i instanceof Blob?f?s(i):ld(i,s):fd&&(i instanceof ArrayBuffer||sd(i))?f?s(i):ld(new Blob([i]),s):s(xe[r]+(i||"")),ld=(r,i)=>{const f=new FileReader;return f.onload=function(){const s=f.result.split(",")[1];i("b"+(s||""))},f.readAsDataURL(r)};function nd(r){return r instanceof Uint8Array?r:r instanceof ArrayBuffer?new Uint8Array(r):new Uint8Array(r.buffer,r.byteOffset,r.byteLength)}let Rf;function Pm(r,i){if(cd&&r.data instanceof Blob)return r.data.arrayBuffer().then(nd).then(i);if(fd&&(r.data instanceof ArrayBuffer||sd(r.data)))return i(nd(r.data));Lf(r,!1,f=>{Rf||(Rf=new TextEncoder),i(Rf.encode(f))})}const ad="ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/",Ua=typeof Uint8Array>"u"?[]:new Uint8Array(256);for(let r=0;r<ad.length;r++)Ua[ad.charCodeAt(r)]=r;const t0=r=>{let i=r.length*.75,f=r.length,s,v=0,T,R,q,D;r[r.length-1]==="="&&(i--,r[r.length-2]==="="&&i--);const z=new ArrayBuffer(i),j=new Uint8Array(z);for(s=0;s<f;s+=4)T=Ua[r.charCodeAt(s)],R=Ua[r.charCodeAt(s+1)],q=Ua[r.charCodeAt(s+2)],D=Ua[r.charCodeAt(s+3)],j[v++]=T<<2|R>>4,j[v++]=(R&15)<<4|q>>2,j[v++]=(q&3)<<6|D&63;return z},e0=typeof ArrayBuffer=="function",Xf=(r,i)=>{if(typeof r!="string")return{type:"message",data:rd(r,i)};const f=r.charAt(0);return f==="b"?{type:"message",data:l0(r.substring(1),i)}:Iu[f]?r.length>1?{type:Iu[f],data:r.substring(1)}:{type:Iu[f]}:Cf},l0=(r,i)=>{if(e0){const f=t0(r);return rd(f,i)}else return{base64:!0,data:r}},rd=(r,i)=>{switch(i){case"blob":return r instanceof Blob?r:new Blob([r]);case"arraybuffer":default:return r instanceof ArrayBuffer?r:r.buffer}},od="",n0=(r,i)=>{const f=r.length,s=new Array(f);let v=0;r.forEach((T,R)=>{Lf(T,!1,q=>{s[R]=q,++v===f&&i(s.join(od))})})},a0=(r,i)=>{const f=r.split(od),s=[];for(let v=0;v<f.length;v++){const T=Xf(f[v],i);if(s.push(T),T.type==="error")break}return s};function u0(){return new TransformStream({transform(r,i){Pm(r,f=>{const s=f.length;let v;if(s<126)v=new Uint8Array(1),new DataView(v.buffer).setUint8(0,s);else if(s<65536){v=new Uint8Array(3);const T=new DataView(v.buffer);T.setUint8(0,126),T.setUint16(1,s)}else{v=new Uint8Array(9);const T=new DataView(v.buffer);T.setUint8(0,127),T.setBigUint64(1,BigInt(s))}r.data&&typeof r.data!="string"&&(v[0]|=128),i.enqueue(v),i.enqueue(f)})}})}let Mf;function $u(r){return r.reduce((i,f)=>i+f.length,0)}function Fu(r,i){if(r[0].length===i)return r.shift();const f=new Uint8Array(i);let s=0;for(let v=0;v<i;v++)f[v]=r[0][s++],s===r[0].length&&(r.shift(),s=0);return r.length&&s<r[0].length&&(r[0]=r[0].slice(s)),f}function i0(r,i){Mf||(Mf=new TextDecoder);const f=[];let s=0,v=-1,T=!1;return new TransformStream({transform(R,q){for(f.push(R);;){if(s===0){if($u(f)<1)break;const D=Fu(f,1);T=(D[0]&128)===128,v=D[0]&127,v<126?s=3:v===126?s=1:s=2}else if(s===1){if($u(f)<2)break;const D=Fu(f,2);v=new DataView(D.buffer,D.byteOffset,D.length).getUint16(0),s=3}else if(s===2){if($u(f)<8)break;const D=Fu(f,8),z=new DataView(D.buffer,D.byteOffset,D.length),j=z.getUint32(0);if(j>Math.pow(2,21)-1){q.enqueue(Cf);break}v=j*Math.pow(2,32)+z.getUint32(4),s=3}else{if($u(f)<v)break;const D=Fu(f,v);q.enqueue(Xf(T?D:Mf.decode(D),i)),s=0}if(v===0||v>r){q.enqueue(Cf);break}}}})}const hd=4;function Mt(r){if(r)return c0(r)}function c0(r){for(var i in Mt.prototype)r[i]=Mt.prototype[i];return r}Mt.prototype.on=Mt.prototype.addEventListener=function(r,i){return this._callbacks=this._callbacks||{},(this._callbacks["$"+r]=this._callbacks["$"+r]||[]).push(i),this};Mt.prototype.once=function(r,i){function f(){this.off(r,f),i.apply(this,arguments)}return f.fn=i,this.on(r,f),this};Mt.prototype.off=Mt.prototype.removeListener=Mt.prototype.removeAllListeners=Mt.prototype.removeEventListener=function(r,i){if(this._callbacks=this._callbacks||{},arguments.length==0)return this._callbacks={},this;var f=this._callbacks["$"+r];if(!f)return this;if(arguments.length==1)return delete this._callbacks["$"+r],this;for(var s,v=0;v<f.length;v++)if(s=f[v],s===i||s.fn===i){f.splice(v,1);break}return f.length===0&&delete this._callbacks["$"+r],this};Mt.prototype.emit=function(r){this._callbacks=this._callbacks||{};for(var i=new Array(arguments.length-1),f=this._callbacks["$"+r],s=1;s<arguments.length;s++)i[s-1]=arguments[s];if(f){f=f.slice(0);for(var s=0,v=f.length;s<v;++s)f[s].apply(this,i)}return this};Mt.prototype.emitReserved=Mt.prototype.emit;Mt.prototype.listeners=function(r){return this._callbacks=this._callbacks||{},this._callbacks["$"+r]||[]};Mt.prototype.hasListeners=function(r){return!!this.listeners(r).length};const li=typeof Promise=="function"&&typeof Promise.resolve=="function"?i=>Promise.resolve().then(i):(i,f)=>f(i,0),Ee=typeof self<"u"?self:typeof window<"u"?window:Function("return this")(),f0="arraybuffer";function dd(r,...i){return i.reduce((f,s)=>(r.hasOwnProperty(s)&&(f[s]=r[s]),f),{})}const s0=Ee.setTimeout,r0=Ee.clearTimeout;function ni(r,i){i.useNativeTimers?(r.setTimeoutFn=s0.bind(Ee),r.clearTimeoutFn=r0.bind(Ee)):(r.setTimeoutFn=Ee.setTimeout.bind(Ee),r.clearTimeoutFn=Ee.clearTimeout.bind(Ee))}const o0=1.33;function h0(r){return typeof r=="string"?d0(r):Math.ceil((r.byteLength||r.size)*o0)}function d0(r){let i=0,f=0;for(let s=0,v=r.length;s<v;s++)i=r.charCodeAt(s),i<128?f+=1:i<2048?f+=2:i<55296||i>=57344?f+=3:(s++,f+=4);return f}function yd(){return Date.now().toString(36).substring(3)+Math.random().toString(36).substring(2,5)}function y0(r){let i="";for(let f in r)r.hasOwnProperty(f)&&(i.length&&(i+="&"),i+=encodeURIComponent(f)+"="+encodeURIComponent(r[f]));return i}function m0(r){let i={},f=r.split("&");for(let s=0,v=f.length;s<v;s++){let T=f[s].split("=");i[decodeURIComponent(T[0])]=decodeURIComponent(T[1])}return i}class v0 extends Error{constructor(i,f,s){super(i),this.description=f,this.context=s,this.type="TransportError"}}class Gf extends Mt{constructor(i){super(),this.writable=!1,ni(this,i),this.opts=i,this.query=i.query,this.socket=i.socket,this.supportsBinary=!i.forceBase64}onError(i,f,s){return super.emitReserved("error",new v0(i,f,s)),this}open(){return this.readyState="opening",this.doOpen(),this}close(){return(this.readyState==="opening"||this.readyState==="open")&&(this.doClose(),this.onClose()),this}send(i){this.readyState==="open"&&this.write(i)}onOpen(){this.readyState="open",this.writable=!0,super.emitReserved("open")}onData(i){const f=Xf(i,this.socket.binaryType);this.onPacket(f)}onPacket(i){super.emitReserved("packet",i)}onClose(i){this.readyState="closed",super.emitReserved("close",i)}pause(i){}createUri(i,f={}){return i+"://"+this._hostname()+this._port()+this.opts.path+this._query(f)}_hostname(){const i=this.opts.hostname;return i.indexOf(":")===-1?i:"["+i+"]"}_port(){return this.opts.port&&(this.opts.secure&&+(this.opts.port!==443)||!this.opts.secure&&Number(this.opts.port)!==80)?":"+this.opts.port:""}_query(i){const f=y0(i);return f.length?"?"+f:""}}class p0 extends Gf{constructor(){super(...arguments),this._polling=!1}get name(){return"polling"}doOpen(){this._poll()}pause(i){this.readyState="pausing";const f=()=>{this.readyState="paused",i()};if(this._polling||!this.writable){let s=0;this._polling&&(s++,this.once("pollComplete",function(){--s||f()})),this.writable||(s++,this.once("drain",function(){--s||f()}))}else f()}_poll(){this._polling=!0,this.doPoll(),this.emitReserved("poll")}onData(i){const f=s=>{if(this.readyState==="opening"&&s.type==="open"&&this.onOpen(),s.type==="close")return this.onClose({description:"transport closed by the server"}),!1;this.onPacket(s)};a0(i,this.socket.binaryType).forEach(f),this.readyState!=="closed"&&(this._polling=!1,this.emitReserved("pollComplete"),this.readyState==="open"&&this._poll())}doClose(){const i=()=>{this.write([{type:"close"}])};this.readyState==="open"?i():this.once("open",i)}write(i){this.writable=!1,n0(i,f=>{this.doWrite(f,()=>{this.writable=!0,this.emitReserved("drain")})})}uri(){const i=this.opts.secure?"https":"http",f=this.query||{};return this.opts.timestampRequests!==!1&&(f[this.opts.timestampParam]=yd()),!this.supportsBinary&&!f.sid&&(f.b64=1),this.createUri(i,f)}}let md=!1;try{md=typeof XMLHttpRequest<"u"&&"withCredentials"in new XMLHttpRequest}catch{}const g0=md;function S0(){}class b0 extends p0{constructor(i){if(super(i),typeof location<"u"){const f=location.protocol==="https:";let s=location.port;s||(s=f?"443":"80"),this.xd=typeof location<"u"&&i.hostname!==location.hostname||s!==i.port}}doWrite(i,f){const s=this.request({method:"POST",data:i});s.on("success",f),s.on("error",(v,T)=>{this.onError("xhr post error",v,T)})}doPoll(){const i=this.request();i.on("data",this.onData.bind(this)),i.on("error",(f,s)=>{this.onError("xhr poll error",f,s)}),this.pollXhr=i}}class He extends Mt{constructor(i,f,s){super(),this.createRequest=i,ni(this,s),this._opts=s,this._method=s.method||"GET",this._uri=f,this._data=s.data!==void 0?s.data:null,this._create()}_create(){var i;const f=dd(this._opts,"agent","pfx","key","passphrase","cert","ca","ciphers","rejectUnauthorized","autoUnref");f.xdomain=!!this._opts.xd;const s=this._xhr=this.createRequest(f);try{s.open(this._method,this._uri,!0);try{if(this._opts.extraHeaders){s.setDisableHeaderCheck&&s.setDisableHeaderCheck(!0);for(let v in this._opts.extraHeaders)this._opts.extraHeaders.hasOwnProperty(v)&&s.setRequestHeader(v,this._opts.extraHeaders[v])}}catch{}if(this._method==="POST")try{s.setRequestHeader("Content-type","text/plain;charset=UTF-8")}catch{}try{s.setRequestHeader("Accept","*/*")}catch{}(i=this._opts.cookieJar)===null||i===void 0||i.addCookies(s),"withCredentials"in s&&(s.withCredentials=this._opts.withCredentials),this._opts.requestTimeout&&(s.timeout=this._opts.requestTimeout),s.onreadystatechange=()=>{var v;s.readyState===3&&((v=this._opts.cookieJar)===null||v===void 0||v.parseCookies(s.getResponseHeader("set-cookie"))),s.readyState===4&&(s.status===200||s.status===1223?this._onLoad():this.setTimeoutFn(()=>{this._onError(typeof s.status=="number"?s.status:0)},0))},s.send(this._data)}catch(v){this.setTimeoutFn(()=>{this._onError(v)},0);return}typeof document<"u"&&(this._index=He.requestsCount++,He.requests[this._index]=this)}_onError(i){this.emitReserved("error",i,this._xhr),this._cleanup(!0)}_cleanup(i){if(!(typeof this._xhr>"u"||this._xhr===null)){if(this._xhr.onreadystatechange=S0,i)try{this._xhr.abort()}catch{}typeof document<"u"&&delete He.requests[this._index],this._xhr=null}}_onLoad(){const i=this._xhr.responseText;i!==null&&(this.emitReserved("data",i),this.emitReserved("success"),this._cleanup())}abort(){this._cleanup()}}He.requestsCount=0;He.requests={};if(typeof document<"u"){if(typeof attachEvent=="function")attachEvent("onunload",ud);else if(typeof addEventListener=="function"){const r="onpagehide"in Ee?"pagehide":"unload";addEventListener(r,ud,!1)}}function ud(){for(let r in He.requests)He.requests.hasOwnProperty(r)&&He.requests[r].abort()}const _0=(function(){const r=vd({xdomain:!1});return r&&r.responseType!==null})();class E0 extends b0{constructor(i){super(i);const f=i&&i.forceBase64;this.supportsBinary=_0&&!f}request(i={}){return Object.assign(i,{xd:this.xd},this.opts),new He(vd,this.uri(),i)}}function vd(r){const i=r.xdomain;try{if(typeof XMLHttpRequest<"u"&&(!i||g0))return new XMLHttpRequest}catch{}if(!i)try{return new Ee[["Active"].concat("Object").join("X")]("Microsoft.XMLHTTP")}catch{}}const pd=typeof navigator<"u"&&typeof navigator.product=="string"&&navigator.product.toLowerCase()==="reactnative";class T0 extends Gf{get name(){return"websocket"}doOpen(){const i=this.uri(),f=this.opts.protocols,s=pd?{}:dd(this.opts,"agent","perMessageDeflate","pfx","key","passphrase","cert","ca","ciphers","rejectUnauthorized","localAddress","protocolVersion","origin","maxPayload","family","checkServerIdentity");this.opts.extraHeaders&&(s.headers=this.opts.extraHeaders);try{this.ws=this.createSocket(i,f,s)}catch(v){return this.emitReserved("error",v)}this.ws.binaryType=this.socket.binaryType,this.addEventListeners()}addEventListeners(){this.ws.onopen=()=>{this.opts.autoUnref&&this.ws._socket.unref(),this.onOpen()},this.ws.onclose=i=>this.onClose({description:"websocket connection closed",context:i}),this.ws.onmessage=i=>this.onData(i.data),this.ws.onerror=i=>this.onError("websocket error",i)}write(i){this.writable=!1;for(let f=0;f<i.length;f++){const s=i[f],v=f===i.length-1;Lf(s,this.supportsBinary,T=>{try{this.doWrite(s,T)}catch{}v&&li(()=>{this.writable=!0,this.emitReserved("drain")},this.setTimeoutFn)})}}doClose(){typeof this.ws<"u"&&(this.ws.onerror=()=>{},this.ws.close(),this.ws=null)}uri(){const i=this.opts.secure?"wss":"ws",f=this.query||{};return this.opts.timestampRequests&&(f[this.opts.timestampParam]=yd()),this.supportsBinary||(f.b64=1),this.createUri(i,f)}}const Uf=Ee.WebSocket||Ee.MozWebSocket;class A0 extends T0{createSocket(i,f,s){return pd?new Uf(i,f,s):f?new Uf(i,f):new Uf(i)}doWrite(i,f){this.ws.send(f)}}class z0 extends Gf{get name(){return"webtransport"}doOpen(){try{this._transport=new WebTransport(this.createUri("https"),this.opts.transportOptions[this.name])}catch(i){return this.emitReserved("error",i)}this._transport.closed.then(()=>{this.onClose()}).catch(i=>{this.onError("webtransport error",i)}),this._transport.ready.then(()=>{this._transport.createBidirectionalStream().then(i=>{const f=i0(Number.MAX_SAFE_INTEGER,this.socket.binaryType),s=i.readable.pipeThrough(f).getReader(),v=u0();v.readable.pipeTo(i.writable),this._writer=v.writable.getWriter();const T=()=>{s.read().then(({done:q,value:D})=>{q||(this.onPacket(D),T())}).catch(q=>{})};T();const R={type:"open"};this.query.sid&&(R.data=`{"sid":"${this.query.sid}"}`),this._writer.write(R).then(()=>this.onOpen())})})}write(i){this.writable=!1;for(let f=0;f<i.length;f++){const s=i[f],v=f===i.length-1;this._writer.write(s).then(()=>{v&&li(()=>{this.writable=!0,this.emitReserved("drain")},this.setTimeoutFn)})}}doClose(){var i;(i=this._transport)===null||i===void 0||i.close()}}const O0={websocket:A0,webtransport:z0,polling:E0},N0=/^(?:(?![^:@\/?#]+:[^:@\/]*@)(http|https|ws|wss):\/\/)?((?:(([^:@\/?#]*)(?::([^:@\/?#]*))?)?@)?((?:[a-f0-9]{0,4}:){2,7}[a-f0-9]{0,4}|[^:\/?#]*)(?::(\d*))?)(((\/(?:[^?#](?![^?#\/]*\.[^?#\/.]+(?:[?#]|$)))*\/?)?([^?#\/]*))(?:\?([^#]*))?(?:#(.*))?)/,D0=["source","protocol","authority","userInfo","user","password","host","port","relative","path","directory","file","query","anchor"];function Bf(r){if(r.length>8e3)throw"URI too long";const i=r,f=r.indexOf("["),s=r.indexOf("]");f!=-1&&s!=-1&&(r=r.substring(0,f)+r.substring(f,s).replace(/:/g,";")+r.substring(s,r.length));let v=N0.exec(r||""),T={},R=14;for(;R--;)T[D0[R]]=v[R]||"";return f!=-1&&s!=-1&&(T.source=i,T.host=T.host.substring(1,T.host.length-1).replace(/;/g,":"),T.authority=T.authority.replace("[","").replace("]","").replace(/;/g,":"),T.ipv6uri=!0),T.pathNames=R0(T,T.path),T.queryKey=M0(T,T.query),T}function R0(r,i){const f=/\/{2,9}/g,s=i.replace(f,"/").split("/");return(i.slice(0,1)=="/"||i.length===0)&&s.splice(0,1),i.slice(-1)=="/"&&s.splice(s.length-1,1),s}function M0(r,i){const f={};return i.replace(/(?:^|&)([^&=]*)=?([^&]*)/g,function(s,v,T){v&&(f[v]=T)}),f}const qf=typeof addEventListener=="function"&&typeof removeEventListener=="function",Pu=[];qf&&addEventListener("offline",()=>{Pu.forEach(r=>r())},!1);class Nl extends Mt{constructor(i,f){if(super(),this.binaryType=f0,this.writeBuffer=[],this._prevBufferLen=0,this._pingInterval=-1,this._pingTimeout=-1,this._maxPayload=-1,this._pingTimeoutTime=1/0,i&&typeof i=="object"&&(f=i,i=null),i){const s=Bf(i);f.hostname=s.host,f.secure=s.protocol==="https"||s.protocol==="wss",f.port=s.port,s.query&&(f.query=s.query)}else f.host&&(f.hostname=Bf(f.host).host);ni(this,f),this.secure=f.secure!=null?f.secure:typeof location<"u"&&location.protocol==="https:",f.hostname&&!f.port&&(f.port=this.secure?"443":"80"),this.hostname=f.hostname||(typeof location<"u"?location.hostname:"localhost"),this.port=f.port||(typeof location<"u"&&location.port?location.port:this.secure?"443":"80"),this.transports=[],this._transportsByName={},f.transports.forEach(s=>{const v=s.prototype.name;this.transports.push(v),this._transportsByName[v]=s}),this.opts=Object.assign({path:"/engine.io",agent:!1,withCredentials:!1,upgrade:!0,timestampParam:"t",rememberUpgrade:!1,addTrailingSlash:!0,rejectUnauthorized:!0,perMessageDeflate:{threshold:1024},transportOptions:{},closeOnBeforeunload:!1},f),this.opts.path=this.opts.path.replace(/\/$/,"")+(this.opts.addTrailingSlash?"/":""),typeof this.opts.query=="string"&&(this.opts.query=m0(this.opts.query)),qf&&(this.opts.closeOnBeforeunload&&(this._beforeunloadEventListener=()=>{this.transport&&(this.transport.removeAllListeners(),this.transport.close())},addEventListener("beforeunload",this._beforeunloadEventListener,!1)),this.hostname!=="localhost"&&(this._offlineEventListener=()=>{this._onClose("transport close",{description:"network connection lost"})},Pu.push(this._offlineEventListener))),this.opts.withCredentials&&(this._cookieJar=void 0),this._open()}createTransport(i){const f=Object.assign({},this.opts.query);f.EIO=hd,f.transport=i,this.id&&(f.sid=this.id);const s=Object.assign({},this.opts,{query:f,socket:this,hostname:this.hostname,secure:this.secure,port:this.port},this.opts.transportOptions[i]);return new this._transportsByName[i](s)}_open(){if(this.transports.length===0){this.setTimeoutFn(()=>{this.emitReserved("error","No transports available")},0);return}const i=this.opts.rememberUpgrade&&Nl.priorWebsocketSuccess&&this.transports.indexOf("websocket")!==-1?"websocket":this.transports[0];this.readyState="opening";const f=this.createTransport(i);f.open(),this.setTransport(f)}setTransport(i){this.transport&&this.transport.removeAllListeners(),this.transport=i,i.on("drain",this._onDrain.bind(this)).on("packet",this._onPacket.bind(this)).on("error",this._onError.bind(this)).on("close",f=>this._onClose("transport close",f))}onOpen(){this.readyState="open",Nl.priorWebsocketSuccess=this.transport.name==="websocket",this.emitReserved("open"),this.flush()}_onPacket(i){if(this.readyState==="opening"||this.readyState==="open"||this.readyState==="closing")switch(this.emitReserved("packet",i),this.emitReserved("heartbeat"),i.type){case"open":this.onHandshake(JSON.parse(i.data));break;case"ping":this._sendPacket("pong"),this.emitReserved("ping"),this.emitReserved("pong"),this._resetPingTimeout();break;case"error":const f=new Error("server error");f.code=i.data,this._onError(f);break;case"message":this.emitReserved("data",i.data),this.emitReserved("message",i.data);break}}onHandshake(i){this.emitReserved("handshake",i),this.id=i.sid,this.transport.query.sid=i.sid,this._pingInterval=i.pingInterval,this._pingTimeout=i.pingTimeout,this._maxPayload=i.maxPayload,this.onOpen(),this.readyState!=="closed"&&this._resetPingTimeout()}_resetPingTimeout(){this.clearTimeoutFn(this._pingTimeoutTimer);const i=this._pingInterval+this._pingTimeout;this._pingTimeoutTime=Date.now()+i,this._pingTimeoutTimer=this.setTimeoutFn(()=>{this._onClose("ping timeout")},i),this.opts.autoUnref&&this._pingTimeoutTimer.unref()}_onDrain(){this.writeBuffer.splice(0,this._prevBufferLen),this._prevBufferLen=0,this.writeBuffer.length===0?this.emitReserved("drain"):this.flush()}flush(){if(this.readyState!=="closed"&&this.transport.writable&&!this.upgrading&&this.writeBuffer.length){const i=this._getWritablePackets();this.transport.send(i),this._prevBufferLen=i.length,this.emitReserved("flush")}}_getWritablePackets(){if(!(this._maxPayload&&this.transport.name==="polling"&&this.writeBuffer.length>1))return this.writeBuffer;let f=1;for(let s=0;s<this.writeBuffer.length;s++){const v=this.writeBuffer[s].data;if(v&&(f+=h0(v)),s>0&&f>this._maxPayload)return this.writeBuffer.slice(0,s);f+=2}return this.writeBuffer}_hasPingExpired(){if(!this._pingTimeoutTime)return!0;const i=Date.now()>this._pingTimeoutTime;return i&&(this._pingTimeoutTime=0,li(()=>{this._onClose("ping timeout")},this.setTimeoutFn)),i}write(i,f,s){return this._sendPacket("message",i,f,s),this}send(i,f,s){return this._sendPacket("message",i,f,s),this}_sendPacket(i,f,s,v){if(typeof f=="function"&&(v=f,f=void 0),typeof s=="function"&&(v=s,s=null),this.readyState==="closing"||this.readyState==="closed")return;s=s||{},s.compress=s.compress!==!1;const T={type:i,data:f,options:s};this.emitReserved("packetCreate",T),this.writeBuffer.push(T),v&&this.once("flush",v),this.flush()}close(){const i=()=>{this._onClose("forced close"),this.transport.close()},f=()=>{this.off("upgrade",f),this.off("upgradeError",f),i()},s=()=>{this.once("upgrade",f),this.once("upgradeError",f)};return(this.readyState==="opening"||this.readyState==="open")&&(this.readyState="closing",this.writeBuffer.length?this.once("drain",()=>{this.upgrading?s():i()}):this.upgrading?s():i()),this}_onError(i){if(Nl.priorWebsocketSuccess=!1,this.opts.tryAllTransports&&this.transports.length>1&&this.readyState==="opening")return this.transports.shift(),this._open();this.emitReserved("error",i),this._onClose("transport error",i)}_onClose(i,f){if(this.readyState==="opening"||this.readyState==="open"||this.readyState==="closing"){if(this.clearTimeoutFn(this._pingTimeoutTimer),this.transport.removeAllListeners("close"),this.transport.close(),this.transport.removeAllListeners(),qf&&(this._beforeunloadEventListener&&removeEventListener("beforeunload",this._beforeunloadEventListener,!1),this._offlineEventListener)){const s=Pu.indexOf(this._offlineEventListener);s!==-1&&Pu.splice(s,1)}this.readyState="closed",this.id=null,this.emitReserved("close",i,f),this.writeBuffer=[],this._prevBufferLen=0}}}Nl.protocol=hd;class U0 extends Nl{constructor(){super(...arguments),this._upgrades=[]}onOpen(){if(super.onOpen(),this.readyState==="open"&&this.opts.upgrade)for(let i=0;i<this._upgrades.length;i++)this._probe(this._upgrades[i])}_probe(i){let f=this.createTransport(i),s=!1;Nl.priorWebsocketSuccess=!1;const v=()=>{s||(f.send([{type:"ping",data:"probe"}]),f.once("packet",C=>{if(!s)if(C.type==="pong"&&C.data==="probe"){if(this.upgrading=!0,this.emitReserved("upgrading",f),!f)return;Nl.priorWebsocketSuccess=f.name==="websocket",this.transport.pause(()=>{s||this.readyState!=="closed"&&(j(),this.setTransport(f),f.send([{type:"upgrade"}]),this.emitReserved("upgrade",f),f=null,this.upgrading=!1,this.flush())})}else{const lt=new Error("probe error");lt.transport=f.name,this.emitReserved("upgradeError",lt)}}))};function T(){s||(s=!0,j(),f.close(),f=null)}const R=C=>{const lt=new Error("probe error: "+C);lt.transport=f.name,T(),this.emitReserved("upgradeError",lt)};function q(){R("transport closed")}function D(){R("socket closed")}function z(C){f&&C.name!==f.name&&T()}const j=()=>{f.removeListener("open",v),f.removeListener("error",R),f.removeListener("close",q),this.off("close",D),this.off("upgrading",z)};f.once("open",v),f.once("error",R),f.once("close",q),this.once("close",D),this.once("upgrading",z),this._upgrades.indexOf("webtransport")!==-1&&i!=="webtransport"?this.setTimeoutFn(()=>{s||f.open()},200):f.open()}onHandshake(i){this._upgrades=this._filterUpgrades(i.upgrades),super.onHandshake(i)}_filterUpgrades(i){const f=[];for(let s=0;s<i.length;s++)~this.transports.indexOf(i[s])&&f.push(i[s]);return f}}let C0=class extends U0{constructor(i,f={}){const s=typeof i=="object"?i:f;(!s.transports||s.transports&&typeof s.transports[0]=="string")&&(s.transports=(s.transports||["polling","websocket","webtransport"]).map(v=>O0[v]).filter(v=>!!v)),super(i,s)}};function B0(r,i="",f){let s=r;f=f||typeof location<"u"&&location,r==null&&(r=f.protocol+"//"+f.host),typeof r=="string"&&(r.charAt(0)==="/"&&(r.charAt(1)==="/"?r=f.protocol+r:r=f.host+r),/^(https?|wss?):\/\//.test(r)||(typeof f<"u"?r=f.protocol+"//"+r:r="https://"+r),s=Bf(r)),s.port||(/^(http|ws)$/.test(s.protocol)?s.port="80":/^(http|ws)s$/.test(s.protocol)&&(s.port="443")),s.path=s.path||"/";const T=s.host.indexOf(":")!==-1?"["+s.host+"]":s.host;return s.id=s.protocol+"://"+T+":"+s.port+i,s.href=s.protocol+"://"+T+(f&&f.port===s.port?"":":"+s.port),s}const q0=typeof ArrayBuffer=="function",H0=r=>typeof ArrayBuffer.isView=="function"?ArrayBuffer.isView(r):r.buffer instanceof ArrayBuffer,gd=Object.prototype.toString,x0=typeof Blob=="function"||typeof Blob<"u"&&gd.call(Blob)==="[object BlobConstructor]",Y0=typeof File=="function"||typeof File<"u"&&gd.call(File)==="[object FileConstructor]";function Qf(r){return q0&&(r instanceof ArrayBuffer||H0(r))||x0&&r instanceof Blob||Y0&&r instanceof File}function ti(r,i){if(!r||typeof r!="object")return!1;if(Array.isArray(r)){for(let f=0,s=r.length;f<s;f++)if(ti(r[f]))return!0;return!1}if(Qf(r))return!0;if(r.toJSON&&typeof r.toJSON=="function"&&arguments.length===1)return ti(r.toJSON(),!0);for(const f in r)if(Object.prototype.hasOwnProperty.call(r,f)&&ti(r[f]))return!0;return!1}function j0(r){const i=[],f=r.data,s=r;return s.data=Hf(f,i),s.attachments=i.length,{packet:s,buffers:i}}function Hf(r,i){if(!r)return r;if(Qf(r)){const f={_placeholder:!0,num:i.length};return i.push(r),f}else if(Array.isArray(r)){const f=new Array(r.length);for(let s=0;s<r.length;s++)f[s]=Hf(r[s],i);return f}else if(typeof r=="object"&&!(r instanceof Date)){const f={};for(const s in r)Object.prototype.hasOwnProperty.call(r,s)&&(f[s]=Hf(r[s],i));return f}return r}function L0(r,i){return r.data=xf(r.data,i),delete r.attachments,r}function xf(r,i){if(!r)return r;if(r&&r._placeholder===!0){if(typeof r.num=="number"&&r.num>=0&&r.num<i.length)return i[r.num];throw new Error("illegal attachments")}else if(Array.isArray(r))for(let f=0;f<r.length;f++)r[f]=xf(r[f],i);else if(typeof r=="object")for(const f in r)Object.prototype.hasOwnProperty.call(r,f)&&(r[f]=xf(r[f],i));return r}const X0=["connect","connect_error","disconnect","disconnecting","newListener","removeListener"],G0=5;var et;(function(r){r[r.CONNECT=0]="CONNECT",r[r.DISCONNECT=1]="DISCONNECT",r[r.EVENT=2]="EVENT",r[r.ACK=3]="ACK",r[r.CONNECT_ERROR=4]="CONNECT_ERROR",r[r.BINARY_EVENT=5]="BINARY_EVENT",r[r.BINARY_ACK=6]="BINARY_ACK"})(et||(et={}));class Q0{constructor(i){this.replacer=i}encode(i){return(i.type===et.EVENT||i.type===et.ACK)&&ti(i)?this.encodeAsBinary({type:i.type===et.EVENT?et.BINARY_EVENT:et.BINARY_ACK,nsp:i.nsp,data:i.data,id:i.id}):[this.encodeAsString(i)]}encodeAsString(i){let f=""+i.type;return(i.type===et.BINARY_EVENT||i.type===et.BINARY_ACK)&&(f+=i.attachments+"-"),i.nsp&&i.nsp!=="/"&&(f+=i.nsp+","),i.id!=null&&(f+=i.id),i.data!=null&&(f+=JSON.stringify(i.data,this.replacer)),f}encodeAsBinary(i){const f=j0(i),s=this.encodeAsString(f.packet),v=f.buffers;return v.unshift(s),v}}function id(r){return Object.prototype.toString.call(r)==="[object Object]"}class Vf extends Mt{constructor(i){super(),this.reviver=i}add(i){let f;if(typeof i=="string"){if(this.reconstructor)throw new Error("got plaintext data when reconstructing a packet");f=this.decodeString(i);const s=f.type===et.BINARY_EVENT;s||f.type===et.BINARY_ACK?(f.type=s?et.EVENT:et.ACK,this.reconstructor=new V0(f),f.attachments===0&&super.emitReserved("decoded",f)):super.emitReserved("decoded",f)}else if(Qf(i)||i.base64)if(this.reconstructor)f=this.reconstructor.takeBinaryData(i),f&&(this.reconstructor=null,super.emitReserved("decoded",f));else throw new Error("got binary data when not reconstructing a packet");else throw new Error("Unknown type: "+i)}decodeString(i){let f=0;const s={type:Number(i.charAt(0))};if(et[s.type]===void 0)throw new Error("unknown packet type "+s.type);if(s.type===et.BINARY_EVENT||s.type===et.BINARY_ACK){const T=f+1;for(;i.charAt(++f)!=="-"&&f!=i.length;);const R=i.substring(T,f);if(R!=Number(R)||i.charAt(f)!=="-")throw new Error("Illegal attachments");s.attachments=Number(R)}if(i.charAt(f+1)==="/"){const T=f+1;for(;++f&&!(i.charAt(f)===","||f===i.length););s.nsp=i.substring(T,f)}else s.nsp="/";const v=i.charAt(f+1);if(v!==""&&Number(v)==v){const T=f+1;for(;++f;){const R=i.charAt(f);if(R==null||Number(R)!=R){--f;break}if(f===i.length)break}s.id=Number(i.substring(T,f+1))}if(i.charAt(++f)){const T=this.tryParse(i.substr(f));if(Vf.isPayloadValid(s.type,T))s.data=T;else throw new Error("invalid payload")}return s}tryParse(i){try{return JSON.parse(i,this.reviver)}catch{return!1}}static isPayloadValid(i,f){switch(i){case et.CONNECT:return id(f);case et.DISCONNECT:return f===void 0;case et.CONNECT_ERROR:return typeof f=="string"||id(f);case et.EVENT:case et.BINARY_EVENT:return Array.isArray(f)&&(typeof f[0]=="number"||typeof f[0]=="string"&&X0.indexOf(f[0])===-1);case et.ACK:case et.BINARY_ACK:return Array.isArray(f)}}destroy(){this.reconstructor&&(this.reconstructor.finishedReconstruction(),this.reconstructor=null)}}class V0{constructor(i){this.packet=i,this.buffers=[],this.reconPack=i}takeBinaryData(i){if(this.buffers.push(i),this.buffers.length===this.reconPack.attachments){const f=L0(this.reconPack,this.buffers);return this.finishedReconstruction(),f}return null}finishedReconstruction(){this.reconPack=null,this.buffers=[]}}const Z0=Object.freeze(Object.defineProperty({__proto__:null,Decoder:Vf,Encoder:Q0,get PacketType(){return et},protocol:G0},Symbol.toStringTag,{value:"Module"}));function Ne(r,i,f){return r.on(i,f),function(){r.off(i,f)}}const w0=Object.freeze({connect:1,connect_error:1,disconnect:1,disconnecting:1,newListener:1,removeListener:1});class Sd extends Mt{constructor(i,f,s){super(),this.connected=!1,this.recovered=!1,this.receiveBuffer=[],this.sendBuffer=[],this._queue=[],this._queueSeq=0,this.ids=0,this.acks={},this.flags={},this.io=i,this.nsp=f,s&&s.auth&&(this.auth=s.auth),this._opts=Object.assign({},s),this.io._autoConnect&&this.open()}get disconnected(){return!this.connected}subEvents(){if(this.subs)return;const i=this.io;this.subs=[Ne(i,"open",this.onopen.bind(this)),Ne(i,"packet",this.onpacket.bind(this)),Ne(i,"error",this.onerror.bind(this)),Ne(i,"close",this.onclose.bind(this))]}get active(){return!!this.subs}connect(){return this.connected?this:(this.subEvents(),this.io._reconnecting||this.io.open(),this.io._readyState==="open"&&this.onopen(),this)}open(){return this.connect()}send(...i){return i.unshift("message"),this.emit.apply(this,i),this}emit(i,...f){var s,v,T;if(w0.hasOwnProperty(i))throw new Error('"'+i.toString()+'" is a reserved event name');if(f.unshift(i),this._opts.retries&&!this.flags.fromQueue&&!this.flags.volatile)return this._addToQueue(f),this;const R={type:et.EVENT,data:f};if(R.options={},R.options.compress=this.flags.compress!==!1,typeof f[f.length-1]=="function"){const j=this.ids++,C=f.pop();this._registerAckCallback(j,C),R.id=j}const q=(v=(s=this.io.engine)===null||s===void 0?void 0:s.transport)===null||v===void 0?void 0:v.writable,D=this.connected&&!(!((T=this.io.engine)===null||T===void 0)&&T._hasPingExpired());return this.flags.volatile&&!q||(D?(this.notifyOutgoingListeners(R),this.packet(R)):this.sendBuffer.push(R)),this.flags={},this}_registerAckCallback(i,f){var s;const v=(s=this.flags.timeout)!==null&&s!==void 0?s:this._opts.ackTimeout;if(v===void 0){this.acks[i]=f;return}const T=this.io.setTimeoutFn(()=>{delete this.acks[i];for(let q=0;q<this.sendBuffer.length;q++)this.sendBuffer[q].id===i&&this.sendBuffer.splice(q,1);f.call(this,new Error("operation has timed out"))},v),R=(...q)=>{this.io.clearTimeoutFn(T),f.apply(this,q)};R.withError=!0,this.acks[i]=R}emitWithAck(i,...f){return new Promise((s,v)=>{const T=(R,q)=>R?v(R):s(q);T.withError=!0,f.push(T),this.emit(i,...f)})}_addToQueue(i){let f;typeof i[i.length-1]=="function"&&(f=i.pop());const s={id:this._queueSeq++,tryCount:0,pending:!1,args:i,flags:Object.assign({fromQueue:!0},this.flags)};i.push((v,...T)=>s!==this._queue[0]?void 0:(v!==null?s.tryCount>this._opts.retries&&(this._queue.shift(),f&&f(v)):(this._queue.shift(),f&&f(null,...T)),s.pending=!1,this._drainQueue())),this._queue.push(s),this._drainQueue()}_drainQueue(i=!1){if(!this.connected||this._queue.length===0)return;const f=this._queue[0];f.pending&&!i||(f.pending=!0,f.tryCount++,this.flags=f.flags,this.emit.apply(this,f.args))}packet(i){i.nsp=this.nsp,this.io._packet(i)}onopen(){typeof this.auth=="function"?this.auth(i=>{this._sendConnectPacket(i)}):this._sendConnectPacket(this.auth)}_sendConnectPacket(i){this.packet({type:et.CONNECT,data:this._pid?Object.assign({pid:this._pid,offset:this._lastOffset},i):i})}onerror(i){this.connected||this.emitReserved("connect_error",i)}onclose(i,f){this.connected=!1,delete this.id,this.emitReserved("disconnect",i,f),this._clearAcks()}_clearAcks(){Object.keys(this.acks).forEach(i=>{if(!this.sendBuffer.some(s=>String(s.id)===i)){const s=this.acks[i];delete this.acks[i],s.withError&&s.call(this,new Error("socket has been disconnected"))}})}onpacket(i){if(i.nsp===this.nsp)switch(i.type){case et.CONNECT:i.data&&i.data.sid?this.onconnect(i.data.sid,i.data.pid):this.emitReserved("connect_error",new Error("It seems you are trying to reach a Socket.IO server in v2.x with a v3.x client, but they are not compatible (more information here: https://socket.io/docs/v3/migrating-from-2-x-to-3-0/)"));break;case et.EVENT:case et.BINARY_EVENT:this.onevent(i);break;case et.ACK:case et.BINARY_ACK:this.onack(i);break;case et.DISCONNECT:this.ondisconnect();break;case et.CONNECT_ERROR:this.destroy();const s=new Error(i.data.message);s.data=i.data.data,this.emitReserved("connect_error",s);break}}onevent(i){const f=i.data||[];i.id!=null&&f.push(this.ack(i.id)),this.connected?this.emitEvent(f):this.receiveBuffer.push(Object.freeze(f))}emitEvent(i){if(this._anyListeners&&this._anyListeners.length){const f=this._anyListeners.slice();for(const s of f)s.apply(this,i)}super.emit.apply(this,i),this._pid&&i.length&&typeof i[i.length-1]=="string"&&(this._lastOffset=i[i.length-1])}ack(i){const f=this;let s=!1;return function(...v){s||(s=!0,f.packet({type:et.ACK,id:i,data:v}))}}onack(i){const f=this.acks[i.id];typeof f=="function"&&(delete this.acks[i.id],f.withError&&i.data.unshift(null),f.apply(this,i.data))}onconnect(i,f){this.id=i,this.recovered=f&&this._pid===f,this._pid=f,this.connected=!0,this.emitBuffered(),this.emitReserved("connect"),this._drainQueue(!0)}emitBuffered(){this.receiveBuffer.forEach(i=>this.emitEvent(i)),this.receiveBuffer=[],this.sendBuffer.forEach(i=>{this.notifyOutgoingListeners(i),this.packet(i)}),this.sendBuffer=[]}ondisconnect(){this.destroy(),this.onclose("io server disconnect")}destroy(){this.subs&&(this.subs.forEach(i=>i()),this.subs=void 0),this.io._destroy(this)}disconnect(){return this.connected&&this.packet({type:et.DISCONNECT}),this.destroy(),this.connected&&this.onclose("io client disconnect"),this}close(){return this.disconnect()}compress(i){return this.flags.compress=i,this}get volatile(){return this.flags.volatile=!0,this}timeout(i){return this.flags.timeout=i,this}onAny(i){return this._anyListeners=this._anyListeners||[],this._anyListeners.push(i),this}prependAny(i){return this._anyListeners=this._anyListeners||[],this._anyListeners.unshift(i),this}offAny(i){if(!this._anyListeners)return this;if(i){const f=this._anyListeners;for(let s=0;s<f.length;s++)if(i===f[s])return f.splice(s,1),this}else this._anyListeners=[];return this}listenersAny(){return this._anyListeners||[]}onAnyOutgoing(i){return this._anyOutgoingListeners=this._anyOutgoingListeners||[],this._anyOutgoingListeners.push(i),this}prependAnyOutgoing(i){return this._anyOutgoingListeners=this._anyOutgoingListeners||[],this._anyOutgoingListeners.unshift(i),this}offAnyOutgoing(i){if(!this._anyOutgoingListeners)return this;if(i){const f=this._anyOutgoingListeners;for(let s=0;s<f.length;s++)if(i===f[s])return f.splice(s,1),this}else this._anyOutgoingListeners=[];return this}listenersAnyOutgoing(){return this._anyOutgoingListeners||[]}notifyOutgoingListeners(i){if(this._anyOutgoingListeners&&this._anyOutgoingListeners.length){const f=this._anyOutgoingListeners.slice();for(const s of f)s.apply(this,i.data)}}}function qn(r){r=r||{},this.ms=r.min||100,this.max=r.max||1e4,this.factor=r.factor||2,this.jitter=r.jitter>0&&r.jitter<=1?r.jitter:0,this.attempts=0}qn.prototype.duration=function(){var r=this.ms*Math.pow(this.factor,this.attempts++);if(this.jitter){var i=Math.random(),f=Math.floor(i*this.jitter*r);r=(Math.floor(i*10)&1)==0?r-f:r+f}return Math.min(r,this.max)|0};qn.prototype.reset=function(){this.attempts=0};qn.prototype.setMin=function(r){this.ms=r};qn.prototype.setMax=function(r){this.max=r};qn.prototype.setJitter=function(r){this.jitter=r};class Yf extends Mt{constructor(i,f){var s;super(),this.nsps={},this.subs=[],i&&typeof i=="object"&&(f=i,i=void 0),f=f||{},f.path=f.path||"/socket.io",this.opts=f,ni(this,f),this.reconnection(f.reconnection!==!1),this.reconnectionAttempts(f.reconnectionAttempts||1/0),this.reconnectionDelay(f.reconnectionDelay||1e3),this.reconnectionDelayMax(f.reconnectionDelayMax||5e3),this.randomizationFactor((s=f.randomizationFactor)!==null&&s!==void 0?s:.5),this.backoff=new qn({min:this.reconnectionDelay(),max:this.reconnectionDelayMax(),jitter:this.randomizationFactor()}),this.timeout(f.timeout==null?2e4:f.timeout),this._readyState="closed",this.uri=i;const v=f.parser||Z0;this.encoder=new v.Encoder,this.decoder=new v.Decoder,this._autoConnect=f.autoConnect!==!1,this._autoConnect&&this.open()}reconnection(i){return arguments.length?(this._reconnection=!!i,i||(this.skipReconnect=!0),this):this._reconnection}reconnectionAttempts(i){return i===void 0?this._reconnectionAttempts:(this._reconnectionAttempts=i,this)}reconnectionDelay(i){var f;return i===void 0?this._reconnectionDelay:(this._reconnectionDelay=i,(f=this.backoff)===null||f===void 0||f.setMin(i),this)}randomizationFactor(i){var f;return i===void 0?this._randomizationFactor:(this._randomizationFactor=i,(f=this.backoff)===null||f===void 0||f.setJitter(i),this)}reconnectionDelayMax(i){var f;return i===void 0?this._reconnectionDelayMax:(this._reconnectionDelayMax=i,(f=this.backoff)===null||f===void 0||f.setMax(i),this)}timeout(i){return arguments.length?(this._timeout=i,this):this._timeout}maybeReconnectOnOpen(){!this._reconnecting&&this._reconnection&&this.backoff.attempts===0&&this.reconnect()}open(i){if(~this._readyState.indexOf("open"))return this;this.engine=new C0(this.uri,this.opts);const f=this.engine,s=this;this._readyState="opening",this.skipReconnect=!1;const v=Ne(f,"open",function(){s.onopen(),i&&i()}),T=q=>{this.cleanup(),this._readyState="closed",this.emitReserved("error",q),i?i(q):this.maybeReconnectOnOpen()},R=Ne(f,"error",T);if(this._timeout!==!1){const q=this._timeout,D=this.setTimeoutFn(()=>{v(),T(new Error("timeout")),f.close()},q);this.opts.autoUnref&&D.unref(),this.subs.push(()=>{this.clearTimeoutFn(D)})}return this.subs.push(v),this.subs.push(R),this}connect(i){return this.open(i)}onopen(){this.cleanup(),this._readyState="open",this.emitReserved("open");const i=this.engine;this.subs.push(Ne(i,"ping",this.onping.bind(this)),Ne(i,"data",this.ondata.bind(this)),Ne(i,"error",this.onerror.bind(this)),Ne(i,"close",this.onclose.bind(this)),Ne(this.decoder,"decoded",this.ondecoded.bind(this)))}onping(){this.emitReserved("ping")}ondata(i){try{this.decoder.add(i)}catch(f){this.onclose("parse error",f)}}ondecoded(i){li(()=>{this.emitReserved("packet",i)},this.setTimeoutFn)}onerror(i){this.emitReserved("error",i)}socket(i,f){let s=this.nsps[i];return s?this._autoConnect&&!s.active&&s.connect():(s=new Sd(this,i,f),this.nsps[i]=s),s}_destroy(i){const f=Object.keys(this.nsps);for(const s of f)if(this.nsps[s].active)return;this._close()}_packet(i){const f=this.encoder.encode(i);for(let s=0;s<f.length;s++)this.engine.write(f[s],i.options)}cleanup(){this.subs.forEach(i=>i()),this.subs.length=0,this.decoder.destroy()}_close(){this.skipReconnect=!0,this._reconnecting=!1,this.onclose("forced close")}disconnect(){return this._close()}onclose(i,f){var s;this.cleanup(),(s=this.engine)===null||s===void 0||s.close(),this.backoff.reset(),this._readyState="closed",this.emitReserved("close",i,f),this._reconnection&&!this.skipReconnect&&this.reconnect()}reconnect(){if(this._reconnecting||this.skipReconnect)return this;const i=this;if(this.backoff.attempts>=this._reconnectionAttempts)this.backoff.reset(),this.emitReserved("reconnect_failed"),this._reconnecting=!1;else{const f=this.backoff.duration();this._reconnecting=!0;const s=this.setTimeoutFn(()=>{i.skipReconnect||(this.emitReserved("reconnect_attempt",i.backoff.attempts),!i.skipReconnect&&i.open(v=>{v?(i._reconnecting=!1,i.reconnect(),this.emitReserved("reconnect_error",v)):i.onreconnect()}))},f);this.opts.autoUnref&&s.unref(),this.subs.push(()=>{this.clearTimeoutFn(s)})}}onreconnect(){const i=this.backoff.attempts;this._reconnecting=!1,this.backoff.reset(),this.emitReserved("reconnect",i)}}const Ma={};function ei(r,i){typeof r=="object"&&(i=r,r=void 0),i=i||{};const f=B0(r,i.path||"/socket.io"),s=f.source,v=f.id,T=f.path,R=Ma[v]&&T in Ma[v].nsps,q=i.forceNew||i["force new connection"]||i.multiplex===!1||R;let D;return q?D=new Yf(s,i):(Ma[v]||(Ma[v]=new Yf(s,i)),D=Ma[v]),f.query&&!i.query&&(i.query=f.queryKey),D.socket(f.path,i)}Object.assign(ei,{Manager:Yf,Socket:Sd,io:ei,connect:ei});const K0=window.location.origin;function J0(r="default"){const[i,f]=Gt.useState({}),[s,v]=Gt.useState(!1),[T,R]=Gt.useState({playersCount:0,framesReceived:0,fps:0,bandwidth:0}),q=Gt.useRef(null),D=Gt.useRef(0),z=Gt.useRef(Date.now()),j=Gt.useRef([]);return Gt.useEffect(()=>{const C=ei(K0,{reconnection:!0,reconnectionDelay:1e3,reconnectionDelayMax:5e3});q.current=C,C.on("connect",()=>{console.log("[WebViewer] Connected to server"),v(!0);const Q={minecraftUUID:"web-viewer-"+C.id,playerName:"WebViewer",roomId:r};C.emit("player:join",JSON.stringify(Q)),console.log("[WebViewer] Joined room:",r)}),C.on("disconnect",()=>{console.log("[WebViewer] Disconnected from server"),v(!1)}),C.on("connect_error",Q=>{console.error("[WebViewer] Connection error:",Q),v(!1)}),C.on("player:joined",Q=>{typeof Q=="string"&&(Q=JSON.parse(Q));const{existingPlayers:J}=Q;if(console.log("[WebViewer] Joined room with",J?.length||0,"existing players"),J&&J.length>0){const it={};J.forEach(vt=>{it[vt.minecraftUUID]={uuid:vt.minecraftUUID,name:vt.playerName,webcamActive:vt.webcamActive||!1,frame:null,lastUpdate:Date.now()}}),f(it)}}),C.on("player:new",Q=>{typeof Q=="string"&&(Q=JSON.parse(Q));const{player:J}=Q;console.log("[WebViewer] New player:",J.playerName),f(it=>({...it,[J.minecraftUUID]:{uuid:J.minecraftUUID,name:J.playerName,webcamActive:J.webcamActive||!1,frame:null,lastUpdate:Date.now()}}))}),C.on("player:left",Q=>{typeof Q=="string"&&(Q=JSON.parse(Q));const{minecraftUUID:J}=Q;console.log("[WebViewer] Player left:",J),f(it=>{const vt={...it};return delete vt[J],vt})}),C.on("webcam:status",Q=>{typeof Q=="string"&&(Q=JSON.parse(Q));const{minecraftUUID:J,active:it}=Q;console.log("[WebViewer] Webcam status:",J,it),f(vt=>({...vt,[J]:{...vt[J],webcamActive:it}}))}),C.on("video:frame",Q=>{typeof Q=="string"&&(Q=JSON.parse(Q));const{fromUUID:J,fromName:it,frameData:vt}=Q;D.current++;const qt=vt.length*.75;j.current.push(qt),j.current.length>100&&j.current.shift(),f(te=>{const zt=te[J]||{uuid:J,name:it,webcamActive:!0};return{...te,[J]:{...zt,frame:`data:image/jpeg;base64,${vt}`,lastUpdate:Date.now()}}})});const lt=setInterval(()=>{const Q=Date.now(),J=(Q-z.current)/1e3;if(J>0){const it=Math.round(D.current/J),vt=j.current.length>0?j.current.reduce((te,zt)=>te+zt,0)/j.current.length:0,qt=Math.round(vt*it/1024);R({playersCount:Object.keys(i).length,framesReceived:D.current,fps:it,bandwidth:qt}),D.current=0,z.current=Q}},1e3);return()=>{clearInterval(lt),C.disconnect()}},[r]),{players:Object.values(i),connected:s,stats:T}}function k0({player:r,onFullscreen:i}){const[f,s]=Gt.useState(!1),v=()=>{i&&i(r)},T=r.frame&&!f;return Y.jsxs("div",{className:`player-card ${T?"":"no-video"}`,children:[Y.jsx("div",{className:"player-video",children:T?Y.jsx("img",{src:r.frame,alt:`${r.name}'s webcam`,onError:()=>s(!0),onLoad:()=>s(!1)}):Y.jsxs("div",{className:"no-video-placeholder",children:[Y.jsx("div",{className:"placeholder-icon",children:"📷"}),Y.jsx("div",{className:"placeholder-text",children:r.webcamActive?"Waiting for video...":"Camera off"})]})}),Y.jsxs("div",{className:"player-info",children:[Y.jsxs("div",{className:"player-name",children:[Y.jsx("span",{className:`status-indicator ${r.webcamActive?"active":"inactive"}`}),r.name]}),T&&Y.jsx("button",{className:"fullscreen-btn",onClick:v,title:"Fullscreen",children:"⛶"})]})]})}function W0({players:r,onFullscreen:i}){return r.length===0?Y.jsxs("div",{className:"empty-state",children:[Y.jsx("div",{className:"empty-icon",children:"👥"}),Y.jsx("h2",{children:"No players connected"}),Y.jsx("p",{children:"Waiting for players to join and activate their webcams..."})]}):Y.jsx("div",{className:`player-grid player-count-${Math.min(r.length,4)}`,children:r.map(f=>Y.jsx(k0,{player:f,onFullscreen:i},f.uuid))})}function $0({currentRoom:r,onRoomChange:i}){const[f,s]=Gt.useState([]),[v,T]=Gt.useState(!0);Gt.useEffect(()=>{R();const q=setInterval(R,5e3);return()=>clearInterval(q)},[]);const R=async()=>{try{const j=((await(await fetch("/api/rooms")).json()).rooms||[]).map(C=>C.id);s(j)}catch(q){console.error("Failed to fetch rooms:",q)}finally{T(!1)}};return Y.jsxs("div",{className:"room-selector",children:[Y.jsx("label",{htmlFor:"room-select",children:"Room:"}),Y.jsxs("select",{id:"room-select",value:r,onChange:q=>i(q.target.value),disabled:v,children:[Y.jsx("option",{value:"default",children:"default"}),f.map(q=>Y.jsx("option",{value:q,children:q},q))]}),v&&Y.jsx("span",{className:"loading-spinner",children:"⟳"})]})}function F0({stats:r,connected:i}){return Y.jsxs("div",{className:"stats-panel",children:[Y.jsxs("div",{className:`stat-item connection-status ${i?"connected":"disconnected"}`,children:[Y.jsx("span",{className:"stat-label",children:"Status:"}),Y.jsx("span",{className:"stat-value",children:i?"🟢 Connected":"🔴 Disconnected"})]}),Y.jsxs("div",{className:"stat-item",children:[Y.jsx("span",{className:"stat-label",children:"Players:"}),Y.jsx("span",{className:"stat-value",children:r.playersCount})]}),Y.jsxs("div",{className:"stat-item",children:[Y.jsx("span",{className:"stat-label",children:"FPS:"}),Y.jsx("span",{className:"stat-value",children:r.fps})]}),Y.jsxs("div",{className:"stat-item",children:[Y.jsx("span",{className:"stat-label",children:"Bandwidth:"}),Y.jsxs("span",{className:"stat-value",children:[r.bandwidth," KB/s"]})]}),Y.jsxs("div",{className:"stat-item",children:[Y.jsx("span",{className:"stat-label",children:"Frames:"}),Y.jsx("span",{className:"stat-value",children:r.framesReceived})]})]})}function I0({player:r,onClose:i}){return Gt.useEffect(()=>{const f=s=>{s.key==="Escape"&&i()};return document.addEventListener("keydown",f),()=>document.removeEventListener("keydown",f)},[i]),r?Y.jsx("div",{className:"fullscreen-modal",onClick:i,children:Y.jsxs("div",{className:"fullscreen-content",onClick:f=>f.stopPropagation(),children:[Y.jsx("button",{className:"close-btn",onClick:i,title:"Close (ESC)",children:"✕"}),Y.jsx("div",{className:"fullscreen-player-name",children:r.name}),Y.jsx("div",{className:"fullscreen-video",children:r.frame?Y.jsx("img",{src:r.frame,alt:`${r.name}'s webcam`}):Y.jsx("div",{className:"no-video-message",children:"No video available"})})]})}):null}function P0(){const[r,i]=Gt.useState("default"),[f,s]=Gt.useState(null),{players:v,connected:T,stats:R}=J0(r),q=j=>{i(j)},D=j=>{s(j)},z=()=>{s(null)};return Y.jsxs("div",{className:"app",children:[Y.jsxs("header",{className:"app-header",children:[Y.jsxs("div",{className:"header-left",children:[Y.jsx("h1",{children:"📹 WebcamHead Viewer"}),Y.jsx($0,{currentRoom:r,onRoomChange:q})]}),Y.jsx(F0,{stats:R,connected:T})]}),Y.jsx("main",{className:"app-main",children:Y.jsx(W0,{players:v,onFullscreen:D})}),f&&Y.jsx(I0,{player:f,onClose:z}),Y.jsx("footer",{className:"app-footer",children:Y.jsxs("p",{children:["WebcamHead Streaming Viewer · Connected to"," ",Y.jsx("code",{children:"localhost:3000"})," · Room: ",Y.jsx("code",{children:r})]})})]})}Im.createRoot(document.getElementById("root")).render(Y.jsx(Gt.StrictMode,{children:Y.jsx(P0,{})}));
+`).replace(om,"")}function dh(t,e){return e=hh(e),hh(t)===e}function ht(t,e,l,n,a,u){switch(l){case"children":typeof n=="string"?e==="body"||e==="textarea"&&n===""||en(t,n):(typeof n=="number"||typeof n=="bigint")&&e!=="body"&&en(t,""+n);break;case"className":La(t,"class",n);break;case"tabIndex":La(t,"tabindex",n);break;case"dir":case"role":case"viewBox":case"width":case"height":La(t,l,n);break;case"style":hs(t,n,u);break;case"data":if(e!=="object"){La(t,"data",n);break}case"src":case"href":if(n===""&&(e!=="a"||l!=="href")){t.removeAttribute(l);break}if(n==null||typeof n=="function"||typeof n=="symbol"||typeof n=="boolean"){t.removeAttribute(l);break}n=Ga(""+n),t.setAttribute(l,n);break;case"action":case"formAction":if(typeof n=="function"){t.setAttribute(l,"javascript:throw new Error('A React form was unexpectedly submitted. If you called form.submit() manually, consider using form.requestSubmit() instead. If you\\'re trying to use event.stopPropagation() in a submit event handler, consider also calling event.preventDefault().')");break}else typeof u=="function"&&(l==="formAction"?(e!=="input"&&ht(t,e,"name",a.name,a,null),ht(t,e,"formEncType",a.formEncType,a,null),ht(t,e,"formMethod",a.formMethod,a,null),ht(t,e,"formTarget",a.formTarget,a,null)):(ht(t,e,"encType",a.encType,a,null),ht(t,e,"method",a.method,a,null),ht(t,e,"target",a.target,a,null)));if(n==null||typeof n=="symbol"||typeof n=="boolean"){t.removeAttribute(l);break}n=Ga(""+n),t.setAttribute(l,n);break;case"onClick":n!=null&&(t.onclick=Le);break;case"onScroll":n!=null&&$("scroll",t);break;case"onScrollEnd":n!=null&&$("scrollend",t);break;case"dangerouslySetInnerHTML":if(n!=null){if(typeof n!="object"||!("__html"in n))throw Error(s(61));if(l=n.__html,l!=null){if(a.children!=null)throw Error(s(60));t.innerHTML=l}}break;case"multiple":t.multiple=n&&typeof n!="function"&&typeof n!="symbol";break;case"muted":t.muted=n&&typeof n!="function"&&typeof n!="symbol";break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"defaultValue":case"defaultChecked":case"innerHTML":case"ref":break;case"autoFocus":break;case"xlinkHref":if(n==null||typeof n=="function"||typeof n=="boolean"||typeof n=="symbol"){t.removeAttribute("xlink:href");break}l=Ga(""+n),t.setAttributeNS("http://www.w3.org/1999/xlink","xlink:href",l);break;case"contentEditable":case"spellCheck":case"draggable":case"value":case"autoReverse":case"externalResourcesRequired":case"focusable":case"preserveAlpha":n!=null&&typeof n!="function"&&typeof n!="symbol"?t.setAttribute(l,""+n):t.removeAttribute(l);break;case"inert":case"allowFullScreen":case"async":case"autoPlay":case"controls":case"default":case"defer":case"disabled":case"disablePictureInPicture":case"disableRemotePlayback":case"formNoValidate":case"hidden":case"loop":case"noModule":case"noValidate":case"open":case"playsInline":case"readOnly":case"required":case"reversed":case"scoped":case"seamless":case"itemScope":n&&typeof n!="function"&&typeof n!="symbol"?t.setAttribute(l,""):t.removeAttribute(l);break;case"capture":case"download":n===!0?t.setAttribute(l,""):n!==!1&&n!=null&&typeof n!="function"&&typeof n!="symbol"?t.setAttribute(l,n):t.removeAttribute(l);break;case"cols":case"rows":case"size":case"span":n!=null&&typeof n!="function"&&typeof n!="symbol"&&!isNaN(n)&&1<=n?t.setAttribute(l,n):t.removeAttribute(l);break;case"rowSpan":case"start":n==null||typeof n=="function"||typeof n=="symbol"||isNaN(n)?t.removeAttribute(l):t.setAttribute(l,n);break;case"popover":$("beforetoggle",t),$("toggle",t),ja(t,"popover",n);break;case"xlinkActuate":je(t,"http://www.w3.org/1999/xlink","xlink:actuate",n);break;case"xlinkArcrole":je(t,"http://www.w3.org/1999/xlink","xlink:arcrole",n);break;case"xlinkRole":je(t,"http://www.w3.org/1999/xlink","xlink:role",n);break;case"xlinkShow":je(t,"http://www.w3.org/1999/xlink","xlink:show",n);break;case"xlinkTitle":je(t,"http://www.w3.org/1999/xlink","xlink:title",n);break;case"xlinkType":je(t,"http://www.w3.org/1999/xlink","xlink:type",n);break;case"xmlBase":je(t,"http://www.w3.org/XML/1998/namespace","xml:base",n);break;case"xmlLang":je(t,"http://www.w3.org/XML/1998/namespace","xml:lang",n);break;case"xmlSpace":je(t,"http://www.w3.org/XML/1998/namespace","xml:space",n);break;case"is":ja(t,"is",n);break;case"innerText":case"textContent":break;default:(!(2<l.length)||l[0]!=="o"&&l[0]!=="O"||l[1]!=="n"&&l[1]!=="N")&&(l=Ld.get(l)||l,ja(t,l,n))}}function af(t,e,l,n,a,u){switch(l){case"style":hs(t,n,u);break;case"dangerouslySetInnerHTML":if(n!=null){if(typeof n!="object"||!("__html"in n))throw Error(s(61));if(l=n.__html,l!=null){if(a.children!=null)throw Error(s(60));t.innerHTML=l}}break;case"children":typeof n=="string"?en(t,n):(typeof n=="number"||typeof n=="bigint")&&en(t,""+n);break;case"onScroll":n!=null&&$("scroll",t);break;case"onScrollEnd":n!=null&&$("scrollend",t);break;case"onClick":n!=null&&(t.onclick=Le);break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"innerHTML":case"ref":break;case"innerText":case"textContent":break;default:if(!ns.hasOwnProperty(l))t:{if(l[0]==="o"&&l[1]==="n"&&(a=l.endsWith("Capture"),e=l.slice(2,a?l.length-7:void 0),u=t[Jt]||null,u=u!=null?u[l]:null,typeof u=="function"&&t.removeEventListener(e,u,a),typeof n=="function")){typeof u!="function"&&u!==null&&(l in t?t[l]=null:t.hasAttribute(l)&&t.removeAttribute(l)),t.addEventListener(e,n,a);break t}l in t?t[l]=n:n===!0?t.setAttribute(l,""):ja(t,l,n)}}}function Lt(t,e,l){switch(e){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"img":$("error",t),$("load",t);var n=!1,a=!1,u;for(u in l)if(l.hasOwnProperty(u)){var c=l[u];if(c!=null)switch(u){case"src":n=!0;break;case"srcSet":a=!0;break;case"children":case"dangerouslySetInnerHTML":throw Error(s(137,e));default:ht(t,e,u,c,l,null)}}a&&ht(t,e,"srcSet",l.srcSet,l,null),n&&ht(t,e,"src",l.src,l,null);return;case"input":$("invalid",t);var o=u=c=a=null,h=null,g=null;for(n in l)if(l.hasOwnProperty(n)){var _=l[n];if(_!=null)switch(n){case"name":a=_;break;case"type":c=_;break;case"checked":h=_;break;case"defaultChecked":g=_;break;case"value":u=_;break;case"defaultValue":o=_;break;case"children":case"dangerouslySetInnerHTML":if(_!=null)throw Error(s(137,e));break;default:ht(t,e,n,_,l,null)}}fs(t,u,o,h,g,c,a,!1);return;case"select":$("invalid",t),n=c=u=null;for(a in l)if(l.hasOwnProperty(a)&&(o=l[a],o!=null))switch(a){case"value":u=o;break;case"defaultValue":c=o;break;case"multiple":n=o;default:ht(t,e,a,o,l,null)}e=u,l=c,t.multiple=!!n,e!=null?tn(t,!!n,e,!1):l!=null&&tn(t,!!n,l,!0);return;case"textarea":$("invalid",t),u=a=n=null;for(c in l)if(l.hasOwnProperty(c)&&(o=l[c],o!=null))switch(c){case"value":n=o;break;case"defaultValue":a=o;break;case"children":u=o;break;case"dangerouslySetInnerHTML":if(o!=null)throw Error(s(91));break;default:ht(t,e,c,o,l,null)}rs(t,n,a,u);return;case"option":for(h in l)if(l.hasOwnProperty(h)&&(n=l[h],n!=null))switch(h){case"selected":t.selected=n&&typeof n!="function"&&typeof n!="symbol";break;default:ht(t,e,h,n,l,null)}return;case"dialog":$("beforetoggle",t),$("toggle",t),$("cancel",t),$("close",t);break;case"iframe":case"object":$("load",t);break;case"video":case"audio":for(n=0;n<Sa.length;n++)$(Sa[n],t);break;case"image":$("error",t),$("load",t);break;case"details":$("toggle",t);break;case"embed":case"source":case"link":$("error",t),$("load",t);case"area":case"base":case"br":case"col":case"hr":case"keygen":case"meta":case"param":case"track":case"wbr":case"menuitem":for(g in l)if(l.hasOwnProperty(g)&&(n=l[g],n!=null))switch(g){case"children":case"dangerouslySetInnerHTML":throw Error(s(137,e));default:ht(t,e,g,n,l,null)}return;default:if(gi(e)){for(_ in l)l.hasOwnProperty(_)&&(n=l[_],n!==void 0&&af(t,e,_,n,l,void 0));return}}for(o in l)l.hasOwnProperty(o)&&(n=l[o],n!=null&&ht(t,e,o,n,l,null))}function hm(t,e,l,n){switch(e){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"input":var a=null,u=null,c=null,o=null,h=null,g=null,_=null;for(b in l){var O=l[b];if(l.hasOwnProperty(b)&&O!=null)switch(b){case"checked":break;case"value":break;case"defaultValue":h=O;default:n.hasOwnProperty(b)||ht(t,e,b,null,n,O)}}for(var S in n){var b=n[S];if(O=l[S],n.hasOwnProperty(S)&&(b!=null||O!=null))switch(S){case"type":u=b;break;case"name":a=b;break;case"checked":g=b;break;case"defaultChecked":_=b;break;case"value":c=b;break;case"defaultValue":o=b;break;case"children":case"dangerouslySetInnerHTML":if(b!=null)throw Error(s(137,e));break;default:b!==O&&ht(t,e,S,b,n,O)}}vi(t,c,o,h,g,_,u,a);return;case"select":b=c=o=S=null;for(u in l)if(h=l[u],l.hasOwnProperty(u)&&h!=null)switch(u){case"value":break;case"multiple":b=h;default:n.hasOwnProperty(u)||ht(t,e,u,null,n,h)}for(a in n)if(u=n[a],h=l[a],n.hasOwnProperty(a)&&(u!=null||h!=null))switch(a){case"value":S=u;break;case"defaultValue":o=u;break;case"multiple":c=u;default:u!==h&&ht(t,e,a,u,n,h)}e=o,l=c,n=b,S!=null?tn(t,!!l,S,!1):!!n!=!!l&&(e!=null?tn(t,!!l,e,!0):tn(t,!!l,l?[]:"",!1));return;case"textarea":b=S=null;for(o in l)if(a=l[o],l.hasOwnProperty(o)&&a!=null&&!n.hasOwnProperty(o))switch(o){case"value":break;case"children":break;default:ht(t,e,o,null,n,a)}for(c in n)if(a=n[c],u=l[c],n.hasOwnProperty(c)&&(a!=null||u!=null))switch(c){case"value":S=a;break;case"defaultValue":b=a;break;case"children":break;case"dangerouslySetInnerHTML":if(a!=null)throw Error(s(91));break;default:a!==u&&ht(t,e,c,a,n,u)}ss(t,S,b);return;case"option":for(var B in l)if(S=l[B],l.hasOwnProperty(B)&&S!=null&&!n.hasOwnProperty(B))switch(B){case"selected":t.selected=!1;break;default:ht(t,e,B,null,n,S)}for(h in n)if(S=n[h],b=l[h],n.hasOwnProperty(h)&&S!==b&&(S!=null||b!=null))switch(h){case"selected":t.selected=S&&typeof S!="function"&&typeof S!="symbol";break;default:ht(t,e,h,S,n,b)}return;case"img":case"link":case"area":case"base":case"br":case"col":case"embed":case"hr":case"keygen":case"meta":case"param":case"source":case"track":case"wbr":case"menuitem":for(var X in l)S=l[X],l.hasOwnProperty(X)&&S!=null&&!n.hasOwnProperty(X)&&ht(t,e,X,null,n,S);for(g in n)if(S=n[g],b=l[g],n.hasOwnProperty(g)&&S!==b&&(S!=null||b!=null))switch(g){case"children":case"dangerouslySetInnerHTML":if(S!=null)throw Error(s(137,e));break;default:ht(t,e,g,S,n,b)}return;default:if(gi(e)){for(var dt in l)S=l[dt],l.hasOwnProperty(dt)&&S!==void 0&&!n.hasOwnProperty(dt)&&af(t,e,dt,void 0,n,S);for(_ in n)S=n[_],b=l[_],!n.hasOwnProperty(_)||S===b||S===void 0&&b===void 0||af(t,e,_,S,n,b);return}}for(var m in l)S=l[m],l.hasOwnProperty(m)&&S!=null&&!n.hasOwnProperty(m)&&ht(t,e,m,null,n,S);for(O in n)S=n[O],b=l[O],!n.hasOwnProperty(O)||S===b||S==null&&b==null||ht(t,e,O,S,n,b)}function yh(t){switch(t){case"css":case"script":case"font":case"img":case"image":case"input":case"link":return!0;default:return!1}}function dm(){if(typeof performance.getEntriesByType=="function"){for(var t=0,e=0,l=performance.getEntriesByType("resource"),n=0;n<l.length;n++){var a=l[n],u=a.transferSize,c=a.initiatorType,o=a.duration;if(u&&o&&yh(c)){for(c=0,o=a.responseEnd,n+=1;n<l.length;n++){var h=l[n],g=h.startTime;if(g>o)break;var _=h.transferSize,O=h.initiatorType;_&&yh(O)&&(h=h.responseEnd,c+=_*(h<o?1:(o-g)/(h-g)))}if(--n,e+=8*(u+c)/(a.duration/1e3),t++,10<t)break}}if(0<t)return e/t/1e6}return navigator.connection&&(t=navigator.connection.downlink,typeof t=="number")?t:5}var uf=null,cf=null;function xu(t){return t.nodeType===9?t:t.ownerDocument}function mh(t){switch(t){case"http://www.w3.org/2000/svg":return 1;case"http://www.w3.org/1998/Math/MathML":return 2;default:return 0}}function vh(t,e){if(t===0)switch(e){case"svg":return 1;case"math":return 2;default:return 0}return t===1&&e==="foreignObject"?0:t}function ff(t,e){return t==="textarea"||t==="noscript"||typeof e.children=="string"||typeof e.children=="number"||typeof e.children=="bigint"||typeof e.dangerouslySetInnerHTML=="object"&&e.dangerouslySetInnerHTML!==null&&e.dangerouslySetInnerHTML.__html!=null}var sf=null;function ym(){var t=window.event;return t&&t.type==="popstate"?t===sf?!1:(sf=t,!0):(sf=null,!1)}var ph=typeof setTimeout=="function"?setTimeout:void 0,mm=typeof clearTimeout=="function"?clearTimeout:void 0,gh=typeof Promise=="function"?Promise:void 0,vm=typeof queueMicrotask=="function"?queueMicrotask:typeof gh<"u"?function(t){return gh.resolve(null).then(t).catch(pm)}:ph;function pm(t){setTimeout(function(){throw t})}function _l(t){return t==="head"}function Sh(t,e){var l=e,n=0;do{var a=l.nextSibling;if(t.removeChild(l),a&&a.nodeType===8)if(l=a.data,l==="/$"||l==="/&"){if(n===0){t.removeChild(a),Bn(e);return}n--}else if(l==="$"||l==="$?"||l==="$~"||l==="$!"||l==="&")n++;else if(l==="html")_a(t.ownerDocument.documentElement);else if(l==="head"){l=t.ownerDocument.head,_a(l);for(var u=l.firstChild;u;){var c=u.nextSibling,o=u.nodeName;u[Ln]||o==="SCRIPT"||o==="STYLE"||o==="LINK"&&u.rel.toLowerCase()==="stylesheet"||l.removeChild(u),u=c}}else l==="body"&&_a(t.ownerDocument.body);l=a}while(l);Bn(e)}function bh(t,e){var l=t;t=0;do{var n=l.nextSibling;if(l.nodeType===1?e?(l._stashedDisplay=l.style.display,l.style.display="none"):(l.style.display=l._stashedDisplay||"",l.getAttribute("style")===""&&l.removeAttribute("style")):l.nodeType===3&&(e?(l._stashedText=l.nodeValue,l.nodeValue=""):l.nodeValue=l._stashedText||""),n&&n.nodeType===8)if(l=n.data,l==="/$"){if(t===0)break;t--}else l!=="$"&&l!=="$?"&&l!=="$~"&&l!=="$!"||t++;l=n}while(l)}function rf(t){var e=t.firstChild;for(e&&e.nodeType===10&&(e=e.nextSibling);e;){var l=e;switch(e=e.nextSibling,l.nodeName){case"HTML":case"HEAD":case"BODY":rf(l),yi(l);continue;case"SCRIPT":case"STYLE":continue;case"LINK":if(l.rel.toLowerCase()==="stylesheet")continue}t.removeChild(l)}}function gm(t,e,l,n){for(;t.nodeType===1;){var a=l;if(t.nodeName.toLowerCase()!==e.toLowerCase()){if(!n&&(t.nodeName!=="INPUT"||t.type!=="hidden"))break}else if(n){if(!t[Ln])switch(e){case"meta":if(!t.hasAttribute("itemprop"))break;return t;case"link":if(u=t.getAttribute("rel"),u==="stylesheet"&&t.hasAttribute("data-precedence"))break;if(u!==a.rel||t.getAttribute("href")!==(a.href==null||a.href===""?null:a.href)||t.getAttribute("crossorigin")!==(a.crossOrigin==null?null:a.crossOrigin)||t.getAttribute("title")!==(a.title==null?null:a.title))break;return t;case"style":if(t.hasAttribute("data-precedence"))break;return t;case"script":if(u=t.getAttribute("src"),(u!==(a.src==null?null:a.src)||t.getAttribute("type")!==(a.type==null?null:a.type)||t.getAttribute("crossorigin")!==(a.crossOrigin==null?null:a.crossOrigin))&&u&&t.hasAttribute("async")&&!t.hasAttribute("itemprop"))break;return t;default:return t}}else if(e==="input"&&t.type==="hidden"){var u=a.name==null?null:""+a.name;if(a.type==="hidden"&&t.getAttribute("name")===u)return t}else return t;if(t=be(t.nextSibling),t===null)break}return null}function Sm(t,e,l){if(e==="")return null;for(;t.nodeType!==3;)if((t.nodeType!==1||t.nodeName!=="INPUT"||t.type!=="hidden")&&!l||(t=be(t.nextSibling),t===null))return null;return t}function _h(t,e){for(;t.nodeType!==8;)if((t.nodeType!==1||t.nodeName!=="INPUT"||t.type!=="hidden")&&!e||(t=be(t.nextSibling),t===null))return null;return t}function of(t){return t.data==="$?"||t.data==="$~"}function hf(t){return t.data==="$!"||t.data==="$?"&&t.ownerDocument.readyState!=="loading"}function bm(t,e){var l=t.ownerDocument;if(t.data==="$~")t._reactRetry=e;else if(t.data!=="$?"||l.readyState!=="loading")e();else{var n=function(){e(),l.removeEventListener("DOMContentLoaded",n)};l.addEventListener("DOMContentLoaded",n),t._reactRetry=n}}function be(t){for(;t!=null;t=t.nextSibling){var e=t.nodeType;if(e===1||e===3)break;if(e===8){if(e=t.data,e==="$"||e==="$!"||e==="$?"||e==="$~"||e==="&"||e==="F!"||e==="F")break;if(e==="/$"||e==="/&")return null}}return t}var df=null;function Eh(t){t=t.nextSibling;for(var e=0;t;){if(t.nodeType===8){var l=t.data;if(l==="/$"||l==="/&"){if(e===0)return be(t.nextSibling);e--}else l!=="$"&&l!=="$!"&&l!=="$?"&&l!=="$~"&&l!=="&"||e++}t=t.nextSibling}return null}function Th(t){t=t.previousSibling;for(var e=0;t;){if(t.nodeType===8){var l=t.data;if(l==="$"||l==="$!"||l==="$?"||l==="$~"||l==="&"){if(e===0)return t;e--}else l!=="/$"&&l!=="/&"||e++}t=t.previousSibling}return null}function Ah(t,e,l){switch(e=xu(l),t){case"html":if(t=e.documentElement,!t)throw Error(s(452));return t;case"head":if(t=e.head,!t)throw Error(s(453));return t;case"body":if(t=e.body,!t)throw Error(s(454));return t;default:throw Error(s(451))}}function _a(t){for(var e=t.attributes;e.length;)t.removeAttributeNode(e[0]);yi(t)}var _e=new Map,zh=new Set;function Yu(t){return typeof t.getRootNode=="function"?t.getRootNode():t.nodeType===9?t:t.ownerDocument}var el=M.d;M.d={f:_m,r:Em,D:Tm,C:Am,L:zm,m:Om,X:Dm,S:Nm,M:Rm};function _m(){var t=el.f(),e=Du();return t||e}function Em(t){var e=Fl(t);e!==null&&e.tag===5&&e.type==="form"?Gr(e):el.r(t)}var Mn=typeof document>"u"?null:document;function Oh(t,e,l){var n=Mn;if(n&&typeof e=="string"&&e){var a=de(e);a='link[rel="'+t+'"][href="'+a+'"]',typeof l=="string"&&(a+='[crossorigin="'+l+'"]'),zh.has(a)||(zh.add(a),t={rel:t,crossOrigin:l,href:e},n.querySelector(a)===null&&(e=n.createElement("link"),Lt(e,"link",t),Ct(e),n.head.appendChild(e)))}}function Tm(t){el.D(t),Oh("dns-prefetch",t,null)}function Am(t,e){el.C(t,e),Oh("preconnect",t,e)}function zm(t,e,l){el.L(t,e,l);var n=Mn;if(n&&t&&e){var a='link[rel="preload"][as="'+de(e)+'"]';e==="image"&&l&&l.imageSrcSet?(a+='[imagesrcset="'+de(l.imageSrcSet)+'"]',typeof l.imageSizes=="string"&&(a+='[imagesizes="'+de(l.imageSizes)+'"]')):a+='[href="'+de(t)+'"]';var u=a;switch(e){case"style":u=Un(t);break;case"script":u=Cn(t)}_e.has(u)||(t=C({rel:"preload",href:e==="image"&&l&&l.imageSrcSet?void 0:t,as:e},l),_e.set(u,t),n.querySelector(a)!==null||e==="style"&&n.querySelector(Ea(u))||e==="script"&&n.querySelector(Ta(u))||(e=n.createElement("link"),Lt(e,"link",t),Ct(e),n.head.appendChild(e)))}}function Om(t,e){el.m(t,e);var l=Mn;if(l&&t){var n=e&&typeof e.as=="string"?e.as:"script",a='link[rel="modulepreload"][as="'+de(n)+'"][href="'+de(t)+'"]',u=a;switch(n){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":u=Cn(t)}if(!_e.has(u)&&(t=C({rel:"modulepreload",href:t},e),_e.set(u,t),l.querySelector(a)===null)){switch(n){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":if(l.querySelector(Ta(u)))return}n=l.createElement("link"),Lt(n,"link",t),Ct(n),l.head.appendChild(n)}}}function Nm(t,e,l){el.S(t,e,l);var n=Mn;if(n&&t){var a=Il(n).hoistableStyles,u=Un(t);e=e||"default";var c=a.get(u);if(!c){var o={loading:0,preload:null};if(c=n.querySelector(Ea(u)))o.loading=5;else{t=C({rel:"stylesheet",href:t,"data-precedence":e},l),(l=_e.get(u))&&yf(t,l);var h=c=n.createElement("link");Ct(h),Lt(h,"link",t),h._p=new Promise(function(g,_){h.onload=g,h.onerror=_}),h.addEventListener("load",function(){o.loading|=1}),h.addEventListener("error",function(){o.loading|=2}),o.loading|=4,ju(c,e,n)}c={type:"stylesheet",instance:c,count:1,state:o},a.set(u,c)}}}function Dm(t,e){el.X(t,e);var l=Mn;if(l&&t){var n=Il(l).hoistableScripts,a=Cn(t),u=n.get(a);u||(u=l.querySelector(Ta(a)),u||(t=C({src:t,async:!0},e),(e=_e.get(a))&&mf(t,e),u=l.createElement("script"),Ct(u),Lt(u,"link",t),l.head.appendChild(u)),u={type:"script",instance:u,count:1,state:null},n.set(a,u))}}function Rm(t,e){el.M(t,e);var l=Mn;if(l&&t){var n=Il(l).hoistableScripts,a=Cn(t),u=n.get(a);u||(u=l.querySelector(Ta(a)),u||(t=C({src:t,async:!0,type:"module"},e),(e=_e.get(a))&&mf(t,e),u=l.createElement("script"),Ct(u),Lt(u,"link",t),l.head.appendChild(u)),u={type:"script",instance:u,count:1,state:null},n.set(a,u))}}function Nh(t,e,l,n){var a=(a=k.current)?Yu(a):null;if(!a)throw Error(s(446));switch(t){case"meta":case"title":return null;case"style":return typeof l.precedence=="string"&&typeof l.href=="string"?(e=Un(l.href),l=Il(a).hoistableStyles,n=l.get(e),n||(n={type:"style",instance:null,count:0,state:null},l.set(e,n)),n):{type:"void",instance:null,count:0,state:null};case"link":if(l.rel==="stylesheet"&&typeof l.href=="string"&&typeof l.precedence=="string"){t=Un(l.href);var u=Il(a).hoistableStyles,c=u.get(t);if(c||(a=a.ownerDocument||a,c={type:"stylesheet",instance:null,count:0,state:{loading:0,preload:null}},u.set(t,c),(u=a.querySelector(Ea(t)))&&!u._p&&(c.instance=u,c.state.loading=5),_e.has(t)||(l={rel:"preload",as:"style",href:l.href,crossOrigin:l.crossOrigin,integrity:l.integrity,media:l.media,hrefLang:l.hrefLang,referrerPolicy:l.referrerPolicy},_e.set(t,l),u||Mm(a,t,l,c.state))),e&&n===null)throw Error(s(528,""));return c}if(e&&n!==null)throw Error(s(529,""));return null;case"script":return e=l.async,l=l.src,typeof l=="string"&&e&&typeof e!="function"&&typeof e!="symbol"?(e=Cn(l),l=Il(a).hoistableScripts,n=l.get(e),n||(n={type:"script",instance:null,count:0,state:null},l.set(e,n)),n):{type:"void",instance:null,count:0,state:null};default:throw Error(s(444,t))}}function Un(t){return'href="'+de(t)+'"'}function Ea(t){return'link[rel="stylesheet"]['+t+"]"}function Dh(t){return C({},t,{"data-precedence":t.precedence,precedence:null})}function Mm(t,e,l,n){t.querySelector('link[rel="preload"][as="style"]['+e+"]")?n.loading=1:(e=t.createElement("link"),n.preload=e,e.addEventListener("load",function(){return n.loading|=1}),e.addEventListener("error",function(){return n.loading|=2}),Lt(e,"link",l),Ct(e),t.head.appendChild(e))}function Cn(t){return'[src="'+de(t)+'"]'}function Ta(t){return"script[async]"+t}function Rh(t,e,l){if(e.count++,e.instance===null)switch(e.type){case"style":var n=t.querySelector('style[data-href~="'+de(l.href)+'"]');if(n)return e.instance=n,Ct(n),n;var a=C({},l,{"data-href":l.href,"data-precedence":l.precedence,href:null,precedence:null});return n=(t.ownerDocument||t).createElement("style"),Ct(n),Lt(n,"style",a),ju(n,l.precedence,t),e.instance=n;case"stylesheet":a=Un(l.href);var u=t.querySelector(Ea(a));if(u)return e.state.loading|=4,e.instance=u,Ct(u),u;n=Dh(l),(a=_e.get(a))&&yf(n,a),u=(t.ownerDocument||t).createElement("link"),Ct(u);var c=u;return c._p=new Promise(function(o,h){c.onload=o,c.onerror=h}),Lt(u,"link",n),e.state.loading|=4,ju(u,l.precedence,t),e.instance=u;case"script":return u=Cn(l.src),(a=t.querySelector(Ta(u)))?(e.instance=a,Ct(a),a):(n=l,(a=_e.get(u))&&(n=C({},l),mf(n,a)),t=t.ownerDocument||t,a=t.createElement("script"),Ct(a),Lt(a,"link",n),t.head.appendChild(a),e.instance=a);case"void":return null;default:throw Error(s(443,e.type))}else e.type==="stylesheet"&&(e.state.loading&4)===0&&(n=e.instance,e.state.loading|=4,ju(n,l.precedence,t));return e.instance}function ju(t,e,l){for(var n=l.querySelectorAll('link[rel="stylesheet"][data-precedence],style[data-precedence]'),a=n.length?n[n.length-1]:null,u=a,c=0;c<n.length;c++){var o=n[c];if(o.dataset.precedence===e)u=o;else if(u!==a)break}u?u.parentNode.insertBefore(t,u.nextSibling):(e=l.nodeType===9?l.head:l,e.insertBefore(t,e.firstChild))}function yf(t,e){t.crossOrigin==null&&(t.crossOrigin=e.crossOrigin),t.referrerPolicy==null&&(t.referrerPolicy=e.referrerPolicy),t.title==null&&(t.title=e.title)}function mf(t,e){t.crossOrigin==null&&(t.crossOrigin=e.crossOrigin),t.referrerPolicy==null&&(t.referrerPolicy=e.referrerPolicy),t.integrity==null&&(t.integrity=e.integrity)}var Lu=null;function Mh(t,e,l){if(Lu===null){var n=new Map,a=Lu=new Map;a.set(l,n)}else a=Lu,n=a.get(l),n||(n=new Map,a.set(l,n));if(n.has(t))return n;for(n.set(t,null),l=l.getElementsByTagName(t),a=0;a<l.length;a++){var u=l[a];if(!(u[Ln]||u[Ht]||t==="link"&&u.getAttribute("rel")==="stylesheet")&&u.namespaceURI!=="http://www.w3.org/2000/svg"){var c=u.getAttribute(e)||"";c=t+c;var o=n.get(c);o?o.push(u):n.set(c,[u])}}return n}function Uh(t,e,l){t=t.ownerDocument||t,t.head.insertBefore(l,e==="title"?t.querySelector("head > title"):null)}function Um(t,e,l){if(l===1||e.itemProp!=null)return!1;switch(t){case"meta":case"title":return!0;case"style":if(typeof e.precedence!="string"||typeof e.href!="string"||e.href==="")break;return!0;case"link":if(typeof e.rel!="string"||typeof e.href!="string"||e.href===""||e.onLoad||e.onError)break;switch(e.rel){case"stylesheet":return t=e.disabled,typeof e.precedence=="string"&&t==null;default:return!0}case"script":if(e.async&&typeof e.async!="function"&&typeof e.async!="symbol"&&!e.onLoad&&!e.onError&&e.src&&typeof e.src=="string")return!0}return!1}function Ch(t){return!(t.type==="stylesheet"&&(t.state.loading&3)===0)}function Cm(t,e,l,n){if(l.type==="stylesheet"&&(typeof n.media!="string"||matchMedia(n.media).matches!==!1)&&(l.state.loading&4)===0){if(l.instance===null){var a=Un(n.href),u=e.querySelector(Ea(a));if(u){e=u._p,e!==null&&typeof e=="object"&&typeof e.then=="function"&&(t.count++,t=Xu.bind(t),e.then(t,t)),l.state.loading|=4,l.instance=u,Ct(u);return}u=e.ownerDocument||e,n=Dh(n),(a=_e.get(a))&&yf(n,a),u=u.createElement("link"),Ct(u);var c=u;c._p=new Promise(function(o,h){c.onload=o,c.onerror=h}),Lt(u,"link",n),l.instance=u}t.stylesheets===null&&(t.stylesheets=new Map),t.stylesheets.set(l,e),(e=l.state.preload)&&(l.state.loading&3)===0&&(t.count++,l=Xu.bind(t),e.addEventListener("load",l),e.addEventListener("error",l))}}var vf=0;function Bm(t,e){return t.stylesheets&&t.count===0&&Qu(t,t.stylesheets),0<t.count||0<t.imgCount?function(l){var n=setTimeout(function(){if(t.stylesheets&&Qu(t,t.stylesheets),t.unsuspend){var u=t.unsuspend;t.unsuspend=null,u()}},6e4+e);0<t.imgBytes&&vf===0&&(vf=62500*dm());var a=setTimeout(function(){if(t.waitingForImages=!1,t.count===0&&(t.stylesheets&&Qu(t,t.stylesheets),t.unsuspend)){var u=t.unsuspend;t.unsuspend=null,u()}},(t.imgBytes>vf?50:800)+e);return t.unsuspend=l,function(){t.unsuspend=null,clearTimeout(n),clearTimeout(a)}}:null}function Xu(){if(this.count--,this.count===0&&(this.imgCount===0||!this.waitingForImages)){if(this.stylesheets)Qu(this,this.stylesheets);else if(this.unsuspend){var t=this.unsuspend;this.unsuspend=null,t()}}}var Gu=null;function Qu(t,e){t.stylesheets=null,t.unsuspend!==null&&(t.count++,Gu=new Map,e.forEach(qm,t),Gu=null,Xu.call(t))}function qm(t,e){if(!(e.state.loading&4)){var l=Gu.get(t);if(l)var n=l.get(null);else{l=new Map,Gu.set(t,l);for(var a=t.querySelectorAll("link[data-precedence],style[data-precedence]"),u=0;u<a.length;u++){var c=a[u];(c.nodeName==="LINK"||c.getAttribute("media")!=="not all")&&(l.set(c.dataset.precedence,c),n=c)}n&&l.set(null,n)}a=e.instance,c=a.getAttribute("data-precedence"),u=l.get(c)||n,u===n&&l.set(null,a),l.set(c,a),this.count++,n=Xu.bind(this),a.addEventListener("load",n),a.addEventListener("error",n),u?u.parentNode.insertBefore(a,u.nextSibling):(t=t.nodeType===9?t.head:t,t.insertBefore(a,t.firstChild)),e.state.loading|=4}}var Aa={$$typeof:zt,Provider:null,Consumer:null,_currentValue:G,_currentValue2:G,_threadCount:0};function Hm(t,e,l,n,a,u,c,o,h){this.tag=1,this.containerInfo=t,this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.next=this.pendingContext=this.context=this.cancelPendingCommit=null,this.callbackPriority=0,this.expirationTimes=ri(-1),this.entangledLanes=this.shellSuspendCounter=this.errorRecoveryDisabledLanes=this.expiredLanes=this.warmLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=ri(0),this.hiddenUpdates=ri(null),this.identifierPrefix=n,this.onUncaughtError=a,this.onCaughtError=u,this.onRecoverableError=c,this.pooledCache=null,this.pooledCacheLanes=0,this.formState=h,this.incompleteTransitions=new Map}function Bh(t,e,l,n,a,u,c,o,h,g,_,O){return t=new Hm(t,e,l,c,h,g,_,O,o),e=1,u===!0&&(e|=24),u=ue(3,null,null,e),t.current=u,u.stateNode=t,e=ki(),e.refCount++,t.pooledCache=e,e.refCount++,u.memoizedState={element:n,isDehydrated:l,cache:e},Ii(u),t}function qh(t){return t?(t=sn,t):sn}function Hh(t,e,l,n,a,u){a=qh(a),n.context===null?n.context=a:n.pendingContext=a,n=rl(e),n.payload={element:l},u=u===void 0?null:u,u!==null&&(n.callback=u),l=ol(t,n,e),l!==null&&(Pt(l,t,e),la(l,t,e))}function xh(t,e){if(t=t.memoizedState,t!==null&&t.dehydrated!==null){var l=t.retryLane;t.retryLane=l!==0&&l<e?l:e}}function pf(t,e){xh(t,e),(t=t.alternate)&&xh(t,e)}function Yh(t){if(t.tag===13||t.tag===31){var e=Hl(t,67108864);e!==null&&Pt(e,t,67108864),pf(t,67108864)}}function jh(t){if(t.tag===13||t.tag===31){var e=re();e=oi(e);var l=Hl(t,e);l!==null&&Pt(l,t,e),pf(t,e)}}var Vu=!0;function xm(t,e,l,n){var a=E.T;E.T=null;var u=M.p;try{M.p=2,gf(t,e,l,n)}finally{M.p=u,E.T=a}}function Ym(t,e,l,n){var a=E.T;E.T=null;var u=M.p;try{M.p=8,gf(t,e,l,n)}finally{M.p=u,E.T=a}}function gf(t,e,l,n){if(Vu){var a=Sf(n);if(a===null)nf(t,e,n,Zu,l),Xh(t,n);else if(Lm(a,t,e,l,n))n.stopPropagation();else if(Xh(t,n),e&4&&-1<jm.indexOf(t)){for(;a!==null;){var u=Fl(a);if(u!==null)switch(u.tag){case 3:if(u=u.stateNode,u.current.memoizedState.isDehydrated){var c=Ml(u.pendingLanes);if(c!==0){var o=u;for(o.pendingLanes|=2,o.entangledLanes|=2;c;){var h=1<<31-ne(c);o.entanglements[1]|=h,c&=~h}qe(u),(ut&6)===0&&(Ou=ee()+500,ga(0))}}break;case 31:case 13:o=Hl(u,2),o!==null&&Pt(o,u,2),Du(),pf(u,2)}if(u=Sf(n),u===null&&nf(t,e,n,Zu,l),u===a)break;a=u}a!==null&&n.stopPropagation()}else nf(t,e,n,null,l)}}function Sf(t){return t=bi(t),bf(t)}var Zu=null;function bf(t){if(Zu=null,t=$l(t),t!==null){var e=T(t);if(e===null)t=null;else{var l=e.tag;if(l===13){if(t=R(e),t!==null)return t;t=null}else if(l===31){if(t=q(e),t!==null)return t;t=null}else if(l===3){if(e.stateNode.current.memoizedState.isDehydrated)return e.tag===3?e.stateNode.containerInfo:null;t=null}else e!==t&&(t=null)}}return Zu=t,null}function Lh(t){switch(t){case"beforetoggle":case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"toggle":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 2;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 8;case"message":switch(Td()){case Kf:return 2;case Jf:return 8;case Ba:case Ad:return 32;case kf:return 268435456;default:return 32}default:return 32}}var _f=!1,El=null,Tl=null,Al=null,za=new Map,Oa=new Map,zl=[],jm="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset".split(" ");function Xh(t,e){switch(t){case"focusin":case"focusout":El=null;break;case"dragenter":case"dragleave":Tl=null;break;case"mouseover":case"mouseout":Al=null;break;case"pointerover":case"pointerout":za.delete(e.pointerId);break;case"gotpointercapture":case"lostpointercapture":Oa.delete(e.pointerId)}}function Na(t,e,l,n,a,u){return t===null||t.nativeEvent!==u?(t={blockedOn:e,domEventName:l,eventSystemFlags:n,nativeEvent:u,targetContainers:[a]},e!==null&&(e=Fl(e),e!==null&&Yh(e)),t):(t.eventSystemFlags|=n,e=t.targetContainers,a!==null&&e.indexOf(a)===-1&&e.push(a),t)}function Lm(t,e,l,n,a){switch(e){case"focusin":return El=Na(El,t,e,l,n,a),!0;case"dragenter":return Tl=Na(Tl,t,e,l,n,a),!0;case"mouseover":return Al=Na(Al,t,e,l,n,a),!0;case"pointerover":var u=a.pointerId;return za.set(u,Na(za.get(u)||null,t,e,l,n,a)),!0;case"gotpointercapture":return u=a.pointerId,Oa.set(u,Na(Oa.get(u)||null,t,e,l,n,a)),!0}return!1}function Gh(t){var e=$l(t.target);if(e!==null){var l=T(e);if(l!==null){if(e=l.tag,e===13){if(e=R(l),e!==null){t.blockedOn=e,ts(t.priority,function(){jh(l)});return}}else if(e===31){if(e=q(l),e!==null){t.blockedOn=e,ts(t.priority,function(){jh(l)});return}}else if(e===3&&l.stateNode.current.memoizedState.isDehydrated){t.blockedOn=l.tag===3?l.stateNode.containerInfo:null;return}}}t.blockedOn=null}function wu(t){if(t.blockedOn!==null)return!1;for(var e=t.targetContainers;0<e.length;){var l=Sf(t.nativeEvent);if(l===null){l=t.nativeEvent;var n=new l.constructor(l.type,l);Si=n,l.target.dispatchEvent(n),Si=null}else return e=Fl(l),e!==null&&Yh(e),t.blockedOn=l,!1;e.shift()}return!0}function Qh(t,e,l){wu(t)&&l.delete(e)}function Xm(){_f=!1,El!==null&&wu(El)&&(El=null),Tl!==null&&wu(Tl)&&(Tl=null),Al!==null&&wu(Al)&&(Al=null),za.forEach(Qh),Oa.forEach(Qh)}function Ku(t,e){t.blockedOn===e&&(t.blockedOn=null,_f||(_f=!0,r.unstable_scheduleCallback(r.unstable_NormalPriority,Xm)))}var Ju=null;function Vh(t){Ju!==t&&(Ju=t,r.unstable_scheduleCallback(r.unstable_NormalPriority,function(){Ju===t&&(Ju=null);for(var e=0;e<t.length;e+=3){var l=t[e],n=t[e+1],a=t[e+2];if(typeof n!="function"){if(bf(n||l)===null)continue;break}var u=Fl(l);u!==null&&(t.splice(e,3),e-=3,gc(u,{pending:!0,data:a,method:l.method,action:n},n,a))}}))}function Bn(t){function e(h){return Ku(h,t)}El!==null&&Ku(El,t),Tl!==null&&Ku(Tl,t),Al!==null&&Ku(Al,t),za.forEach(e),Oa.forEach(e);for(var l=0;l<zl.length;l++){var n=zl[l];n.blockedOn===t&&(n.blockedOn=null)}for(;0<zl.length&&(l=zl[0],l.blockedOn===null);)Gh(l),l.blockedOn===null&&zl.shift();if(l=(t.ownerDocument||t).$$reactFormReplay,l!=null)for(n=0;n<l.length;n+=3){var a=l[n],u=l[n+1],c=a[Jt]||null;if(typeof u=="function")c||Vh(l);else if(c){var o=null;if(u&&u.hasAttribute("formAction")){if(a=u,c=u[Jt]||null)o=c.formAction;else if(bf(a)!==null)continue}else o=c.action;typeof o=="function"?l[n+1]=o:(l.splice(n,3),n-=3),Vh(l)}}}function Zh(){function t(u){u.canIntercept&&u.info==="react-transition"&&u.intercept({handler:function(){return new Promise(function(c){return a=c})},focusReset:"manual",scroll:"manual"})}function e(){a!==null&&(a(),a=null),n||setTimeout(l,20)}function l(){if(!n&&!navigation.transition){var u=navigation.currentEntry;u&&u.url!=null&&navigation.navigate(u.url,{state:u.getState(),info:"react-transition",history:"replace"})}}if(typeof navigation=="object"){var n=!1,a=null;return navigation.addEventListener("navigate",t),navigation.addEventListener("navigatesuccess",e),navigation.addEventListener("navigateerror",e),setTimeout(l,100),function(){n=!0,navigation.removeEventListener("navigate",t),navigation.removeEventListener("navigatesuccess",e),navigation.removeEventListener("navigateerror",e),a!==null&&(a(),a=null)}}}function Ef(t){this._internalRoot=t}ku.prototype.render=Ef.prototype.render=function(t){var e=this._internalRoot;if(e===null)throw Error(s(409));var l=e.current,n=re();Hh(l,n,t,e,null,null)},ku.prototype.unmount=Ef.prototype.unmount=function(){var t=this._internalRoot;if(t!==null){this._internalRoot=null;var e=t.containerInfo;Hh(t.current,2,null,t,null,null),Du(),e[Wl]=null}};function ku(t){this._internalRoot=t}ku.prototype.unstable_scheduleHydration=function(t){if(t){var e=Pf();t={blockedOn:null,target:t,priority:e};for(var l=0;l<zl.length&&e!==0&&e<zl[l].priority;l++);zl.splice(l,0,t),l===0&&Gh(t)}};var wh=i.version;if(wh!=="19.2.0")throw Error(s(527,wh,"19.2.0"));M.findDOMNode=function(t){var e=t._reactInternals;if(e===void 0)throw typeof t.render=="function"?Error(s(188)):(t=Object.keys(t).join(","),Error(s(268,t)));return t=z(e),t=t!==null?j(t):null,t=t===null?null:t.stateNode,t};var Gm={bundleType:0,version:"19.2.0",rendererPackageName:"react-dom",currentDispatcherRef:E,reconcilerVersion:"19.2.0"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var Wu=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!Wu.isDisabled&&Wu.supportsFiber)try{xn=Wu.inject(Gm),le=Wu}catch{}}return Ra.createRoot=function(t,e){if(!v(t))throw Error(s(299));var l=!1,n="",a=Fr,u=Ir,c=Pr;return e!=null&&(e.unstable_strictMode===!0&&(l=!0),e.identifierPrefix!==void 0&&(n=e.identifierPrefix),e.onUncaughtError!==void 0&&(a=e.onUncaughtError),e.onCaughtError!==void 0&&(u=e.onCaughtError),e.onRecoverableError!==void 0&&(c=e.onRecoverableError)),e=Bh(t,1,!1,null,null,l,n,null,a,u,c,Zh),t[Wl]=e.current,lf(t),new Ef(e)},Ra.hydrateRoot=function(t,e,l){if(!v(t))throw Error(s(299));var n=!1,a="",u=Fr,c=Ir,o=Pr,h=null;return l!=null&&(l.unstable_strictMode===!0&&(n=!0),l.identifierPrefix!==void 0&&(a=l.identifierPrefix),l.onUncaughtError!==void 0&&(u=l.onUncaughtError),l.onCaughtError!==void 0&&(c=l.onCaughtError),l.onRecoverableError!==void 0&&(o=l.onRecoverableError),l.formState!==void 0&&(h=l.formState)),e=Bh(t,1,!0,e,l??null,n,a,h,u,c,o,Zh),e.context=qh(null),l=e.current,n=re(),n=oi(n),a=rl(n),a.callback=null,ol(l,a,n),l=n,e.current.lanes=l,jn(e,l),qe(e),t[Wl]=e.current,lf(t),new ku(e)},Ra.version="19.2.0",Ra}var ed;function Fm(){if(ed)return zf.exports;ed=1;function r(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(r)}catch(i){console.error(i)}}return r(),zf.exports=$m(),zf.exports}var Im=Fm();const xe=Object.create(null);xe.open="0";xe.close="1";xe.ping="2";xe.pong="3";xe.message="4";xe.upgrade="5";xe.noop="6";const Iu=Object.create(null);Object.keys(xe).forEach(r=>{Iu[xe[r]]=r});const Cf={type:"error",data:"parser error"},cd=typeof Blob=="function"||typeof Blob<"u"&&Object.prototype.toString.call(Blob)==="[object BlobConstructor]",fd=typeof ArrayBuffer=="function",sd=r=>typeof ArrayBuffer.isView=="function"?ArrayBuffer.isView(r):r&&r.buffer instanceof ArrayBuffer,Lf=({type:r,data:i},f,s)=>cd&&i instanceof Blob?f?s(i):ld(i,s):fd&&(i instanceof ArrayBuffer||sd(i))?f?s(i):ld(new Blob([i]),s):s(xe[r]+(i||"")),ld=(r,i)=>{const f=new FileReader;return f.onload=function(){const s=f.result.split(",")[1];i("b"+(s||""))},f.readAsDataURL(r)};function nd(r){return r instanceof Uint8Array?r:r instanceof ArrayBuffer?new Uint8Array(r):new Uint8Array(r.buffer,r.byteOffset,r.byteLength)}let Rf;function Pm(r,i){if(cd&&r.data instanceof Blob)return r.data.arrayBuffer().then(nd).then(i);if(fd&&(r.data instanceof ArrayBuffer||sd(r.data)))return i(nd(r.data));Lf(r,!1,f=>{Rf||(Rf=new TextEncoder),i(Rf.encode(f))})}const ad="ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/",Ua=typeof Uint8Array>"u"?[]:new Uint8Array(256);for(let r=0;r<ad.length;r++)Ua[ad.charCodeAt(r)]=r;const t0=r=>{let i=r.length*.75,f=r.length,s,v=0,T,R,q,D;r[r.length-1]==="="&&(i--,r[r.length-2]==="="&&i--);const z=new ArrayBuffer(i),j=new Uint8Array(z);for(s=0;s<f;s+=4)T=Ua[r.charCodeAt(s)],R=Ua[r.charCodeAt(s+1)],q=Ua[r.charCodeAt(s+2)],D=Ua[r.charCodeAt(s+3)],j[v++]=T<<2|R>>4,j[v++]=(R&15)<<4|q>>2,j[v++]=(q&3)<<6|D&63;return z},e0=typeof ArrayBuffer=="function",Xf=(r,i)=>{if(typeof r!="string")return{type:"message",data:rd(r,i)};const f=r.charAt(0);return f==="b"?{type:"message",data:l0(r.substring(1),i)}:Iu[f]?r.length>1?{type:Iu[f],data:r.substring(1)}:{type:Iu[f]}:Cf},l0=(r,i)=>{if(e0){const f=t0(r);return rd(f,i)}else return{base64:!0,data:r}},rd=(r,i)=>{switch(i){case"blob":return r instanceof Blob?r:new Blob([r]);case"arraybuffer":default:return r instanceof ArrayBuffer?r:r.buffer}},od="",n0=(r,i)=>{const f=r.length,s=new Array(f);let v=0;r.forEach((T,R)=>{Lf(T,!1,q=>{s[R]=q,++v===f&&i(s.join(od))})})},a0=(r,i)=>{const f=r.split(od),s=[];for(let v=0;v<f.length;v++){const T=Xf(f[v],i);if(s.push(T),T.type==="error")break}return s};function u0(){return new TransformStream({transform(r,i){Pm(r,f=>{const s=f.length;let v;if(s<126)v=new Uint8Array(1),new DataView(v.buffer).setUint8(0,s);else if(s<65536){v=new Uint8Array(3);const T=new DataView(v.buffer);T.setUint8(0,126),T.setUint16(1,s)}else{v=new Uint8Array(9);const T=new DataView(v.buffer);T.setUint8(0,127),T.setBigUint64(1,BigInt(s))}r.data&&typeof r.data!="string"&&(v[0]|=128),i.enqueue(v),i.enqueue(f)})}})}let Mf;function $u(r){return r.reduce((i,f)=>i+f.length,0)}function Fu(r,i){if(r[0].length===i)return r.shift();const f=new Uint8Array(i);let s=0;for(let v=0;v<i;v++)f[v]=r[0][s++],s===r[0].length&&(r.shift(),s=0);return r.length&&s<r[0].length&&(r[0]=r[0].slice(s)),f}function i0(r,i){Mf||(Mf=new TextDecoder);const f=[];let s=0,v=-1,T=!1;return new TransformStream({transform(R,q){for(f.push(R);;){if(s===0){if($u(f)<1)break;const D=Fu(f,1);T=(D[0]&128)===128,v=D[0]&127,v<126?s=3:v===126?s=1:s=2}else if(s===1){if($u(f)<2)break;const D=Fu(f,2);v=new DataView(D.buffer,D.byteOffset,D.length).getUint16(0),s=3}else if(s===2){if($u(f)<8)break;const D=Fu(f,8),z=new DataView(D.buffer,D.byteOffset,D.length),j=z.getUint32(0);if(j>Math.pow(2,21)-1){q.enqueue(Cf);break}v=j*Math.pow(2,32)+z.getUint32(4),s=3}else{if($u(f)<v)break;const D=Fu(f,v);q.enqueue(Xf(T?D:Mf.decode(D),i)),s=0}if(v===0||v>r){q.enqueue(Cf);break}}}})}const hd=4;function Mt(r){if(r)return c0(r)}function c0(r){for(var i in Mt.prototype)r[i]=Mt.prototype[i];return r}Mt.prototype.on=Mt.prototype.addEventListener=function(r,i){return this._callbacks=this._callbacks||{},(this._callbacks["$"+r]=this._callbacks["$"+r]||[]).push(i),this};Mt.prototype.once=function(r,i){function f(){this.off(r,f),i.apply(this,arguments)}return f.fn=i,this.on(r,f),this};Mt.prototype.off=Mt.prototype.removeListener=Mt.prototype.removeAllListeners=Mt.prototype.removeEventListener=function(r,i){if(this._callbacks=this._callbacks||{},arguments.length==0)return this._callbacks={},this;var f=this._callbacks["$"+r];if(!f)return this;if(arguments.length==1)return delete this._callbacks["$"+r],this;for(var s,v=0;v<f.length;v++)if(s=f[v],s===i||s.fn===i){f.splice(v,1);break}return f.length===0&&delete this._callbacks["$"+r],this};Mt.prototype.emit=function(r){this._callbacks=this._callbacks||{};for(var i=new Array(arguments.length-1),f=this._callbacks["$"+r],s=1;s<arguments.length;s++)i[s-1]=arguments[s];if(f){f=f.slice(0);for(var s=0,v=f.length;s<v;++s)f[s].apply(this,i)}return this};Mt.prototype.emitReserved=Mt.prototype.emit;Mt.prototype.listeners=function(r){return this._callbacks=this._callbacks||{},this._callbacks["$"+r]||[]};Mt.prototype.hasListeners=function(r){return!!this.listeners(r).length};const li=typeof Promise=="function"&&typeof Promise.resolve=="function"?i=>Promise.resolve().then(i):(i,f)=>f(i,0),Ee=typeof self<"u"?self:typeof window<"u"?window:Function("return this")(),f0="arraybuffer";function dd(r,...i){return i.reduce((f,s)=>(r.hasOwnProperty(s)&&(f[s]=r[s]),f),{})}const s0=Ee.setTimeout,r0=Ee.clearTimeout;function ni(r,i){i.useNativeTimers?(r.setTimeoutFn=s0.bind(Ee),r.clearTimeoutFn=r0.bind(Ee)):(r.setTimeoutFn=Ee.setTimeout.bind(Ee),r.clearTimeoutFn=Ee.clearTimeout.bind(Ee))}const o0=1.33;function h0(r){return typeof r=="string"?d0(r):Math.ceil((r.byteLength||r.size)*o0)}function d0(r){let i=0,f=0;for(let s=0,v=r.length;s<v;s++)i=r.charCodeAt(s),i<128?f+=1:i<2048?f+=2:i<55296||i>=57344?f+=3:(s++,f+=4);return f}function yd(){return Date.now().toString(36).substring(3)+Math.random().toString(36).substring(2,5)}function y0(r){let i="";for(let f in r)r.hasOwnProperty(f)&&(i.length&&(i+="&"),i+=encodeURIComponent(f)+"="+encodeURIComponent(r[f]));return i}function m0(r){let i={},f=r.split("&");for(let s=0,v=f.length;s<v;s++){let T=f[s].split("=");i[decodeURIComponent(T[0])]=decodeURIComponent(T[1])}return i}class v0 extends Error{constructor(i,f,s){super(i),this.description=f,this.context=s,this.type="TransportError"}}class Gf extends Mt{constructor(i){super(),this.writable=!1,ni(this,i),this.opts=i,this.query=i.query,this.socket=i.socket,this.supportsBinary=!i.forceBase64}onError(i,f,s){return super.emitReserved("error",new v0(i,f,s)),this}open(){return this.readyState="opening",this.doOpen(),this}close(){return(this.readyState==="opening"||this.readyState==="open")&&(this.doClose(),this.onClose()),this}send(i){this.readyState==="open"&&this.write(i)}onOpen(){this.readyState="open",this.writable=!0,super.emitReserved("open")}onData(i){const f=Xf(i,this.socket.binaryType);this.onPacket(f)}onPacket(i){super.emitReserved("packet",i)}onClose(i){this.readyState="closed",super.emitReserved("close",i)}pause(i){}createUri(i,f={}){return i+"://"+this._hostname()+this._port()+this.opts.path+this._query(f)}_hostname(){const i=this.opts.hostname;return i.indexOf(":")===-1?i:"["+i+"]"}_port(){return this.opts.port&&(this.opts.secure&&+(this.opts.port!==443)||!this.opts.secure&&Number(this.opts.port)!==80)?":"+this.opts.port:""}_query(i){const f=y0(i);return f.length?"?"+f:""}}class p0 extends Gf{constructor(){super(...arguments),this._polling=!1}get name(){return"polling"}doOpen(){this._poll()}pause(i){this.readyState="pausing";const f=()=>{this.readyState="paused",i()};if(this._polling||!this.writable){let s=0;this._polling&&(s++,this.once("pollComplete",function(){--s||f()})),this.writable||(s++,this.once("drain",function(){--s||f()}))}else f()}_poll(){this._polling=!0,this.doPoll(),this.emitReserved("poll")}onData(i){const f=s=>{if(this.readyState==="opening"&&s.type==="open"&&this.onOpen(),s.type==="close")return this.onClose({description:"transport closed by the server"}),!1;this.onPacket(s)};a0(i,this.socket.binaryType).forEach(f),this.readyState!=="closed"&&(this._polling=!1,this.emitReserved("pollComplete"),this.readyState==="open"&&this._poll())}doClose(){const i=()=>{this.write([{type:"close"}])};this.readyState==="open"?i():this.once("open",i)}write(i){this.writable=!1,n0(i,f=>{this.doWrite(f,()=>{this.writable=!0,this.emitReserved("drain")})})}uri(){const i=this.opts.secure?"https":"http",f=this.query||{};return this.opts.timestampRequests!==!1&&(f[this.opts.timestampParam]=yd()),!this.supportsBinary&&!f.sid&&(f.b64=1),this.createUri(i,f)}}let md=!1;try{md=typeof XMLHttpRequest<"u"&&"withCredentials"in new XMLHttpRequest}catch{}const g0=md;function S0(){}class b0 extends p0{constructor(i){if(super(i),typeof location<"u"){const f=location.protocol==="https:";let s=location.port;s||(s=f?"443":"80"),this.xd=typeof location<"u"&&i.hostname!==location.hostname||s!==i.port}}doWrite(i,f){const s=this.request({method:"POST",data:i});s.on("success",f),s.on("error",(v,T)=>{this.onError("xhr post error",v,T)})}doPoll(){const i=this.request();i.on("data",this.onData.bind(this)),i.on("error",(f,s)=>{this.onError("xhr poll error",f,s)}),this.pollXhr=i}}class He extends Mt{constructor(i,f,s){super(),this.createRequest=i,ni(this,s),this._opts=s,this._method=s.method||"GET",this._uri=f,this._data=s.data!==void 0?s.data:null,this._create()}_create(){var i;const f=dd(this._opts,"agent","pfx","key","passphrase","cert","ca","ciphers","rejectUnauthorized","autoUnref");f.xdomain=!!this._opts.xd;const s=this._xhr=this.createRequest(f);try{s.open(this._method,this._uri,!0);try{if(this._opts.extraHeaders){s.setDisableHeaderCheck&&s.setDisableHeaderCheck(!0);for(let v in this._opts.extraHeaders)this._opts.extraHeaders.hasOwnProperty(v)&&s.setRequestHeader(v,this._opts.extraHeaders[v])}}catch{}if(this._method==="POST")try{s.setRequestHeader("Content-type","text/plain;charset=UTF-8")}catch{}try{s.setRequestHeader("Accept","*/*")}catch{}(i=this._opts.cookieJar)===null||i===void 0||i.addCookies(s),"withCredentials"in s&&(s.withCredentials=this._opts.withCredentials),this._opts.requestTimeout&&(s.timeout=this._opts.requestTimeout),s.onreadystatechange=()=>{var v;s.readyState===3&&((v=this._opts.cookieJar)===null||v===void 0||v.parseCookies(s.getResponseHeader("set-cookie"))),s.readyState===4&&(s.status===200||s.status===1223?this._onLoad():this.setTimeoutFn(()=>{this._onError(typeof s.status=="number"?s.status:0)},0))},s.send(this._data)}catch(v){this.setTimeoutFn(()=>{this._onError(v)},0);return}typeof document<"u"&&(this._index=He.requestsCount++,He.requests[this._index]=this)}_onError(i){this.emitReserved("error",i,this._xhr),this._cleanup(!0)}_cleanup(i){if(!(typeof this._xhr>"u"||this._xhr===null)){if(this._xhr.onreadystatechange=S0,i)try{this._xhr.abort()}catch{}typeof document<"u"&&delete He.requests[this._index],this._xhr=null}}_onLoad(){const i=this._xhr.responseText;i!==null&&(this.emitReserved("data",i),this.emitReserved("success"),this._cleanup())}abort(){this._cleanup()}}He.requestsCount=0;He.requests={};if(typeof document<"u"){if(typeof attachEvent=="function")attachEvent("onunload",ud);else if(typeof addEventListener=="function"){const r="onpagehide"in Ee?"pagehide":"unload";addEventListener(r,ud,!1)}}function ud(){for(let r in He.requests)He.requests.hasOwnProperty(r)&&He.requests[r].abort()}const _0=(function(){const r=vd({xdomain:!1});return r&&r.responseType!==null})();class E0 extends b0{constructor(i){super(i);const f=i&&i.forceBase64;this.supportsBinary=_0&&!f}request(i={}){return Object.assign(i,{xd:this.xd},this.opts),new He(vd,this.uri(),i)}}function vd(r){const i=r.xdomain;try{if(typeof XMLHttpRequest<"u"&&(!i||g0))return new XMLHttpRequest}catch{}if(!i)try{return new Ee[["Active"].concat("Object").join("X")]("Microsoft.XMLHTTP")}catch{}}const pd=typeof navigator<"u"&&typeof navigator.product=="string"&&navigator.product.toLowerCase()==="reactnative";class T0 extends Gf{get name(){return"websocket"}doOpen(){const i=this.uri(),f=this.opts.protocols,s=pd?{}:dd(this.opts,"agent","perMessageDeflate","pfx","key","passphrase","cert","ca","ciphers","rejectUnauthorized","localAddress","protocolVersion","origin","maxPayload","family","checkServerIdentity");this.opts.extraHeaders&&(s.headers=this.opts.extraHeaders);try{this.ws=this.createSocket(i,f,s)}catch(v){return this.emitReserved("error",v)}this.ws.binaryType=this.socket.binaryType,this.addEventListeners()}addEventListeners(){this.ws.onopen=()=>{this.opts.autoUnref&&this.ws._socket.unref(),this.onOpen()},this.ws.onclose=i=>this.onClose({description:"websocket connection closed",context:i}),this.ws.onmessage=i=>this.onData(i.data),this.ws.onerror=i=>this.onError("websocket error",i)}write(i){this.writable=!1;for(let f=0;f<i.length;f++){const s=i[f],v=f===i.length-1;Lf(s,this.supportsBinary,T=>{try{this.doWrite(s,T)}catch{}v&&li(()=>{this.writable=!0,this.emitReserved("drain")},this.setTimeoutFn)})}}doClose(){typeof this.ws<"u"&&(this.ws.onerror=()=>{},this.ws.close(),this.ws=null)}uri(){const i=this.opts.secure?"wss":"ws",f=this.query||{};return this.opts.timestampRequests&&(f[this.opts.timestampParam]=yd()),this.supportsBinary||(f.b64=1),this.createUri(i,f)}}const Uf=Ee.WebSocket||Ee.MozWebSocket;class A0 extends T0{createSocket(i,f,s){return pd?new Uf(i,f,s):f?new Uf(i,f):new Uf(i)}doWrite(i,f){this.ws.send(f)}}class z0 extends Gf{get name(){return"webtransport"}doOpen(){try{this._transport=new WebTransport(this.createUri("https"),this.opts.transportOptions[this.name])}catch(i){return this.emitReserved("error",i)}this._transport.closed.then(()=>{this.onClose()}).catch(i=>{this.onError("webtransport error",i)}),this._transport.ready.then(()=>{this._transport.createBidirectionalStream().then(i=>{const f=i0(Number.MAX_SAFE_INTEGER,this.socket.binaryType),s=i.readable.pipeThrough(f).getReader(),v=u0();v.readable.pipeTo(i.writable),this._writer=v.writable.getWriter();const T=()=>{s.read().then(({done:q,value:D})=>{q||(this.onPacket(D),T())}).catch(q=>{})};T();const R={type:"open"};this.query.sid&&(R.data=`{"sid":"${this.query.sid}"}`),this._writer.write(R).then(()=>this.onOpen())})})}write(i){this.writable=!1;for(let f=0;f<i.length;f++){const s=i[f],v=f===i.length-1;this._writer.write(s).then(()=>{v&&li(()=>{this.writable=!0,this.emitReserved("drain")},this.setTimeoutFn)})}}doClose(){var i;(i=this._transport)===null||i===void 0||i.close()}}const O0={websocket:A0,webtransport:z0,polling:E0},N0=/^(?:(?![^:@\/?#]+:[^:@\/]*@)(http|https|ws|wss):\/\/)?((?:(([^:@\/?#]*)(?::([^:@\/?#]*))?)?@)?((?:[a-f0-9]{0,4}:){2,7}[a-f0-9]{0,4}|[^:\/?#]*)(?::(\d*))?)(((\/(?:[^?#](?![^?#\/]*\.[^?#\/.]+(?:[?#]|$)))*\/?)?([^?#\/]*))(?:\?([^#]*))?(?:#(.*))?)/,D0=["source","protocol","authority","userInfo","user","password","host","port","relative","path","directory","file","query","anchor"];function Bf(r){if(r.length>8e3)throw"URI too long";const i=r,f=r.indexOf("["),s=r.indexOf("]");f!=-1&&s!=-1&&(r=r.substring(0,f)+r.substring(f,s).replace(/:/g,";")+r.substring(s,r.length));let v=N0.exec(r||""),T={},R=14;for(;R--;)T[D0[R]]=v[R]||"";return f!=-1&&s!=-1&&(T.source=i,T.host=T.host.substring(1,T.host.length-1).replace(/;/g,":"),T.authority=T.authority.replace("[","").replace("]","").replace(/;/g,":"),T.ipv6uri=!0),T.pathNames=R0(T,T.path),T.queryKey=M0(T,T.query),T}function R0(r,i){const f=/\/{2,9}/g,s=i.replace(f,"/").split("/");return(i.slice(0,1)=="/"||i.length===0)&&s.splice(0,1),i.slice(-1)=="/"&&s.splice(s.length-1,1),s}function M0(r,i){const f={};return i.replace(/(?:^|&)([^&=]*)=?([^&]*)/g,function(s,v,T){v&&(f[v]=T)}),f}const qf=typeof addEventListener=="function"&&typeof removeEventListener=="function",Pu=[];qf&&addEventListener("offline",()=>{Pu.forEach(r=>r())},!1);class Nl extends Mt{constructor(i,f){if(super(),this.binaryType=f0,this.writeBuffer=[],this._prevBufferLen=0,this._pingInterval=-1,this._pingTimeout=-1,this._maxPayload=-1,this._pingTimeoutTime=1/0,i&&typeof i=="object"&&(f=i,i=null),i){const s=Bf(i);f.hostname=s.host,f.secure=s.protocol==="https"||s.protocol==="wss",f.port=s.port,s.query&&(f.query=s.query)}else f.host&&(f.hostname=Bf(f.host).host);ni(this,f),this.secure=f.secure!=null?f.secure:typeof location<"u"&&location.protocol==="https:",f.hostname&&!f.port&&(f.port=this.secure?"443":"80"),this.hostname=f.hostname||(typeof location<"u"?location.hostname:"localhost"),this.port=f.port||(typeof location<"u"&&location.port?location.port:this.secure?"443":"80"),this.transports=[],this._transportsByName={},f.transports.forEach(s=>{const v=s.prototype.name;this.transports.push(v),this._transportsByName[v]=s}),this.opts=Object.assign({path:"/engine.io",agent:!1,withCredentials:!1,upgrade:!0,timestampParam:"t",rememberUpgrade:!1,addTrailingSlash:!0,rejectUnauthorized:!0,perMessageDeflate:{threshold:1024},transportOptions:{},closeOnBeforeunload:!1},f),this.opts.path=this.opts.path.replace(/\/$/,"")+(this.opts.addTrailingSlash?"/":""),typeof this.opts.query=="string"&&(this.opts.query=m0(this.opts.query)),qf&&(this.opts.closeOnBeforeunload&&(this._beforeunloadEventListener=()=>{this.transport&&(this.transport.removeAllListeners(),this.transport.close())},addEventListener("beforeunload",this._beforeunloadEventListener,!1)),this.hostname!=="localhost"&&(this._offlineEventListener=()=>{this._onClose("transport close",{description:"network connection lost"})},Pu.push(this._offlineEventListener))),this.opts.withCredentials&&(this._cookieJar=void 0),this._open()}createTransport(i){const f=Object.assign({},this.opts.query);f.EIO=hd,f.transport=i,this.id&&(f.sid=this.id);const s=Object.assign({},this.opts,{query:f,socket:this,hostname:this.hostname,secure:this.secure,port:this.port},this.opts.transportOptions[i]);return new this._transportsByName[i](s)}_open(){if(this.transports.length===0){this.setTimeoutFn(()=>{this.emitReserved("error","No transports available")},0);return}const i=this.opts.rememberUpgrade&&Nl.priorWebsocketSuccess&&this.transports.indexOf("websocket")!==-1?"websocket":this.transports[0];this.readyState="opening";const f=this.createTransport(i);f.open(),this.setTransport(f)}setTransport(i){this.transport&&this.transport.removeAllListeners(),this.transport=i,i.on("drain",this._onDrain.bind(this)).on("packet",this._onPacket.bind(this)).on("error",this._onError.bind(this)).on("close",f=>this._onClose("transport close",f))}onOpen(){this.readyState="open",Nl.priorWebsocketSuccess=this.transport.name==="websocket",this.emitReserved("open"),this.flush()}_onPacket(i){if(this.readyState==="opening"||this.readyState==="open"||this.readyState==="closing")switch(this.emitReserved("packet",i),this.emitReserved("heartbeat"),i.type){case"open":this.onHandshake(JSON.parse(i.data));break;case"ping":this._sendPacket("pong"),this.emitReserved("ping"),this.emitReserved("pong"),this._resetPingTimeout();break;case"error":const f=new Error("server error");f.code=i.data,this._onError(f);break;case"message":this.emitReserved("data",i.data),this.emitReserved("message",i.data);break}}onHandshake(i){this.emitReserved("handshake",i),this.id=i.sid,this.transport.query.sid=i.sid,this._pingInterval=i.pingInterval,this._pingTimeout=i.pingTimeout,this._maxPayload=i.maxPayload,this.onOpen(),this.readyState!=="closed"&&this._resetPingTimeout()}_resetPingTimeout(){this.clearTimeoutFn(this._pingTimeoutTimer);const i=this._pingInterval+this._pingTimeout;this._pingTimeoutTime=Date.now()+i,this._pingTimeoutTimer=this.setTimeoutFn(()=>{this._onClose("ping timeout")},i),this.opts.autoUnref&&this._pingTimeoutTimer.unref()}_onDrain(){this.writeBuffer.splice(0,this._prevBufferLen),this._prevBufferLen=0,this.writeBuffer.length===0?this.emitReserved("drain"):this.flush()}flush(){if(this.readyState!=="closed"&&this.transport.writable&&!this.upgrading&&this.writeBuffer.length){const i=this._getWritablePackets();this.transport.send(i),this._prevBufferLen=i.length,this.emitReserved("flush")}}_getWritablePackets(){if(!(this._maxPayload&&this.transport.name==="polling"&&this.writeBuffer.length>1))return this.writeBuffer;let f=1;for(let s=0;s<this.writeBuffer.length;s++){const v=this.writeBuffer[s].data;if(v&&(f+=h0(v)),s>0&&f>this._maxPayload)return this.writeBuffer.slice(0,s);f+=2}return this.writeBuffer}_hasPingExpired(){if(!this._pingTimeoutTime)return!0;const i=Date.now()>this._pingTimeoutTime;return i&&(this._pingTimeoutTime=0,li(()=>{this._onClose("ping timeout")},this.setTimeoutFn)),i}write(i,f,s){return this._sendPacket("message",i,f,s),this}send(i,f,s){return this._sendPacket("message",i,f,s),this}_sendPacket(i,f,s,v){if(typeof f=="function"&&(v=f,f=void 0),typeof s=="function"&&(v=s,s=null),this.readyState==="closing"||this.readyState==="closed")return;s=s||{},s.compress=s.compress!==!1;const T={type:i,data:f,options:s};this.emitReserved("packetCreate",T),this.writeBuffer.push(T),v&&this.once("flush",v),this.flush()}close(){const i=()=>{this._onClose("forced close"),this.transport.close()},f=()=>{this.off("upgrade",f),this.off("upgradeError",f),i()},s=()=>{this.once("upgrade",f),this.once("upgradeError",f)};return(this.readyState==="opening"||this.readyState==="open")&&(this.readyState="closing",this.writeBuffer.length?this.once("drain",()=>{this.upgrading?s():i()}):this.upgrading?s():i()),this}_onError(i){if(Nl.priorWebsocketSuccess=!1,this.opts.tryAllTransports&&this.transports.length>1&&this.readyState==="opening")return this.transports.shift(),this._open();this.emitReserved("error",i),this._onClose("transport error",i)}_onClose(i,f){if(this.readyState==="opening"||this.readyState==="open"||this.readyState==="closing"){if(this.clearTimeoutFn(this._pingTimeoutTimer),this.transport.removeAllListeners("close"),this.transport.close(),this.transport.removeAllListeners(),qf&&(this._beforeunloadEventListener&&removeEventListener("beforeunload",this._beforeunloadEventListener,!1),this._offlineEventListener)){const s=Pu.indexOf(this._offlineEventListener);s!==-1&&Pu.splice(s,1)}this.readyState="closed",this.id=null,this.emitReserved("close",i,f),this.writeBuffer=[],this._prevBufferLen=0}}}Nl.protocol=hd;class U0 extends Nl{constructor(){super(...arguments),this._upgrades=[]}onOpen(){if(super.onOpen(),this.readyState==="open"&&this.opts.upgrade)for(let i=0;i<this._upgrades.length;i++)this._probe(this._upgrades[i])}_probe(i){let f=this.createTransport(i),s=!1;Nl.priorWebsocketSuccess=!1;const v=()=>{s||(f.send([{type:"ping",data:"probe"}]),f.once("packet",C=>{if(!s)if(C.type==="pong"&&C.data==="probe"){if(this.upgrading=!0,this.emitReserved("upgrading",f),!f)return;Nl.priorWebsocketSuccess=f.name==="websocket",this.transport.pause(()=>{s||this.readyState!=="closed"&&(j(),this.setTransport(f),f.send([{type:"upgrade"}]),this.emitReserved("upgrade",f),f=null,this.upgrading=!1,this.flush())})}else{const lt=new Error("probe error");lt.transport=f.name,this.emitReserved("upgradeError",lt)}}))};function T(){s||(s=!0,j(),f.close(),f=null)}const R=C=>{const lt=new Error("probe error: "+C);lt.transport=f.name,T(),this.emitReserved("upgradeError",lt)};function q(){R("transport closed")}function D(){R("socket closed")}function z(C){f&&C.name!==f.name&&T()}const j=()=>{f.removeListener("open",v),f.removeListener("error",R),f.removeListener("close",q),this.off("close",D),this.off("upgrading",z)};f.once("open",v),f.once("error",R),f.once("close",q),this.once("close",D),this.once("upgrading",z),this._upgrades.indexOf("webtransport")!==-1&&i!=="webtransport"?this.setTimeoutFn(()=>{s||f.open()},200):f.open()}onHandshake(i){this._upgrades=this._filterUpgrades(i.upgrades),super.onHandshake(i)}_filterUpgrades(i){const f=[];for(let s=0;s<i.length;s++)~this.transports.indexOf(i[s])&&f.push(i[s]);return f}}let C0=class extends U0{constructor(i,f={}){const s=typeof i=="object"?i:f;(!s.transports||s.transports&&typeof s.transports[0]=="string")&&(s.transports=(s.transports||["polling","websocket","webtransport"]).map(v=>O0[v]).filter(v=>!!v)),super(i,s)}};function B0(r,i="",f){let s=r;f=f||typeof location<"u"&&location,r==null&&(r=f.protocol+"//"+f.host),typeof r=="string"&&(r.charAt(0)==="/"&&(r.charAt(1)==="/"?r=f.protocol+r:r=f.host+r),/^(https?|wss?):\/\//.test(r)||(typeof f<"u"?r=f.protocol+"//"+r:r="https://"+r),s=Bf(r)),s.port||(/^(http|ws)$/.test(s.protocol)?s.port="80":/^(http|ws)s$/.test(s.protocol)&&(s.port="443")),s.path=s.path||"/";const T=s.host.indexOf(":")!==-1?"["+s.host+"]":s.host;return s.id=s.protocol+"://"+T+":"+s.port+i,s.href=s.protocol+"://"+T+(f&&f.port===s.port?"":":"+s.port),s}const q0=typeof ArrayBuffer=="function",H0=r=>typeof ArrayBuffer.isView=="function"?ArrayBuffer.isView(r):r.buffer instanceof ArrayBuffer,gd=Object.prototype.toString,x0=typeof Blob=="function"||typeof Blob<"u"&&gd.call(Blob)==="[object BlobConstructor]",Y0=typeof File=="function"||typeof File<"u"&&gd.call(File)==="[object FileConstructor]";function Qf(r){return q0&&(r instanceof ArrayBuffer||H0(r))||x0&&r instanceof Blob||Y0&&r instanceof File}function ti(r,i){if(!r||typeof r!="object")return!1;if(Array.isArray(r)){for(let f=0,s=r.length;f<s;f++)if(ti(r[f]))return!0;return!1}if(Qf(r))return!0;if(r.toJSON&&typeof r.toJSON=="function"&&arguments.length===1)return ti(r.toJSON(),!0);for(const f in r)if(Object.prototype.hasOwnProperty.call(r,f)&&ti(r[f]))return!0;return!1}function j0(r){const i=[],f=r.data,s=r;return s.data=Hf(f,i),s.attachments=i.length,{packet:s,buffers:i}}function Hf(r,i){if(!r)return r;if(Qf(r)){const f={_placeholder:!0,num:i.length};return i.push(r),f}else if(Array.isArray(r)){const f=new Array(r.length);for(let s=0;s<r.length;s++)f[s]=Hf(r[s],i);return f}else if(typeof r=="object"&&!(r instanceof Date)){const f={};for(const s in r)Object.prototype.hasOwnProperty.call(r,s)&&(f[s]=Hf(r[s],i));return f}return r}function L0(r,i){return r.data=xf(r.data,i),delete r.attachments,r}function xf(r,i){if(!r)return r;if(r&&r._placeholder===!0){if(typeof r.num=="number"&&r.num>=0&&r.num<i.length)return i[r.num];throw new Error("illegal attachments")}else if(Array.isArray(r))for(let f=0;f<r.length;f++)r[f]=xf(r[f],i);else if(typeof r=="object")for(const f in r)Object.prototype.hasOwnProperty.call(r,f)&&(r[f]=xf(r[f],i));return r}const X0=["connect","connect_error","disconnect","disconnecting","newListener","removeListener"],G0=5;var et;(function(r){r[r.CONNECT=0]="CONNECT",r[r.DISCONNECT=1]="DISCONNECT",r[r.EVENT=2]="EVENT",r[r.ACK=3]="ACK",r[r.CONNECT_ERROR=4]="CONNECT_ERROR",r[r.BINARY_EVENT=5]="BINARY_EVENT",r[r.BINARY_ACK=6]="BINARY_ACK"})(et||(et={}));class Q0{constructor(i){this.replacer=i}encode(i){return(i.type===et.EVENT||i.type===et.ACK)&&ti(i)?this.encodeAsBinary({type:i.type===et.EVENT?et.BINARY_EVENT:et.BINARY_ACK,nsp:i.nsp,data:i.data,id:i.id}):[this.encodeAsString(i)]}encodeAsString(i){let f=""+i.type;return(i.type===et.BINARY_EVENT||i.type===et.BINARY_ACK)&&(f+=i.attachments+"-"),i.nsp&&i.nsp!=="/"&&(f+=i.nsp+","),i.id!=null&&(f+=i.id),i.data!=null&&(f+=JSON.stringify(i.data,this.replacer)),f}encodeAsBinary(i){const f=j0(i),s=this.encodeAsString(f.packet),v=f.buffers;return v.unshift(s),v}}function id(r){return Object.prototype.toString.call(r)==="[object Object]"}class Vf extends Mt{constructor(i){super(),this.reviver=i}add(i){let f;if(typeof i=="string"){if(this.reconstructor)throw new Error("got plaintext data when reconstructing a packet");f=this.decodeString(i);const s=f.type===et.BINARY_EVENT;s||f.type===et.BINARY_ACK?(f.type=s?et.EVENT:et.ACK,this.reconstructor=new V0(f),f.attachments===0&&super.emitReserved("decoded",f)):super.emitReserved("decoded",f)}else if(Qf(i)||i.base64)if(this.reconstructor)f=this.reconstructor.takeBinaryData(i),f&&(this.reconstructor=null,super.emitReserved("decoded",f));else throw new Error("got binary data when not reconstructing a packet");else throw new Error("Unknown type: "+i)}decodeString(i){let f=0;const s={type:Number(i.charAt(0))};if(et[s.type]===void 0)throw new Error("unknown packet type "+s.type);if(s.type===et.BINARY_EVENT||s.type===et.BINARY_ACK){const T=f+1;for(;i.charAt(++f)!=="-"&&f!=i.length;);const R=i.substring(T,f);if(R!=Number(R)||i.charAt(f)!=="-")throw new Error("Illegal attachments");s.attachments=Number(R)}if(i.charAt(f+1)==="/"){const T=f+1;for(;++f&&!(i.charAt(f)===","||f===i.length););s.nsp=i.substring(T,f)}else s.nsp="/";const v=i.charAt(f+1);if(v!==""&&Number(v)==v){const T=f+1;for(;++f;){const R=i.charAt(f);if(R==null||Number(R)!=R){--f;break}if(f===i.length)break}s.id=Number(i.substring(T,f+1))}if(i.charAt(++f)){const T=this.tryParse(i.substr(f));if(Vf.isPayloadValid(s.type,T))s.data=T;else throw new Error("invalid payload")}return s}tryParse(i){try{return JSON.parse(i,this.reviver)}catch{return!1}}static isPayloadValid(i,f){switch(i){case et.CONNECT:return id(f);case et.DISCONNECT:return f===void 0;case et.CONNECT_ERROR:return typeof f=="string"||id(f);case et.EVENT:case et.BINARY_EVENT:return Array.isArray(f)&&(typeof f[0]=="number"||typeof f[0]=="string"&&X0.indexOf(f[0])===-1);case et.ACK:case et.BINARY_ACK:return Array.isArray(f)}}destroy(){this.reconstructor&&(this.reconstructor.finishedReconstruction(),this.reconstructor=null)}}class V0{constructor(i){this.packet=i,this.buffers=[],this.reconPack=i}takeBinaryData(i){if(this.buffers.push(i),this.buffers.length===this.reconPack.attachments){const f=L0(this.reconPack,this.buffers);return this.finishedReconstruction(),f}return null}finishedReconstruction(){this.reconPack=null,this.buffers=[]}}const Z0=Object.freeze(Object.defineProperty({__proto__:null,Decoder:Vf,Encoder:Q0,get PacketType(){return et},protocol:G0},Symbol.toStringTag,{value:"Module"}));function Ne(r,i,f){return r.on(i,f),function(){r.off(i,f)}}const w0=Object.freeze({connect:1,connect_error:1,disconnect:1,disconnecting:1,newListener:1,removeListener:1});class Sd extends Mt{constructor(i,f,s){super(),this.connected=!1,this.recovered=!1,this.receiveBuffer=[],this.sendBuffer=[],this._queue=[],this._queueSeq=0,this.ids=0,this.acks={},this.flags={},this.io=i,this.nsp=f,s&&s.auth&&(this.auth=s.auth),this._opts=Object.assign({},s),this.io._autoConnect&&this.open()}get disconnected(){return!this.connected}subEvents(){if(this.subs)return;const i=this.io;this.subs=[Ne(i,"open",this.onopen.bind(this)),Ne(i,"packet",this.onpacket.bind(this)),Ne(i,"error",this.onerror.bind(this)),Ne(i,"close",this.onclose.bind(this))]}get active(){return!!this.subs}connect(){return this.connected?this:(this.subEvents(),this.io._reconnecting||this.io.open(),this.io._readyState==="open"&&this.onopen(),this)}open(){return this.connect()}send(...i){return i.unshift("message"),this.emit.apply(this,i),this}emit(i,...f){var s,v,T;if(w0.hasOwnProperty(i))throw new Error('"'+i.toString()+'" is a reserved event name');if(f.unshift(i),this._opts.retries&&!this.flags.fromQueue&&!this.flags.volatile)return this._addToQueue(f),this;const R={type:et.EVENT,data:f};if(R.options={},R.options.compress=this.flags.compress!==!1,typeof f[f.length-1]=="function"){const j=this.ids++,C=f.pop();this._registerAckCallback(j,C),R.id=j}const q=(v=(s=this.io.engine)===null||s===void 0?void 0:s.transport)===null||v===void 0?void 0:v.writable,D=this.connected&&!(!((T=this.io.engine)===null||T===void 0)&&T._hasPingExpired());return this.flags.volatile&&!q||(D?(this.notifyOutgoingListeners(R),this.packet(R)):this.sendBuffer.push(R)),this.flags={},this}_registerAckCallback(i,f){var s;const v=(s=this.flags.timeout)!==null&&s!==void 0?s:this._opts.ackTimeout;if(v===void 0){this.acks[i]=f;return}const T=this.io.setTimeoutFn(()=>{delete this.acks[i];for(let q=0;q<this.sendBuffer.length;q++)this.sendBuffer[q].id===i&&this.sendBuffer.splice(q,1);f.call(this,new Error("operation has timed out"))},v),R=(...q)=>{this.io.clearTimeoutFn(T),f.apply(this,q)};R.withError=!0,this.acks[i]=R}emitWithAck(i,...f){return new Promise((s,v)=>{const T=(R,q)=>R?v(R):s(q);T.withError=!0,f.push(T),this.emit(i,...f)})}_addToQueue(i){let f;typeof i[i.length-1]=="function"&&(f=i.pop());const s={id:this._queueSeq++,tryCount:0,pending:!1,args:i,flags:Object.assign({fromQueue:!0},this.flags)};i.push((v,...T)=>s!==this._queue[0]?void 0:(v!==null?s.tryCount>this._opts.retries&&(this._queue.shift(),f&&f(v)):(this._queue.shift(),f&&f(null,...T)),s.pending=!1,this._drainQueue())),this._queue.push(s),this._drainQueue()}_drainQueue(i=!1){if(!this.connected||this._queue.length===0)return;const f=this._queue[0];f.pending&&!i||(f.pending=!0,f.tryCount++,this.flags=f.flags,this.emit.apply(this,f.args))}packet(i){i.nsp=this.nsp,this.io._packet(i)}onopen(){typeof this.auth=="function"?this.auth(i=>{this._sendConnectPacket(i)}):this._sendConnectPacket(this.auth)}_sendConnectPacket(i){this.packet({type:et.CONNECT,data:this._pid?Object.assign({pid:this._pid,offset:this._lastOffset},i):i})}onerror(i){this.connected||this.emitReserved("connect_error",i)}onclose(i,f){this.connected=!1,delete this.id,this.emitReserved("disconnect",i,f),this._clearAcks()}_clearAcks(){Object.keys(this.acks).forEach(i=>{if(!this.sendBuffer.some(s=>String(s.id)===i)){const s=this.acks[i];delete this.acks[i],s.withError&&s.call(this,new Error("socket has been disconnected"))}})}onpacket(i){if(i.nsp===this.nsp)switch(i.type){case et.CONNECT:i.data&&i.data.sid?this.onconnect(i.data.sid,i.data.pid):this.emitReserved("connect_error",new Error("It seems you are trying to reach a Socket.IO server in v2.x with a v3.x client, but they are not compatible (more information here: https://socket.io/docs/v3/migrating-from-2-x-to-3-0/)"));break;case et.EVENT:case et.BINARY_EVENT:this.onevent(i);break;case et.ACK:case et.BINARY_ACK:this.onack(i);break;case et.DISCONNECT:this.ondisconnect();break;case et.CONNECT_ERROR:this.destroy();const s=new Error(i.data.message);s.data=i.data.data,this.emitReserved("connect_error",s);break}}onevent(i){const f=i.data||[];i.id!=null&&f.push(this.ack(i.id)),this.connected?this.emitEvent(f):this.receiveBuffer.push(Object.freeze(f))}emitEvent(i){if(this._anyListeners&&this._anyListeners.length){const f=this._anyListeners.slice();for(const s of f)s.apply(this,i)}super.emit.apply(this,i),this._pid&&i.length&&typeof i[i.length-1]=="string"&&(this._lastOffset=i[i.length-1])}ack(i){const f=this;let s=!1;return function(...v){s||(s=!0,f.packet({type:et.ACK,id:i,data:v}))}}onack(i){const f=this.acks[i.id];typeof f=="function"&&(delete this.acks[i.id],f.withError&&i.data.unshift(null),f.apply(this,i.data))}onconnect(i,f){this.id=i,this.recovered=f&&this._pid===f,this._pid=f,this.connected=!0,this.emitBuffered(),this.emitReserved("connect"),this._drainQueue(!0)}emitBuffered(){this.receiveBuffer.forEach(i=>this.emitEvent(i)),this.receiveBuffer=[],this.sendBuffer.forEach(i=>{this.notifyOutgoingListeners(i),this.packet(i)}),this.sendBuffer=[]}ondisconnect(){this.destroy(),this.onclose("io server disconnect")}destroy(){this.subs&&(this.subs.forEach(i=>i()),this.subs=void 0),this.io._destroy(this)}disconnect(){return this.connected&&this.packet({type:et.DISCONNECT}),this.destroy(),this.connected&&this.onclose("io client disconnect"),this}close(){return this.disconnect()}compress(i){return this.flags.compress=i,this}get volatile(){return this.flags.volatile=!0,this}timeout(i){return this.flags.timeout=i,this}onAny(i){return this._anyListeners=this._anyListeners||[],this._anyListeners.push(i),this}prependAny(i){return this._anyListeners=this._anyListeners||[],this._anyListeners.unshift(i),this}offAny(i){if(!this._anyListeners)return this;if(i){const f=this._anyListeners;for(let s=0;s<f.length;s++)if(i===f[s])return f.splice(s,1),this}else this._anyListeners=[];return this}listenersAny(){return this._anyListeners||[]}onAnyOutgoing(i){return this._anyOutgoingListeners=this._anyOutgoingListeners||[],this._anyOutgoingListeners.push(i),this}prependAnyOutgoing(i){return this._anyOutgoingListeners=this._anyOutgoingListeners||[],this._anyOutgoingListeners.unshift(i),this}offAnyOutgoing(i){if(!this._anyOutgoingListeners)return this;if(i){const f=this._anyOutgoingListeners;for(let s=0;s<f.length;s++)if(i===f[s])return f.splice(s,1),this}else this._anyOutgoingListeners=[];return this}listenersAnyOutgoing(){return this._anyOutgoingListeners||[]}notifyOutgoingListeners(i){if(this._anyOutgoingListeners&&this._anyOutgoingListeners.length){const f=this._anyOutgoingListeners.slice();for(const s of f)s.apply(this,i.data)}}}function qn(r){r=r||{},this.ms=r.min||100,this.max=r.max||1e4,this.factor=r.factor||2,this.jitter=r.jitter>0&&r.jitter<=1?r.jitter:0,this.attempts=0}qn.prototype.duration=function(){var r=this.ms*Math.pow(this.factor,this.attempts++);if(this.jitter){var i=Math.random(),f=Math.floor(i*this.jitter*r);r=(Math.floor(i*10)&1)==0?r-f:r+f}return Math.min(r,this.max)|0};qn.prototype.reset=function(){this.attempts=0};qn.prototype.setMin=function(r){this.ms=r};qn.prototype.setMax=function(r){this.max=r};qn.prototype.setJitter=function(r){this.jitter=r};class Yf extends Mt{constructor(i,f){var s;super(),this.nsps={},this.subs=[],i&&typeof i=="object"&&(f=i,i=void 0),f=f||{},f.path=f.path||"/socket.io",this.opts=f,ni(this,f),this.reconnection(f.reconnection!==!1),this.reconnectionAttempts(f.reconnectionAttempts||1/0),this.reconnectionDelay(f.reconnectionDelay||1e3),this.reconnectionDelayMax(f.reconnectionDelayMax||5e3),this.randomizationFactor((s=f.randomizationFactor)!==null&&s!==void 0?s:.5),this.backoff=new qn({min:this.reconnectionDelay(),max:this.reconnectionDelayMax(),jitter:this.randomizationFactor()}),this.timeout(f.timeout==null?2e4:f.timeout),this._readyState="closed",this.uri=i;const v=f.parser||Z0;this.encoder=new v.Encoder,this.decoder=new v.Decoder,this._autoConnect=f.autoConnect!==!1,this._autoConnect&&this.open()}reconnection(i){return arguments.length?(this._reconnection=!!i,i||(this.skipReconnect=!0),this):this._reconnection}reconnectionAttempts(i){return i===void 0?this._reconnectionAttempts:(this._reconnectionAttempts=i,this)}reconnectionDelay(i){var f;return i===void 0?this._reconnectionDelay:(this._reconnectionDelay=i,(f=this.backoff)===null||f===void 0||f.setMin(i),this)}randomizationFactor(i){var f;return i===void 0?this._randomizationFactor:(this._randomizationFactor=i,(f=this.backoff)===null||f===void 0||f.setJitter(i),this)}reconnectionDelayMax(i){var f;return i===void 0?this._reconnectionDelayMax:(this._reconnectionDelayMax=i,(f=this.backoff)===null||f===void 0||f.setMax(i),this)}timeout(i){return arguments.length?(this._timeout=i,this):this._timeout}maybeReconnectOnOpen(){!this._reconnecting&&this._reconnection&&this.backoff.attempts===0&&this.reconnect()}open(i){if(~this._readyState.indexOf("open"))return this;this.engine=new C0(this.uri,this.opts);const f=this.engine,s=this;this._readyState="opening",this.skipReconnect=!1;const v=Ne(f,"open",function(){s.onopen(),i&&i()}),T=q=>{this.cleanup(),this._readyState="closed",this.emitReserved("error",q),i?i(q):this.maybeReconnectOnOpen()},R=Ne(f,"error",T);if(this._timeout!==!1){const q=this._timeout,D=this.setTimeoutFn(()=>{v(),T(new Error("timeout")),f.close()},q);this.opts.autoUnref&&D.unref(),this.subs.push(()=>{this.clearTimeoutFn(D)})}return this.subs.push(v),this.subs.push(R),this}connect(i){return this.open(i)}onopen(){this.cleanup(),this._readyState="open",this.emitReserved("open");const i=this.engine;this.subs.push(Ne(i,"ping",this.onping.bind(this)),Ne(i,"data",this.ondata.bind(this)),Ne(i,"error",this.onerror.bind(this)),Ne(i,"close",this.onclose.bind(this)),Ne(this.decoder,"decoded",this.ondecoded.bind(this)))}onping(){this.emitReserved("ping")}ondata(i){try{this.decoder.add(i)}catch(f){this.onclose("parse error",f)}}ondecoded(i){li(()=>{this.emitReserved("packet",i)},this.setTimeoutFn)}onerror(i){this.emitReserved("error",i)}socket(i,f){let s=this.nsps[i];return s?this._autoConnect&&!s.active&&s.connect():(s=new Sd(this,i,f),this.nsps[i]=s),s}_destroy(i){const f=Object.keys(this.nsps);for(const s of f)if(this.nsps[s].active)return;this._close()}_packet(i){const f=this.encoder.encode(i);for(let s=0;s<f.length;s++)this.engine.write(f[s],i.options)}cleanup(){this.subs.forEach(i=>i()),this.subs.length=0,this.decoder.destroy()}_close(){this.skipReconnect=!0,this._reconnecting=!1,this.onclose("forced close")}disconnect(){return this._close()}onclose(i,f){var s;this.cleanup(),(s=this.engine)===null||s===void 0||s.close(),this.backoff.reset(),this._readyState="closed",this.emitReserved("close",i,f),this._reconnection&&!this.skipReconnect&&this.reconnect()}reconnect(){if(this._reconnecting||this.skipReconnect)return this;const i=this;if(this.backoff.attempts>=this._reconnectionAttempts)this.backoff.reset(),this.emitReserved("reconnect_failed"),this._reconnecting=!1;else{const f=this.backoff.duration();this._reconnecting=!0;const s=this.setTimeoutFn(()=>{i.skipReconnect||(this.emitReserved("reconnect_attempt",i.backoff.attempts),!i.skipReconnect&&i.open(v=>{v?(i._reconnecting=!1,i.reconnect(),this.emitReserved("reconnect_error",v)):i.onreconnect()}))},f);this.opts.autoUnref&&s.unref(),this.subs.push(()=>{this.clearTimeoutFn(s)})}}onreconnect(){const i=this.backoff.attempts;this._reconnecting=!1,this.backoff.reset(),this.emitReserved("reconnect",i)}}const Ma={};function ei(r,i){typeof r=="object"&&(i=r,r=void 0),i=i||{};const f=B0(r,i.path||"/socket.io"),s=f.source,v=f.id,T=f.path,R=Ma[v]&&T in Ma[v].nsps,q=i.forceNew||i["force new connection"]||i.multiplex===!1||R;let D;return q?D=new Yf(s,i):(Ma[v]||(Ma[v]=new Yf(s,i)),D=Ma[v]),f.query&&!i.query&&(i.query=f.queryKey),D.socket(f.path,i)}Object.assign(ei,{Manager:Yf,Socket:Sd,io:ei,connect:ei});const ab=3,ag=32,aj=0;function ak(c){if(!(c instanceof ArrayBuffer)||c.byteLength<32)return null;const i=new DataView(c);if(i.getUint8(0)!==3)return null;const o=Array.from(new Uint8Array(c,4,16),l=>l.toString(16).padStart(2,"0")).join(""),a=`${o.slice(0,8)}-${o.slice(8,12)}-${o.slice(12,16)}-${o.slice(16,20)}-${o.slice(20)}`;return{flags:i.getUint8(1),codec:i.getUint8(2),fromUUID:a,sequence:i.getUint32(20),timestamp:Number(i.getBigInt64(24)),payload:new Uint8Array(c,32)}}const ap=218,aq=219,av=196,aw=1e3;function ax(c){const i=[];let o=0,a=2;for(;a+4<=c.length&&c[a]===255;){const u=c[a+1];if(u===ap)break;const w=2+(c[a+2]<<8|c[a+3]);(u===aq||u===av)&&(i.push(c.subarray(a,a+w)),o+=w),a+=w}if(o===0)return null;const l=new Uint8Array(o);let R=0;return i.forEach(u=>{l.set(u,R),R+=u.length}),l}const az=window.location.origin;function J0(c="default"){const[i,o]=Gt.useState({}),[a,l]=Gt.useState(!1),[R,u]=Gt.useState({playersCount:0,framesReceived:0,fps:0,bandwidth:0}),w=Gt.useRef(null),p=Gt.useRef(0),D=Gt.useRef(Date.now()),m=Gt.useRef([]),f=Gt.useRef({}),U=Gt.useRef({}),g=Gt.useRef({});return Gt.useEffect(()=>{const s=ei(az,{reconnection:!0,reconnectionDelay:1e3,reconnectionDelayMax:5e3});w.current=s,s.on("connect",()=>{console.log("[WebViewer] Connected to server"),l(!0);const e={minecraftUUID:"web-viewer-"+s.id,playerName:"WebViewer",roomId:c,codecs:["jpeg"],faceResolution:128};s.emit("player:join",JSON.stringify(e)),console.log("[WebViewer] Joined room:",c)}),s.on("disconnect",()=>{console.log("[WebViewer] Disconnected from server"),l(!1)}),s.on("connect_error",e=>{console.error("[WebViewer] Connection error:",e),l(!1)}),s.on("player:joined",e=>{typeof e=="string"&&(e=JSON.parse(e));const{existingPlayers:t}=e;if(console.log("[WebViewer] Joined room with",t?.length||0,"existing players"),t&&t.length>0){const n={};t.forEach(r=>{n[r.minecraftUUID]={uuid:r.minecraftUUID,name:r.playerName,webcamActive:r.webcamActive||!1,frame:null,lastUpdate:Date.now()}}),o(n)}}),s.on("player:new",e=>{typeof e=="string"&&(e=JSON.parse(e));const{player:t}=e;console.log("[WebViewer] New player:",t.playerName),o(n=>({...n,[t.minecraftUUID]:{uuid:t.minecraftUUID,name:t.playerName,webcamActive:t.webcamActive||!1,frame:null,lastUpdate:Date.now()}}))}),s.on("player:left",e=>{typeof e=="string"&&(e=JSON.parse(e));const{minecraftUUID:t}=e;console.log("[WebViewer] Player left:",t),f.current[t]&&(URL.revokeObjectURL(f.current[t]),delete f.current[t]),delete U.current[t],delete g.current[t],o(n=>{const r={...n};return delete r[t],r})}),s.on("webcam:status",e=>{typeof e=="string"&&(e=JSON.parse(e));const{minecraftUUID:t,active:n}=e;console.log("[WebViewer] Webcam status:",t,n),o(r=>({...r,[t]:{...r[t],webcamActive:n}}))}),s.on("video:frame",e=>{const t=ak(e);if(!t||t.codec!==0)return;const{fromUUID:n,payload:r}=t;p.current++,m.current.push(r.byteLength),m.current.length>100&&m.current.shift();const b=ax(r);let E=[r];if(b)U.current[n]=b;else if(U.current[n])E=[r.subarray(0,2),U.current[n],r.subarray(2)];else{const y=Date.now();y-(g.current[n]||0)>=aw&&(g.current[n]=y,s.emit("video:keyframe",JSON.stringify({minecraftUUID:n})));return}const d=URL.createObjectURL(new Blob(E,{type:"image/jpeg"})),h=f.current[n];f.current[n]=d,h&&setTimeout(()=>URL.revokeObjectURL(h),1e3),o(y=>{const S=y[n]||{uuid:n,name:"Unknown",webcamActive:!0};return{...y,[n]:{...S,frame:d,lastUpdate:Date.now()}}})});const v=setInterval(()=>{const e=Date.now(),t=(e-D.current)/1e3;if(t>0){const n=Math.round(p.current/t),r=m.current.length>0?m.current.reduce((E,d)=>E+d,0)/m.current.length:0,b=Math.round(r*n/1024);u({playersCount:Object.keys(i).length,framesReceived:p.current,fps:n,bandwidth:b}),p.current=0,D.current=e}},1e3);return()=>{clearInterval(v),s.disconnect(),Object.values(f.current).forEach(e=>URL.revokeObjectURL(e)),f.current={},U.current={},g.current={}}},[c]),{players:Object.values(i),connected:a,stats:R}}function k0({player:r,onFullscreen:i}){const[f,s]=Gt.useState(!1),v=()=>{i&&i(r)},T=r.frame&&!f;return Y.jsxs("div",{className:`player-card ${T?"":"no-video"}`,children:[Y.jsx("div",{className:"player-video",children:T?Y.jsx("img",{src:r.frame,alt:`${r.name}'s webcam`,onError:()=>s(!0),onLoad:()=>s(!1)}):Y.jsxs("div",{className:"no-video-placeholder",children:[Y.jsx("div",{className:"placeholder-icon",children:"📷"}),Y.jsx("div",{className:"placeholder-text",children:r.webcamActive?"Waiting for video...":"Camera off"})]})}),Y.jsxs("div",{className:"player-info",children:[Y.jsxs("div",{className:"player-name",children:[Y.jsx("span",{className:`status-indicator ${r.webcamActive?"active":"inactive"}`}),r.name]}),T&&Y.jsx("button",{className:"fullscreen-btn",onClick:v,title:"Fullscreen",children:"⛶"})]})]})}function W0({players:r,onFullscreen:i}){return r.length===0?Y.jsxs("div",{className:"empty-state",children:[Y.jsx("div",{className:"empty-icon",children:"👥"}),Y.jsx("h2",{children:"No players connected"}),Y.jsx("p",{children:"Waiting for players to join and activate their webcams..."})]}):Y.jsx("div",{className:`player-grid player-count-${Math.min(r.length,4)}`,children:r.map(f=>Y.jsx(k0,{player:f,onFullscreen:i},f.uuid))})}function $0({currentRoom:r,onRoomChange:i}){const[f,s]=Gt.useState([]),[v,T]=Gt.useState(!0);Gt.useEffect(()=>{R();const q=setInterval(R,5e3);return()=>clearInterval(q)},[]);const R=async()=>{try{const j=((await(await fetch("/api/rooms")).json()).rooms||[]).map(C=>C.id);s(j)}catch(q){console.error("Failed to fetch rooms:",q)}finally{T(!1)}};return Y.jsxs("div",{className:"room-selector",children:[Y.jsx("label",{htmlFor:"room-select",children:"Room:"}),Y.jsxs("select",{id:"room-select",value:r,onChange:q=>i(q.target.value),disabled:v,children:[Y.jsx("option",{value:"default",children:"default"}),f.map(q=>Y.jsx("option",{value:q,children:q},q))]}),v&&Y.jsx("span",{className:"loading-spinner",children:"⟳"})]})}function F0({stats:r,connected:i}){return Y.jsxs("div",{className:"stats-panel",children:[Y.jsxs("div",{className:`stat-item connection-status ${i?"connected":"disconnected"}`,children:[Y.jsx("span",{className:"stat-label",children:"Status:"}),Y.jsx("span",{className:"stat-value",children:i?"🟢 Connected":"🔴 Disconnected"})]}),Y.jsxs("div",{className:"stat-item",children:[Y.jsx("span",{className:"stat-label",children:"Players:"}),Y.jsx("span",{className:"stat-value",children:r.playersCount})]}),Y.jsxs("div",{className:"stat-item",children:[Y.jsx("span",{className:"stat-label",children:"FPS:"}),Y.jsx("span",{className:"stat-value",children:r.fps})]}),Y.jsxs("div",{className:"stat-item",children:[Y.jsx("span",{className:"stat-label",children:"Bandwidth:"}),Y.jsxs("span",{className:"stat-value",children:[r.bandwidth," KB/s"]})]}),Y.jsxs("div",{className:"stat-item",children:[Y.jsx("span",{className:"stat-label",children:"Frames:"}),Y.jsx("span",{className:"stat-value",children:r.framesReceived})]})]})}function I0({player:r,onClose:i}){return Gt.useEffect(()=>{const f=s=>{s.key==="Escape"&&i()};return document.addEventListener("keydown",f),()=>document.removeEventListener("keydown",f)},[i]),r?Y.jsx("div",{className:"fullscreen-modal",onClick:i,children:Y.jsxs("div",{className:"fullscreen-content",onClick:f=>f.stopPropagation(),children:[Y.jsx("button",{className:"close-btn",onClick:i,title:"Close (ESC)",children:"✕"}),Y.jsx("div",{className:"fullscreen-player-name",children:r.name}),Y.jsx("div",{className:"fullscreen-video",children:r.frame?Y.jsx("img",{src:r.frame,alt:`${r.name}'s webcam`}):Y.jsx("div",{className:"no-video-message",children:"No video available"})})]})}):null}function P0(){const[r,i]=Gt.useState("default"),[f,s]=Gt.useState(null),{players:v,connected:T,stats:R}=J0(r),q=j=>{i(j)},D=j=>{s(j)},z=()=>{s(null)};return Y.jsxs("div",{className:"app",children:[Y.jsxs("header",{className:"app-header",children:[Y.jsxs("div",{className:"header-left",children:[Y.jsx("h1",{children:"📹 WebcamHead Viewer"}),Y.jsx($0,{currentRoom:r,onRoomChange:q})]}),Y.jsx(F0,{stats:R,connected:T})]}),Y.jsx("main",{className:"app-main",children:Y.jsx(W0,{players:v,onFullscreen:D})}),f&&Y.jsx(I0,{player:f,onClose:z}),Y.jsx("footer",{className:"app-footer",children:Y.jsxs("p",{children:["WebcamHead Streaming Viewer · Connected to"," ",Y.jsx("code",{children:"localhost:3000"})," · Room: ",Y.jsx("code",{children:r})]})})]})}Im.createRoot(document.getElementById("root")).render(Y.jsx(Gt.StrictMode,{children:Y.jsx(P0,{})}));
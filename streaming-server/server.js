@@ -7,6 +7,7 @@ import { fileURLToPath } from 'url';
 import { PlayerManager } from './src/player-manager.js';
 import { RoomManager } from './src/room-manager.js';
 import { SignalingManager } from './src/signaling.js';
+import { InterestManager } from './src/interest-manager.js';
 
 const __filename = fileURLToPath(import.meta.url);
 const __dirname = path.dirname(__filename);
@@ -30,7 +31,13 @@ app.use(express.static('public'));
 // Initialize managers
 const playerManager = new PlayerManager();
 const roomManager = new RoomManager();
-const signalingManager = new SignalingManager(io, playerManager, roomManager);
+// Frames are only relayed between players within INTEREST_RADIUS blocks of each other
+// (and stop beyond INTEREST_LEAVE_RADIUS, 1.25x the radius by default)
+const interestManager = new InterestManager({
+    radius: Number(process.env.INTEREST_RADIUS) || undefined,
+    leaveRadius: Number(process.env.INTEREST_LEAVE_RADIUS) || undefined
+});
+const signalingManager = new SignalingManager(io, playerManager, roomManager, interestManager);
 
 // REST API endpoints
 app.get('/api/health', (req, res) => {
@@ -0,0 +1,57 @@
+/**
+ * Binary video:frame packet layout (big-endian), shared with the Java client and the web viewer.
+ * The version is bumped whenever a field changes meaning (2: codec id, 3: simulcast layer),
+ * so packets from peers on another layout are dropped instead of misread.
+ *
+ *   offset size field
+ *   0      1    version (currently 3)
+ *   1      1    flags (0x01 = keyframe)
+ *   2      1    codec id (0 = jpeg, 1 = h264, 2 = raw, 3 = tiles)
+ *   3      1    simulcast layer (0 = full quality)
+ *   4      16   sender UUID, stamped by the relay
+ *   20     4    sequence number
+ *   24     8    capture timestamp, epoch milliseconds
+ *   32     ...  payload (encoded frame)
+ */
+export const FRAME_VERSION = 3;
+export const FRAME_HEADER_SIZE = 32;
+const FLAGS_OFFSET = 1;
+const LAYER_OFFSET = 3;
+const SENDER_OFFSET = 4;
+const FLAG_KEYFRAME = 0x01;
+
+/**
+ * Convert a UUID string to its 16 raw bytes, or null if it isn't a UUID
+ */
+export function uuidToBytes(uuid) {
+    const hex = typeof uuid === 'string' ? uuid.replace(/-/g, '') : '';
+    if (!/^[0-9a-fA-F]{32}$/.test(hex)) {
+        return null;
+    }
+    return Buffer.from(hex, 'hex');
+}
+
+/**
+ * Check that data is a frame packet this relay understands
+ */
+export function isValidFramePacket(data) {
+    return Buffer.isBuffer(data)
+        && data.length >= FRAME_HEADER_SIZE
+        && data[0] === FRAME_VERSION;
+}
+
+/**
+ * Overwrite the sender field so receivers can trust it, whatever the client wrote there
+ */
+export function stampSender(packet, senderBytes) {
+    senderBytes.copy(packet, SENDER_OFFSET);
+    return packet;
+}
+
+export function isKeyframe(packet) {
+    return (packet[FLAGS_OFFSET] & FLAG_KEYFRAME) !== 0;
+}
+
+export function getLayer(packet) {
+    return packet[LAYER_OFFSET];
+}
@@ -0,0 +1,95 @@
+const DEFAULT_RADIUS = 64;
+
+/**
+ * Tracks where players are in the world and which of them are close enough to see each other,
+ * so frames are only relayed to players who could actually see the sender's face.
+ *
+ * Players come into range within `radius` blocks and only leave beyond `leaveRadius`, so two players
+ * standing near the edge don't keep starting and stopping each other's streams. Players that never
+ * sent a position (web viewers, older clients) are in range of everyone.
+ */
+export class InterestManager {
+    constructor({ radius = DEFAULT_RADIUS, leaveRadius } = {}) {
+        this.radius = radius;
+        this.leaveRadius = Math.max(radius, leaveRadius ?? radius * 1.25);
+
+        // socketId -> { dimension, x, y, z }
+        this.positions = new Map();
+
+        // socketId -> Set of socketIds in range
+        this.nearby = new Map();
+    }
+
+    /**
+     * Record a player's position and update who is in range of them among `others` (socket IDs)
+     */
+    updatePosition(socketId, position, others) {
+        this.positions.set(socketId, position);
+
+        for (const otherId of others) {
+            if (otherId === socketId) {
+                continue;
+            }
+            const other = this.positions.get(otherId);
+            if (!other) {
+                continue;
+            }
+
+            const inRange = this.getNearby(socketId).has(otherId);
+            const limit = inRange ? this.leaveRadius : this.radius;
+            if (distance(position, other) <= limit) {
+                this.getNearby(socketId).add(otherId);
+                this.getNearby(otherId).add(socketId);
+            } else {
+                this.getNearby(socketId).delete(otherId);
+                this.getNearby(otherId).delete(socketId);
+            }
+        }
+    }
+
+    /**
+     * Whether frames from a sender should be relayed to a receiver
+     */
+    isInRange(receiverId, senderId) {
+        if (!this.positions.has(receiverId) || !this.positions.has(senderId)) {
+            return true;
+        }
+        return this.getNearby(receiverId).has(senderId);
+    }
+
+    /**
+     * Forget a player, e.g. when they leave
+     */
+    removePlayer(socketId) {
+        this.positions.delete(socketId);
+        const nearby = this.nearby.get(socketId);
+        if (nearby) {
+            for (const otherId of nearby) {
+                this.nearby.get(otherId)?.delete(socketId);
+            }
+            this.nearby.delete(socketId);
+        }
+    }
+
+    getNearby(socketId) {
+        let nearby = this.nearby.get(socketId);
+        if (!nearby) {
+            nearby = new Set();
+            this.nearby.set(socketId, nearby);
+        }
+        return nearby;
+    }
+}
+
+/**
+ * Distance in blocks between two positions, infinite across dimensions
+ */
+function distance(a, b) {
+    if (a.dimension !== b.dimension) {
+        return Infinity;
+    }
+    const dx = a.x - b.x;
+    const dy = a.y - b.y;
+    const dz = a.z - b.z;
+    return Math.sqrt(dx * dx + dy * dy + dz * dz);
+}
@@ -1,3 +1,20 @@
+const DEFAULT_FACE_RESOLUTION = 128;
+const MIN_FACE_RESOLUTION = 8;
+const MAX_FACE_RESOLUTION = 256;
+
+const MAX_LAYERS = 3;
+
+function clampLayers(layers) {
+    return Number.isInteger(layers) ? Math.max(1, Math.min(MAX_LAYERS, layers)) : 1;
+}
+
+function clampFaceResolution(resolution) {
+    if (!Number.isInteger(resolution) || resolution <= 0) {
+        return DEFAULT_FACE_RESOLUTION;
+    }
+    return Math.max(MIN_FACE_RESOLUTION, Math.min(MAX_FACE_RESOLUTION, resolution));
+}
+
 /**
  * Manages connected players and their state
  */
@@ -20,6 +37,12 @@ export class PlayerManager {
             playerName: playerData.playerName,
             roomId: playerData.roomId || 'default',
             webcamActive: false,
+            // Video codecs this client can decode, JPEG only for clients that don't say
+            codecs: Array.isArray(playerData.codecs) && playerData.codecs.length > 0 ? playerData.codecs : ['jpeg'],
+            // Size this client displays faces at, senders crop and scale to the largest one in the room
+            faceResolution: clampFaceResolution(playerData.faceResolution),
+            // Simulcast layers this client sends, each at half the size and frame rate of the previous one
+            layers: clampLayers(playerData.layers),
             connectedAt: Date.now()
         };
 
@@ -69,6 +92,16 @@ export class PlayerManager {
         }
     }
 
+    /**
+     * Update how many simulcast layers a player sends
+     */
+    setLayers(socketId, layers) {
+        const player = this.players.get(socketId);
+        if (player) {
+            player.layers = clampLayers(layers);
+        }
+    }
+
     /**
      * Get all players
      */
@@ -1,11 +1,25 @@
+import { getLayer, isKeyframe, isValidFramePacket, stampSender, uuidToBytes } from './frame-packet.js';
+
 /**
  * WebRTC signaling logic
  */
 export class SignalingManager {
-    constructor(io, playerManager, roomManager) {
+    constructor(io, playerManager, roomManager, interestManager) {
         this.io = io;
         this.playerManager = playerManager;
         this.roomManager = roomManager;
+        this.interestManager = interestManager;
+
+        // socketId -> sender UUID bytes stamped into forwarded frame packets
+        this.senderIds = new Map();
+
+        // receiver socketId -> (sender socketId -> { layer, wanted, active }): the simulcast layer each receiver
+        // gets from each sender, and the one it asked for, switched to on that layer's next keyframe.
+        // Inactive while the receiver can't see the sender, nothing is forwarded then
+        this.subscriptions = new Map();
+
+        // socketId -> number of players its frames are relayed to, as last told to it
+        this.receiverCounts = new Map();
     }
 
     /**
@@ -29,8 +43,27 @@ export class SignalingManager {
             this.handleWebcamToggle(socket, data);
         });
 
-        // Video streaming
-        socket.on('video:frame', (data) => this.handleVideoFrame(socket, data));
+        // Video streaming; frames are acknowledged so senders can tell how far behind their connection is
+        socket.on('video:frame', (data, ack) => {
+            this.handleVideoFrame(socket, data);
+            if (typeof ack === 'function') {
+                ack();
+            }
+        });
+        socket.on('video:keyframe', (data) => this.handleKeyframeRequest(socket, data));
+        socket.on('video:layers', (data) => this.handleLayers(socket, data));
+        socket.on('video:subscribe', (data) => this.handleSubscribe(socket, data));
+        socket.on('video:unsubscribe', (data) => this.handleUnsubscribe(socket, data));
+
+        // World position, so frames only go to players close enough to see the sender
+        socket.on('player:position', (data) => this.handlePosition(socket, data));
+
+        // Round-trip time measurement for the sender's bitrate control
+        socket.on('net:ping', (ack) => {
+            if (typeof ack === 'function') {
+                ack();
+            }
+        });
     }
 
     /**
@@ -48,7 +81,7 @@ export class SignalingManager {
             }
         }
 
-        const { minecraftUUID, playerName, roomId = 'default' } = data;
+        const { minecraftUUID, playerName, roomId = 'default', codecs, faceResolution, layers } = data;
 
         if (!minecraftUUID || !playerName) {
             socket.emit('error', { message: 'Missing minecraftUUID or playerName' });
@@ -59,7 +92,10 @@ export class SignalingManager {
         const player = this.playerManager.addPlayer(socket.id, {
             minecraftUUID,
             playerName,
-            roomId
+            roomId,
+            codecs,
+            faceResolution,
+            layers
         });
 
         // Add to room
@@ -83,6 +119,9 @@ export class SignalingManager {
         const newPlayerData = JSON.stringify({ player });
         socket.to(roomId).emit('player:new', newPlayerData);
 
+        this.broadcastRoomCodecs(roomId);
+        this.broadcastReceiverCounts(roomId);
+
         console.log(`[Signaling] Player ${playerName} joined room ${roomId}`);
     }
 
@@ -90,6 +129,13 @@ export class SignalingManager {
      * Handle player leave
      */
     handlePlayerLeave(socket) {
+        this.senderIds.delete(socket.id);
+        this.subscriptions.delete(socket.id);
+        for (const subscriptions of this.subscriptions.values()) {
+            subscriptions.delete(socket.id);
+        }
+        this.interestManager.removePlayer(socket.id);
+        this.receiverCounts.delete(socket.id);
         const player = this.playerManager.getPlayer(socket.id);
         if (player) {
             const roomId = this.roomManager.getRoomForPlayer(socket.id);
@@ -107,6 +153,12 @@ export class SignalingManager {
             this.roomManager.removePlayerFromRoom(socket.id);
             this.playerManager.removePlayer(socket.id);
 
+            // The leaving player may have been the one holding the room back to a simpler codec
+            if (roomId) {
+                this.broadcastRoomCodecs(roomId);
+                this.broadcastReceiverCounts(roomId);
+            }
+
             console.log(`[Signaling] Player ${player.playerName} left`);
         }
     }
@@ -149,20 +201,215 @@ export class SignalingManager {
     }
 
     /**
-     * Handle video frame
+     * Tell everyone in a room which codecs all of its members can decode, so senders can pick one,
+     * and the largest face size any of them displays, so senders crop their face to that size
      */
-    handleVideoFrame(socket, data) {
-        // Parse data if it's a string (from Java client)
+    broadcastRoomCodecs(roomId) {
+        const members = this.roomManager.getPlayersInRoom(roomId)
+            .map(socketId => this.playerManager.getPlayer(socketId))
+            .filter(p => p);
+        if (members.length === 0) {
+            return;
+        }
+
+        const codecs = members
+            .map(p => p.codecs)
+            .reduce((common, codecs) => common.filter(codec => codecs.includes(codec)));
+        const faceResolution = Math.max(...members.map(p => p.faceResolution));
+
+        this.io.to(roomId).emit('room:codecs', JSON.stringify({ codecs, faceResolution }));
+    }
+
+    /**
+     * Tell each member of a room whose count changed how many players its frames are relayed to,
+     * so senders nobody can see stop encoding until someone comes into range
+     */
+    broadcastReceiverCounts(roomId) {
+        const members = this.roomManager.getPlayersInRoom(roomId);
+        for (const senderSocketId of members) {
+            const count = members.filter(receiverSocketId => this.isReceiving(receiverSocketId, senderSocketId)).length;
+            if (this.receiverCounts.get(senderSocketId) !== count) {
+                this.receiverCounts.set(senderSocketId, count);
+                this.io.to(senderSocketId).emit('video:receivers', JSON.stringify({ count }));
+            }
+        }
+    }
+
+    /**
+     * Forward a receiver's keyframe request to the sender it is about
+     */
+    handleKeyframeRequest(socket, data) {
         if (typeof data === 'string') {
             try {
                 data = JSON.parse(data);
             } catch (e) {
-                console.error('[Signaling] Failed to parse video:frame data:', e);
+                console.error('[Signaling] Failed to parse video:keyframe data:', e);
                 return;
             }
         }
 
-        const { frameData } = data;
+        const requester = this.playerManager.getPlayer(socket.id);
+        const sender = this.playerManager.getPlayerByUUID(data.minecraftUUID);
+        if (!requester || !sender || requester.roomId !== sender.roomId) {
+            return;
+        }
+
+        // The keyframe is only needed in the layer the requester currently receives
+        const layer = Math.min(this.getSubscription(socket.id, sender.socketId).layer, sender.layers - 1);
+        this.io.to(sender.socketId).emit('video:keyframe', JSON.stringify({ fromUUID: requester.minecraftUUID, layer }));
+    }
+
+    /**
+     * Record how many simulcast layers a sender now sends
+     */
+    handleLayers(socket, data) {
+        if (typeof data === 'string') {
+            try {
+                data = JSON.parse(data);
+            } catch (e) {
+                console.error('[Signaling] Failed to parse video:layers data:', e);
+                return;
+            }
+        }
+
+        this.playerManager.setLayers(socket.id, data.layers);
+    }
+
+    /**
+     * Choose the simulcast layer a receiver gets from a sender. The relay keeps forwarding the current
+     * layer until the new one sends a keyframe, and asks the sender for one right away.
+     * Also resumes a sender the receiver had unsubscribed from.
+     */
+    handleSubscribe(socket, data) {
+        if (typeof data === 'string') {
+            try {
+                data = JSON.parse(data);
+            } catch (e) {
+                console.error('[Signaling] Failed to parse video:subscribe data:', e);
+                return;
+            }
+        }
+
+        const receiver = this.playerManager.getPlayer(socket.id);
+        const sender = this.playerManager.getPlayerByUUID(data.minecraftUUID);
+        if (!receiver || !sender || receiver.roomId !== sender.roomId) {
+            return;
+        }
+
+        const subscription = this.getSubscription(socket.id, sender.socketId);
+        subscription.wanted = Number.isInteger(data.layer) ? Math.max(0, data.layer) : 0;
+
+        const wanted = Math.min(subscription.wanted, sender.layers - 1);
+        if (!subscription.active) {
+            // The receiver dropped its copy of the stream, so it can start straight on the new layer's keyframe
+            subscription.active = true;
+            subscription.layer = subscription.wanted;
+            this.io.to(sender.socketId).emit('video:keyframe', JSON.stringify({ fromUUID: receiver.minecraftUUID, layer: wanted }));
+            this.broadcastReceiverCounts(receiver.roomId);
+        } else if (wanted !== Math.min(subscription.layer, sender.layers - 1)) {
+            this.io.to(sender.socketId).emit('video:keyframe', JSON.stringify({ fromUUID: receiver.minecraftUUID, layer: wanted }));
+        }
+    }
+
+    /**
+     * Stop forwarding a sender's frames to a receiver that can't see them
+     */
+    handleUnsubscribe(socket, data) {
+        if (typeof data === 'string') {
+            try {
+                data = JSON.parse(data);
+            } catch (e) {
+                console.error('[Signaling] Failed to parse video:unsubscribe data:', e);
+                return;
+            }
+        }
+
+        const receiver = this.playerManager.getPlayer(socket.id);
+        const sender = this.playerManager.getPlayerByUUID(data.minecraftUUID);
+        if (!receiver || !sender || receiver.roomId !== sender.roomId) {
+            return;
+        }
+
+        const subscription = this.getSubscription(socket.id, sender.socketId);
+        if (subscription.active) {
+            subscription.active = false;
+            this.broadcastReceiverCounts(receiver.roomId);
+        }
+    }
+
+    /**
+     * Whether a sender's frames are forwarded to a receiver: another player in range that hasn't unsubscribed
+     */
+    isReceiving(receiverSocketId, senderSocketId) {
+        return receiverSocketId !== senderSocketId
+            && this.interestManager.isInRange(receiverSocketId, senderSocketId)
+            && this.subscriptions.get(receiverSocketId)?.get(senderSocketId)?.active !== false;
+    }
+
+    /**
+     * Layer a receiver gets from a sender, full quality until it subscribes to another one
+     */
+    getSubscription(receiverSocketId, senderSocketId) {
+        let subscriptions = this.subscriptions.get(receiverSocketId);
+        if (!subscriptions) {
+            subscriptions = new Map();
+            this.subscriptions.set(receiverSocketId, subscriptions);
+        }
+        let subscription = subscriptions.get(senderSocketId);
+        if (!subscription) {
+            subscription = { layer: 0, wanted: 0, active: true };
+            subscriptions.set(senderSocketId, subscription);
+        }
+        return subscription;
+    }
+
+    /**
+     * Whether a receiver gets this layer of a simulcast sender, switching it over to the layer it
+     * asked for when that layer sends a keyframe
+     */
+    receivesLayer(receiverSocketId, senderSocketId, layer, keyframe, layers) {
+        const subscription = this.getSubscription(receiverSocketId, senderSocketId);
+        if (keyframe && layer === Math.min(subscription.wanted, layers - 1)) {
+            subscription.layer = layer;
+        }
+        return layer === Math.min(subscription.layer, layers - 1);
+    }
+
+    /**
+     * Handle a player's position update (sent about once a second while they move)
+     */
+    handlePosition(socket, data) {
+        if (typeof data === 'string') {
+            try {
+                data = JSON.parse(data);
+            } catch (e) {
+                console.error('[Signaling] Failed to parse player:position data:', e);
+                return;
+            }
+        }
+
+        const { dimension, x, y, z } = data;
+        if (typeof dimension !== 'string' || ![x, y, z].every(Number.isFinite)) {
+            return;
+        }
+
+        const roomId = this.roomManager.getRoomForPlayer(socket.id);
+        if (!roomId) {
+            return;
+        }
+        this.interestManager.updatePosition(socket.id, { dimension, x, y, z }, this.roomManager.getPlayersInRoom(roomId));
+        this.broadcastReceiverCounts(roomId);
+    }
+
+    /**
+     * Handle video frame (binary packet, see frame-packet.js)
+     */
+    handleVideoFrame(socket, data) {
+        if (!isValidFramePacket(data)) {
+            console.error('[Signaling] Ignoring malformed video:frame packet');
+            return;
+        }
+
         const fromPlayer = this.playerManager.getPlayer(socket.id);
 
         if (!fromPlayer) {
@@ -170,17 +417,29 @@ export class SignalingManager {
             return;
         }
 
+        let senderId = this.senderIds.get(socket.id);
+        if (!senderId) {
+            senderId = uuidToBytes(fromPlayer.minecraftUUID);
+            if (!senderId) {
+                // Web viewers have no Minecraft UUID and don't send frames
+                return;
+            }
+            this.senderIds.set(socket.id, senderId);
+        }
+
         const roomId = this.roomManager.getRoomForPlayer(socket.id);
         if (roomId) {
-            const playersInRoom = this.roomManager.getPlayersInRoom(roomId).length;
-
-            // Broadcast frame to all other players in the room
-            const framePayload = JSON.stringify({
-                fromUUID: fromPlayer.minecraftUUID,
-                fromName: fromPlayer.playerName,
-                frameData: frameData
-            });
-            socket.to(roomId).emit('video:frame', framePayload);
+            // Only players that can see the sender, and for simulcast senders only those on this layer
+            const layer = getLayer(data);
+            const keyframe = isKeyframe(data);
+            const receivers = this.roomManager.getPlayersInRoom(roomId).filter(receiverSocketId =>
+                this.isReceiving(receiverSocketId, socket.id)
+                && (fromPlayer.layers <= 1 || this.receivesLayer(receiverSocketId, socket.id, layer, keyframe, fromPlayer.layers)));
+
+            // Forward the packet as-is, with the sender stamped in
+            if (receivers.length > 0) {
+                this.io.to(receivers).emit('video:frame', stampSender(data, senderId));
+            }
 
             // Log occasionally (every 100 frames)
             if (!this.frameCount) this.frameCount = {};
@@ -188,7 +447,7 @@ export class SignalingManager {
             this.frameCount[fromPlayer.minecraftUUID]++;
 
             if (this.frameCount[fromPlayer.minecraftUUID] % 100 === 0) {
-                console.log(`[Signaling] Forwarded ${this.frameCount[fromPlayer.minecraftUUID]} frames from ${fromPlayer.playerName} to ${playersInRoom - 1} player(s)`);
+                console.log(`[Signaling] Forwarded ${this.frameCount[fromPlayer.minecraftUUID]} frames from ${fromPlayer.playerName} (last one to ${receivers.length} player(s))`);
             }
         }
     }
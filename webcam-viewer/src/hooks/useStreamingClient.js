@@ -1,6 +1,67 @@
 import { useState, useEffect, useRef } from 'react';
 import { io } from 'socket.io-client';
 
+// Binary video:frame packet layout, see streaming-server/src/frame-packet.js
+const FRAME_VERSION = 3;
+const FRAME_HEADER_SIZE = 32;
+const CODEC_JPEG = 0;
+
+/**
+ * Parse a binary frame packet, or return null if it is malformed
+ */
+function parseFramePacket(buffer) {
+  if (!(buffer instanceof ArrayBuffer) || buffer.byteLength < FRAME_HEADER_SIZE) return null;
+
+  const view = new DataView(buffer);
+  if (view.getUint8(0) !== FRAME_VERSION) return null;
+
+  const hex = Array.from(new Uint8Array(buffer, 4, 16), b => b.toString(16).padStart(2, '0')).join('');
+  const fromUUID = `${hex.slice(0, 8)}-${hex.slice(8, 12)}-${hex.slice(12, 16)}-${hex.slice(16, 20)}-${hex.slice(20)}`;
+
+  return {
+    flags: view.getUint8(1),
+    codec: view.getUint8(2),
+    fromUUID,
+    sequence: view.getUint32(20),
+    timestamp: Number(view.getBigInt64(24)),
+    payload: new Uint8Array(buffer, FRAME_HEADER_SIZE)
+  };
+}
+
+const JPEG_SOS = 0xda;
+const JPEG_DQT = 0xdb;
+const JPEG_DHT = 0xc4;
+const KEYFRAME_REQUEST_INTERVAL_MS = 1000;
+
+/**
+ * Collect the quantization and Huffman table segments of a JPEG header.
+ * Returns null if the frame is abbreviated (sent without tables) or malformed.
+ */
+function extractJpegTables(jpeg) {
+  const segments = [];
+  let length = 0;
+  let position = 2;
+  while (position + 4 <= jpeg.length && jpeg[position] === 0xff) {
+    const marker = jpeg[position + 1];
+    if (marker === JPEG_SOS) break;
+    const segmentLength = 2 + ((jpeg[position + 2] << 8) | jpeg[position + 3]);
+    if (marker === JPEG_DQT || marker === JPEG_DHT) {
+      segments.push(jpeg.subarray(position, position + segmentLength));
+      length += segmentLength;
+    }
+    position += segmentLength;
+  }
+  if (length === 0) return null;
+
+  const tables = new Uint8Array(length);
+  let offset = 0;
+  segments.forEach(segment => {
+    tables.set(segment, offset);
+    offset += segment.length;
+  });
+  return tables;
+}
+
 // Use same origin when deployed, localhost:3000 for development
 const SERVER_URL = import.meta.env.DEV ? 'http://localhost:3000' : window.location.origin;
 
@@ -18,6 +79,10 @@ export function useStreamingClient(roomId = 'default') {
   const frameCountRef = useRef(0);
   const lastFpsUpdateRef = useRef(Date.now());
   const frameSizesRef = useRef([]);
+  const frameUrlsRef = useRef({});
+  // Last JPEG tables and keyframe request time per sender, for abbreviated frames
+  const jpegTablesRef = useRef({});
+  const keyframeRequestsRef = useRef({});
 
   useEffect(() => {
     // Create socket connection
@@ -39,7 +104,11 @@ export function useStreamingClient(roomId = 'default') {
       const viewerData = {
         minecraftUUID: 'web-viewer-' + socket.id,
         playerName: 'WebViewer',
-        roomId: roomId
+        roomId: roomId,
+        // The browser displays frames as images, so senders must use JPEG while a viewer is in the room
+        codecs: ['jpeg'],
+        // Size of a grid tile, senders crop their face to the largest size displayed in the room
+        faceResolution: 128
       };
 
       socket.emit('player:join', JSON.stringify(viewerData));
@@ -103,6 +172,13 @@ export function useStreamingClient(roomId = 'default') {
 
       console.log('[WebViewer] Player left:', minecraftUUID);
 
+      if (frameUrlsRef.current[minecraftUUID]) {
+        URL.revokeObjectURL(frameUrlsRef.current[minecraftUUID]);
+        delete frameUrlsRef.current[minecraftUUID];
+      }
+      delete jpegTablesRef.current[minecraftUUID];
+      delete keyframeRequestsRef.current[minecraftUUID];
+
       setPlayers(prev => {
         const newPlayers = { ...prev };
         delete newPlayers[minecraftUUID];
@@ -127,24 +203,47 @@ export function useStreamingClient(roomId = 'default') {
 
     // Video frame events
     socket.on('video:frame', (data) => {
-      if (typeof data === 'string') data = JSON.parse(data);
-      const { fromUUID, fromName, frameData } = data;
+      const packet = parseFramePacket(data);
+      if (!packet || packet.codec !== CODEC_JPEG) return;
+      const { fromUUID, payload } = packet;
 
       // Update frame count for FPS calculation
       frameCountRef.current++;
 
       // Track frame size for bandwidth calculation
-      const frameSize = frameData.length * 0.75; // Base64 to bytes approximation
-      frameSizesRef.current.push(frameSize);
+      frameSizesRef.current.push(payload.byteLength);
       if (frameSizesRef.current.length > 100) {
         frameSizesRef.current.shift();
       }
 
+      // Abbreviated frames reuse the tables of the sender's last keyframe, inserted right after SOI
+      const tables = extractJpegTables(payload);
+      let parts = [payload];
+      if (tables) {
+        jpegTablesRef.current[fromUUID] = tables;
+      } else if (jpegTablesRef.current[fromUUID]) {
+        parts = [payload.subarray(0, 2), jpegTablesRef.current[fromUUID], payload.subarray(2)];
+      } else {
+        const now = Date.now();
+        if (now - (keyframeRequestsRef.current[fromUUID] || 0) >= KEYFRAME_REQUEST_INTERVAL_MS) {
+          keyframeRequestsRef.current[fromUUID] = now;
+          socket.emit('video:keyframe', JSON.stringify({ minecraftUUID: fromUUID }));
+        }
+        return;
+      }
+
+      // Show the JPEG through a blob URL. The previous one is released a little later,
+      // so an <img> still loading it doesn't hit an error
+      const frameUrl = URL.createObjectURL(new Blob(parts, { type: 'image/jpeg' }));
+      const previousUrl = frameUrlsRef.current[fromUUID];
+      frameUrlsRef.current[fromUUID] = frameUrl;
+      if (previousUrl) setTimeout(() => URL.revokeObjectURL(previousUrl), 1000);
+
       // Update player frame
       setPlayers(prev => {
         const player = prev[fromUUID] || {
           uuid: fromUUID,
-          name: fromName,
+          name: 'Unknown',
           webcamActive: true
         };
 
@@ -152,7 +251,7 @@ export function useStreamingClient(roomId = 'default') {
           ...prev,
           [fromUUID]: {
             ...player,
-            frame: `data:image/jpeg;base64,${frameData}`,
+            frame: frameUrl,
             lastUpdate: Date.now()
           }
         };
@@ -187,6 +286,10 @@ export function useStreamingClient(roomId = 'default') {
     return () => {
       clearInterval(statsInterval);
       socket.disconnect();
+      Object.values(frameUrlsRef.current).forEach(url => URL.revokeObjectURL(url));
+      frameUrlsRef.current = {};
+      jpegTablesRef.current = {};
+      keyframeRequestsRef.current = {};
     };
   }, [roomId]);
 